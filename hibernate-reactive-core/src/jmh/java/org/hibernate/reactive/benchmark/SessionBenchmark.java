@@ -0,0 +1,149 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+import org.hibernate.reactive.vertx.VertxInstance;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
+/**
+ * Measures the cost of opening and closing a session, with and without
+ * loading an entity.
+ * <p>
+ * Each invocation runs a sequence of operations on a Vert.x event loop,
+ * since sessions may only be used there. Run it against the local
+ * PostgreSQL database used by the tests using:
+ * <pre>
+ * ./gradlew :hibernate-reactive-core:jmh
+ * </pre>
+ * Add {@code -Pjmh.args="-prof gc"} to report the allocation rate, or
+ * {@code -Pbenchmark.url=...} to use a different database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SessionBenchmark {
+
+	private static final int OPERATIONS = 100;
+
+	private Vertx vertx;
+	private Context context;
+	private SessionFactory ormFactory;
+	private Stage.SessionFactory factory;
+
+	@Setup
+	public void setup() {
+		vertx = Vertx.vertx();
+		context = vertx.getOrCreateContext();
+
+		Configuration configuration = new Configuration();
+		configuration.addAnnotatedClass( Book.class );
+		configuration.setProperty( Settings.HBM2DDL_AUTO, "create" );
+		configuration.setProperty(
+				Settings.URL,
+				System.getProperty( "benchmark.url", "jdbc:postgresql://localhost:5432/hreact?user=hreact&password=hreact" )
+		);
+		StandardServiceRegistryBuilder registryBuilder = new ReactiveServiceRegistryBuilder()
+				.addService( VertxInstance.class, (VertxInstance) () -> vertx )
+				.applySettings( configuration.getProperties() );
+		ormFactory = configuration.buildSessionFactory( registryBuilder.build() );
+		factory = ormFactory.unwrap( Stage.SessionFactory.class );
+
+		run( () -> factory.withTransaction( (session, tx) -> session.persist( new Book( 1, "Snow Crash" ) ) ) );
+	}
+
+	@TearDown
+	public void tearDown() {
+		ormFactory.close();
+		vertx.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS)
+	public void openAndClose() {
+		repeat( () -> factory.openSession().close() );
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS)
+	public void openFindAndClose() {
+		repeat( () -> factory.withSession( session -> session.find( Book.class, 1 ) ) );
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS)
+	public void openFindReadOnlyAndClose() {
+		repeat( () -> factory.withTransaction( (session, tx) -> session
+				.setDefaultReadOnly( true )
+				.find( Book.class, 1 ) ) );
+	}
+
+	private void repeat(Supplier<CompletionStage<?>> operation) {
+		run( () -> loop( 0, OPERATIONS, i -> operation.get() ) );
+	}
+
+	private void run(Supplier<CompletionStage<?>> work) {
+		CompletableFuture<Object> result = new CompletableFuture<>();
+		context.runOnContext( v -> work.get().whenComplete( (r, e) -> {
+			if ( e == null ) {
+				result.complete( r );
+			}
+			else {
+				result.completeExceptionally( e );
+			}
+		} ) );
+		result.join();
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,336 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.blocking;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.metamodel.Metamodel;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Incubating;
+import org.hibernate.LockMode;
+
+/**
+ * An API for Hibernate Reactive where operations block the calling
+ * thread until the underlying non-blocking operation completes.
+ * <p>
+ * This API is intended for programs running on virtual threads, or
+ * on any other thread which may be blocked cheaply. Such a program
+ * gets the non-blocking database drivers of Hibernate Reactive, while
+ * being written in the usual imperative style. Every operation of a
+ * {@link Session} runs on the Vert.x context belonging to the session,
+ * and the calling thread waits for its result. The calling thread is
+ * parked while it waits, and no monitor is held, so a virtual thread
+ * does not pin its carrier thread.
+ * <p>
+ * A blocking session is confined to the thread which opened it, and
+ * may never be used from a Vert.x event loop thread.
+ * <p>
+ * The {@link Query}, {@link Session}, and {@link SessionFactory}
+ * interfaces declared here are simply blocking counterparts to the
+ * similarly-named interfaces of {@link org.hibernate.reactive.stage.Stage}.
+ */
+@Incubating
+public interface Blocking {
+
+	/**
+	 * A blocking counterpart to {@link org.hibernate.reactive.stage.Stage.Query}.
+	 *
+	 * @see org.hibernate.reactive.stage.Stage.Query
+	 */
+	interface Query<R> {
+
+		/**
+		 * Set the value of an ordinal parameter.
+		 */
+		Query<R> setParameter(int position, Object value);
+
+		/**
+		 * Set the value of a named parameter.
+		 */
+		Query<R> setParameter(String name, Object value);
+
+		/**
+		 * Set the maximum number of results returned by the query.
+		 */
+		Query<R> setMaxResults(int maxResults);
+
+		/**
+		 * Set the position of the first result returned by the query.
+		 */
+		Query<R> setFirstResult(int firstResult);
+
+		/**
+		 * Set the lock mode for the query.
+		 */
+		Query<R> setLockMode(LockMode lockMode);
+
+		/**
+		 * Set the read-only mode of entities returned by the query.
+		 */
+		Query<R> setReadOnly(boolean readOnly);
+
+		/**
+		 * Execute the query and return the single result, failing if
+		 * there is no result, or more than one result.
+		 */
+		R getSingleResult();
+
+		/**
+		 * Execute the query and return the single result, or null if
+		 * there is no result, failing if there is more than one result.
+		 */
+		R getSingleResultOrNull();
+
+		/**
+		 * Execute the query and return the results as a list.
+		 */
+		List<R> getResultList();
+
+		/**
+		 * Execute an update or delete statement and return the number
+		 * of affected rows.
+		 */
+		int executeUpdate();
+	}
+
+	/**
+	 * A blocking counterpart to {@link org.hibernate.reactive.stage.Stage.Session}.
+	 * <p>
+	 * A session is confined to the thread which opened it, and must be
+	 * closed by that thread when it is no longer needed.
+	 *
+	 * @see org.hibernate.reactive.stage.Stage.Session
+	 */
+	interface Session extends AutoCloseable {
+
+		/**
+		 * Obtain the persistent instance with the given identifier, or
+		 * null if there is no such instance.
+		 */
+		<T> T find(Class<T> entityClass, Object id);
+
+		/**
+		 * Obtain the persistent instance with the given identifier,
+		 * requesting the given {@link LockMode}.
+		 */
+		<T> T find(Class<T> entityClass, Object id, LockMode lockMode);
+
+		/**
+		 * Obtain the persistent instances with the given identifiers.
+		 */
+		<T> List<T> find(Class<T> entityClass, Object... ids);
+
+		/**
+		 * Obtain a reference to the persistent instance with the given
+		 * identifier, without fetching its state from the database.
+		 */
+		<T> T getReference(Class<T> entityClass, Object id);
+
+		/**
+		 * Make the given transient instances persistent.
+		 */
+		void persist(Object... entities);
+
+		/**
+		 * Copy the state of the given detached instance to the persistent
+		 * instance with the same identifier, and return the persistent
+		 * instance.
+		 */
+		<T> T merge(T entity);
+
+		/**
+		 * Mark the given persistent instances for removal.
+		 */
+		void remove(Object... entities);
+
+		/**
+		 * Re-read the state of the given persistent instance from the
+		 * database.
+		 */
+		void refresh(Object entity);
+
+		/**
+		 * Obtain the given pessimistic lock on the given persistent
+		 * instance.
+		 */
+		void lock(Object entity, LockMode lockMode);
+
+		/**
+		 * Synchronize changes to the persistence context with the
+		 * database.
+		 */
+		void flush();
+
+		/**
+		 * Fetch the given lazy association, or initialize the given
+		 * proxy, and return it.
+		 */
+		<T> T fetch(T association);
+
+		/**
+		 * Determine if the given instance belongs to this session.
+		 */
+		boolean contains(Object entity);
+
+		/**
+		 * Remove the given instance from the session cache.
+		 */
+		Session detach(Object entity);
+
+		/**
+		 * Completely clear the session, detaching all its instances.
+		 */
+		Session clear();
+
+		/**
+		 * Set the flush mode of the session.
+		 */
+		Session setFlushMode(FlushMode flushMode);
+
+		/**
+		 * Create an instance of {@link Query} for the given HQL/JPQL query
+		 * string.
+		 */
+		<R> Query<R> createQuery(String queryString);
+
+		/**
+		 * Create an instance of {@link Query} for the given HQL/JPQL query
+		 * string, returning instances of the given result type.
+		 */
+		<R> Query<R> createQuery(String queryString, Class<R> resultType);
+
+		/**
+		 * Create an instance of {@link Query} for the given criteria query.
+		 */
+		<R> Query<R> createQuery(CriteriaQuery<R> criteriaQuery);
+
+		/**
+		 * Create an instance of {@link Query} for the named query with the
+		 * given name, returning instances of the given result type.
+		 */
+		<R> Query<R> createNamedQuery(String queryName, Class<R> resultType);
+
+		/**
+		 * Create an instance of {@link Query} for the given native SQL
+		 * query, returning instances of the given result type.
+		 */
+		<R> Query<R> createNativeQuery(String queryString, Class<R> resultType);
+
+		/**
+		 * Perform the given work in a transaction, on the calling thread.
+		 * The transaction is committed if the work completes normally,
+		 * or rolled back if it throws an exception or if the transaction
+		 * is {@linkplain Transaction#markForRollback() marked for rollback}.
+		 */
+		<T> T withTransaction(Function<Transaction, T> work);
+
+		/**
+		 * Is the session open?
+		 */
+		boolean isOpen();
+
+		/**
+		 * Close the session and release its connection.
+		 */
+		@Override
+		void close();
+	}
+
+	/**
+	 * A blocking counterpart to {@link org.hibernate.reactive.stage.Stage.Transaction}.
+	 */
+	interface Transaction {
+		/**
+		 * Mark the current transaction for rollback.
+		 */
+		void markForRollback();
+		/**
+		 * Is the current transaction marked for rollback?
+		 */
+		boolean isMarkedForRollback();
+	}
+
+	/**
+	 * A blocking counterpart to {@link org.hibernate.reactive.stage.Stage.SessionFactory}.
+	 * <p>
+	 * An instance may be obtained from an {@link javax.persistence.EntityManagerFactory}
+	 * by calling {@code unwrap(Blocking.SessionFactory.class)}.
+	 *
+	 * @see org.hibernate.reactive.stage.Stage.SessionFactory
+	 */
+	interface SessionFactory extends AutoCloseable {
+
+		/**
+		 * Open a new session, confined to the calling thread. The
+		 * session must be explicitly closed.
+		 */
+		Session openSession();
+
+		/**
+		 * Open a new session for the given tenant, confined to the
+		 * calling thread. The session must be explicitly closed.
+		 */
+		Session openSession(String tenantId);
+
+		/**
+		 * Perform the given work with a session, on the calling thread.
+		 * If the calling thread already has a session, opened by an
+		 * enclosing call to this method, that session is used. Otherwise,
+		 * a new session is opened, and closed when the work completes.
+		 */
+		<T> T withSession(Function<Session, T> work);
+
+		/**
+		 * Perform the given work with a session for the given tenant, on
+		 * the calling thread.
+		 *
+		 * @see #withSession(Function)
+		 */
+		<T> T withSession(String tenantId, Function<Session, T> work);
+
+		/**
+		 * Perform the given work in a transaction, on the calling thread.
+		 *
+		 * @see #withSession(Function)
+		 * @see Session#withTransaction(Function)
+		 */
+		<T> T withTransaction(BiFunction<Session, Transaction, T> work);
+
+		/**
+		 * Perform the given work in a transaction, with a session for
+		 * the given tenant, on the calling thread.
+		 *
+		 * @see #withTransaction(BiFunction)
+		 */
+		<T> T withTransaction(String tenantId, BiFunction<Session, Transaction, T> work);
+
+		/**
+		 * @return an instance of {@link CriteriaBuilder} for creating
+		 * criteria queries.
+		 */
+		CriteriaBuilder getCriteriaBuilder();
+
+		/**
+		 * Obtain the JPA {@link Metamodel} for the persistence unit.
+		 */
+		Metamodel getMetamodel();
+
+		/**
+		 * Destroy the session factory and clean up its connection pool.
+		 */
+		@Override
+		void close();
+
+		/**
+		 * @return false if {@link #close()} has been called
+		 */
+		boolean isOpen();
+	}
+}
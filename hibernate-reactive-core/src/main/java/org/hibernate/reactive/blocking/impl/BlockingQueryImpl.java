@@ -0,0 +1,101 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.blocking.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.hibernate.LockMode;
+import org.hibernate.reactive.blocking.Blocking;
+import org.hibernate.reactive.stage.Stage;
+
+/**
+ * Implementation of {@link Blocking.Query}.
+ * <p>
+ * The query options are collected on the calling thread, and applied
+ * to the underlying {@link Stage.Query} on the Vert.x context of the
+ * session when the query is executed.
+ */
+public class BlockingQueryImpl<R> implements Blocking.Query<R> {
+
+	private final Stage.Query<R> delegate;
+	private final BlockingSessionImpl session;
+	private final List<Consumer<Stage.Query<R>>> options = new ArrayList<>();
+
+	BlockingQueryImpl(Stage.Query<R> delegate, BlockingSessionImpl session) {
+		this.delegate = delegate;
+		this.session = session;
+	}
+
+	private Blocking.Query<R> option(Consumer<Stage.Query<R>> option) {
+		session.checkThread();
+		options.add( option );
+		return this;
+	}
+
+	private <T> T execute(Function<Stage.Query<R>, CompletionStage<T>> execution) {
+		return session.await( () -> {
+			for ( Consumer<Stage.Query<R>> option : options ) {
+				option.accept( delegate );
+			}
+			options.clear();
+			return execution.apply( delegate );
+		} );
+	}
+
+	@Override
+	public Blocking.Query<R> setParameter(int position, Object value) {
+		return option( query -> query.setParameter( position, value ) );
+	}
+
+	@Override
+	public Blocking.Query<R> setParameter(String name, Object value) {
+		return option( query -> query.setParameter( name, value ) );
+	}
+
+	@Override
+	public Blocking.Query<R> setMaxResults(int maxResults) {
+		return option( query -> query.setMaxResults( maxResults ) );
+	}
+
+	@Override
+	public Blocking.Query<R> setFirstResult(int firstResult) {
+		return option( query -> query.setFirstResult( firstResult ) );
+	}
+
+	@Override
+	public Blocking.Query<R> setLockMode(LockMode lockMode) {
+		return option( query -> query.setLockMode( lockMode ) );
+	}
+
+	@Override
+	public Blocking.Query<R> setReadOnly(boolean readOnly) {
+		return option( query -> query.setReadOnly( readOnly ) );
+	}
+
+	@Override
+	public R getSingleResult() {
+		return execute( Stage.Query::getSingleResult );
+	}
+
+	@Override
+	public R getSingleResultOrNull() {
+		return execute( Stage.Query::getSingleResultOrNull );
+	}
+
+	@Override
+	public List<R> getResultList() {
+		return execute( Stage.Query::getResultList );
+	}
+
+	@Override
+	public int executeUpdate() {
+		return execute( Stage.Query::executeUpdate );
+	}
+}
@@ -0,0 +1,128 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.blocking.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.metamodel.Metamodel;
+
+import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.reactive.blocking.Blocking;
+import org.hibernate.reactive.session.impl.ReactiveCriteriaBuilderImpl;
+import org.hibernate.reactive.stage.Stage;
+import org.hibernate.reactive.stage.impl.StageSessionFactoryImpl;
+import org.hibernate.reactive.vertx.VertxInstance;
+
+/**
+ * Implementation of {@link Blocking.SessionFactory}.
+ * <p>
+ * Each session runs on the Vert.x context which Vert.x assigns to the
+ * thread which opens the session. The current session, if any, is
+ * associated with the calling thread.
+ */
+public class BlockingSessionFactoryImpl implements Blocking.SessionFactory {
+
+	/**
+	 * The current sessions of the calling thread, keyed by the UUID of
+	 * the session factory, and the tenant id, if any.
+	 */
+	private static final ThreadLocal<Map<String, Blocking.Session>> CURRENT_SESSIONS =
+			ThreadLocal.withInitial( HashMap::new );
+
+	private final SessionFactoryImpl delegate;
+	private final StageSessionFactoryImpl stageFactory;
+
+	public BlockingSessionFactoryImpl(SessionFactoryImpl delegate) {
+		this.delegate = delegate;
+		this.stageFactory = new StageSessionFactoryImpl( delegate );
+	}
+
+	private BlockingSessionImpl openSession(Supplier<Stage.Session> opener) {
+		EventLoopDispatcher dispatcher = new EventLoopDispatcher(
+				delegate.getServiceRegistry().getService( VertxInstance.class )
+						.getVertx().getOrCreateContext()
+		);
+		return new BlockingSessionImpl( dispatcher.call( opener ), dispatcher );
+	}
+
+	@Override
+	public Blocking.Session openSession() {
+		return openSession( stageFactory::openSession );
+	}
+
+	@Override
+	public Blocking.Session openSession(String tenantId) {
+		Objects.requireNonNull( tenantId, "parameter 'tenantId' is required" );
+		return openSession( () -> stageFactory.openSession( tenantId ) );
+	}
+
+	@Override
+	public <T> T withSession(Function<Blocking.Session, T> work) {
+		Objects.requireNonNull( work, "parameter 'work' is required" );
+		return withSession( delegate.getUuid(), this::openSession, work );
+	}
+
+	@Override
+	public <T> T withSession(String tenantId, Function<Blocking.Session, T> work) {
+		Objects.requireNonNull( tenantId, "parameter 'tenantId' is required" );
+		Objects.requireNonNull( work, "parameter 'work' is required" );
+		return withSession( delegate.getUuid() + '/' + tenantId, () -> openSession( tenantId ), work );
+	}
+
+	private <T> T withSession(String key, Supplier<Blocking.Session> opener, Function<Blocking.Session, T> work) {
+		Map<String, Blocking.Session> currentSessions = CURRENT_SESSIONS.get();
+		Blocking.Session current = currentSessions.get( key );
+		if ( current != null && current.isOpen() ) {
+			return work.apply( current );
+		}
+		try ( Blocking.Session session = opener.get() ) {
+			currentSessions.put( key, session );
+			try {
+				return work.apply( session );
+			}
+			finally {
+				currentSessions.remove( key );
+			}
+		}
+	}
+
+	@Override
+	public <T> T withTransaction(BiFunction<Blocking.Session, Blocking.Transaction, T> work) {
+		Objects.requireNonNull( work, "parameter 'work' is required" );
+		return withSession( s -> s.withTransaction( t -> work.apply( s, t ) ) );
+	}
+
+	@Override
+	public <T> T withTransaction(String tenantId, BiFunction<Blocking.Session, Blocking.Transaction, T> work) {
+		Objects.requireNonNull( work, "parameter 'work' is required" );
+		return withSession( tenantId, s -> s.withTransaction( t -> work.apply( s, t ) ) );
+	}
+
+	@Override
+	public CriteriaBuilder getCriteriaBuilder() {
+		return new ReactiveCriteriaBuilderImpl( delegate );
+	}
+
+	@Override
+	public Metamodel getMetamodel() {
+		return delegate.getMetamodel();
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+
+	@Override
+	public boolean isOpen() {
+		return delegate.isOpen();
+	}
+}
@@ -0,0 +1,215 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.blocking.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.persistence.criteria.CriteriaQuery;
+
+import org.hibernate.FlushMode;
+import org.hibernate.LockMode;
+import org.hibernate.reactive.blocking.Blocking;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.stage.Stage;
+
+/**
+ * Implementation of {@link Blocking.Session}, which delegates to a
+ * {@link Stage.Session} running on a Vert.x context of its own.
+ * <p>
+ * The session is confined to the thread which opened it.
+ */
+public class BlockingSessionImpl implements Blocking.Session {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Stage.Session delegate;
+	private final EventLoopDispatcher dispatcher;
+	private final Thread owner;
+
+	BlockingSessionImpl(Stage.Session delegate, EventLoopDispatcher dispatcher) {
+		this.delegate = delegate;
+		this.dispatcher = dispatcher;
+		this.owner = Thread.currentThread();
+	}
+
+	void checkThread() {
+		if ( Thread.currentThread() != owner ) {
+			throw LOG.detectedUsedOfTheSessionOnTheWrongThread( owner.getName(), Thread.currentThread().getName() );
+		}
+	}
+
+	<T> T await(Supplier<CompletionStage<T>> operation) {
+		checkThread();
+		return dispatcher.await( operation );
+	}
+
+	private <T> T call(Supplier<T> operation) {
+		checkThread();
+		return dispatcher.call( operation );
+	}
+
+	@Override
+	public <T> T find(Class<T> entityClass, Object id) {
+		return await( () -> delegate.find( entityClass, id ) );
+	}
+
+	@Override
+	public <T> T find(Class<T> entityClass, Object id, LockMode lockMode) {
+		return await( () -> delegate.find( entityClass, id, lockMode ) );
+	}
+
+	@Override
+	public <T> List<T> find(Class<T> entityClass, Object... ids) {
+		return await( () -> delegate.find( entityClass, ids ) );
+	}
+
+	@Override
+	public <T> T getReference(Class<T> entityClass, Object id) {
+		return call( () -> delegate.getReference( entityClass, id ) );
+	}
+
+	@Override
+	public void persist(Object... entities) {
+		await( () -> delegate.persist( entities ) );
+	}
+
+	@Override
+	public <T> T merge(T entity) {
+		return await( () -> delegate.merge( entity ) );
+	}
+
+	@Override
+	public void remove(Object... entities) {
+		await( () -> delegate.remove( entities ) );
+	}
+
+	@Override
+	public void refresh(Object entity) {
+		await( () -> delegate.refresh( entity ) );
+	}
+
+	@Override
+	public void lock(Object entity, LockMode lockMode) {
+		await( () -> delegate.lock( entity, lockMode ) );
+	}
+
+	@Override
+	public void flush() {
+		await( delegate::flush );
+	}
+
+	@Override
+	public <T> T fetch(T association) {
+		return await( () -> delegate.fetch( association ) );
+	}
+
+	@Override
+	public boolean contains(Object entity) {
+		return call( () -> delegate.contains( entity ) );
+	}
+
+	@Override
+	public Blocking.Session detach(Object entity) {
+		call( () -> delegate.detach( entity ) );
+		return this;
+	}
+
+	@Override
+	public Blocking.Session clear() {
+		call( delegate::clear );
+		return this;
+	}
+
+	@Override
+	public Blocking.Session setFlushMode(FlushMode flushMode) {
+		call( () -> delegate.setFlushMode( flushMode ) );
+		return this;
+	}
+
+	@Override
+	public <R> Blocking.Query<R> createQuery(String queryString) {
+		return new BlockingQueryImpl<>( call( () -> delegate.createQuery( queryString ) ), this );
+	}
+
+	@Override
+	public <R> Blocking.Query<R> createQuery(String queryString, Class<R> resultType) {
+		return new BlockingQueryImpl<>( call( () -> delegate.createQuery( queryString, resultType ) ), this );
+	}
+
+	@Override
+	public <R> Blocking.Query<R> createQuery(CriteriaQuery<R> criteriaQuery) {
+		return new BlockingQueryImpl<>( call( () -> delegate.createQuery( criteriaQuery ) ), this );
+	}
+
+	@Override
+	public <R> Blocking.Query<R> createNamedQuery(String queryName, Class<R> resultType) {
+		return new BlockingQueryImpl<>( call( () -> delegate.createNamedQuery( queryName, resultType ) ), this );
+	}
+
+	@Override
+	public <R> Blocking.Query<R> createNativeQuery(String queryString, Class<R> resultType) {
+		return new BlockingQueryImpl<>( call( () -> delegate.createNativeQuery( queryString, resultType ) ), this );
+	}
+
+	@Override
+	public <T> T withTransaction(Function<Blocking.Transaction, T> work) {
+		checkThread();
+		CompletableFuture<Stage.Transaction> begun = new CompletableFuture<>();
+		CompletableFuture<T> result = new CompletableFuture<>();
+		// the transaction stays open on the Vert.x context until the
+		// work, running on the calling thread, produces its result
+		CompletableFuture<T> done = dispatcher.submit( () -> delegate.withTransaction( transaction -> {
+			begun.complete( transaction );
+			return result;
+		} ) );
+		dispatcher.join( CompletableFuture.anyOf( begun, done ) );
+		if ( !begun.isDone() ) {
+			// the transaction could not even be started
+			return dispatcher.join( done );
+		}
+		Stage.Transaction transaction = begun.join();
+		try {
+			dispatcher.complete( result, work.apply( new Transaction( transaction ) ) );
+		}
+		catch (RuntimeException | Error e) {
+			dispatcher.fail( result, e );
+		}
+		return dispatcher.join( done );
+	}
+
+	@Override
+	public boolean isOpen() {
+		return delegate.isOpen();
+	}
+
+	@Override
+	public void close() {
+		await( delegate::close );
+	}
+
+	private static class Transaction implements Blocking.Transaction {
+		private final Stage.Transaction delegate;
+
+		Transaction(Stage.Transaction delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void markForRollback() {
+			delegate.markForRollback();
+		}
+
+		@Override
+		public boolean isMarkedForRollback() {
+			return delegate.isMarkedForRollback();
+		}
+	}
+}
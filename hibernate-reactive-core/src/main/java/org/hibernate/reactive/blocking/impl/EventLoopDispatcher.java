@@ -0,0 +1,124 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.blocking.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+
+import io.vertx.core.Context;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.rethrow;
+
+/**
+ * Runs the operations of a blocking session on the Vert.x context
+ * belonging to the session, and blocks the calling thread until the
+ * result is available.
+ * <p>
+ * The calling thread waits using {@link CompletableFuture#get()},
+ * which parks the thread without holding any monitor, and so a
+ * virtual thread doesn't pin its carrier thread while it waits.
+ */
+final class EventLoopDispatcher {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Context context;
+
+	EventLoopDispatcher(Context context) {
+		this.context = context;
+	}
+
+	/**
+	 * Start the given operation on the Vert.x context, without waiting
+	 * for it to complete.
+	 */
+	<T> CompletableFuture<T> submit(Supplier<CompletionStage<T>> operation) {
+		assertNotOnEventLoop();
+		CompletableFuture<T> result = new CompletableFuture<>();
+		context.runOnContext( v -> {
+			try {
+				operation.get().whenComplete( (value, error) -> {
+					if ( error == null ) {
+						result.complete( value );
+					}
+					else {
+						result.completeExceptionally( error );
+					}
+				} );
+			}
+			catch (Throwable error) {
+				result.completeExceptionally( error );
+			}
+		} );
+		return result;
+	}
+
+	/**
+	 * Run the given operation on the Vert.x context, and wait for it
+	 * to complete.
+	 */
+	<T> T await(Supplier<CompletionStage<T>> operation) {
+		return join( submit( operation ) );
+	}
+
+	/**
+	 * Run the given synchronous operation on the Vert.x context, and
+	 * wait for its result.
+	 */
+	<T> T call(Supplier<T> operation) {
+		return await( () -> completedFuture( operation.get() ) );
+	}
+
+	/**
+	 * Complete the given future on the Vert.x context, so that whatever
+	 * depends on it continues on the Vert.x context.
+	 */
+	<T> void complete(CompletableFuture<T> future, T value) {
+		context.runOnContext( v -> future.complete( value ) );
+	}
+
+	/**
+	 * Fail the given future on the Vert.x context.
+	 */
+	void fail(CompletableFuture<?> future, Throwable error) {
+		context.runOnContext( v -> future.completeExceptionally( error ) );
+	}
+
+	/**
+	 * Wait for the given future, rethrowing the original failure,
+	 * if any.
+	 */
+	<T> T join(CompletableFuture<T> future) {
+		try {
+			return future.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw LOG.interruptedWhileBlocking( e );
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			while ( cause instanceof CompletionException && cause.getCause() != null ) {
+				cause = cause.getCause();
+			}
+			return rethrow( cause );
+		}
+	}
+
+	private static void assertNotOnEventLoop() {
+		if ( Context.isOnEventLoopThread() ) {
+			throw LOG.blockingOperationOnEventLoop( Thread.currentThread().getName() );
+		}
+	}
+}
@@ -0,0 +1,7 @@
+/**
+ * An API for Hibernate Reactive where operations block the calling
+ * thread, intended for programs running on virtual threads.
+ *
+ * @see org.hibernate.reactive.blocking.Blocking
+ */
+ package org.hibernate.reactive.blocking;
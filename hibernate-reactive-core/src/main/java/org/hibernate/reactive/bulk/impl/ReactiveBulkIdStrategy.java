@@ -5,20 +5,26 @@
  */
 package org.hibernate.reactive.bulk.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.boot.spi.MetadataBuildingOptions;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.dialect.CockroachDB192Dialect;
 import org.hibernate.dialect.DB297Dialect;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.dialect.SQLServerDialect;
 import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
@@ -41,15 +47,20 @@
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.mapping.Table;
 import org.hibernate.param.ParameterSpecification;
 import org.hibernate.persister.collection.AbstractCollectionPersister;
 import org.hibernate.persister.entity.Queryable;
+import org.hibernate.reactive.adaptor.impl.QueryParametersAdaptor;
 import org.hibernate.reactive.bulk.StatementsWithParameters;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
 import org.hibernate.reactive.pool.impl.Parameters;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.session.ReactiveQueryExecutor;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.sql.Delete;
@@ -57,7 +68,10 @@
 import org.hibernate.type.CollectionType;
 import org.hibernate.type.Type;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.zeroFuture;
 
 /**
@@ -74,15 +88,46 @@
 		implements MultiTableBulkIdStrategy {
 
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( ReactiveBulkIdStrategy.class );
+	private static final Log REACTIVE_LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private static final ParameterSpecification[] NO_PARAMS = new ParameterSpecification[0];
 
+	/**
+	 * The value of {@link Settings#BULK_ID_STRATEGY} which selects the
+	 * identifiers of the affected rows in a {@code with} clause.
+	 */
+	public static final String CTE = "cte";
+
+	/**
+	 * The value of {@link Settings#BULK_ID_STRATEGY} which first selects
+	 * the identifiers of the affected rows, and lists them in the
+	 * {@code where} clause of the statement for each table, unless there
+	 * are more than {@link Settings#BULK_ID_INLINE_LIMIT} of them.
+	 */
+	public static final String INLINE = "inline";
+
+	/**
+	 * The default value of {@link Settings#BULK_ID_INLINE_LIMIT}.
+	 */
+	public static final int DEFAULT_INLINE_LIMIT = 100;
+
+	/**
+	 * The value of {@link Settings#BULK_ID_STRATEGY} which stores the
+	 * identifiers of the affected rows in a temporary table.
+	 */
+	public static final String TEMPORARY_TABLE = "temporary_table";
+
+	private static final String CTE_NAME = "hte_ids";
+
+	private final Dialect dialect;
 	private final boolean db2;
 	private final Set<String> createdGlobalTemporaryTables = new HashSet<>();
 	private final List<String> dropGlobalTemporaryTables = new ArrayList<>();
 	private final Parameters parameters;
 
 	private StandardServiceRegistry serviceRegistry;
+	private boolean cte;
+	private int inlineLimit;
 
 //	private boolean useSessionIdColumn() {
 //		return db2;
@@ -94,6 +139,7 @@ public ReactiveBulkIdStrategy(MetadataImplementor metadata) {
 
 	ReactiveBulkIdStrategy(Dialect dialect) {
 		super( new ReactiveIdTableSupport( dialect ) );
+		this.dialect = dialect;
 		db2 = dialect instanceof DB297Dialect;
 		parameters = Parameters.instance( dialect );
 	}
@@ -101,6 +147,30 @@ public ReactiveBulkIdStrategy(MetadataImplementor metadata) {
 	@Override
 	protected void initialize(MetadataBuildingOptions buildingOptions, SessionFactoryOptions sessionFactoryOptions) {
 		serviceRegistry = buildingOptions.getServiceRegistry();
+		String strategy = serviceRegistry.getService( ConfigurationService.class )
+				.getSetting( Settings.BULK_ID_STRATEGY, StandardConverters.STRING, TEMPORARY_TABLE );
+		if ( CTE.equalsIgnoreCase( strategy ) ) {
+			cte = supportsCte( dialect );
+			if ( !cte ) {
+				REACTIVE_LOG.bulkIdStrategyNotSupported( strategy, dialect.getClass().getName() );
+			}
+		}
+		else if ( INLINE.equalsIgnoreCase( strategy ) ) {
+			inlineLimit = ConfigurationHelper.getInt(
+					Settings.BULK_ID_INLINE_LIMIT,
+					serviceRegistry.getService( ConfigurationService.class ).getSettings(),
+					DEFAULT_INLINE_LIMIT
+			);
+		}
+	}
+
+	/**
+	 * Can the database update or delete rows of several tables in
+	 * a single statement, using data-modifying statements in
+	 * {@code with}?
+	 */
+	private static boolean supportsCte(Dialect dialect) {
+		return dialect instanceof PostgreSQL81Dialect || dialect instanceof CockroachDB192Dialect;
 	}
 
 	@Override
@@ -142,12 +212,24 @@ public void release(JdbcServices jdbcServices, JdbcConnectionAccess connectionAc
 
 	@Override
 	public UpdateHandler buildUpdateHandler(SessionFactoryImplementor factory, HqlSqlWalker walker) {
-		return new TableBasedUpdateHandlerImpl( factory, walker, targetedPersister( walker ) );
+		if ( cte ) {
+			return new CteUpdateHandlerImpl( factory, walker, targetedPersister( walker ) );
+		}
+		TableBasedUpdateHandlerImpl handler = new TableBasedUpdateHandlerImpl( factory, walker, targetedPersister( walker ) );
+		return inlineLimit > 0 ? new InlineUpdateHandlerImpl( factory, walker, handler ) : handler;
 	}
 
 	@Override
 	public DeleteHandler buildDeleteHandler(SessionFactoryImplementor factory, HqlSqlWalker walker) {
-		return new TableBasedDeleteHandlerImpl( factory, walker, targetedPersister( walker ) );
+		if ( cte ) {
+			return new CteDeleteHandlerImpl( factory, walker, targetedPersister( walker ) );
+		}
+		TableBasedDeleteHandlerImpl handler = new TableBasedDeleteHandlerImpl( factory, walker, targetedPersister( walker ) );
+		return inlineLimit > 0 ? new InlineDeleteHandlerImpl( factory, walker, handler ) : handler;
+	}
+
+	private ReactiveIdTableSupport reactiveIdTableSupport() {
+		return (ReactiveIdTableSupport) getIdTableSupport();
 	}
 
 	private Queryable targetedPersister(HqlSqlWalker walker) {
@@ -166,6 +248,14 @@ private interface TempTableStatementsExecutor {
 
 		CompletionStage<Integer> dropTempTable(Integer currentTotal);
 
+		/**
+		 * Clean up after a failure of the bulk operation, and then
+		 * fail with the given exception.
+		 */
+		default CompletionStage<Integer> cleanUpAfterFailure(Throwable failure) {
+			return failedFuture( failure );
+		}
+
 		/**
 		 * Mainly for keeping track which statement has failed
 		 */
@@ -222,6 +312,84 @@ public String getFailedStatement() {
 		}
 	}
 
+	/**
+	 * Execute the queries for the creation and cleanup of local temporary tables
+	 * which are reused by later bulk operations on the same connection. The
+	 * connection keeps track of the tables which already exist, so a table is
+	 * only created by the first bulk operation which uses it, or again after a
+	 * rollback, since a table created within a transaction doesn't survive the
+	 * rollback on some databases. On PostgreSQL, the table is created with
+	 * {@code on commit delete rows}, and the bulk operation runs in a
+	 * transaction, so the table never needs to be emptied. Elsewhere, the table
+	 * is emptied after each bulk operation, even if the operation fails.
+	 */
+	private class ReusedTempTableStatementsExecutor implements TempTableStatementsExecutor {
+		private final String tableName;
+		private final String createStatement;
+		private final String deleteStatement;
+		private final ReactiveQueryExecutor session;
+		private boolean transaction;
+
+		private ReusedTempTableStatementsExecutor(IdTableInfoImpl tableInfo, ReactiveQueryExecutor session) {
+			this.session = session;
+			tableName = tableInfo.getQualifiedIdTableName();
+			createStatement = reactiveIdTableSupport().getCreateIdTableIfNotExistsStatement(
+					tableInfo.getIdTableCreationStatement(),
+					tableName
+			);
+			deleteStatement = reactiveIdTableSupport().isIdTableEmptiedOnCommit()
+					? null
+					: "delete from " + tableName;
+		}
+
+		@Override
+		public CompletionStage<Integer> createTempTable() {
+			final ReactiveConnection connection = session.getReactiveConnection();
+			// the rows are only kept until the end of the transaction
+			transaction = deleteStatement == null && !connection.isTransactionInProgress();
+			return ( transaction ? connection.beginTransaction() : voidFuture() )
+					.thenCompose( v -> connection.createTemporaryTable( tableName, createStatement ) )
+					.thenApply( v -> 0 );
+		}
+
+		@Override
+		public CompletionStage<Integer> dropTempTable(Integer total) {
+			final ReactiveConnection connection = session.getReactiveConnection();
+			if ( transaction ) {
+				return connection.commitTransaction().thenApply( v -> total );
+			}
+			else if ( deleteStatement != null ) {
+				return connection.execute( deleteStatement ).thenApply( v -> total );
+			}
+			else {
+				return completedFuture( total );
+			}
+		}
+
+		@Override
+		public CompletionStage<Integer> cleanUpAfterFailure(Throwable failure) {
+			final ReactiveConnection connection = session.getReactiveConnection();
+			final CompletionStage<Void> cleanUp;
+			if ( transaction ) {
+				cleanUp = connection.rollbackTransaction();
+			}
+			else if ( deleteStatement != null ) {
+				cleanUp = connection.execute( deleteStatement );
+			}
+			else {
+				cleanUp = voidFuture();
+			}
+			return cleanUp
+					.handle( CompletionStages::ignoreErrors )
+					.thenCompose( v -> failedFuture( failure ) );
+		}
+
+		@Override
+		public String getFailedStatement() {
+			return createStatement;
+		}
+	}
+
 	/**
 	 * Db2 uses global temporary tables
 	 */
@@ -306,13 +474,22 @@ public CompletionStage<Integer> execute(ReactiveQueryExecutor session, QueryPara
 			TempTableStatementsExecutor statementsExecutor = createStatementsExecutor( session );
 			return statementsExecutor.createTempTable()
 					.thenCompose( zero -> StatementsWithParameters.super.execute( session, queryParameters ) )
-					.thenCompose( statementsExecutor::dropTempTable );
+					.handle( (total, failure) -> failure == null
+							? statementsExecutor.dropTempTable( total )
+							: statementsExecutor.cleanUpAfterFailure( failure ) )
+					.thenCompose( Function.identity() );
 		}
 
 		private TempTableStatementsExecutor createStatementsExecutor(ReactiveQueryExecutor session) {
-			return db2
-					? new Db2TempTableStatementsExecutor( getIdTableInfo( targetedPersister ), session )
-					: new LocalTempTableStatementsExecutor( getIdTableInfo( targetedPersister ), session );
+			if ( db2 ) {
+				return new Db2TempTableStatementsExecutor( getIdTableInfo( targetedPersister ), session );
+			}
+			else if ( reactiveIdTableSupport().isIdTableReused() ) {
+				return new ReusedTempTableStatementsExecutor( getIdTableInfo( targetedPersister ), session );
+			}
+			else {
+				return new LocalTempTableStatementsExecutor( getIdTableInfo( targetedPersister ), session );
+			}
 		}
 
 		@Override
@@ -538,6 +715,466 @@ public int execute(SharedSessionContractImplementor session, QueryParameters que
 //		}
 	}
 
+	/**
+	 * Handles an HQL statement affecting multiple tables using a single
+	 * SQL statement, which selects the identifiers of the affected rows
+	 * in a {@code with} clause, and updates or deletes the rows of each
+	 * table in a data-modifying statement in the {@code with} clause,
+	 * except for the last table, which is updated or deleted by the
+	 * main statement. Since every part of the statement sees the same
+	 * snapshot of the data, the selected identifiers aren't affected by
+	 * the modifications.
+	 */
+	private abstract class CteHandler extends AbstractTableBasedBulkIdHandler
+			implements StatementsWithParameters {
+
+		private final Queryable targetedPersister;
+		private final List<String> modifications = new ArrayList<>();
+		private final List<ParameterSpecification> parameterList = new ArrayList<>();
+
+		private String[] statements;
+		private ParameterSpecification[][] parameterSpecifications;
+
+		CteHandler(SessionFactoryImplementor sessionFactory, HqlSqlWalker walker, Queryable targetedPersister) {
+			super( sessionFactory, walker );
+			this.targetedPersister = targetedPersister;
+		}
+
+		@Override
+		public Queryable getTargetedQueryable() {
+			return targetedPersister;
+		}
+
+		@Override
+		public String[] getSqlStatements() {
+			return statements;
+		}
+
+		@Override
+		public ParameterSpecification[][] getParameterSpecifications() {
+			return parameterSpecifications;
+		}
+
+		/**
+		 * The subquery selecting the identifiers from the {@code with} clause,
+		 * with the given column names.
+		 */
+		String idSubselect(String[] columnNames) {
+			return "select " + String.join( ", ", columnNames ) + " from " + CTE_NAME;
+		}
+
+		void addIdSelect(String tableAlias, ProcessedWhereClause whereClause) {
+			String idSelect = generateIdSelect(
+					tableAlias,
+					whereClause.getUserWhereClauseFragment(),
+					walker().getDialect(),
+					targetedPersister
+			);
+			modifications.add( CTE_NAME
+					+ " (" + String.join( ", ", targetedPersister.getIdentifierColumnNames() ) + ")"
+					+ " as (" + idSelect + ")" );
+			parameterList.addAll( whereClause.getIdSelectParameterSpecifications() );
+		}
+
+		void addModification(String sql, List<ParameterSpecification> parameters) {
+			modifications.add( sql );
+			parameterList.addAll( parameters );
+		}
+
+		/**
+		 * Combine the identifier select and the modifications into a single
+		 * statement, whose row count is the row count of the last modification.
+		 */
+		void complete(String comment) {
+			StringBuilder sql = new StringBuilder();
+			if ( factory().getSessionFactoryOptions().isCommentsEnabled() ) {
+				sql.append( "/* " ).append( comment ).append( " */ " );
+			}
+			sql.append( "with " ).append( modifications.get( 0 ) );
+			int last = modifications.size() - 1;
+			for ( int i = 1; i < last; i++ ) {
+				sql.append( ", hte_" ).append( i ).append( " as (" ).append( modifications.get( i ) ).append( ")" );
+			}
+			sql.append( " " ).append( modifications.get( last ) );
+			statements = new String[] { parameters.process( sql.toString(), parameterList.size() ) };
+			parameterSpecifications = new ParameterSpecification[][] { parameterList.toArray( NO_PARAMS ) };
+		}
+	}
+
+	private class CteUpdateHandlerImpl extends CteHandler implements MultiTableBulkIdStrategy.UpdateHandler {
+
+		CteUpdateHandlerImpl(SessionFactoryImplementor factory, HqlSqlWalker walker, Queryable targetedPersister) {
+			super( factory, walker, targetedPersister );
+
+			UpdateStatement updateStatement = (UpdateStatement) walker.getAST();
+			FromElement fromElement = updateStatement.getFromClause().getFromElement();
+			List<AssignmentSpecification> assignments = walker.getAssignmentSpecifications();
+			addIdSelect( fromElement.getTableAlias(), processWhereClause( updateStatement.getWhereClause() ) );
+
+			String idSubselect = idSubselect( targetedPersister.getIdentifierColumnNames() );
+			String[] tableNames = targetedPersister.getConstraintOrderedTableNameClosure();
+			String[][] columnNames = targetedPersister.getContraintOrderedTableKeyColumnClosure();
+			for ( int table = 0; table < tableNames.length; table++ ) {
+				String tableName = tableNames[table];
+				List<AssignmentSpecification> tableAssignments =
+						assignments.stream().filter( assignment -> assignment.affectsTable( tableName ) )
+								.collect( Collectors.toList() );
+				if ( !tableAssignments.isEmpty() ) {
+					List<ParameterSpecification> parameterList = new ArrayList<>();
+					Update update = new Update( walker.getDialect() ).setTableName( tableName );
+					update.setWhere( "(" + String.join( ", ", columnNames[table] ) + ") in (" + idSubselect + ")" );
+					for ( AssignmentSpecification assignment : tableAssignments ) {
+						update.appendAssignmentFragment( assignment.getSqlAssignmentFragment() );
+						if ( assignment.getParameters() != null ) {
+							Collections.addAll( parameterList, assignment.getParameters() );
+						}
+					}
+					addModification( update.toStatementString(), parameterList );
+				}
+			}
+
+			complete( "bulk update" );
+		}
+
+		@Override
+		public int execute(SharedSessionContractImplementor session, QueryParameters queryParameters) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	private class CteDeleteHandlerImpl extends CteHandler implements MultiTableBulkIdStrategy.DeleteHandler {
+
+		CteDeleteHandlerImpl(SessionFactoryImplementor factory, HqlSqlWalker walker, Queryable targetedPersister) {
+			super( factory, walker, targetedPersister );
+
+			DeleteStatement deleteStatement = (DeleteStatement) walker.getAST();
+			FromElement fromElement = deleteStatement.getFromClause().getFromElement();
+			addIdSelect( fromElement.getTableAlias(), processWhereClause( deleteStatement.getWhereClause() ) );
+
+			// If many-to-many, delete the FK row in the collection table
+			for ( Type type : targetedPersister.getPropertyTypes() ) {
+				if ( type.isCollectionType() ) {
+					CollectionType cType = (CollectionType) type;
+					AbstractCollectionPersister cPersister = (AbstractCollectionPersister)
+							factory.getMetamodel().collectionPersister( cType.getRole() );
+					if ( cPersister.isManyToMany() ) {
+						Delete delete = new Delete()
+								.setTableName( cPersister.getTableName() )
+								.setWhere( "(" + String.join( ", ", cPersister.getKeyColumnNames() ) + ") in ("
+										+ idSubselect( getKeyColumnNames( targetedPersister, cPersister ) ) + ")" );
+						addModification( delete.toStatementString(), Collections.emptyList() );
+					}
+				}
+			}
+
+			String idSubselect = idSubselect( targetedPersister.getIdentifierColumnNames() );
+			String[] tableNames = targetedPersister.getConstraintOrderedTableNameClosure();
+			String[][] columnNames = targetedPersister.getContraintOrderedTableKeyColumnClosure();
+			for ( int table = 0; table < tableNames.length; table++ ) {
+				Delete delete = new Delete()
+						.setTableName( tableNames[table] )
+						.setWhere( "(" + String.join( ", ", columnNames[table] ) + ") in (" + idSubselect + ")" );
+				addModification( delete.toStatementString(), Collections.emptyList() );
+			}
+
+			complete( "bulk delete" );
+		}
+
+		@Override
+		public int execute(SharedSessionContractImplementor session, QueryParameters queryParameters) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	/**
+	 * Handles an HQL statement affecting multiple tables by first selecting
+	 * the identifiers of the affected rows, and then updating or deleting
+	 * the rows of each table with the identifiers listed in the statement.
+	 * If there are more affected rows than the limit, the statement is
+	 * handled using a temporary table instead.
+	 */
+	private abstract class InlineHandler<H extends TempTableHandler> extends AbstractTableBasedBulkIdHandler
+			implements StatementsWithParameters {
+
+		private final H fallback;
+		private final List<TableModification> modifications = new ArrayList<>();
+
+		private String idSelect;
+		private ParameterSpecification[] idSelectParameters;
+
+		InlineHandler(SessionFactoryImplementor sessionFactory, HqlSqlWalker walker, H fallback) {
+			super( sessionFactory, walker );
+			this.fallback = fallback;
+		}
+
+		H fallback() {
+			return fallback;
+		}
+
+		@Override
+		public Queryable getTargetedQueryable() {
+			return fallback.getTargetedQueryable();
+		}
+
+		@Override
+		public String[] getSqlStatements() {
+			return fallback.getSqlStatements();
+		}
+
+		@Override
+		public ParameterSpecification[][] getParameterSpecifications() {
+			return fallback.getParameterSpecifications();
+		}
+
+		void setIdSelect(String tableAlias, ProcessedWhereClause whereClause) {
+			String sql = generateIdSelect(
+					tableAlias,
+					whereClause.getUserWhereClauseFragment(),
+					walker().getDialect(),
+					getTargetedQueryable()
+			);
+			// one more than the limit, to detect when the limit is exceeded
+			idSelect = parameters.process( limit( sql, inlineLimit + 1 ) );
+			idSelectParameters = whereClause.getIdSelectParameterSpecifications().toArray( NO_PARAMS );
+		}
+
+		void addModification(TableModification modification) {
+			modifications.add( modification );
+		}
+
+		@Override
+		public CompletionStage<Integer> execute(ReactiveQueryExecutor session, QueryParameters queryParameters) {
+			Object[] arguments = QueryParametersAdaptor.arguments( queryParameters, idSelectParameters, session.getSharedContract() );
+			return session.getReactiveConnection()
+					.select( idSelect, arguments )
+					.thenCompose( result -> {
+						if ( result.size() > inlineLimit ) {
+							return fallback.execute( session, queryParameters );
+						}
+						if ( result.size() == 0 ) {
+							return zeroFuture();
+						}
+						List<Object[]> ids = new ArrayList<>( result.size() );
+						result.forEachRemaining( ids::add );
+						// rows may have been deleted since the identifiers were selected,
+						// so the result is the row count of the last modification, which
+						// updates or deletes the rows of the root table
+						int[] rowCount = new int[1];
+						return loop( modifications, modification -> {
+							Object[] parameters = QueryParametersAdaptor.arguments(
+									queryParameters,
+									modification.parameterSpecifications,
+									session.getSharedContract()
+							);
+							return session.getReactiveConnection()
+									.update( modification.sql( ids.size() ), modification.arguments( parameters, ids ) )
+									.thenAccept( count -> rowCount[0] = count );
+						} )
+						.thenApply( v -> rowCount[0] );
+					} );
+		}
+	}
+
+	/**
+	 * An {@code update} or {@code delete} of the rows of one table with
+	 * the given identifiers.
+	 */
+	private class TableModification {
+		private final String[] keyColumnNames;
+		private final int[] idColumnIndexes;
+		private final ParameterSpecification[] parameterSpecifications;
+		private final Function<String, String> statement;
+
+		/**
+		 * @param statement a function producing the statement from its {@code where} clause
+		 */
+		TableModification(
+				String[] keyColumnNames,
+				List<ParameterSpecification> parameterSpecifications,
+				Function<String, String> statement) {
+			this( keyColumnNames, identity( keyColumnNames.length ), parameterSpecifications, statement );
+		}
+
+		/**
+		 * @param idColumnIndexes the index of the identifier column, in a row
+		 *                        of the selected identifiers, corresponding to
+		 *                        each of the key columns
+		 * @param statement a function producing the statement from its {@code where} clause
+		 */
+		TableModification(
+				String[] keyColumnNames,
+				int[] idColumnIndexes,
+				List<ParameterSpecification> parameterSpecifications,
+				Function<String, String> statement) {
+			this.keyColumnNames = keyColumnNames;
+			this.idColumnIndexes = idColumnIndexes;
+			this.parameterSpecifications = parameterSpecifications.toArray( NO_PARAMS );
+			this.statement = statement;
+		}
+
+		String sql(int idCount) {
+			StringBuilder where = new StringBuilder();
+			if ( keyColumnNames.length == 1 ) {
+				where.append( keyColumnNames[0] ).append( " in (" );
+				for ( int i = 0; i < idCount; i++ ) {
+					where.append( i == 0 ? "?" : ",?" );
+				}
+				where.append( ')' );
+			}
+			else {
+				// a list of row values isn't supported by every database
+				String row = "(" + String.join( "=? and ", keyColumnNames ) + "=?)";
+				for ( int i = 0; i < idCount; i++ ) {
+					where.append( i == 0 ? "" : " or " ).append( row );
+				}
+			}
+			return parameters.process( statement.apply( where.toString() ) );
+		}
+
+		Object[] arguments(Object[] parameters, List<Object[]> ids) {
+			Object[] arguments = Arrays.copyOf( parameters, parameters.length + ids.size() * keyColumnNames.length );
+			int index = parameters.length;
+			for ( Object[] id : ids ) {
+				for ( int idColumnIndex : idColumnIndexes ) {
+					arguments[index++] = id[idColumnIndex];
+				}
+			}
+			return arguments;
+		}
+	}
+
+	private static int[] identity(int length) {
+		int[] indexes = new int[length];
+		for ( int i = 0; i < length; i++ ) {
+			indexes[i] = i;
+		}
+		return indexes;
+	}
+
+	/**
+	 * Limit the number of rows returned by the given query, if possible.
+	 */
+	private String limit(String sql, int limit) {
+		if ( dialect instanceof SQLServerDialect ) {
+			return sql.replaceFirst( "^select ", "select top (" + limit + ") " );
+		}
+		else if ( db2 ) {
+			return sql + " fetch first " + limit + " rows only";
+		}
+		else {
+			// PostgreSQL, CockroachDB, MySQL, MariaDB
+			return sql + " limit " + limit;
+		}
+	}
+
+	private class InlineUpdateHandlerImpl extends InlineHandler<TableBasedUpdateHandlerImpl>
+			implements MultiTableBulkIdStrategy.UpdateHandler {
+
+		InlineUpdateHandlerImpl(SessionFactoryImplementor factory, HqlSqlWalker walker, TableBasedUpdateHandlerImpl fallback) {
+			super( factory, walker, fallback );
+
+			UpdateStatement updateStatement = (UpdateStatement) walker.getAST();
+			FromElement fromElement = updateStatement.getFromClause().getFromElement();
+			List<AssignmentSpecification> assignments = walker.getAssignmentSpecifications();
+			setIdSelect( fromElement.getTableAlias(), processWhereClause( updateStatement.getWhereClause() ) );
+
+			Queryable targetedPersister = getTargetedQueryable();
+			String[] tableNames = targetedPersister.getConstraintOrderedTableNameClosure();
+			String[][] columnNames = targetedPersister.getContraintOrderedTableKeyColumnClosure();
+			for ( int table = 0; table < tableNames.length; table++ ) {
+				String tableName = tableNames[table];
+				List<AssignmentSpecification> tableAssignments =
+						assignments.stream().filter( assignment -> assignment.affectsTable( tableName ) )
+								.collect( Collectors.toList() );
+				if ( !tableAssignments.isEmpty() ) {
+					List<ParameterSpecification> parameterList = new ArrayList<>();
+					for ( AssignmentSpecification assignment : tableAssignments ) {
+						if ( assignment.getParameters() != null ) {
+							Collections.addAll( parameterList, assignment.getParameters() );
+						}
+					}
+					addModification( new TableModification( columnNames[table], parameterList, where -> {
+						Update update = new Update( walker.getDialect() ).setTableName( tableName );
+						update.setWhere( where );
+						if ( factory().getSessionFactoryOptions().isCommentsEnabled() ) {
+							update.setComment( "bulk update" );
+						}
+						for ( AssignmentSpecification assignment : tableAssignments ) {
+							update.appendAssignmentFragment( assignment.getSqlAssignmentFragment() );
+						}
+						return update.toStatementString();
+					} ) );
+				}
+			}
+		}
+
+		@Override
+		public int execute(SharedSessionContractImplementor session, QueryParameters queryParameters) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	private class InlineDeleteHandlerImpl extends InlineHandler<TableBasedDeleteHandlerImpl>
+			implements MultiTableBulkIdStrategy.DeleteHandler {
+
+		InlineDeleteHandlerImpl(SessionFactoryImplementor factory, HqlSqlWalker walker, TableBasedDeleteHandlerImpl fallback) {
+			super( factory, walker, fallback );
+
+			DeleteStatement deleteStatement = (DeleteStatement) walker.getAST();
+			FromElement fromElement = deleteStatement.getFromClause().getFromElement();
+			setIdSelect( fromElement.getTableAlias(), processWhereClause( deleteStatement.getWhereClause() ) );
+
+			// If many-to-many, delete the FK row in the collection table
+			Queryable targetedPersister = getTargetedQueryable();
+			for ( Type type : targetedPersister.getPropertyTypes() ) {
+				if ( type.isCollectionType() ) {
+					CollectionType cType = (CollectionType) type;
+					AbstractCollectionPersister cPersister = (AbstractCollectionPersister)
+							factory.getMetamodel().collectionPersister( cType.getRole() );
+					if ( cPersister.isManyToMany() ) {
+						// the owner columns referenced by the key columns, in order
+						String[] ownerColumnNames = getKeyColumnNames( targetedPersister, cPersister );
+						String[] idColumnNames = targetedPersister.getIdentifierColumnNames();
+						int[] idColumnIndexes = new int[ownerColumnNames.length];
+						for ( int i = 0; i < ownerColumnNames.length; i++ ) {
+							idColumnIndexes[i] = ArrayHelper.indexOf( idColumnNames, ownerColumnNames[i] );
+						}
+						addModification( new TableModification(
+								cPersister.getKeyColumnNames(),
+								idColumnIndexes,
+								Collections.emptyList(),
+								where -> delete( cPersister.getTableName(), where, "bulk delete - m2m join table cleanup" )
+						) );
+					}
+				}
+			}
+
+			String[] tableNames = targetedPersister.getConstraintOrderedTableNameClosure();
+			String[][] columnNames = targetedPersister.getContraintOrderedTableKeyColumnClosure();
+			for ( int table = 0; table < tableNames.length; table++ ) {
+				String tableName = tableNames[table];
+				addModification( new TableModification(
+						columnNames[table],
+						Collections.emptyList(),
+						where -> delete( tableName, where, "bulk delete" )
+				) );
+			}
+		}
+
+		private String delete(String tableName, String where, String comment) {
+			Delete delete = new Delete().setTableName( tableName ).setWhere( where );
+			if ( factory().getSessionFactoryOptions().isCommentsEnabled() ) {
+				delete.setComment( comment );
+			}
+			return delete.toStatementString();
+		}
+
+		@Override
+		public int execute(SharedSessionContractImplementor session, QueryParameters queryParameters) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
 //	@Override
 //	protected void augmentIdTableDefinition(Table idTable) {
 //		if ( useSessionIdColumn() ) {
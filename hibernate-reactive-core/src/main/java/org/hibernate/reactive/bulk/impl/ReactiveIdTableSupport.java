@@ -35,7 +35,7 @@ public String generateIdTableName(String baseName) {
     @Override
     public String getCreateIdTableCommand() {
         if (dialect instanceof PostgreSQL10Dialect) {
-            return "create temporary table";
+            return "create temporary table if not exists";
         }
         else if (dialect instanceof MySQL8Dialect || dialect instanceof MariaDB103Dialect) {
             return "create temporary table if not exists";
@@ -51,6 +51,46 @@ else if (dialect instanceof SQLServerDialect) {
         }
     }
 
+    /**
+     * Is an id table created only if it doesn't already exist on the
+     * connection, and emptied instead of dropped, so that it may be
+     * reused by later bulk operations on the same connection?
+     *
+     * @see org.hibernate.reactive.pool.ReactiveConnection#createTemporaryTable(String, String)
+     */
+    public boolean isIdTableReused() {
+        return dialect instanceof PostgreSQL10Dialect
+                || dialect instanceof MySQL8Dialect
+                || dialect instanceof MariaDB103Dialect
+                || dialect instanceof SQLServerDialect;
+    }
+
+    /**
+     * Is a reused id table emptied by the database when the transaction
+     * commits, instead of by a {@code delete} after each bulk operation?
+     *
+     * @see #isIdTableReused()
+     */
+    public boolean isIdTableEmptiedOnCommit() {
+        return dialect instanceof PostgreSQL10Dialect;
+    }
+
+    /**
+     * The statement creating the given id table, if it doesn't already
+     * exist on the connection.
+     *
+     * @see #isIdTableReused()
+     */
+    public String getCreateIdTableIfNotExistsStatement(String createStatement, String qualifiedIdTableName) {
+        if (dialect instanceof SQLServerDialect) {
+            return "if object_id('tempdb.." + qualifiedIdTableName + "') is null " + createStatement;
+        }
+        else {
+            // the command already includes 'if not exists'
+            return createStatement;
+        }
+    }
+
     @Override
     public String getDropIdTableCommand() {
         if (dialect instanceof PostgreSQL10Dialect) {
@@ -72,6 +112,9 @@ public String getCreateIdTableStatementOptions() {
         if (dialect instanceof DB297Dialect) {
             return "not logged";
         }
+        else if (dialect instanceof PostgreSQL10Dialect) {
+            return "on commit delete rows";
+        }
         else {
             return null;
         }
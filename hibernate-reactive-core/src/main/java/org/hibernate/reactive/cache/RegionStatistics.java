@@ -0,0 +1,62 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache;
+
+/**
+ * Statistics collected by a single region of the built-in
+ * {@link org.hibernate.reactive.cache.impl.InMemoryRegionFactory}.
+ * <p>
+ * Unlike the statistics collected by Hibernate ORM, these counters
+ * are maintained by the cache storage itself, and are therefore
+ * available even when {@code hibernate.generate_statistics} is
+ * disabled.
+ */
+public interface RegionStatistics {
+
+	/**
+	 * The name of the region.
+	 */
+	String getRegionName();
+
+	/**
+	 * The number of reads which found an entry in the region.
+	 */
+	long getHitCount();
+
+	/**
+	 * The number of reads which found no entry, or only an
+	 * expired entry, in the region.
+	 */
+	long getMissCount();
+
+	/**
+	 * The number of entries written to the region.
+	 */
+	long getPutCount();
+
+	/**
+	 * The number of entries evicted because the region exceeded
+	 * its configured maximum number of entries or size in bytes.
+	 */
+	long getEvictionCount();
+
+	/**
+	 * The number of entries discarded because their time to live
+	 * had elapsed.
+	 */
+	long getExpirationCount();
+
+	/**
+	 * The number of entries currently held in the region.
+	 */
+	long getElementCount();
+
+	/**
+	 * An estimate of the memory, in bytes, occupied by the entries
+	 * currently held in the region.
+	 */
+	long getEstimatedSizeInBytes();
+}
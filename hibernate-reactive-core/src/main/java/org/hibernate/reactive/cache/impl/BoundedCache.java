@@ -0,0 +1,410 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.reactive.cache.RegionStatistics;
+
+/**
+ * A size-bounded, thread-safe map holding the data of a single cache
+ * region.
+ * <p>
+ * Entries are spread across a number of independently-locked stripes,
+ * so that sessions running on different event loops rarely contend for
+ * the same lock, and every critical section is short and non-blocking.
+ * Each stripe implements segmented LRU eviction: a new entry is placed
+ * in a probationary segment, and is promoted to a protected segment
+ * when it is read again. Victims are chosen from the probationary
+ * segment first, so that a scan over entries which are read only once
+ * cannot flush frequently used entries from the cache.
+ * <p>
+ * A stripe is bounded both by its number of entries and by an estimate
+ * of the memory occupied by its entries. Entries may also expire after
+ * a fixed time to live, in which case they are discarded lazily, the
+ * next time they are read.
+ */
+public class BoundedCache implements RegionStatistics {
+
+	/**
+	 * The overhead of a single entry, including the hash table
+	 * node, the linked list pointers, and the key.
+	 */
+	private static final long ENTRY_OVERHEAD = 96;
+	private static final long UNKNOWN_OBJECT_SIZE = 64;
+	private static final int MAX_DEPTH = 3;
+	private static final long TYPICAL_ENTRY_SIZE = 1024;
+
+	private static final int MAX_STRIPES = 16;
+	private static final int MIN_ENTRIES_PER_STRIPE = 16;
+	private static final int PROTECTED_PERCENT = 80;
+
+	private final String regionName;
+	private final Stripe[] stripes;
+	private final int mask;
+	private final long timeToLive;
+	private final LongSupplier clock;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder puts = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder expirations = new LongAdder();
+
+	/**
+	 * @param regionName the name of the cache region
+	 * @param maxEntries the maximum number of entries, or a non-positive value for no limit
+	 * @param maxBytes the maximum estimated size in bytes, or a non-positive value for no limit
+	 * @param timeToLive the time to live of an entry in milliseconds, or a non-positive value for no limit
+	 */
+	public BoundedCache(String regionName, long maxEntries, long maxBytes, long timeToLive) {
+		this( regionName, maxEntries, maxBytes, timeToLive, System::currentTimeMillis );
+	}
+
+	public BoundedCache(String regionName, long maxEntries, long maxBytes, long timeToLive, LongSupplier clock) {
+		this.regionName = regionName;
+		this.timeToLive = timeToLive > 0 ? timeToLive : Long.MAX_VALUE;
+		this.clock = clock;
+
+		long entryLimit = maxEntries > 0 ? maxEntries : Long.MAX_VALUE;
+		long byteLimit = maxBytes > 0 ? maxBytes : Long.MAX_VALUE;
+		int stripeCount = stripeCount( entryLimit, byteLimit );
+		this.mask = stripeCount - 1;
+		this.stripes = new Stripe[stripeCount];
+		for ( int i = 0; i < stripeCount; i++ ) {
+			stripes[i] = new Stripe( share( entryLimit, stripeCount ), share( byteLimit, stripeCount ) );
+		}
+	}
+
+	/**
+	 * Use fewer stripes for small caches, so that each stripe still
+	 * holds enough entries for LRU eviction to be meaningful.
+	 */
+	private static int stripeCount(long maxEntries, long maxBytes) {
+		long entries = Math.min( maxEntries, maxBytes / TYPICAL_ENTRY_SIZE );
+		long stripes = Math.max( 1, Math.min( MAX_STRIPES, entries / MIN_ENTRIES_PER_STRIPE ) );
+		return (int) Long.highestOneBit( stripes );
+	}
+
+	private static long share(long limit, int stripeCount) {
+		return limit == Long.MAX_VALUE ? Long.MAX_VALUE : ( limit + stripeCount - 1 ) / stripeCount;
+	}
+
+	private Stripe stripeFor(Object key) {
+		int hash = key.hashCode();
+		return stripes[( hash ^ ( hash >>> 16 ) ) & mask];
+	}
+
+	public Object get(Object key) {
+		Stripe stripe = stripeFor( key );
+		Entry entry;
+		boolean expired = false;
+		long now = clock.getAsLong();
+		synchronized ( stripe ) {
+			entry = stripe.get( key );
+			if ( entry != null && entry.isExpired( now ) ) {
+				stripe.remove( key );
+				entry = null;
+				expired = true;
+			}
+		}
+		if ( expired ) {
+			expirations.increment();
+		}
+		if ( entry == null ) {
+			misses.increment();
+			return null;
+		}
+		else {
+			hits.increment();
+			return entry.value;
+		}
+	}
+
+	public boolean contains(Object key) {
+		Stripe stripe = stripeFor( key );
+		long now = clock.getAsLong();
+		synchronized ( stripe ) {
+			Entry entry = stripe.peek( key );
+			return entry != null && !entry.isExpired( now );
+		}
+	}
+
+	public void put(Object key, Object value) {
+		Stripe stripe = stripeFor( key );
+		// estimate the size outside the lock, since it walks the value
+		long weight = estimateSize( value );
+		long now = clock.getAsLong();
+		Entry entry = new Entry( value, weight, timeToLive == Long.MAX_VALUE ? Long.MAX_VALUE : now + timeToLive );
+		int evicted;
+		synchronized ( stripe ) {
+			evicted = stripe.put( key, entry );
+		}
+		puts.increment();
+		if ( evicted > 0 ) {
+			evictions.add( evicted );
+		}
+	}
+
+	public void remove(Object key) {
+		Stripe stripe = stripeFor( key );
+		synchronized ( stripe ) {
+			stripe.remove( key );
+		}
+	}
+
+	public void clear() {
+		for ( Stripe stripe : stripes ) {
+			synchronized ( stripe ) {
+				stripe.clear();
+			}
+		}
+	}
+
+	@Override
+	public String getRegionName() {
+		return regionName;
+	}
+
+	@Override
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	@Override
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	@Override
+	public long getPutCount() {
+		return puts.sum();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	@Override
+	public long getExpirationCount() {
+		return expirations.sum();
+	}
+
+	@Override
+	public long getElementCount() {
+		long count = 0;
+		for ( Stripe stripe : stripes ) {
+			synchronized ( stripe ) {
+				count += stripe.size();
+			}
+		}
+		return count;
+	}
+
+	@Override
+	public long getEstimatedSizeInBytes() {
+		long bytes = 0;
+		for ( Stripe stripe : stripes ) {
+			synchronized ( stripe ) {
+				bytes += stripe.bytes;
+			}
+		}
+		return bytes;
+	}
+
+	@Override
+	public String toString() {
+		return "BoundedCache{region=" + regionName
+				+ ", elements=" + getElementCount()
+				+ ", hits=" + getHitCount()
+				+ ", misses=" + getMissCount()
+				+ ", evictions=" + getEvictionCount()
+				+ '}';
+	}
+
+	/**
+	 * A rough estimate of the memory occupied by a cached value, which
+	 * is usually a {@link CacheEntry}, a {@link CollectionCacheEntry},
+	 * or a list of query results. We don't attempt to be precise: the
+	 * goal is just to bound the memory used by a region whose entries
+	 * vary greatly in size.
+	 */
+	static long estimateSize(Object value) {
+		return ENTRY_OVERHEAD + sizeOf( value, 0 );
+	}
+
+	private static long sizeOf(Object value, int depth) {
+		if ( value == null || value instanceof Enum || value instanceof Boolean ) {
+			return 0;
+		}
+		if ( value instanceof String ) {
+			return 40 + 2L * ( (String) value ).length();
+		}
+		if ( value instanceof Number || value instanceof Character ) {
+			return 24;
+		}
+		if ( value instanceof byte[] ) {
+			return 16 + ( (byte[]) value ).length;
+		}
+		if ( value instanceof char[] ) {
+			return 16 + 2L * ( (char[]) value ).length;
+		}
+		if ( depth < MAX_DEPTH ) {
+			if ( value instanceof CacheEntry ) {
+				CacheEntry entry = (CacheEntry) value;
+				return 32 + sizeOf( entry.getDisassembledState(), depth + 1 ) + sizeOf( entry.getVersion(), depth + 1 );
+			}
+			if ( value instanceof CollectionCacheEntry ) {
+				return 16 + sizeOf( ( (CollectionCacheEntry) value ).getState(), depth + 1 );
+			}
+			if ( value instanceof Object[] ) {
+				Object[] array = (Object[]) value;
+				long size = 16 + 8L * array.length;
+				for ( Object element : array ) {
+					size += sizeOf( element, depth + 1 );
+				}
+				return size;
+			}
+			if ( value instanceof Collection ) {
+				Collection<?> collection = (Collection<?>) value;
+				long size = 32 + 8L * collection.size();
+				for ( Object element : collection ) {
+					size += sizeOf( element, depth + 1 );
+				}
+				return size;
+			}
+		}
+		return UNKNOWN_OBJECT_SIZE;
+	}
+
+	private static final class Entry {
+		final Object value;
+		final long weight;
+		final long expiresAt;
+
+		Entry(Object value, long weight, long expiresAt) {
+			this.value = value;
+			this.weight = weight;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean isExpired(long now) {
+			return now >= expiresAt;
+		}
+	}
+
+	/**
+	 * A segmented LRU map. Both segments are kept in insertion order,
+	 * with the least-recently used entry first, and an entry is moved
+	 * to the end of its segment explicitly when it is read, so that
+	 * {@link #peek(Object)} never affects the order.
+	 * <p>
+	 * Must only be accessed while holding its monitor.
+	 */
+	private static final class Stripe {
+		private final Map<Object, Entry> probation = new LinkedHashMap<>();
+		private final Map<Object, Entry> protectedSegment = new LinkedHashMap<>();
+		private final long maxEntries;
+		private final long maxProtected;
+		private final long maxBytes;
+		private long bytes;
+
+		Stripe(long maxEntries, long maxBytes) {
+			this.maxEntries = maxEntries;
+			this.maxBytes = maxBytes;
+			this.maxProtected = maxEntries == Long.MAX_VALUE
+					? Long.MAX_VALUE
+					: Math.max( 1, maxEntries * PROTECTED_PERCENT / 100 );
+		}
+
+		int size() {
+			return probation.size() + protectedSegment.size();
+		}
+
+		Entry peek(Object key) {
+			Entry entry = protectedSegment.get( key );
+			return entry == null ? probation.get( key ) : entry;
+		}
+
+		Entry get(Object key) {
+			Entry entry = protectedSegment.remove( key );
+			if ( entry == null ) {
+				entry = probation.remove( key );
+				if ( entry == null ) {
+					return null;
+				}
+			}
+			// the entry has been used at least twice, so it
+			// moves to the most-recently used end of the
+			// protected segment
+			protectedSegment.put( key, entry );
+			demoteOverflow();
+			return entry;
+		}
+
+		int put(Object key, Entry entry) {
+			Entry previous = protectedSegment.get( key );
+			if ( previous != null ) {
+				protectedSegment.put( key, entry );
+			}
+			else {
+				previous = probation.remove( key );
+				probation.put( key, entry );
+			}
+			if ( previous != null ) {
+				bytes -= previous.weight;
+			}
+			bytes += entry.weight;
+			return evictOverflow();
+		}
+
+		void remove(Object key) {
+			Entry entry = protectedSegment.remove( key );
+			if ( entry == null ) {
+				entry = probation.remove( key );
+			}
+			if ( entry != null ) {
+				bytes -= entry.weight;
+			}
+		}
+
+		void clear() {
+			probation.clear();
+			protectedSegment.clear();
+			bytes = 0;
+		}
+
+		private void demoteOverflow() {
+			while ( protectedSegment.size() > maxProtected ) {
+				Iterator<Map.Entry<Object, Entry>> eldest = protectedSegment.entrySet().iterator();
+				Map.Entry<Object, Entry> demoted = eldest.next();
+				eldest.remove();
+				probation.put( demoted.getKey(), demoted.getValue() );
+			}
+		}
+
+		private int evictOverflow() {
+			int evicted = 0;
+			while ( size() > maxEntries || bytes > maxBytes && size() > 0 ) {
+				Map<Object, Entry> segment = probation.isEmpty() ? protectedSegment : probation;
+				Iterator<Map.Entry<Object, Entry>> eldest = segment.entrySet().iterator();
+				Entry victim = eldest.next().getValue();
+				eldest.remove();
+				bytes -= victim.weight;
+				evicted++;
+			}
+			return evicted;
+		}
+	}
+}
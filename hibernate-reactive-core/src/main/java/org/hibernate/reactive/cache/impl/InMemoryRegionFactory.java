@@ -0,0 +1,118 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.reactive.cache.RegionStatistics;
+import org.hibernate.reactive.provider.Settings;
+
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
+
+/**
+ * A {@link org.hibernate.cache.spi.RegionFactory} which keeps the
+ * second-level cache in memory, in a {@link BoundedCache} for each
+ * region. It has no dependencies beyond Hibernate ORM, and all its
+ * operations are non-blocking, making it a safe default for caching
+ * read-mostly reference data.
+ * <p>
+ * Enable it by setting {@value Settings#CACHE_REGION_FACTORY} to
+ * the name of this class. The size of each region is controlled
+ * by the properties {@link Settings#CACHE_MAX_ENTRIES},
+ * {@link Settings#CACHE_MAX_BYTES}, and {@link Settings#CACHE_TIME_TO_LIVE}.
+ * <p>
+ * The update timestamps region is never bounded, since evicting a
+ * timestamp could result in stale query results being returned
+ * from the query cache.
+ */
+public class InMemoryRegionFactory extends RegionFactoryTemplate {
+
+	public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+	private final Map<String, BoundedCache> caches = new ConcurrentHashMap<>();
+	private volatile Map<?, ?> configuration = Collections.emptyMap();
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map configValues) {
+		configuration = configValues;
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		caches.values().forEach( BoundedCache::clear );
+		caches.clear();
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return new InMemoryStorageAccess( createBoundedCache( regionConfig.getRegionName() ) );
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new InMemoryStorageAccess( createBoundedCache( regionName ) );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		BoundedCache cache = new BoundedCache( regionName, 0, 0, 0 );
+		caches.put( regionName, cache );
+		return new InMemoryStorageAccess( cache );
+	}
+
+	private BoundedCache createBoundedCache(String regionName) {
+		BoundedCache cache = new BoundedCache(
+				regionName,
+				regionSetting( Settings.CACHE_MAX_ENTRIES, regionName, DEFAULT_MAX_ENTRIES ),
+				regionSetting( Settings.CACHE_MAX_BYTES, regionName, 0 ),
+				regionSetting( Settings.CACHE_TIME_TO_LIVE, regionName, 0 )
+		);
+		caches.put( regionName, cache );
+		return cache;
+	}
+
+	/**
+	 * A setting for the given region, falling back to the global
+	 * setting if there's no value specific to the region.
+	 */
+	private long regionSetting(String name, String regionName, int defaultValue) {
+		String regionSpecificName = name + '.' + regionName;
+		return configuration.containsKey( regionSpecificName )
+				? getLong( regionSpecificName, configuration, defaultValue )
+				: getLong( name, configuration, defaultValue );
+	}
+
+	/**
+	 * The statistics for the given region, or {@code null} if there
+	 * is no such region.
+	 */
+	public RegionStatistics getRegionStatistics(String regionName) {
+		return caches.get( regionName );
+	}
+
+	/**
+	 * The statistics for every region.
+	 */
+	public Collection<? extends RegionStatistics> getRegionStatistics() {
+		return Collections.unmodifiableCollection( caches.values() );
+	}
+}
@@ -0,0 +1,66 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Adapts a {@link BoundedCache} to Hibernate ORM's storage SPI. Since
+ * the cache is held in memory, none of these operations ever block.
+ */
+public class InMemoryStorageAccess implements DomainDataStorageAccess {
+
+	private final BoundedCache cache;
+
+	public InMemoryStorageAccess(BoundedCache cache) {
+		this.cache = cache;
+	}
+
+	public BoundedCache getCache() {
+		return cache;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		return cache.get( key );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		cache.put( key, value );
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return cache.contains( key );
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		cache.remove( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		cache.clear();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		cache.remove( key );
+	}
+
+	@Override
+	public void evictData() {
+		cache.clear();
+	}
+
+	@Override
+	public void release() {
+		cache.clear();
+	}
+}
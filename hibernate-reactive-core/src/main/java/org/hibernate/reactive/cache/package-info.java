@@ -0,0 +1,8 @@
+/**
+ * Support for Hibernate ORM's second-level cache, including a
+ * built-in {@link org.hibernate.cache.spi.RegionFactory} which
+ * keeps cached data in memory, without any external dependency.
+ *
+ * @see org.hibernate.reactive.cache.impl.InMemoryRegionFactory
+ */
+package org.hibernate.reactive.cache;
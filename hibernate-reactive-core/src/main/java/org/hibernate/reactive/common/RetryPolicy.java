@@ -0,0 +1,209 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.common;
+
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+import org.hibernate.Incubating;
+import org.hibernate.JDBCException;
+import org.hibernate.reactive.stat.RetryStatistics;
+import org.hibernate.reactive.stat.impl.RetryStatisticsImpl;
+
+/**
+ * Determines whether, how often, and after how long a transaction which
+ * failed with a transient error, for example, a serialization failure or
+ * a deadlock, is retried.
+ * <p>
+ * By default, a transaction is retried if it fails with one of the
+ * SQLSTATEs {@code 40001} (serialization failure) or {@code 40P01}
+ * (deadlock detected), or the MySQL error code {@code 1213} (deadlock).
+ * Between attempts, the transaction waits for an exponentially growing
+ * interval with random jitter.
+ * <p>
+ * An instance keeps {@linkplain #getStatistics() statistics} about the
+ * transactions executed using it, and may be shared between threads.
+ *
+ * @see org.hibernate.reactive.stage.Stage.SessionFactory#withTransaction(RetryPolicy, java.util.function.BiFunction)
+ * @see org.hibernate.reactive.mutiny.Mutiny.SessionFactory#withTransaction(RetryPolicy, java.util.function.BiFunction)
+ */
+@Incubating
+public final class RetryPolicy {
+
+	private static final Set<String> RETRYABLE_SQL_STATES = new HashSet<>( Arrays.asList( "40001", "40P01" ) );
+	private static final int MYSQL_DEADLOCK = 1213;
+
+	private static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis( 10 );
+	private static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds( 1 );
+
+	private final int maxAttempts;
+	private final Duration initialBackoff;
+	private final Duration maxBackoff;
+	private final Predicate<Throwable> retryable;
+	private final RetryStatisticsImpl statistics = new RetryStatisticsImpl();
+
+	private RetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff, Predicate<Throwable> retryable) {
+		if ( maxAttempts < 1 ) {
+			throw new IllegalArgumentException( "maxAttempts must be at least 1" );
+		}
+		if ( initialBackoff.isNegative() || maxBackoff.compareTo( initialBackoff ) < 0 ) {
+			throw new IllegalArgumentException( "maxBackoff must be at least initialBackoff, which may not be negative" );
+		}
+		this.maxAttempts = maxAttempts;
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = maxBackoff;
+		this.retryable = retryable;
+	}
+
+	/**
+	 * A policy which attempts a transaction at most the given number of
+	 * times, waiting between 10 milliseconds and 1 second between attempts.
+	 *
+	 * @param maxAttempts the maximum number of attempts, including the first
+	 */
+	public static RetryPolicy maxAttempts(int maxAttempts) {
+		return new RetryPolicy( maxAttempts, DEFAULT_INITIAL_BACKOFF, DEFAULT_MAX_BACKOFF, RetryPolicy::isTransientFailure );
+	}
+
+	/**
+	 * A copy of this policy, which waits for around the given initial interval
+	 * after the first attempt, doubling the interval after each subsequent
+	 * attempt, up to the given maximum interval.
+	 */
+	public RetryPolicy withBackoff(Duration initialBackoff, Duration maxBackoff) {
+		Objects.requireNonNull( initialBackoff, "parameter 'initialBackoff' is required" );
+		Objects.requireNonNull( maxBackoff, "parameter 'maxBackoff' is required" );
+		return new RetryPolicy( maxAttempts, initialBackoff, maxBackoff, retryable );
+	}
+
+	/**
+	 * A copy of this policy, which retries transactions failing with an
+	 * error accepted by the given predicate, instead of the default
+	 * transient errors.
+	 */
+	public RetryPolicy retryOn(Predicate<Throwable> retryable) {
+		Objects.requireNonNull( retryable, "parameter 'retryable' is required" );
+		return new RetryPolicy( maxAttempts, initialBackoff, maxBackoff, retryable );
+	}
+
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+
+	public Duration getInitialBackoff() {
+		return initialBackoff;
+	}
+
+	public Duration getMaxBackoff() {
+		return maxBackoff;
+	}
+
+	/**
+	 * Statistics about the transactions executed using this policy.
+	 */
+	public RetryStatistics getStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * Should a transaction which failed with the given error be retried,
+	 * assuming it hasn't already been attempted the maximum number of
+	 * times?
+	 */
+	public boolean isRetryable(Throwable failure) {
+		return retryable.test( failure );
+	}
+
+	/**
+	 * The number of milliseconds to wait before the given attempt, which
+	 * is at least 2, chosen randomly between half the exponential backoff
+	 * interval and the whole interval.
+	 */
+	public long backoff(int attempt) {
+		long initial = initialBackoff.toMillis();
+		long max = maxBackoff.toMillis();
+		int doublings = Math.min( attempt - 2, 30 );
+		long interval = Math.min( max, initial << doublings );
+		if ( interval < initial ) {
+			// overflow
+			interval = max;
+		}
+		return interval / 2 + ThreadLocalRandom.current().nextLong( interval / 2 + 1 );
+	}
+
+	/**
+	 * Is the given error, or one of its causes, a serialization failure or
+	 * a deadlock? The SQLSTATE or error code is obtained from a
+	 * {@link SQLException}, a {@link JDBCException}, or an exception thrown
+	 * by a Vert.x database client.
+	 */
+	public static boolean isTransientFailure(Throwable failure) {
+		for ( Throwable t = failure; t != null; t = t.getCause() == t ? null : t.getCause() ) {
+			if ( t instanceof JDBCException ) {
+				JDBCException exception = (JDBCException) t;
+				if ( isTransient( exception.getSQLState(), exception.getErrorCode() ) ) {
+					return true;
+				}
+			}
+			else if ( t instanceof SQLException ) {
+				SQLException exception = (SQLException) t;
+				if ( isTransient( exception.getSQLState(), exception.getErrorCode() ) ) {
+					return true;
+				}
+			}
+			// the exceptions of the Vert.x clients have no common supertype:
+			// getCode() for PostgreSQL, getSqlState() for MySQL and Db2
+			else if ( isTransient( stringProperty( t, "getSqlState", "getCode" ), intProperty( t, "getErrorCode" ) ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isTransient(String sqlState, int errorCode) {
+		return sqlState != null && RETRYABLE_SQL_STATES.contains( sqlState )
+				|| errorCode == MYSQL_DEADLOCK;
+	}
+
+	private static String stringProperty(Throwable t, String... getters) {
+		for ( String getter : getters ) {
+			Object value = property( t, getter );
+			if ( value instanceof String ) {
+				return (String) value;
+			}
+		}
+		return null;
+	}
+
+	private static int intProperty(Throwable t, String getter) {
+		Object value = property( t, getter );
+		return value instanceof Integer ? (Integer) value : 0;
+	}
+
+	private static Object property(Throwable t, String getter) {
+		try {
+			Method method = t.getClass().getMethod( getter );
+			return method.getParameterCount() == 0 ? method.invoke( t ) : null;
+		}
+		catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "RetryPolicy{maxAttempts=" + maxAttempts
+				+ ", initialBackoff=" + initialBackoff
+				+ ", maxBackoff=" + maxBackoff + '}';
+	}
+}
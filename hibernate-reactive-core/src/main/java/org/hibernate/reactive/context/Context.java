@@ -45,6 +45,38 @@ public interface Context extends Executor, Service {
     @Override
     void execute(Runnable runnable);
 
+    /**
+     * Capture the values associated with the current reactive stream,
+     * returning an {@link Executor} which runs commands with the same
+     * values associated with them, no matter which thread the commands
+     * happen to run on.
+     *
+     * The default implementation simply runs commands on the calling
+     * thread, which is correct whenever the values are carried by the
+     * Vert.x context in which the reactive stream runs.
+     */
+    default Executor capture() {
+        return Runnable::run;
+    }
+
+    /**
+     * Must every reactive stream run on a Vert.x event loop thread?
+     *
+     * If not, a session may be used from any thread, as long as it's
+     * used by only one logical task at a time.
+     */
+    default boolean isEventLoopConfined() {
+        return true;
+    }
+
+    /**
+     * Is there a reactive stream with which values may be associated
+     * by calling {@link #put(Key, Object)} from the current thread?
+     */
+    default boolean isActive() {
+        return true;
+    }
+
     final class Key<T> {
         Class<T> type;
         String id;
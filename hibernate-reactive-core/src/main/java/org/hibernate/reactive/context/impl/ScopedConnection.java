@@ -0,0 +1,148 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.context.impl;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+/**
+ * A {@link ReactiveConnection} which completes every operation in the
+ * scope {@linkplain ScopedContext#capture() captured} from the logical
+ * task which opened the session. The connection it delegates to
+ * completes operations on a Vert.x event loop thread, and so anything
+ * chained to an operation, including a nested call to {@code withSession()},
+ * would otherwise run with no scope bound to the thread.
+ *
+ * @see ScopedContext
+ */
+public final class ScopedConnection implements ReactiveConnection {
+
+    private final ReactiveConnection delegate;
+    private final Executor scope;
+
+    public ScopedConnection(ReactiveConnection delegate, Executor scope) {
+        this.delegate = delegate;
+        this.scope = scope;
+    }
+
+    private <T> CompletionStage<T> inScope(CompletionStage<T> stage) {
+        return stage.whenCompleteAsync( (result, failure) -> {}, scope );
+    }
+
+    @Override
+    public CompletionStage<Void> execute(String sql) {
+        return inScope( delegate.execute( sql ) );
+    }
+
+    @Override
+    public CompletionStage<Void> executeOutsideTransaction(String sql) {
+        return inScope( delegate.executeOutsideTransaction( sql ) );
+    }
+
+    @Override
+    public CompletionStage<Void> executeUnprepared(String sql) {
+        return inScope( delegate.executeUnprepared( sql ) );
+    }
+
+    @Override
+    public CompletionStage<Integer> update(String sql) {
+        return inScope( delegate.update( sql ) );
+    }
+
+    @Override
+    public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+        return inScope( delegate.update( sql, paramValues ) );
+    }
+
+    @Override
+    public CompletionStage<Void> update(String sql, Object[] paramValues, boolean allowBatching, Expectation expectation) {
+        return inScope( delegate.update( sql, paramValues, allowBatching, expectation ) );
+    }
+
+    @Override
+    public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+        return inScope( delegate.update( sql, paramValues ) );
+    }
+
+    @Override
+    public CompletionStage<Result> select(String sql) {
+        return inScope( delegate.select( sql ) );
+    }
+
+    @Override
+    public CompletionStage<Result> select(String sql, Object[] paramValues) {
+        return inScope( delegate.select( sql, paramValues ) );
+    }
+
+    @Override
+    public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+        return inScope( delegate.selectJdbc( sql, paramValues ) );
+    }
+
+    @Override
+    public CompletionStage<Long> insertAndSelectIdentifier(String sql, Object[] paramValues) {
+        return inScope( delegate.insertAndSelectIdentifier( sql, paramValues ) );
+    }
+
+    @Override
+    public CompletionStage<Long> selectIdentifier(String sql, Object[] paramValues) {
+        return inScope( delegate.selectIdentifier( sql, paramValues ) );
+    }
+
+    @Override
+    public CompletionStage<Void> beginTransaction() {
+        return inScope( delegate.beginTransaction() );
+    }
+
+    @Override
+    public CompletionStage<Void> commitTransaction() {
+        return inScope( delegate.commitTransaction() );
+    }
+
+    @Override
+    public CompletionStage<Void> rollbackTransaction() {
+        return inScope( delegate.rollbackTransaction() );
+    }
+
+    @Override
+    public boolean isTransactionInProgress() {
+        return delegate.isTransactionInProgress();
+    }
+
+    @Override
+    public CompletionStage<Void> createTemporaryTable(String tableName, String createStatement) {
+        return inScope( delegate.createTemporaryTable( tableName, createStatement ) );
+    }
+
+    @Override
+    public CompletionStage<Void> setSavepoint(String name) {
+        return inScope( delegate.setSavepoint( name ) );
+    }
+
+    @Override
+    public CompletionStage<Void> rollbackToSavepoint(String name) {
+        return inScope( delegate.rollbackToSavepoint( name ) );
+    }
+
+    @Override
+    public CompletionStage<Void> releaseSavepoint(String name) {
+        return inScope( delegate.releaseSavepoint( name ) );
+    }
+
+    @Override
+    public CompletionStage<Void> executeBatch() {
+        return inScope( delegate.executeBatch() );
+    }
+
+    @Override
+    public CompletionStage<Void> close() {
+        return inScope( delegate.close() );
+    }
+}
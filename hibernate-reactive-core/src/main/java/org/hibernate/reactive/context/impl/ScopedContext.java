@@ -0,0 +1,106 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.context.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.hibernate.reactive.context.Context;
+
+/**
+ * An implementation of {@link Context} which doesn't depend on
+ * Vert.x, and which may be used from virtual threads, or from the
+ * threads of an arbitrary {@link Executor}.
+ * <p>
+ * The values associated with a reactive stream are held by a
+ * <em>scope</em>, a carrier which is bound to the thread running the
+ * logical task which started the stream, and which is {@linkplain
+ * #capture() captured} when a session is opened. The scope travels
+ * with the stream: the connection of the session rebinds it whenever
+ * a database operation completes on a Vert.x event loop thread, so
+ * that whatever is chained to the operation runs in the same scope.
+ * <p>
+ * Commands passed to {@link #execute(Runnable)} run immediately, on
+ * the calling thread, instead of being dispatched to a Vert.x context.
+ *
+ * @see ScopedConnection
+ * @see org.hibernate.reactive.provider.Settings#SCOPED_CONTEXT
+ */
+public class ScopedContext implements Context {
+
+    private final ThreadLocal<Scope> currentScope = new ThreadLocal<>();
+
+    @Override
+    public <T> void put(Key<T> key, T instance) {
+        Scope scope = currentScope.get();
+        if ( scope == null ) {
+            scope = new Scope();
+            currentScope.set( scope );
+        }
+        scope.values.put( key, instance );
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Key<T> key) {
+        final Scope scope = currentScope.get();
+        return scope == null ? null : (T) scope.values.get( key );
+    }
+
+    @Override
+    public void remove(Key<?> key) {
+        final Scope scope = currentScope.get();
+        if ( scope != null ) {
+            scope.values.remove( key );
+        }
+    }
+
+    @Override
+    public void execute(Runnable runnable) {
+        runnable.run();
+    }
+
+    @Override
+    public Executor capture() {
+        Scope current = currentScope.get();
+        final Scope scope = current == null ? new Scope() : current;
+        return command -> {
+            final Scope previous = currentScope.get();
+            if ( previous == scope ) {
+                command.run();
+            }
+            else {
+                currentScope.set( scope );
+                try {
+                    command.run();
+                }
+                finally {
+                    if ( previous == null ) {
+                        currentScope.remove();
+                    }
+                    else {
+                        currentScope.set( previous );
+                    }
+                }
+            }
+        };
+    }
+
+    @Override
+    public boolean isEventLoopConfined() {
+        return false;
+    }
+
+    /**
+     * The values associated with a logical task. A scope is only ever
+     * used by one logical task at a time, but that task may migrate
+     * between threads.
+     */
+    private static final class Scope {
+        final Map<Key<?>, Object> values = new ConcurrentHashMap<>();
+    }
+}
@@ -67,6 +67,11 @@ public void remove(Key<?> key) {
         }
     }
 
+    @Override
+    public boolean isActive() {
+        return currentContext() != null;
+    }
+
     @Override
     public void execute(Runnable runnable) {
         io.vertx.core.Context context = vertxInstance.getVertx().getOrCreateContext();
@@ -6,7 +6,9 @@
 package org.hibernate.reactive.context.impl;
 
 import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.reactive.context.Context;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
 import java.util.Map;
@@ -17,7 +19,9 @@ public class VertxContextInitiator implements StandardServiceInitiator<Context>
 
     @Override
     public Context initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
-        return new VertxContext();
+        return ConfigurationHelper.getBoolean( Settings.SCOPED_CONTEXT, configurationValues, false )
+                ? new ScopedContext()
+                : new VertxContext();
     }
 
     @Override
@@ -8,8 +8,12 @@
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -17,14 +21,20 @@
 import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.PropertyValueException;
 import org.hibernate.action.internal.AbstractEntityInsertAction;
 import org.hibernate.action.internal.BulkOperationCleanupAction;
+import org.hibernate.action.internal.CollectionAction;
 import org.hibernate.action.internal.EntityAction;
 import org.hibernate.action.internal.EntityActionVetoException;
 import org.hibernate.action.internal.EntityDeleteAction;
@@ -41,9 +51,11 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.metadata.ClassMetadata;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.reactive.engine.impl.IndependentActions;
 import org.hibernate.reactive.engine.impl.ReactiveCollectionRecreateAction;
 import org.hibernate.reactive.engine.impl.ReactiveCollectionRemoveAction;
 import org.hibernate.reactive.engine.impl.ReactiveCollectionUpdateAction;
@@ -55,7 +67,14 @@
 import org.hibernate.reactive.engine.impl.ReactiveOrphanRemovalAction;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.stat.FlushStatistics;
+import org.hibernate.reactive.stat.impl.FlushStatisticsImpl;
+import org.hibernate.reactive.stat.impl.StatementCountingConnection;
+import org.hibernate.reactive.tracing.impl.Tracing;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.type.CollectionType;
 import org.hibernate.type.CompositeType;
@@ -84,7 +103,7 @@ public class ReactiveActionQueue {
 
 		EXECUTABLE_LISTS_MAP.put(
 				ReactiveOrphanRemovalAction.class,
-				new ListProvider<ReactiveOrphanRemovalAction>() {
+				new ListProvider<ReactiveOrphanRemovalAction>( "orphanRemovals" ) {
 					ExecutableList<ReactiveOrphanRemovalAction> get(ReactiveActionQueue instance) {
 						return instance.orphanRemovals;
 					}
@@ -96,7 +115,7 @@ ExecutableList<ReactiveOrphanRemovalAction> init(ReactiveActionQueue instance) {
 		);
 		EXECUTABLE_LISTS_MAP.put(
 				ReactiveEntityInsertAction.class,
-				new ListProvider<ReactiveEntityInsertAction>() {
+				new ListProvider<ReactiveEntityInsertAction>( "insertions" ) {
 					ExecutableList<ReactiveEntityInsertAction> get(ReactiveActionQueue instance) {
 						return instance.insertions;
 					}
@@ -117,7 +136,7 @@ ExecutableList<ReactiveEntityInsertAction> init(ReactiveActionQueue instance) {
 		);
 		EXECUTABLE_LISTS_MAP.put(
 				ReactiveEntityUpdateAction.class,
-				new ListProvider<ReactiveEntityUpdateAction>() {
+				new ListProvider<ReactiveEntityUpdateAction>( "updates" ) {
 					ExecutableList<ReactiveEntityUpdateAction> get(ReactiveActionQueue instance) {
 						return instance.updates;
 					}
@@ -142,7 +161,7 @@ ExecutableList<ReactiveEntityUpdateAction> init(ReactiveActionQueue instance) {
 //		);
 		EXECUTABLE_LISTS_MAP.put(
 				ReactiveCollectionRemoveAction.class,
-				new ListProvider<ReactiveCollectionRemoveAction>() {
+				new ListProvider<ReactiveCollectionRemoveAction>( "collectionRemovals" ) {
 					ExecutableList<ReactiveCollectionRemoveAction> get(ReactiveActionQueue instance) {
 						return instance.collectionRemovals;
 					}
@@ -155,7 +174,7 @@ ExecutableList<ReactiveCollectionRemoveAction> init(ReactiveActionQueue instance
 		);
 		EXECUTABLE_LISTS_MAP.put(
 				ReactiveCollectionUpdateAction.class,
-				new ListProvider<ReactiveCollectionUpdateAction>() {
+				new ListProvider<ReactiveCollectionUpdateAction>( "collectionUpdates" ) {
 					ExecutableList<ReactiveCollectionUpdateAction> get(ReactiveActionQueue instance) {
 						return instance.collectionUpdates;
 					}
@@ -168,7 +187,7 @@ ExecutableList<ReactiveCollectionUpdateAction> init(ReactiveActionQueue instance
 		);
 		EXECUTABLE_LISTS_MAP.put(
 				ReactiveCollectionRecreateAction.class,
-				new ListProvider<ReactiveCollectionRecreateAction>() {
+				new ListProvider<ReactiveCollectionRecreateAction>( "collectionCreations" ) {
 					ExecutableList<ReactiveCollectionRecreateAction> get(ReactiveActionQueue instance) {
 						return instance.collectionCreations;
 					}
@@ -181,7 +200,7 @@ ExecutableList<ReactiveCollectionRecreateAction> init(ReactiveActionQueue instan
 		);
 		EXECUTABLE_LISTS_MAP.put(
 				ReactiveEntityDeleteAction.class,
-				new ListProvider<ReactiveEntityDeleteAction>() {
+				new ListProvider<ReactiveEntityDeleteAction>( "deletions" ) {
 					ExecutableList<ReactiveEntityDeleteAction> get(ReactiveActionQueue instance) {
 						return instance.deletions;
 					}
@@ -198,6 +217,7 @@ ExecutableList<ReactiveEntityDeleteAction> init(ReactiveActionQueue instance) {
 	//       to ensure that they are instantiated consistently.
 
 	private final ReactiveSession session;
+	private final Tracing tracing;
 	private UnresolvedEntityInsertActions unresolvedInsertions;
 	// Object insertions, updates, and deletions have list semantics because
 	// they must happen in the right order so as to respect referential
@@ -216,6 +236,14 @@ ExecutableList<ReactiveEntityDeleteAction> init(ReactiveActionQueue instance) {
 	// TODO: The removeOrphan concept is a temporary "hack" for HHH-6484.  This should be removed once action/task
 	// ordering is improved.
 	private ExecutableList<ReactiveOrphanRemovalAction> orphanRemovals;
+
+	private Integer flushParallelism;
+
+	private StatementCountingConnection statementCounter;
+	private FlushStatisticsImpl currentFlushStatistics;
+	private FlushStatisticsImpl flushStatistics;
+	private Integer flushLogSlowerThan;
+	private Boolean partialAutoFlush;
 	private transient boolean isTransactionCoordinatorShared;
 	private AfterTransactionCompletionProcessQueue afterTransactionProcesses;
 	private BeforeTransactionCompletionProcessQueue beforeTransactionProcesses;
@@ -224,9 +252,11 @@ ExecutableList<ReactiveEntityDeleteAction> init(ReactiveActionQueue instance) {
 	 * Constructs an action queue bound to the given session.
 	 *
 	 * @param session The session "owning" this queue.
+	 * @param tracing The tracing of the session factory, or {@code null}
 	 */
-	public ReactiveActionQueue(ReactiveSession session) {
+	public ReactiveActionQueue(ReactiveSession session, Tracing tracing) {
 		this.session = session;
+		this.tracing = tracing;
 		isTransactionCoordinatorShared = false;
 	}
 
@@ -241,10 +271,23 @@ private static boolean areTablesToBeUpdated(
 			return false;
 		}
 
-		for ( Serializable actionSpace : actions.getQuerySpaces() ) {
-			if ( tableSpaces.contains( actionSpace ) ) {
-				LOG.debugf( "Changes must be flushed to space: %s", actionSpace );
-				return true;
+		// the list maintains its set of spaces as actions are added,
+		// so iterate whichever of the two sets is smaller
+		final Set<Serializable> actionSpaces = actions.getQuerySpaces();
+		if ( tableSpaces.size() < actionSpaces.size() ) {
+			for ( Object tableSpace : tableSpaces ) {
+				if ( actionSpaces.contains( tableSpace ) ) {
+					LOG.debugf( "Changes must be flushed to space: %s", tableSpace );
+					return true;
+				}
+			}
+		}
+		else {
+			for ( Serializable actionSpace : actionSpaces ) {
+				if ( tableSpaces.contains( actionSpace ) ) {
+					LOG.debugf( "Changes must be flushed to space: %s", actionSpace );
+					return true;
+				}
 			}
 		}
 
@@ -574,12 +617,103 @@ public CompletionStage<Void> executeInserts() {
 		return voidFuture();
 	}
 
+	/**
+	 * Wrap the given connection so that the number of statements
+	 * executed by each flush is counted, if statistics are enabled
+	 * or slow flushes are logged.
+	 *
+	 * @see FlushStatistics#getStatementCount()
+	 */
+	public ReactiveConnection countStatements(ReactiveConnection connection) {
+		if ( isStatementCountingEnabled( session.getFactory() ) ) {
+			statementCounter = new StatementCountingConnection( connection );
+			return statementCounter;
+		}
+		return connection;
+	}
+
+	/**
+	 * Determine if the statements executed by each flush must be
+	 * counted, without the need to instantiate an action queue.
+	 *
+	 * @see #countStatements(ReactiveConnection)
+	 */
+	public static boolean isStatementCountingEnabled(SessionFactoryImplementor factory) {
+		return factory.getStatistics().isStatisticsEnabled()
+				|| ConfigurationHelper.getInt( Settings.FLUSH_LOG_SLOWER_THAN, factory.getProperties(), 0 ) > 0;
+	}
+
+	/**
+	 * Start recording the statistics of a new flush, if statistics
+	 * are enabled or slow flushes are logged.
+	 *
+	 * @return the statistics of the new flush, or {@code null} if
+	 *         they are not recorded
+	 */
+	public FlushStatisticsImpl startFlushStatistics() {
+		currentFlushStatistics = session.getFactory().getStatistics().isStatisticsEnabled() || flushLogSlowerThan() > 0
+				? new FlushStatisticsImpl( statementCounter )
+				: null;
+		return currentFlushStatistics;
+	}
+
+	/**
+	 * Stop recording the statistics of the current flush, logging
+	 * them if the flush was slow.
+	 *
+	 * @see Settings#FLUSH_LOG_SLOWER_THAN
+	 */
+	public void endFlushStatistics() {
+		final FlushStatisticsImpl statistics = currentFlushStatistics;
+		if ( statistics != null ) {
+			currentFlushStatistics = null;
+			statistics.end();
+			flushStatistics = statistics;
+			final int threshold = flushLogSlowerThan();
+			if ( threshold > 0 && TimeUnit.NANOSECONDS.toMillis( statistics.getTotalTime() ) >= threshold ) {
+				LOG.slowFlush( TimeUnit.NANOSECONDS.toMillis( statistics.getTotalTime() ), statistics );
+			}
+		}
+	}
+
+	/**
+	 * @return the statistics of the flush in progress, if any
+	 */
+	public FlushStatisticsImpl getCurrentFlushStatistics() {
+		return currentFlushStatistics;
+	}
+
+	/**
+	 * @return the statistics of the last completed flush, or
+	 *         {@code null} if there was no flush
+	 */
+	public FlushStatistics getFlushStatistics() {
+		return flushStatistics;
+	}
+
+	private int flushLogSlowerThan() {
+		if ( flushLogSlowerThan == null ) {
+			flushLogSlowerThan = ConfigurationHelper.getInt(
+					Settings.FLUSH_LOG_SLOWER_THAN,
+					session.getFactory().getProperties(),
+					0
+			);
+		}
+		return flushLogSlowerThan;
+	}
+
 	/**
 	 * Perform all currently queued actions.
 	 *
 	 * @throws HibernateException error executing queued actions.
 	 */
 	public CompletionStage<Void> executeActions() {
+		return tracing == null
+				? doExecuteActions()
+				: tracing.traceScope( "execute actions", null, this::doExecuteActions );
+	}
+
+	private CompletionStage<Void> doExecuteActions() {
 		if ( hasUnresolvedEntityInsertActions() ) {
 			return failedFuture( new IllegalStateException(
 					"About to execute actions, but there are unresolved entity insert actions." ) );
@@ -589,12 +723,99 @@ public CompletionStage<Void> executeActions() {
 		for ( ListProvider<? extends ReactiveExecutable> listProvider : EXECUTABLE_LISTS_MAP.values() ) {
 			ExecutableList<? extends ReactiveExecutable> l = listProvider.get( this );
 			if ( l != null && !l.isEmpty() ) {
-				ret = ret.thenCompose( v -> executeActions( l ) );
+				ret = ret.thenCompose( v -> timed( listProvider, () -> executeActions( l ) ) );
 			}
 		}
 		return ret;
 	}
 
+	/**
+	 * Perform the queued actions which affect the given tables, or any
+	 * table related to them, and then discard the remaining actions
+	 * scheduled by the flush, as in {@link #clearFromFlushNeededCheck(int)}.
+	 * Actions queued before the flush are retained.
+	 *
+	 * @param tables The table/query-spaces about to be queried.
+	 * @param previousCollectionRemovalSize The number of collection removals queued before the flush
+	 *
+	 * @see Settings#PARTIAL_AUTO_FLUSH
+	 */
+	public CompletionStage<Void> executeActions(@SuppressWarnings("rawtypes") Set tables, int previousCollectionRemovalSize) {
+		return tracing == null
+				? doExecuteActions( tables, previousCollectionRemovalSize )
+				: tracing.traceScope( "execute actions", String.valueOf( tables ),
+						() -> doExecuteActions( tables, previousCollectionRemovalSize ) );
+	}
+
+	private CompletionStage<Void> doExecuteActions(@SuppressWarnings("rawtypes") Set tables, int previousCollectionRemovalSize) {
+		if ( hasUnresolvedEntityInsertActions() ) {
+			return failedFuture( new IllegalStateException(
+					"About to execute actions, but there are unresolved entity insert actions." ) );
+		}
+
+		final List<ReactiveExecutable> actions = new ArrayList<>();
+		for ( ListProvider<? extends ReactiveExecutable> listProvider : EXECUTABLE_LISTS_MAP.values() ) {
+			ExecutableList<? extends ReactiveExecutable> l = listProvider.get( this );
+			if ( l != null ) {
+				for ( int i = 0; i < l.size(); i++ ) {
+					actions.add( l.get( i ) );
+				}
+			}
+		}
+		final Set<Serializable> spaces = IndependentActions.relatedSpaces( actions, tables, session.getFactory() );
+
+		CompletionStage<Void> ret = voidFuture();
+		for ( ListProvider<? extends ReactiveExecutable> listProvider : EXECUTABLE_LISTS_MAP.values() ) {
+			ExecutableList<? extends ReactiveExecutable> l = listProvider.get( this );
+			if ( l != null && !l.isEmpty() ) {
+				ret = ret.thenCompose( v -> timed( listProvider, () -> executeActions( l, spaces ) ) );
+			}
+		}
+
+		// collection removals queued before the flush aren't scheduled again by the next flush
+		final Set<Executable> previousCollectionRemovals = Collections.newSetFromMap( new IdentityHashMap<>() );
+		for ( int i = 0; collectionRemovals != null && i < previousCollectionRemovalSize; i++ ) {
+			previousCollectionRemovals.add( collectionRemovals.get( i ) );
+		}
+		return ret.thenRun( () -> {
+			clearFromFlushNeededCheck( collectionRemovals == null ? 0 : collectionRemovals.size() );
+			if ( collectionRemovals != null ) {
+				for ( int i = collectionRemovals.size() - 1; i >= 0; i-- ) {
+					if ( !previousCollectionRemovals.contains( collectionRemovals.get( i ) ) ) {
+						collectionRemovals.remove( i );
+					}
+				}
+			}
+		} );
+	}
+
+	/**
+	 * @return {@code true} if an auto-flush should only execute the actions
+	 *         affecting the tables about to be queried
+	 *
+	 * @see Settings#PARTIAL_AUTO_FLUSH
+	 */
+	public boolean isPartialAutoFlushEnabled() {
+		if ( partialAutoFlush == null ) {
+			partialAutoFlush = ConfigurationHelper.getBoolean(
+					Settings.PARTIAL_AUTO_FLUSH,
+					session.getFactory().getProperties(),
+					false
+			);
+		}
+		return partialAutoFlush;
+	}
+
+	private CompletionStage<Void> timed(ListProvider<?> listProvider, Supplier<CompletionStage<Void>> execution) {
+		final FlushStatisticsImpl statistics = currentFlushStatistics;
+		if ( statistics == null ) {
+			return execution.get();
+		}
+		final long start = System.nanoTime();
+		return execution.get()
+				.whenComplete( (v, x) -> statistics.addExecutionTime( listProvider.name, System.nanoTime() - start ) );
+	}
+
 	/**
 	 * Prepares the internal action queues for execution.
 	 *
@@ -689,31 +910,187 @@ private <E extends ReactiveExecutable> CompletionStage<Void> executeActions(
 		// todo : consider ways to improve the double iteration of Executables here:
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
-		return CompletionStages.loop( 0, list.size(),
-				index -> {
-					final E e = list.get( index );
-					return e.reactiveExecute()
-							.whenComplete( (v2, x1) -> {
-								if ( e.getBeforeTransactionCompletionProcess() != null ) {
-									beforeTransactionProcesses().register( e.getBeforeTransactionCompletionProcess() );
-								}
-								if ( e.getAfterTransactionCompletionProcess() != null ) {
-									afterTransactionProcesses().register( e.getAfterTransactionCompletionProcess() );
-								}
-							} );
-				}
-		)
-		.whenComplete( (v, x) -> {
+		final List<E> actions = new ArrayList<>( list.size() );
+		for ( int i = 0; i < list.size(); i++ ) {
+			actions.add( list.get( i ) );
+		}
+		return executeActions( list, actions )
+				.thenRun(list::clear)
+				// session.getJdbcCoordinator().executeBatch();
+				.thenCompose( v -> session.getReactiveConnection().executeBatch() );
+	}
+
+	/**
+	 * Perform the actions in the given list which affect one of the given
+	 * tables, and remove them from the list.
+	 */
+	private <E extends ReactiveExecutable> CompletionStage<Void> executeActions(
+			ExecutableList<E> list,
+			Set<Serializable> spaces) throws HibernateException {
+		final List<E> actions = new ArrayList<>();
+		for ( int i = list.size() - 1; i >= 0; i-- ) {
+			if ( IndependentActions.affects( list.get( i ), spaces ) ) {
+				actions.add( 0, list.remove( i ) );
+			}
+		}
+		if ( actions.isEmpty() ) {
+			return voidFuture();
+		}
+		for ( E action : actions ) {
+			if ( action instanceof CollectionAction ) {
+				// see prepareActions()
+				action.beforeExecutions();
+			}
+		}
+		return executeActions( list, actions )
+				.thenCompose( v -> session.getReactiveConnection().executeBatch() );
+	}
+
+	private <E extends ReactiveExecutable> CompletionStage<Void> executeActions(
+			ExecutableList<E> list,
+			List<E> actions) throws HibernateException {
+		final int parallelism = flushParallelism();
+		final CompletionStage<Void> executeStage = parallelism > 1 && actions.size() > 1
+				? executeIndependentActions( list, actions, parallelism )
+				: executeActionsInOrder( list, actions, () -> true );
+		return executeStage.whenComplete( (v, x) -> {
 			if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
 				// Strictly speaking, only a subset of the list may have been processed if a RuntimeException occurs.
 				// We still invalidate all spaces. I don't see this as a big deal - after all, RuntimeExceptions are
 				// unexpected.
-				invalidateSpaces( convertTimestampSpaces( list.getQuerySpaces() ) );
+				invalidateSpaces( convertTimestampSpaces( querySpaces( actions ) ) );
 			}
-		} )
-		.thenRun(list::clear)
-		// session.getJdbcCoordinator().executeBatch();
-		.thenCompose( v -> session.getReactiveConnection().executeBatch() );
+		} );
+	}
+
+	private static Set<Serializable> querySpaces(List<? extends Executable> actions) {
+		final Set<Serializable> spaces = new HashSet<>();
+		for ( Executable action : actions ) {
+			final Serializable[] propertySpaces = action.getPropertySpaces();
+			if ( propertySpaces != null ) {
+				Collections.addAll( spaces, propertySpaces );
+			}
+		}
+		return spaces;
+	}
+
+	/**
+	 * Execute the given actions, which all belong to the given list, one
+	 * after the other, for as long as the given condition holds.
+	 */
+	@SuppressWarnings("unchecked")
+	private <E extends ReactiveExecutable> CompletionStage<Void> executeActionsInOrder(
+			ExecutableList<E> list,
+			List<E> actions,
+			BooleanSupplier proceed) {
+		if ( list == deletions ) {
+			return executeDeleteActions( (List<ReactiveEntityDeleteAction>) actions, proceed );
+		}
+		return CompletionStages.loop( actions, e -> proceed.getAsBoolean(), e -> e.reactiveExecute()
+				.whenComplete( (v, x) -> registerTransactionCompletionProcesses( e ) ) );
+	}
+
+	/**
+	 * Execute groups of actions which affect unrelated tables concurrently,
+	 * with at most the given number of groups executing at once. All the
+	 * statements are still executed using the connection of the session,
+	 * but they don't have to wait for the result of the previous statement
+	 * before being sent to the database. Once a group fails, the other
+	 * groups stop before executing their next action.
+	 *
+	 * @see Settings#FLUSH_PARALLELISM
+	 */
+	private <E extends ReactiveExecutable> CompletionStage<Void> executeIndependentActions(
+			ExecutableList<E> list,
+			List<E> actions,
+			int parallelism) {
+		final Collection<List<E>> groups = IndependentActions.partition( actions, session.getFactory() );
+		if ( groups.size() == 1 ) {
+			return executeActionsInOrder( list, actions, () -> true );
+		}
+		// each worker takes the next group from the shared iterator when
+		// it has finished executing its current group
+		final Iterator<List<E>> iterator = groups.iterator();
+		final AtomicBoolean failed = new AtomicBoolean();
+		final BooleanSupplier proceed = () -> !failed.get();
+		final CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.min( parallelism, groups.size() )];
+		for ( int i = 0; i < workers.length; i++ ) {
+			workers[i] = CompletionStages
+					.loop(
+							iterator,
+							(group, index) -> proceed.getAsBoolean(),
+							(group, index) -> executeActionsInOrder( list, group, proceed )
+									.whenComplete( (v, x) -> {
+										if ( x != null ) {
+											failed.set( true );
+										}
+									} )
+					)
+					.toCompletableFuture();
+		}
+		return CompletableFuture.allOf( workers );
+	}
+
+	private int flushParallelism() {
+		if ( flushParallelism == null ) {
+			flushParallelism = ConfigurationHelper.getInt(
+					Settings.FLUSH_PARALLELISM,
+					session.getFactory().getProperties(),
+					1
+			);
+		}
+		return flushParallelism;
+	}
+
+	private void registerTransactionCompletionProcesses(Executable e) {
+		if ( e.getBeforeTransactionCompletionProcess() != null ) {
+			beforeTransactionProcesses().register( e.getBeforeTransactionCompletionProcess() );
+		}
+		if ( e.getAfterTransactionCompletionProcess() != null ) {
+			afterTransactionProcesses().register( e.getAfterTransactionCompletionProcess() );
+		}
+	}
+
+	/**
+	 * Execute the entity deletions, collapsing each run of consecutive
+	 * deletions of instances of the same bulk-deletable entity into
+	 * a single {@code delete} statement.
+	 *
+	 * @see ReactiveEntityPersister#isBulkDeletable()
+	 */
+	private CompletionStage<Void> executeDeleteActions(List<ReactiveEntityDeleteAction> list, BooleanSupplier proceed) {
+		final List<List<ReactiveEntityDeleteAction>> runs = new ArrayList<>();
+		List<ReactiveEntityDeleteAction> run = null;
+		for ( int i = 0; i < list.size(); i++ ) {
+			final ReactiveEntityDeleteAction action = list.get( i );
+			if ( run == null || run.get( 0 ).getPersister() != action.getPersister() ) {
+				run = new ArrayList<>();
+				runs.add( run );
+			}
+			run.add( action );
+		}
+		return CompletionStages.loop( runs, actions -> proceed.getAsBoolean(), actions -> {
+			final ReactiveEntityPersister persister = (ReactiveEntityPersister) actions.get( 0 ).getPersister();
+			return actions.size() > 1 && persister.isBulkDeletable()
+					? executeBulkDelete( persister, actions )
+					: CompletionStages.loop( actions, action -> proceed.getAsBoolean(), action -> action.reactiveExecute()
+							.whenComplete( (v, x) -> registerTransactionCompletionProcesses( action ) ) );
+		} );
+	}
+
+	private CompletionStage<Void> executeBulkDelete(ReactiveEntityPersister persister, List<ReactiveEntityDeleteAction> actions) {
+		final List<Serializable> ids = new ArrayList<>( actions.size() );
+		for ( ReactiveEntityDeleteAction action : actions ) {
+			if ( action.reactivePreDelete() ) {
+				ids.add( action.getId() );
+			}
+		}
+		final CompletionStage<Void> deleteStage = ids.isEmpty()
+				? voidFuture()
+				: persister.deleteReactive( ids.toArray( new Serializable[0] ), session.getSharedContract() );
+		return deleteStage
+				.thenAccept( v -> actions.forEach( ReactiveEntityDeleteAction::reactivePostDelete ) )
+				.whenComplete( (v, x) -> actions.forEach( this::registerTransactionCompletionProcesses ) );
 	}
 
 	/**
@@ -1415,6 +1792,12 @@ private boolean hasParent(BatchIdentifier batchIdentifier, List<BatchIdentifier>
 	}
 
 	private abstract static class ListProvider<T extends ReactiveExecutable> {
+		final String name;
+
+		ListProvider(String name) {
+			this.name = name;
+		}
+
 		abstract ExecutableList<T> get(ReactiveActionQueue instance);
 
 		abstract ExecutableList<T> init(ReactiveActionQueue instance);
@@ -0,0 +1,212 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.engine.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.action.internal.EntityAction;
+import org.hibernate.action.spi.Executable;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+/**
+ * Partitions a list of actions into groups which affect disjoint sets
+ * of tables, and which may therefore be executed in any order relative
+ * to each other.
+ * <p>
+ * Two tables belong to the same group if an action affects both of
+ * them, or if one of them may have a foreign key referencing the other,
+ * that is, if an entity mapped to one of them has an association to an
+ * entity mapped to the other. This includes a collection association,
+ * since the foreign key of a unidirectional one-to-many association is
+ * held by the table of the associated entity, even though that entity
+ * has no property referencing the owner.
+ * <p>
+ * A collection action only depends on the tables it affects: the rows
+ * of the owning entity and of the associated entities were inserted by
+ * an earlier list of actions, or are deleted by a later one.
+ */
+public final class IndependentActions {
+
+	private IndependentActions() {
+	}
+
+	/**
+	 * @return the groups of actions, each in the same order as the given list
+	 */
+	public static <E extends Executable> Collection<List<E>> partition(List<E> actions, SessionFactoryImplementor factory) {
+		final Map<Serializable, Serializable> parents = new HashMap<>();
+		final List<Serializable[]> spacesOfActions = new ArrayList<>( actions.size() );
+		for ( E action : actions ) {
+			final List<Serializable> spaces = new ArrayList<>();
+			addSpaces( spaces, action.getPropertySpaces() );
+			if ( action instanceof EntityAction ) {
+				for ( Type type : ( (EntityAction) action ).getPersister().getPropertyTypes() ) {
+					addAssociatedSpaces( spaces, type, factory );
+				}
+			}
+			for ( int i = 1; i < spaces.size(); i++ ) {
+				union( parents, spaces.get( 0 ), spaces.get( i ) );
+			}
+			spacesOfActions.add( spaces.toArray( new Serializable[0] ) );
+		}
+
+		final Map<Object, List<E>> groups = new LinkedHashMap<>();
+		for ( int i = 0; i < actions.size(); i++ ) {
+			final Serializable[] spaces = spacesOfActions.get( i );
+			// an action which doesn't affect any table goes in a group by itself
+			final Object key = spaces.length == 0 ? new Object() : find( parents, spaces[0] );
+			groups.computeIfAbsent( key, k -> new ArrayList<>() ).add( actions.get( i ) );
+		}
+		return groups.values();
+	}
+
+	/**
+	 * Determine the tables which must be brought up to date before a
+	 * query of the given tables is executed: the given tables, along with
+	 * every table related to one of them by one of the given actions.
+	 * Unlike {@link #partition}, this considers the actions of every list
+	 * at once, so the table of a collection is related to the tables of
+	 * its owning entity and of its element entity.
+	 *
+	 * @return the related tables which are affected by the given actions
+	 */
+	public static Set<Serializable> relatedSpaces(List<? extends Executable> actions, Set<?> tables, SessionFactoryImplementor factory) {
+		final Map<Serializable, Serializable> parents = new HashMap<>();
+		for ( Executable action : actions ) {
+			final List<Serializable> spaces = new ArrayList<>();
+			addSpaces( spaces, action.getPropertySpaces() );
+			if ( action instanceof EntityAction ) {
+				for ( Type type : ( (EntityAction) action ).getPersister().getPropertyTypes() ) {
+					addAssociatedSpaces( spaces, type, factory );
+				}
+			}
+			else {
+				final CollectionPersister persister = collectionPersister( action );
+				if ( persister != null ) {
+					addSpaces( spaces, persister.getOwnerEntityPersister().getPropertySpaces() );
+					addAssociatedSpaces( spaces, persister.getElementType(), factory );
+				}
+			}
+			if ( !spaces.isEmpty() ) {
+				// make sure that every affected table has an entry
+				if ( !parents.containsKey( spaces.get( 0 ) ) ) {
+					parents.put( spaces.get( 0 ), null );
+				}
+				for ( int i = 1; i < spaces.size(); i++ ) {
+					union( parents, spaces.get( 0 ), spaces.get( i ) );
+				}
+			}
+		}
+
+		final Set<Serializable> roots = new HashSet<>();
+		for ( Object table : tables ) {
+			if ( parents.containsKey( table ) ) {
+				roots.add( find( parents, (Serializable) table ) );
+			}
+		}
+		final Set<Serializable> related = new HashSet<>();
+		if ( !roots.isEmpty() ) {
+			for ( Serializable space : new ArrayList<>( parents.keySet() ) ) {
+				if ( roots.contains( find( parents, space ) ) ) {
+					related.add( space );
+				}
+			}
+		}
+		return related;
+	}
+
+	/**
+	 * @return {@code true} if the given action affects one of the given tables
+	 */
+	public static boolean affects(Executable action, Set<Serializable> spaces) {
+		final Serializable[] propertySpaces = action.getPropertySpaces();
+		if ( propertySpaces != null ) {
+			for ( Serializable space : propertySpaces ) {
+				if ( spaces.contains( space ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static CollectionPersister collectionPersister(Executable action) {
+		if ( action instanceof ReactiveCollectionRecreateAction ) {
+			return ( (ReactiveCollectionRecreateAction) action ).collectionPersister();
+		}
+		else if ( action instanceof ReactiveCollectionUpdateAction ) {
+			return ( (ReactiveCollectionUpdateAction) action ).collectionPersister();
+		}
+		else if ( action instanceof ReactiveCollectionRemoveAction ) {
+			return ( (ReactiveCollectionRemoveAction) action ).collectionPersister();
+		}
+		else {
+			return null;
+		}
+	}
+
+	private static void addAssociatedSpaces(List<Serializable> spaces, Type type, SessionFactoryImplementor factory) {
+		if ( type.isEntityType() ) {
+			final String entityName = ( (EntityType) type ).getAssociatedEntityName();
+			addSpaces( spaces, factory.getMetamodel().entityPersister( entityName ).getPropertySpaces() );
+		}
+		else if ( type.isCollectionType() ) {
+			final String role = ( (CollectionType) type ).getRole();
+			final CollectionPersister persister = factory.getMetamodel().collectionPersister( role );
+			addSpaces( spaces, persister.getCollectionSpaces() );
+			addAssociatedSpaces( spaces, persister.getElementType(), factory );
+		}
+		else if ( type.isComponentType() ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				addAssociatedSpaces( spaces, subtype, factory );
+			}
+		}
+	}
+
+	private static void addSpaces(List<Serializable> spaces, Serializable[] moreSpaces) {
+		if ( moreSpaces != null ) {
+			for ( Serializable space : moreSpaces ) {
+				spaces.add( space );
+			}
+		}
+	}
+
+	private static Serializable find(Map<Serializable, Serializable> parents, Serializable space) {
+		Serializable root = space;
+		Serializable parent;
+		while ( ( parent = parents.get( root ) ) != null ) {
+			root = parent;
+		}
+		// path compression
+		Serializable current = space;
+		while ( !current.equals( root ) ) {
+			final Serializable next = parents.put( current, root );
+			current = next;
+		}
+		return root;
+	}
+
+	private static void union(Map<Serializable, Serializable> parents, Serializable space, Serializable other) {
+		final Serializable root = find( parents, space );
+		final Serializable otherRoot = find( parents, other );
+		if ( !root.equals( otherRoot ) ) {
+			parents.put( otherRoot, root );
+		}
+	}
+}
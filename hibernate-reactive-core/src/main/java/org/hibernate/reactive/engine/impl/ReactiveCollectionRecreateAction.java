@@ -76,4 +76,8 @@ private void postRecreate() {
 			listener.onPostRecreateCollection( event );
 		}
 	}
+
+	CollectionPersister collectionPersister() {
+		return getPersister();
+	}
 }
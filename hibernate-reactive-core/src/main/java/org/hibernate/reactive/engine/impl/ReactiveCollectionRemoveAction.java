@@ -155,4 +155,7 @@ private void postRecreate() {
 		}
 	}
 
+	CollectionPersister collectionPersister() {
+		return getPersister();
+	}
 }
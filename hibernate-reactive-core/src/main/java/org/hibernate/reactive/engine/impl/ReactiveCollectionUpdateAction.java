@@ -185,4 +185,8 @@ private void postRecreate() {
 			listener.onPostRecreateCollection( event );
 		}
 	}
+
+	CollectionPersister collectionPersister() {
+		return getPersister();
+	}
 }
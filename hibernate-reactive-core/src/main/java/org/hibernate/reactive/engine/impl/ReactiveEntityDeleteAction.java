@@ -29,6 +29,11 @@
  */
 public class ReactiveEntityDeleteAction extends EntityDeleteAction implements ReactiveExecutable {
 
+	// set by reactivePreDelete()
+	private boolean veto;
+	private Object version;
+	private Object ck;
+
 	public ReactiveEntityDeleteAction(
 			Serializable id,
 			Object[] state,
@@ -47,67 +52,86 @@ public void execute() throws HibernateException {
 
 	@Override
 	public CompletionStage<Void> reactiveExecute() throws HibernateException {
+		final boolean deleteRow = reactivePreDelete();
+		final CompletionStage<Void> deleteStep = deleteRow
+				? ( (ReactiveEntityPersister) getPersister() ).deleteReactive( getId(), version, getInstance(), getSession() )
+				: voidFuture();
+		return deleteStep.thenAccept( v -> reactivePostDelete() );
+	}
+
+	/**
+	 * Everything that happens before the row is deleted: the pre-delete
+	 * event, and locking of the second-level cache item.
+	 *
+	 * @return {@code true} if the row must be deleted, {@code false} if
+	 *         the deletion was vetoed or is handled by a cascading foreign
+	 *         key constraint
+	 *
+	 * @see ReactiveEntityPersister#deleteReactive(Serializable[], SharedSessionContractImplementor)
+	 */
+	public boolean reactivePreDelete() {
 		final Serializable id = getId();
 		final EntityPersister persister = getPersister();
 		final SharedSessionContractImplementor session = getSession();
-		final Object instance = getInstance();
 
-		final boolean veto = preDelete();
+		veto = preDelete();
 
-		Object version = getVersion();
+		version = getVersion();
 		if ( persister.isVersionPropertyGenerated() ) {
 			// we need to grab the version value from the entity, otherwise
 			// we have issues with generated-version entities that may have
 			// multiple actions queued during the same flush
-			version = persister.getVersion( instance );
+			version = persister.getVersion( getInstance() );
 		}
 
-		final Object ck;
 		if ( persister.canWriteToCache() ) {
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
 			ck = cache.generateCacheKey( id, persister, session.getFactory(), session.getTenantIdentifier() );
 			setLock( cache.lockItem( session, ck, version ) );
 		}
-		else {
-			ck = null;
+
+		return !isCascadeDeleteEnabled() && !veto;
+	}
+
+	/**
+	 * Everything that happens after the row is deleted.
+	 */
+	public void reactivePostDelete() {
+		final Serializable id = getId();
+		final EntityPersister persister = getPersister();
+		final SharedSessionContractImplementor session = getSession();
+		final Object instance = getInstance();
+
+		//postDelete:
+		// After actually deleting a row, record the fact that the instance no longer
+		// exists on the database (needed for identity-column key generation), and
+		// remove it from the session cache
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final EntityEntry entry = persistenceContext.removeEntry( instance );
+		if ( entry == null ) {
+			throw new AssertionFailure( "possible non-threadsafe access to session" );
+		}
+		entry.postDelete();
+
+		persistenceContext.removeEntity( entry.getEntityKey() );
+		persistenceContext.removeProxy( entry.getEntityKey() );
+
+		if ( persister.canWriteToCache() ) {
+			persister.getCacheAccessStrategy().remove( session, ck );
 		}
 
-		CompletionStage<Void> deleteStep = !isCascadeDeleteEnabled() && !veto
-				? ((ReactiveEntityPersister) persister).deleteReactive( id, version, instance, session )
-				: voidFuture();
+		persistenceContext.getNaturalIdHelper().removeSharedNaturalIdCrossReference(
+				persister,
+				id,
+				getNaturalIdValues()
+		);
 
-		return deleteStep.thenAccept( v -> {
-			//postDelete:
-			// After actually deleting a row, record the fact that the instance no longer
-			// exists on the database (needed for identity-column key generation), and
-			// remove it from the session cache
-			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-			final EntityEntry entry = persistenceContext.removeEntry( instance );
-			if ( entry == null ) {
-				throw new AssertionFailure( "possible non-threadsafe access to session" );
-			}
-			entry.postDelete();
-
-			persistenceContext.removeEntity( entry.getEntityKey() );
-			persistenceContext.removeProxy( entry.getEntityKey() );
-
-			if ( persister.canWriteToCache() ) {
-				persister.getCacheAccessStrategy().remove( session, ck );
-			}
-
-			persistenceContext.getNaturalIdHelper().removeSharedNaturalIdCrossReference(
-					persister,
-					id,
-					getNaturalIdValues()
-			);
-
-			postDelete();
-
-			final StatisticsImplementor statistics = getSession().getFactory().getStatistics();
-			if ( statistics.isStatisticsEnabled() && !veto ) {
-				statistics.deleteEntity( getPersister().getEntityName() );
-			}
-		} );
+		postDelete();
+
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() && !veto ) {
+			statistics.deleteEntity( persister.getEntityName() );
+		}
 	}
 
 }
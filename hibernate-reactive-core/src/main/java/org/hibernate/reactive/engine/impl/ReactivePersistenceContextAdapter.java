@@ -32,6 +32,12 @@ public class ReactivePersistenceContextAdapter extends StatefulPersistenceContex
 
 	private HashMap<Serializable,Object[]> entitySnapshotsByKey;
 
+	/**
+	 * Are we assembling cached query results, which happens
+	 * synchronously, so that entities can't be fetched?
+	 */
+	private boolean assemblingCachedResults;
+
 	/**
 	 * Constructs a PersistentContext, bound to the given session.
 	 *
@@ -61,6 +67,27 @@ public void accept(PersistentCollection nonLazyCollection) {
 		}
 	}
 
+	/**
+	 * Start assembling cached query results. Until
+	 * {@link #endAssemblingCachedResults()} is called, an entity which
+	 * is neither associated with the session nor in the second-level
+	 * cache is not fetched from the database, and instead the load
+	 * fails with {@link org.hibernate.reactive.event.impl.UnexpectedAccessToTheDatabase}.
+	 *
+	 * @see org.hibernate.reactive.loader.CachingReactiveLoader
+	 */
+	public void beginAssemblingCachedResults() {
+		assemblingCachedResults = true;
+	}
+
+	public void endAssemblingCachedResults() {
+		assemblingCachedResults = false;
+	}
+
+	public boolean isAssemblingCachedResults() {
+		return assemblingCachedResults;
+	}
+
 	/**
 	 * @deprecated use {@link #reactiveInitializeNonLazyCollections} instead.
 	 */
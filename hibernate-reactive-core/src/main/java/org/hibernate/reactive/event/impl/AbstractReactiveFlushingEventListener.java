@@ -7,8 +7,10 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
+import org.hibernate.EmptyInterceptor;
 import org.hibernate.HibernateException;
 import org.hibernate.Interceptor;
 import org.hibernate.action.internal.QueuedOperationCollectionAction;
@@ -17,6 +19,7 @@
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.spi.EventSource;
@@ -34,6 +37,7 @@
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.stat.impl.FlushStatisticsImpl;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
@@ -66,6 +70,30 @@ protected CompletionStage<Void> performExecutions(EventSource session) {
 				.whenComplete( (v, x) -> {
 					session.getPersistenceContext().setFlushing( false );
 					session.getJdbcCoordinator().flushEnding();
+					actionQueue( session ).endFlushStatistics();
+				} );
+	}
+
+	/**
+	 * Execute only the actions affecting the given tables, or tables
+	 * related to them, discarding the other actions scheduled by the
+	 * flush, which will be scheduled again by the next flush.
+	 *
+	 * @see ReactiveActionQueue#executeActions(Set, int)
+	 */
+	protected CompletionStage<Void> performExecutions(EventSource session, Set<?> querySpaces, int previousCollectionRemovalSize) {
+		LOG.trace( "Executing partial flush" );
+
+		return voidFuture()
+				.thenCompose( v -> {
+					session.getJdbcCoordinator().flushBeginning();
+					session.getPersistenceContext().setFlushing( true );
+					return actionQueue( session ).executeActions( querySpaces, previousCollectionRemovalSize );
+				} )
+				.whenComplete( (v, x) -> {
+					session.getPersistenceContext().setFlushing( false );
+					session.getJdbcCoordinator().flushEnding();
+					actionQueue( session ).endFlushStatistics();
 				} );
 	}
 
@@ -73,6 +101,13 @@ private ReactiveActionQueue actionQueue(EventSource session) {
 		return session.unwrap( ReactiveSession.class ).getReactiveActionQueue();
 	}
 
+	private void addSortTime(EventSource session, long sortStart) {
+		final FlushStatisticsImpl statistics = actionQueue( session ).getCurrentFlushStatistics();
+		if ( statistics != null ) {
+			statistics.addSortTime( System.nanoTime() - sortStart );
+		}
+	}
+
 	/**
 	 * Coordinates the processing necessary to get things ready for executions
 	 * as db calls by preping the session caches and moving the appropriate
@@ -90,8 +125,16 @@ protected CompletionStage<Void> flushEverythingToExecutions(FlushEvent event) th
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		session.getInterceptor().preFlush( persistenceContext.managedEntitiesIterator() );
 
+		final ReactiveActionQueue actionQueue = actionQueue( session );
+		final FlushStatisticsImpl statistics = actionQueue.startFlushStatistics();
+		final long cascadeStart = statistics == null ? 0 : System.nanoTime();
 		return prepareEntityFlushes(session, persistenceContext)
 				.thenAccept( v -> {
+					final long dirtyCheckStart = statistics == null ? 0 : System.nanoTime();
+					final long sortTime = statistics == null ? 0 : statistics.getSortTime();
+					if ( statistics != null ) {
+						statistics.addCascadeTime( dirtyCheckStart - cascadeStart );
+					}
 					// we could move this inside if we wanted to
 					// tolerate collection initializations during
 					// collection dirty checking:
@@ -106,9 +149,19 @@ protected CompletionStage<Void> flushEverythingToExecutions(FlushEvent event) th
 
 						event.setNumberOfEntitiesProcessed(entityCount);
 						event.setNumberOfCollectionsProcessed(collectionCount);
+
+						if ( statistics != null ) {
+							statistics.setEntitiesInspected( entityCount );
+							statistics.setCollectionsInspected( collectionCount );
+						}
 					}
 					finally {
 						persistenceContext.setFlushing(false);
+						if ( statistics != null ) {
+							// the time spent sorting is recorded separately
+							statistics.addDirtyCheckTime( System.nanoTime() - dirtyCheckStart
+									- ( statistics.getSortTime() - sortTime ) );
+						}
 					}
 				} );
 
@@ -130,7 +183,8 @@ private CompletionStage<Void> prepareEntityFlushes(EventSource session, Persiste
 		Map.Entry<Object, EntityEntry>[] entries = persistenceContext.reentrantSafeEntityEntries();
 		return loop(
 				entries,
-				index -> flushable( entries[index].getValue() ),
+				index -> flushable( entries[index].getValue() )
+						&& !isUnmodifiedWithoutCascades( entries[index].getKey(), entries[index].getValue() ),
 				index -> cascadeOnFlush( session, entries[index].getValue().getPersister(), entries[index].getKey(), copiedAlready ) );
 	}
 
@@ -141,6 +195,34 @@ private static boolean flushable(EntityEntry entry) {
 			|| status == Status.READ_ONLY;
 	}
 
+	/**
+	 * An entity whose changes are tracked by bytecode enhancement, and
+	 * which has no tracked changes, no mutable properties, and no
+	 * collections, is exactly as it was when loaded, and doesn't need
+	 * an update. So there is no need to flush it.
+	 */
+	private static boolean isUnmodified(Object entity, EntityEntry entry) {
+		if ( entry.getStatus() == Status.MANAGED && entity instanceof SelfDirtinessTracker ) {
+			final EntityPersister persister = entry.getPersister();
+			return !persister.hasCollections()
+					&& !persister.hasMutableProperties()
+					&& !( (SelfDirtinessTracker) entity ).$$_hibernate_hasDirtyAttributes();
+		}
+		return false;
+	}
+
+	/**
+	 * An unmodified entity can't reference an entity which isn't yet
+	 * persistent, but it may reference an entity which was removed,
+	 * and whose deletion a cascaded persist must cancel. So we may only
+	 * skip the cascade from an unmodified entity with no cascades.
+	 *
+	 * @see #isUnmodified(Object, EntityEntry)
+	 */
+	private static boolean isUnmodifiedWithoutCascades(Object entity, EntityEntry entry) {
+		return !entry.getPersister().hasCascades() && isUnmodified( entity, entry );
+	}
+
 	/**
 	 * Initialize the flags of the CollectionEntry, including the
 	 * dirty check.
@@ -178,6 +260,9 @@ private int flushEntities(final FlushEvent event, final PersistenceContext persi
 
 		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
 		final int count = entityEntries.length;
+		// the default listener does nothing at all for an unmodified entity
+		final boolean skipUnmodified = isDefaultListenerOnly( flushListeners )
+				&& source.getInterceptor() == EmptyInterceptor.INSTANCE;
 
 		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
 
@@ -186,7 +271,8 @@ private int flushEntities(final FlushEvent event, final PersistenceContext persi
 			EntityEntry entry = me.getValue();
 			Status status = entry.getStatus();
 
-			if ( status != Status.LOADING && status != Status.GONE ) {
+			if ( status != Status.LOADING && status != Status.GONE && !isReadOnlyWithoutCollections( entry )
+					&& !( skipUnmodified && isUnmodified( me.getKey(), entry ) ) ) {
 				final FlushEntityEvent entityEvent = new FlushEntityEvent( source, me.getKey(), entry );
 				for ( FlushEntityEventListener listener : flushListeners ) {
 					listener.onFlushEntity( entityEvent );
@@ -194,11 +280,37 @@ private int flushEntities(final FlushEvent event, final PersistenceContext persi
 			}
 		}
 
+		final long sortStart = System.nanoTime();
 		source.getActionQueue().sortActions();
+		addSortTime( source, sortStart );
 
 		return count;
 	}
 
+	/**
+	 * A read-only entity is never dirty-checked, and so it can't result in
+	 * an update. Unless it owns collections, which must still be reached
+	 * by the flush, there is no need to even read its property values.
+	 */
+	private static boolean isReadOnlyWithoutCollections(EntityEntry entry) {
+		return entry.getStatus() == Status.READ_ONLY
+			&& !entry.getPersister().hasCollections();
+	}
+
+	/**
+	 * Is the given list of flush entity listeners just the default
+	 * listener, and not some custom listener which might need to see
+	 * an unmodified entity?
+	 */
+	private static boolean isDefaultListenerOnly(Iterable<FlushEntityEventListener> flushListeners) {
+		for ( FlushEntityEventListener listener : flushListeners ) {
+			if ( listener.getClass() != DefaultReactiveFlushEntityEventListener.class ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * process any unreferenced collections and then inspect all known collections,
 	 * scheduling creates/removes/updates
@@ -271,7 +383,9 @@ private int flushCollections(final EventSource session, final PersistenceContext
 					}
 				}, true );
 
+		final long sortStart = System.nanoTime();
 		actionQueue.sortCollectionActions();
+		addSortTime( session, sortStart );
 
 		return count;
 	}
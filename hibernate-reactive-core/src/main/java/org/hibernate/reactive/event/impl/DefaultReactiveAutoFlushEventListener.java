@@ -10,7 +10,6 @@
 
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
-import org.hibernate.engine.spi.ActionQueue;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.event.spi.AutoFlushEvent;
@@ -41,7 +40,7 @@ public CompletionStage<Void> reactiveOnAutoFlush(AutoFlushEvent event) throws Hi
 		if ( flushMightBeNeeded( source ) ) {
 			// Need to get the number of collection removals before flushing to executions
 			// (because flushing to executions can add collection removal actions to the action queue).
-			final ActionQueue actionQueue = source.getActionQueue();
+			final ReactiveActionQueue actionQueue = reactiveActionQueue( source );
 			final int oldSize = actionQueue.numberOfCollectionRemovals();
 
 			autoFlushStage = flushEverythingToExecutions( event )
@@ -50,9 +49,20 @@ public CompletionStage<Void> reactiveOnAutoFlush(AutoFlushEvent event) throws Hi
 							LOG.trace( "Need to execute flush" );
 							event.setFlushRequired( true );
 
-							return performExecutions( source )
-									.thenRun( () -> postFlush( source ) )
-									.thenRun( () -> postPostFlush( source ) )
+							final CompletionStage<Void> executions;
+							if ( isPartialFlushPossible( source ) ) {
+								// the unexecuted actions were discarded, just as when
+								// no flush is needed, so the collection entries must
+								// not be post-flushed: a new collection whose recreate
+								// action was discarded would be detached
+								executions = performExecutions( source, event.getQuerySpaces(), oldSize );
+							}
+							else {
+								executions = performExecutions( source )
+										.thenRun( () -> postFlush( source ) )
+										.thenRun( () -> postPostFlush( source ) );
+							}
+							return executions
 									.thenRun( () -> {
 										final StatisticsImplementor statistics = source.getFactory().getStatistics();
 										if ( statistics.isStatisticsEnabled() ) {
@@ -70,7 +80,7 @@ public CompletionStage<Void> reactiveOnAutoFlush(AutoFlushEvent event) throws Hi
 					} );
 		}
 		autoFlushStage.whenComplete( (v, x) -> {
-			source.getEventListenerManager().flushEnd(
+			source.getEventListenerManager().partialFlushEnd(
 					event.getNumberOfEntitiesProcessed(),
 					event.getNumberOfCollectionsProcessed()
 			);
@@ -85,6 +95,11 @@ private boolean flushIsReallyNeeded(AutoFlushEvent event, final EventSource sour
 				|| reactiveActionQueue( source ).areTablesToBeUpdated( event.getQuerySpaces() );
 	}
 
+	private boolean isPartialFlushPossible(final EventSource source) {
+		return source.getHibernateFlushMode() != FlushMode.ALWAYS
+				&& reactiveActionQueue( source ).isPartialAutoFlushEnabled();
+	}
+
 	private ReactiveActionQueue reactiveActionQueue(EventSource source) {
 		return source.unwrap( ReactiveSession.class ).getReactiveActionQueue();
 	}
@@ -25,6 +25,7 @@
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.stat.impl.FlushStatisticsImpl;
 import org.hibernate.reactive.engine.impl.ReactiveEntityUpdateAction;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.Type;
@@ -150,6 +151,11 @@ public void onFlushEntity(FlushEntityEvent event) throws HibernateException {
 
 		if ( isUpdateNecessary( event, mightBeDirty ) ) {
 			substitute = scheduleUpdate( event ) || substitute;
+			final FlushStatisticsImpl statistics = session.unwrap( ReactiveSession.class )
+					.getReactiveActionQueue().getCurrentFlushStatistics();
+			if ( statistics != null ) {
+				statistics.addEntityDirty();
+			}
 		}
 
 		if ( status != Status.DELETED ) {
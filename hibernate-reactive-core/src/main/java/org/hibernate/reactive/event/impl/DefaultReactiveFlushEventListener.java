@@ -6,9 +6,11 @@
 package org.hibernate.reactive.event.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
 
 import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.FlushEvent;
@@ -16,6 +18,9 @@
 import org.hibernate.reactive.event.ReactiveFlushEventListener;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.stat.FlushStatistics;
+import org.hibernate.reactive.stat.impl.FlushStatisticsImpl;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
@@ -33,8 +38,9 @@ public CompletionStage<Void> reactiveOnFlush(FlushEvent event) throws HibernateE
 		final EventSource source = event.getSession();
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 
-		if ( persistenceContext.getNumberOfManagedEntities() > 0 ||
-				persistenceContext.getCollectionEntriesSize() > 0 ) {
+		if ( ( persistenceContext.getNumberOfManagedEntities() > 0
+				|| persistenceContext.getCollectionEntriesSize() > 0 )
+				&& !isReadOnly( source, persistenceContext ) ) {
 
 			source.getEventListenerManager().flushStart();
 
@@ -53,11 +59,40 @@ public CompletionStage<Void> reactiveOnFlush(FlushEvent event) throws HibernateE
 						if ( statistics.isStatisticsEnabled() ) {
 							statistics.flush();
 						}
+					} )
+					.thenRun( () -> {
+						final ReactiveSession session = source.unwrap( ReactiveSession.class );
+						final int evicted = session.evictExcessEntities();
+						final FlushStatistics flushStatistics = session.getReactiveActionQueue().getFlushStatistics();
+						if ( flushStatistics instanceof FlushStatisticsImpl ) {
+							( (FlushStatisticsImpl) flushStatistics ).setEntitiesEvicted( evicted );
+						}
 					} );
 		}
+		source.unwrap( ReactiveSession.class ).evictExcessEntities();
 		return voidFuture();
 	}
 
+	/**
+	 * A persistence context which holds only read-only entities, with
+	 * no collections and no queued actions, has nothing to flush, and
+	 * so we can skip the dirty-checking and cascading entirely, unless
+	 * a read-only entity might cascade to a new associated entity.
+	 */
+	private static boolean isReadOnly(EventSource source, PersistenceContext persistenceContext) {
+		if ( persistenceContext.hasNonReadOnlyEntities()
+				|| persistenceContext.getCollectionEntriesSize() > 0
+				|| source.unwrap( ReactiveSession.class ).getReactiveActionQueue().hasAnyQueuedActions() ) {
+			return false;
+		}
+		for ( Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries() ) {
+			if ( entry.getValue().getPersister().hasCascades() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	public void onFlush(FlushEvent event) throws HibernateException {
 		throw new UnsupportedOperationException();
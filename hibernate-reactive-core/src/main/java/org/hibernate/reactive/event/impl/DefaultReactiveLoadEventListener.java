@@ -31,6 +31,7 @@
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
 import org.hibernate.reactive.event.ReactiveLoadEventListener;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
@@ -628,6 +629,10 @@ private CompletionStage<Object> doLoad(
 						infoString( persister, event.getEntityId(), session.getFactory() )
 				);
 			}
+			if ( isAssemblingCachedResults( session ) ) {
+				// don't even start the query, since we can't wait for it
+				throw new UnexpectedAccessToTheDatabase();
+			}
 			return loadFromDatasource( event, persister )
 					.thenApply( optional -> {
 						if ( optional!=null ) {
@@ -638,6 +643,16 @@ private CompletionStage<Object> doLoad(
 		}
 	}
 
+	/**
+	 * @return true if the session is assembling cached query results,
+	 *         and so entities can't be fetched from the database
+	 */
+	private static boolean isAssemblingCachedResults(EventSource session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		return persistenceContext instanceof ReactivePersistenceContextAdapter
+				&& ( (ReactivePersistenceContextAdapter) persistenceContext ).isAssemblingCachedResults();
+	}
+
 	private void cacheNaturalId(LoadEvent event, EntityPersister persister, EventSource session, Object entity) {
 		if ( entity != null && persister.hasNaturalIdentifier() ) {
 			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
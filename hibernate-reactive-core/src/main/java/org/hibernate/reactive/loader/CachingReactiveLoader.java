@@ -9,7 +9,11 @@
 import java.lang.invoke.MethodHandles;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
@@ -19,21 +23,29 @@
 import org.hibernate.cache.spi.FilterKey;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.dialect.pagination.LimitHandler;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
+import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
 import org.hibernate.reactive.event.impl.UnexpectedAccessToTheDatabase;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.transform.CacheableResultTransformer;
 import org.hibernate.transform.ResultTransformer;
+import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.logSqlException;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
  * Defines common reactive operations inherited by query loaders, in
@@ -94,29 +106,75 @@ default CompletionStage<List<T>> reactiveListUsingQueryCache(
 
 		QueryKey key = queryKey( sql, session, queryParameters );
 
-		final List<Object> cachedList;
-		try {
-			cachedList = getReactiveResultFromQueryCache( session, queryParameters, querySpaces, resultTypes, queryCache, key );
-		}
-		catch (UnexpectedAccessToTheDatabase e) {
-			LOG.debugf( "Some of the entities are not in the cache. The cache will be ignored for query: %s ", sql );
-
-			// Some of the entities in the query results aren't cached and therefore it trys to load them from the db.
-			// Currently this scenario causes an AssertionFailure exception because we cannot deal with the
-			// CompletionStage in that phase.
-			return reactiveListIgnoreQueryCache( sql, queryIdentifier, session, queryParameters );
-		}
+		final Type[] cachedResultTypes = key.getResultTransformer().getCachedResultTypes( resultTypes );
+		final ReactivePersistenceContextAdapter persistenceContext =
+				(ReactivePersistenceContextAdapter) session.getPersistenceContextInternal();
 
 		CompletionStage<List<Object>> list;
-		if ( cachedList == null ) {
-			list = doReactiveList( sql, queryIdentifier, session, queryParameters, key.getResultTransformer() )
-					.thenApply( cachableList -> {
-						putReactiveResultInQueryCache( session, queryParameters, resultTypes, queryCache, key, cachableList );
-						return cachableList;
-					} );
+		if ( session instanceof ReactiveSession && canLoadMissingEntities( cachedResultTypes ) ) {
+			// The entities in the cached results are read as identifiers,
+			// so that the entities which are neither in the session nor in
+			// the second-level cache can be fetched before the results are
+			// assembled, instead of running the whole query again
+			final List<Object> cachedIds = getIdentifiersFromQueryCache(
+					session, queryParameters, querySpaces, cachedResultTypes, queryCache, key, queryIdentifier
+			);
+			if ( cachedIds == null ) {
+				list = doReactiveList( sql, queryIdentifier, session, queryParameters, key.getResultTransformer() )
+						.thenApply( cachableList -> {
+							putReactiveResultInQueryCache( session, queryParameters, resultTypes, queryCache, key, cachableList );
+							return cachableList;
+						} );
+			}
+			else {
+				list = loadMissingEntities( cachedIds, cachedResultTypes, (ReactiveSession) session, queryParameters )
+						.thenCompose( v -> {
+							final List<Object> cachedList;
+							persistenceContext.beginAssemblingCachedResults();
+							try {
+								cachedList = resolveEntities( cachedIds, cachedResultTypes, session, queryParameters );
+							}
+							catch (UnexpectedAccessToTheDatabase e) {
+								// An entity was removed from the database after the results were cached,
+								// or an entity in the second-level cache has an uncached eager association
+								LOG.debugf( "Some of the entities are not in the cache. The cache will be ignored for query: %s ", sql );
+								return doReactiveList( sql, queryIdentifier, session, queryParameters, key.getResultTransformer() );
+							}
+							finally {
+								persistenceContext.endAssemblingCachedResults();
+							}
+							return completedFuture( cachedList );
+						} );
+			}
 		}
 		else {
-			list = completedFuture( cachedList );
+			final List<Object> cachedList;
+			persistenceContext.beginAssemblingCachedResults();
+			try {
+				cachedList = getReactiveResultFromQueryCache( session, queryParameters, querySpaces, resultTypes, queryCache, key );
+			}
+			catch (UnexpectedAccessToTheDatabase e) {
+				LOG.debugf( "Some of the entities are not in the cache. The cache will be ignored for query: %s ", sql );
+
+				// Some of the entities in the query results aren't cached, and we can't load them
+				// from the database while the cached results are assembled, since that happens
+				// synchronously.
+				return reactiveListIgnoreQueryCache( sql, queryIdentifier, session, queryParameters );
+			}
+			finally {
+				persistenceContext.endAssemblingCachedResults();
+			}
+
+			if ( cachedList == null ) {
+				list = doReactiveList( sql, queryIdentifier, session, queryParameters, key.getResultTransformer() )
+						.thenApply( cachableList -> {
+							putReactiveResultInQueryCache( session, queryParameters, resultTypes, queryCache, key, cachableList );
+							return cachableList;
+						} );
+			}
+			else {
+				list = completedFuture( cachedList );
+			}
 		}
 
 		return list.thenApply(
@@ -128,6 +186,174 @@ default CompletionStage<List<T>> reactiveListUsingQueryCache(
 		);
 	}
 
+	/**
+	 * Can the entities in cached results of the given types be read as
+	 * identifiers, and resolved by {@link #resolveEntities}?
+	 */
+	default boolean canLoadMissingEntities(Type[] cachedResultTypes) {
+		for ( Type type : cachedResultTypes ) {
+			if ( type.isEntityType() ) {
+				if ( !( (EntityType) type ).isReferenceToPrimaryKey() ) {
+					return false;
+				}
+			}
+			else if ( type.isAssociationType() || type.isComponentType() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Get the cached results of the query, with the identifier of each
+	 * entity in place of the entity, recording a query cache hit or miss,
+	 * as in {@link org.hibernate.loader.Loader#getResultFromQueryCache}.
+	 *
+	 * @return the rows of the cached results, or {@code null} if the
+	 *         results of the query are not in the cache
+	 */
+	default List<Object> getIdentifiersFromQueryCache(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters,
+			Set<Serializable> querySpaces,
+			Type[] cachedResultTypes,
+			QueryResultsCache queryCache,
+			QueryKey key,
+			String queryIdentifier) {
+		if ( !session.getCacheMode().isGetEnabled() ) {
+			return null;
+		}
+
+		final Type[] cachedTypes = new Type[cachedResultTypes.length];
+		for ( int i = 0; i < cachedResultTypes.length; i++ ) {
+			cachedTypes[i] = cachedResultTypes[i].isEntityType()
+					? ( (EntityType) cachedResultTypes[i] ).getIdentifierOrUniqueKeyType( session.getFactory() )
+					: cachedResultTypes[i];
+		}
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		if ( !queryParameters.isReadOnlyInitialized() ) {
+			queryParameters.setReadOnly( persistenceContext.isDefaultReadOnly() );
+		}
+		@SuppressWarnings("unchecked")
+		final List<Object> result = (List<Object>) queryCache.get( key, querySpaces, cachedTypes, session );
+
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			if ( result == null ) {
+				statistics.queryCacheMiss( queryIdentifier, queryCache.getRegion().getName() );
+			}
+			else {
+				statistics.queryCacheHit( queryIdentifier, queryCache.getRegion().getName() );
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Fetch the entities in the given cached results which are neither
+	 * associated with the session nor in the second-level cache, issuing
+	 * one batched query for each entity type.
+	 */
+	default CompletionStage<Void> loadMissingEntities(
+			List<Object> cachedIds,
+			Type[] cachedResultTypes,
+			ReactiveSession session,
+			QueryParameters queryParameters) {
+		final SharedSessionContractImplementor source = session.getSharedContract();
+		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
+		final Map<EntityPersister, Set<Serializable>> missingIds = new LinkedHashMap<>();
+		for ( Object row : cachedIds ) {
+			for ( int i = 0; i < cachedResultTypes.length; i++ ) {
+				if ( cachedResultTypes[i].isEntityType() ) {
+					final Serializable id = (Serializable) ( cachedResultTypes.length == 1 ? row : ( (Object[]) row )[i] );
+					if ( id != null ) {
+						final EntityPersister persister = source.getFactory().getMetamodel()
+								.entityPersister( ( (EntityType) cachedResultTypes[i] ).getAssociatedEntityName() );
+						if ( persistenceContext.getEntity( source.generateEntityKey( id, persister ) ) == null
+								&& !isInSecondLevelCache( id, persister, source ) ) {
+							missingIds.computeIfAbsent( persister, p -> new LinkedHashSet<>() ).add( id );
+						}
+					}
+				}
+			}
+		}
+
+		if ( missingIds.isEmpty() ) {
+			return voidFuture();
+		}
+
+		LOG.debugf( "Fetching the entities of %s types missing from the cache", missingIds.size() );
+		final boolean readOnly = queryParameters.isReadOnly();
+		return loop(
+				missingIds.entrySet(),
+				entry -> {
+					final Class<?> entityClass = entry.getKey().getMappedClass();
+					return session.reactiveFind( entityClass, entry.getValue().toArray() )
+							.thenAccept( entities -> {
+								for ( Object entity : entities ) {
+									if ( entity != null && persistenceContext.isReadOnly( entity ) != readOnly ) {
+										persistenceContext.setReadOnly( entity, readOnly );
+									}
+								}
+							} );
+				}
+		);
+	}
+
+	default boolean isInSecondLevelCache(Serializable id, EntityPersister persister, SharedSessionContractImplementor session) {
+		if ( !persister.canReadFromCache() || !session.getCacheMode().isGetEnabled() ) {
+			return false;
+		}
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		return cache.contains(
+				cache.generateCacheKey( id, persister, session.getFactory(), session.getTenantIdentifier() )
+		);
+	}
+
+	/**
+	 * Replace the identifiers of entities in the given cached results with
+	 * the entities, which are all either associated with the session, or
+	 * in the second-level cache.
+	 *
+	 * @throws UnexpectedAccessToTheDatabase if an entity must be fetched
+	 */
+	default List<Object> resolveEntities(
+			List<Object> cachedIds,
+			Type[] cachedResultTypes,
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
+		persistenceContext.setDefaultReadOnly( queryParameters.isReadOnly() );
+		try {
+			final List<Object> result = new ArrayList<>( cachedIds.size() );
+			for ( Object row : cachedIds ) {
+				if ( cachedResultTypes.length == 1 ) {
+					result.add( resolveEntity( row, cachedResultTypes[0], session ) );
+				}
+				else {
+					final Object[] ids = (Object[]) row;
+					final Object[] values = new Object[ids.length];
+					for ( int i = 0; i < ids.length; i++ ) {
+						values[i] = resolveEntity( ids[i], cachedResultTypes[i], session );
+					}
+					result.add( values );
+				}
+			}
+			return result;
+		}
+		finally {
+			persistenceContext.setDefaultReadOnly( defaultReadOnlyOrig );
+		}
+	}
+
+	default Object resolveEntity(Object value, Type type, SharedSessionContractImplementor session) {
+		return value != null && type.isEntityType()
+				? ( (EntityType) type ).resolve( value, session, null )
+				: value;
+	}
+
 	default List<?> transform(QueryParameters queryParameters, QueryKey key, List<Object> result,
 							  ResultTransformer resolvedTransformer) {
 		if (resolvedTransformer == null) {
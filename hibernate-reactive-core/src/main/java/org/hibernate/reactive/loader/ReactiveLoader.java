@@ -14,6 +14,7 @@
 import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.reactive.adaptor.impl.QueryParametersAdaptor;
 import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
+import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.impl.Parameters;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 import org.hibernate.transform.ResultTransformer;
@@ -99,6 +100,26 @@ default CompletionStage<ResultSet> executeReactiveQueryStatement(
 			QueryParameters queryParameters,
 			List<AfterLoadAction> afterLoadActions,
 			SharedSessionContractImplementor session) {
+		return executeReactiveQueryStatement(
+				sqlStatement,
+				queryParameters,
+				afterLoadActions,
+				session,
+				ReactiveConnection::selectJdbc
+		);
+	}
+
+	/**
+	 * Prepare the SQL and the parameters of the query, and run it using
+	 * the given {@link Selection}. This allows a loader to obtain the
+	 * results in a form other than a JDBC {@link ResultSet}.
+	 */
+	default <R> CompletionStage<R> executeReactiveQueryStatement(
+			String sqlStatement,
+			QueryParameters queryParameters,
+			List<AfterLoadAction> afterLoadActions,
+			SharedSessionContractImplementor session,
+			Selection<R> selection) {
 
 		// Processing query filters.
 		queryParameters.processFilters( sqlStatement, session );
@@ -124,8 +145,15 @@ else if ( LimitHelper.useLimit( limitHandler, queryParameters.getRowSelection()
 			sql = parameters().processLimit( sql, parameterArray, LimitHelper.hasFirstRow( queryParameters.getRowSelection() ) );
 		}
 
-		return ((ReactiveConnectionSupplier) session).getReactiveConnection()
-				.selectJdbc( sql, parameterArray );
+		return selection.select( ((ReactiveConnectionSupplier) session).getReactiveConnection(), sql, parameterArray );
+	}
+
+	/**
+	 * Executes a query against a {@link ReactiveConnection}.
+	 */
+	@FunctionalInterface
+	interface Selection<R> {
+		CompletionStage<R> select(ReactiveConnection connection, String sql, Object[] parameterValues);
 	}
 
 	default LimitHandler limitHandler(RowSelection selection, SharedSessionContractImplementor session) {
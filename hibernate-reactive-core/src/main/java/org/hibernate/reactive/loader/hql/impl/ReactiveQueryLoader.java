@@ -10,6 +10,7 @@
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.dialect.pagination.LimitHandler;
+import org.hibernate.dialect.pagination.LimitHelper;
 import org.hibernate.engine.spi.*;
 import org.hibernate.hql.internal.ast.QueryTranslatorImpl;
 import org.hibernate.hql.internal.ast.tree.SelectClause;
@@ -21,6 +22,7 @@
 import org.hibernate.reactive.loader.CachingReactiveLoader;
 import org.hibernate.reactive.loader.ReactiveLoaderBasedResultSetProcessor;
 import org.hibernate.reactive.loader.ReactiveResultSetProcessor;
+import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.impl.Parameters;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.Type;
@@ -29,6 +31,7 @@
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
@@ -43,6 +46,7 @@
 	private final SelectClause selectClause;
 	private final ReactiveResultSetProcessor resultSetProcessor;
 	private final Parameters parameters;
+	private final ScalarProjectionPlan projectionPlan;
 
 	public ReactiveQueryLoader(
 			QueryTranslatorImpl queryTranslator,
@@ -53,6 +57,9 @@ public ReactiveQueryLoader(
 		this.factory = factory;
 		this.parameters = Parameters.instance( factory.getJdbcServices().getDialect() );
 		this.selectClause = selectClause;
+		this.projectionPlan = isScalarProjection( selectClause )
+				? ScalarProjectionPlan.forSelect( selectClause.getQueryReturnTypes(), selectClause.getColumnNames() )
+				: null;
 		this.resultSetProcessor = new ReactiveLoaderBasedResultSetProcessor( this ) {
 			public CompletionStage<List<Object>> reactiveExtractResults(ResultSet rs,
 																		SharedSessionContractImplementor session,
@@ -83,11 +90,72 @@ public CompletionStage<List<Object>> reactiveExtractResults(ResultSet rs,
 		};
 	}
 
+	private boolean isScalarProjection(SelectClause selectClause) {
+		return selectClause.isScalarSelect()
+				&& getEntityPersisters().length == 0
+				&& ( getCollectionPersisters() == null || getCollectionPersisters().length == 0 );
+	}
+
 	@Override
 	public Parameters parameters() {
 		return parameters;
 	}
 
+	@Override
+	public CompletionStage<List<Object>> doReactiveQueryAndInitializeNonLazyCollections(
+			String sql,
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters,
+			boolean returnProxies,
+			ResultTransformer forcedResultTransformer) {
+		if ( projectionPlan != null && forcedResultTransformer == null ) {
+			// there are no entities to hydrate, nor collections to
+			// initialize, so read the column values directly
+			return reactiveListScalarProjection( sql, session, queryParameters );
+		}
+		return CachingReactiveLoader.super.doReactiveQueryAndInitializeNonLazyCollections(
+				sql,
+				session,
+				queryParameters,
+				returnProxies,
+				forcedResultTransformer
+		);
+	}
+
+	/**
+	 * Produce the same rows as {@link #getRowsFromResultSet} for a query
+	 * with a {@link ScalarProjectionPlan}, without the JDBC adaptor.
+	 *
+	 * @see QueryLoader#getResultColumnOrRow
+	 */
+	private CompletionStage<List<Object>> reactiveListScalarProjection(
+			String sql,
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters) {
+		final RowSelection selection = queryParameters.getRowSelection();
+		final LimitHandler limitHandler = getLimitHandler( selection );
+		// see Loader.preprocessResultSet()
+		final int skipRows = limitHandler.supportsLimitOffset() && LimitHelper.useLimit( limitHandler, selection )
+				? 0
+				: LimitHelper.getFirstRow( selection );
+		final int maxRows = LimitHelper.hasMaxRows( selection ) ? selection.getMaxRows() : Integer.MAX_VALUE;
+		final boolean hasTransform = hasSelectNew() || queryParameters.getResultTransformer() != null;
+		final boolean singleColumn = !hasTransform && projectionPlan.getColumnSpan() == 1;
+
+		return executeReactiveQueryStatement( sql, queryParameters, new ArrayList<>(), session, ReactiveConnection::select )
+				.thenApply( result -> {
+					final List<Object> results = new ArrayList<>( Math.min( result.size(), maxRows ) );
+					for ( int i = 0; i < skipRows && result.hasNext(); i++ ) {
+						result.next();
+					}
+					while ( results.size() < maxRows && result.hasNext() ) {
+						final Object[] row = projectionPlan.toResultRow( result.next(), session );
+						results.add( singleColumn ? row[0] : row );
+					}
+					return results;
+				} );
+	}
+
 	public CompletionStage<List<T>> reactiveList(
 			SharedSessionContractImplementor session,
 			QueryParameters queryParameters) throws HibernateException {
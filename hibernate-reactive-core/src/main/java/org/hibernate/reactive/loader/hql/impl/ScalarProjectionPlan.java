@@ -0,0 +1,117 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.loader.hql.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+
+/**
+ * Reads the result of an HQL query which selects only scalar values
+ * directly from the values of the columns returned by the database,
+ * without going through the {@link Type}s and the JDBC
+ * {@link java.sql.ResultSet} adaptor.
+ * <p>
+ * This is only possible when each item of the select clause maps to
+ * exactly one column, and has a basic type whose values are returned
+ * as-is by the Vert.x client, modulo a widening or narrowing of numeric
+ * values. For anything else, {@link #forSelect} returns {@code null}.
+ *
+ * @see ReactiveQueryLoader
+ */
+final class ScalarProjectionPlan {
+
+	private static final List<Type> SUPPORTED_TYPES = Arrays.asList(
+			StandardBasicTypes.STRING,
+			StandardBasicTypes.BOOLEAN,
+			StandardBasicTypes.BYTE,
+			StandardBasicTypes.SHORT,
+			StandardBasicTypes.INTEGER,
+			StandardBasicTypes.LONG,
+			StandardBasicTypes.FLOAT,
+			StandardBasicTypes.DOUBLE,
+			StandardBasicTypes.BIG_INTEGER,
+			StandardBasicTypes.BIG_DECIMAL
+	);
+
+	private final JavaTypeDescriptor<?>[] javaTypes;
+
+	private ScalarProjectionPlan(JavaTypeDescriptor<?>[] javaTypes) {
+		this.javaTypes = javaTypes;
+	}
+
+	/**
+	 * @param returnTypes the types of the items of the select clause
+	 * @param columnNames the column aliases of each item of the select clause
+	 *
+	 * @return a plan for the given select clause, or {@code null} if the
+	 *         columns can't be read without the JDBC {@code ResultSet}
+	 */
+	static ScalarProjectionPlan forSelect(Type[] returnTypes, String[][] columnNames) {
+		if ( returnTypes == null || columnNames == null || returnTypes.length != columnNames.length ) {
+			return null;
+		}
+		final JavaTypeDescriptor<?>[] javaTypes = new JavaTypeDescriptor<?>[returnTypes.length];
+		for ( int i = 0; i < returnTypes.length; i++ ) {
+			if ( columnNames[i] == null || columnNames[i].length != 1 ) {
+				return null;
+			}
+			// YesNoType, NumericBooleanType, converted attributes, and custom
+			// types must still go through Type.nullSafeGet()
+			if ( !SUPPORTED_TYPES.contains( returnTypes[i] ) ) {
+				return null;
+			}
+			javaTypes[i] = ( (AbstractStandardBasicType<?>) returnTypes[i] ).getJavaTypeDescriptor();
+		}
+		return new ScalarProjectionPlan( javaTypes );
+	}
+
+	int getColumnSpan() {
+		return javaTypes.length;
+	}
+
+	/**
+	 * Convert the column values of a row into a row of the query result.
+	 *
+	 * @param columnValues the values returned by the database, in the
+	 *                     order of the select clause
+	 */
+	Object[] toResultRow(Object[] columnValues, WrapperOptions options) {
+		final Object[] resultRow = new Object[javaTypes.length];
+		for ( int i = 0; i < javaTypes.length; i++ ) {
+			resultRow[i] = wrap( javaTypes[i], columnValues[i], options );
+		}
+		return resultRow;
+	}
+
+	private static Object wrap(JavaTypeDescriptor<?> javaType, Object value, WrapperOptions options) {
+		if ( value == null || javaType.getJavaType().isInstance( value ) ) {
+			return value;
+		}
+		final Class<?> type = javaType.getJavaType();
+		if ( type == String.class ) {
+			return value instanceof Enum ? ( (Enum<?>) value ).name() : value.toString();
+		}
+		if ( value instanceof Number && !( value instanceof BigDecimal ) ) {
+			// the Number might be an arbitrary-precision decimal from
+			// the database driver, so don't go through doubleValue()
+			if ( type == BigDecimal.class ) {
+				return new BigDecimal( value.toString() );
+			}
+			if ( type == BigInteger.class ) {
+				return new BigDecimal( value.toString() ).toBigInteger();
+			}
+		}
+		return javaType.wrap( value, options );
+	}
+}
@@ -12,7 +12,9 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.LazyInitializationException;
+import org.hibernate.StaleStateException;
 import org.hibernate.cache.CacheException;
+import org.hibernate.internal.util.config.ConfigurationException;
 
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.annotations.Cause;
@@ -21,6 +23,7 @@
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
 
+import static org.jboss.logging.Logger.Level.DEBUG;
 import static org.jboss.logging.Logger.Level.ERROR;
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.WARN;
@@ -209,6 +212,83 @@ public interface Log extends BasicLogger {
 	@Message(id = 71, value= "No name provided and multiple persistence units found")
 	PersistenceException noNameProvidedAndMultiplePersistenceUnitsFound();
 
+	@Message(id = 72, value = "Keyset pagination requires an 'order by' clause: %1$s")
+	IllegalArgumentException keysetPaginationRequiresOrderBy(String hql);
+
+	@Message(id = 73, value = "Keyset pagination is not supported for queries with 'group by', 'having', or 'nulls first/last': %1$s")
+	IllegalArgumentException keysetPaginationNotSupported(String hql);
+
+	@Message(id = 74, value = "Number of keyset values [%1$s] did not match the number of items in the 'order by' clause [%2$s]")
+	IllegalArgumentException keysetSizeDoesNotMatchOrderBy(int keyLength, int orderByLength);
+
+	@Message(id = 75, value = "Keyset value at position [%1$s] is null")
+	IllegalArgumentException nullKeysetValue(int position);
+
+	@Message(id = 76, value = "Bulk delete of entity [%1$s] expected to delete %2$s rows, but deleted %3$s")
+	StaleStateException unexpectedRowCountForBulkDelete(String entityName, int expected, int actual);
+
+	@Message(id = 77, value = "Multi-row insert of collection [%1$s] expected to insert %2$s rows, but inserted %3$s")
+	HibernateException unexpectedRowCountForMultiRowInsert(String role, int expected, int actual);
+
+	@LogMessage(level = WARN)
+	@Message(id = 78, value = "Slow flush took %1$sms: %2$s")
+	void slowFlush(long millis, Object statistics);
+
+	@Message(id = 79, value = "Upsert is not supported for dialect [%1$s]")
+	HibernateException upsertNotSupported(String dialect);
+
+	@Message(id = 80, value = "Upsert is not supported for entity [%1$s] with a custom insert statement")
+	HibernateException upsertNotSupportedForCustomInsert(String entityName);
+
+	@LogMessage(level = WARN)
+	@Message(id = 82, value = "Bulk id strategy '%1$s' is not supported for dialect [%2$s], using temporary tables")
+	void bulkIdStrategyNotSupported(String strategy, String dialect);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 83, value = "Attempt %1$s of transaction failed, retrying in %2$s ms: %3$s")
+	void retryingTransaction(int attempt, long delay, String failure);
+
+	@LogMessage(level = INFO)
+	@Message(id = 84, value = "Sharing a maximum of %1$s connections among separate connection pools for each of %2$s event loops")
+	void eventLoopAffinePools(int poolSize, int eventLoops);
+
+	@Message(id = 85, value = "A blocking session may not be used from a Vert.x event loop thread; currently running on thread '%1$s'")
+	IllegalStateException blockingOperationOnEventLoop(String name);
+
+	@Message(id = 86, value = "Interrupted while waiting for a reactive operation to complete")
+	HibernateException interruptedWhileBlocking(@Cause InterruptedException cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = 87, value = "Persistence context exceeded the limit of %1$s managed entities, and unreferenced entities will be detached after each flush")
+	void managedEntityLimitReached(int limit);
+
+	@LogMessage(level = WARN)
+	@Message(id = 88, value = "Persistence context still holds %2$s managed entities after detaching unreferenced entities, exceeding the limit of %1$s")
+	void managedEntityLimitExceeded(int limit, int managed);
+
+	@LogMessage(level = WARN)
+	@Message(id = 89, value = "Slow SQL statement took %1$sms: %2$s [parameters=%3$s, batchSize=%4$s, rows=%5$s]")
+	void slowStatement(long millis, String sql, int parameterCount, int batchSize, long rows);
+
+	@LogMessage(level = INFO)
+	@Message(id = 90, value = "Using tracer [%1$s]")
+	void tracer(String tracerClassName);
+
+	@Message(id = 91, value = "Could not instantiate tracer [%1$s]")
+	HibernateException couldNotInstantiateTracer(String tracerClassName, @Cause Throwable error);
+
+	@Message(id = 92, value = "Keyset pagination requires each item of the 'order by' clause to be a path to an attribute, or the alias of such a path in the 'select' clause: %1$s")
+	IllegalArgumentException keysetOrderByItemNotSupported(String hql);
+
+	@Message(id = 93, value = "Keyset pagination is only supported for HQL and criteria select queries")
+	IllegalStateException keysetPaginationRequiresSelectQuery();
+
+	@Message(id = 94, value = "Delete of rows of collection [%1$s] expected to delete %2$s rows, but deleted %3$s")
+	StaleStateException unexpectedRowCountForInListDelete(String role, int expected, int actual);
+
+	@Message(id = 95, value = "The connection pool size %1$s is less than the number of event loops %2$s, so an event-loop-affine pool can't be created")
+	ConfigurationException poolSizeLessThanEventLoopCount(int poolSize, int eventLoops);
+
 	// Same method that exists in CoreMessageLogger
 	@LogMessage(level = WARN)
 	@Message(id = 104, value = "firstResult/maxResults specified with collection fetch; applying in memory!" )
@@ -75,6 +75,12 @@ public Mutiny.Query<R> setFirstResult(int firstResult) {
 		return this;
 	}
 
+	@Override
+	public Mutiny.Query<R> setKeysetAfter(Object... lastKey) {
+		delegate.setKeysetAfter( lastKey );
+		return this;
+	}
+
 	@Override
 	public int getFirstResult() {
 		return delegate.getFirstResult();
@@ -7,6 +7,7 @@
 
 import java.util.Objects;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -17,13 +18,17 @@
 import org.hibernate.HibernateException;
 import org.hibernate.internal.SessionCreationOptions;
 import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.reactive.common.RetryPolicy;
 import org.hibernate.reactive.context.Context;
+import org.hibernate.reactive.context.impl.ScopedConnection;
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
 import org.hibernate.reactive.session.impl.ReactiveCriteriaBuilderImpl;
 import org.hibernate.reactive.session.impl.ReactiveSessionImpl;
 import org.hibernate.reactive.session.impl.ReactiveStatelessSessionImpl;
+import org.hibernate.reactive.util.impl.Retries;
+import org.hibernate.reactive.vertx.VertxInstance;
 
 import io.smallrye.mutiny.Uni;
 
@@ -49,6 +54,13 @@ public class MutinySessionFactoryImpl implements Mutiny.SessionFactory {
 	private final Context.Key<Mutiny.Session> contextKeyForSession;
 	private final Context.Key<Mutiny.StatelessSession> contextKeyForStatelessSession;
 
+	/**
+	 * The options for sessions with no explicit tenant id, which may be
+	 * shared by all such sessions unless the current tenant id must be
+	 * resolved each time a session is opened.
+	 */
+	private final SessionCreationOptions defaultOptions;
+
 	public MutinySessionFactoryImpl(SessionFactoryImpl delegate) {
 		Objects.requireNonNull( delegate );
 		this.delegate = delegate;
@@ -56,6 +68,9 @@ public MutinySessionFactoryImpl(SessionFactoryImpl delegate) {
 		connectionPool = delegate.getServiceRegistry().getService( ReactiveConnectionPool.class );
 		contextKeyForSession = new Context.Key<>( Mutiny.Session.class, delegate.getUuid() );
 		contextKeyForStatelessSession = new Context.Key<>( Mutiny.StatelessSession.class, delegate.getUuid() );
+		defaultOptions = delegate.getCurrentTenantIdentifierResolver() == null
+				? new SessionFactoryImpl.SessionBuilderImpl<>( delegate )
+				: null;
 	}
 
 	<T> Uni<T> uni(Supplier<CompletionStage<T>> stageSupplier) {
@@ -131,7 +146,9 @@ Uni<Mutiny.StatelessSession> newStatelessSession(String tenantId) {
 	}
 
 	private SessionCreationOptions options() {
-		return new SessionFactoryImpl.SessionBuilderImpl<>( delegate );
+		return defaultOptions == null
+				? new SessionFactoryImpl.SessionBuilderImpl<>( delegate )
+				: defaultOptions;
 	}
 
 	private SessionCreationOptions options(String tenantIdentifier) {
@@ -140,17 +157,32 @@ private SessionCreationOptions options(String tenantIdentifier) {
 	}
 
 	private CompletionStage<ReactiveConnection> connection(String tenantId) {
-		assertUseOnEventLoop();
-		return tenantId == null
+		if ( context.isEventLoopConfined() ) {
+			assertUseOnEventLoop();
+		}
+		Executor scope = context.capture();
+		return ( tenantId == null
 				? connectionPool.getConnection()
-				: connectionPool.getConnection( tenantId );
+				: connectionPool.getConnection( tenantId ) )
+				.thenApply( connection -> scoped( connection, scope ) );
 	}
 
 	private ReactiveConnection proxyConnection(String tenantId) {
-		assertUseOnEventLoop();
-		return tenantId==null
+		if ( context.isEventLoopConfined() ) {
+			assertUseOnEventLoop();
+		}
+		return scoped( tenantId==null
 				? connectionPool.getProxyConnection()
-				: connectionPool.getProxyConnection( tenantId );
+				: connectionPool.getProxyConnection( tenantId ), context.capture() );
+	}
+
+	/**
+	 * Unless every stream runs on an event loop, database operations must
+	 * complete in the scope of the stream which opened the session, since
+	 * the stream continues on the thread which completes the operation.
+	 */
+	private ReactiveConnection scoped(ReactiveConnection connection, Executor scope) {
+		return context.isEventLoopConfined() ? connection : new ScopedConnection( connection, scope );
 	}
 
 	@Override
@@ -203,9 +235,14 @@ private<S extends Mutiny.Closeable, T> Uni<T> withSession(
 			Uni<S> sessionUni,
 			Function<S, Uni<T>> work,
 			Context.Key<S> contextKey) {
-		return sessionUni.chain( session -> Uni.createFrom().voidItem()
+		// the session must be associated with the stream which opened
+		// it, even if the stream continues on some other thread, so its
+		// connection is obtained in the scope captured here
+		Executor scope = context.capture();
+		return sessionUni.runSubscriptionOn( scope ).emitOn( scope ).chain( session -> Uni.createFrom().voidItem()
 				.invoke( () -> context.put( contextKey, session ) )
 				.chain( () -> work.apply( session ) )
+				.emitOn( scope )
 				.eventually( () -> context.remove( contextKey ) )
 				.eventually(session::close)
 		);
@@ -217,6 +254,24 @@ public <T> Uni<T> withTransaction(BiFunction<Mutiny.Session, Mutiny.Transaction,
 		return withSession( s -> s.withTransaction( t -> work.apply(s, t) ) );
 	}
 
+	@Override
+	public <T> Uni<T> withTransaction(RetryPolicy retryPolicy, BiFunction<Mutiny.Session, Mutiny.Transaction, Uni<T>> work) {
+		Objects.requireNonNull( retryPolicy, "parameter 'retryPolicy' is required" );
+		Objects.requireNonNull( work, "parameter 'work' is required" );
+		return withSession( s -> {
+			if ( s.currentTransaction() != null ) {
+				// the work joins the existing transaction, which we can't retry
+				return s.withTransaction( t -> work.apply( s, t ) );
+			}
+			return Uni.createFrom().completionStage( () -> Retries.retry(
+					retryPolicy,
+					delegate.getServiceRegistry().getService( VertxInstance.class ).getVertx(),
+					() -> s.withTransaction( t -> work.apply( s, t ) ).subscribeAsCompletionStage(),
+					s::clear
+			) );
+		} );
+	}
+
 	@Override
 	public <T> Uni<T> withStatelessTransaction(BiFunction<Mutiny.StatelessSession, Mutiny.Transaction, Uni<T>> work) {
 		Objects.requireNonNull( work, "parameter 'work' is required" );
@@ -20,6 +20,7 @@
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.session.Criteria;
 import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.stat.FlushStatistics;
 
 import javax.persistence.EntityGraph;
 import javax.persistence.criteria.CriteriaDelete;
@@ -348,6 +349,22 @@ public Integer getBatchSize() {
 		return delegate.getBatchSize();
 	}
 
+	@Override
+	public Mutiny.Session setMaxManagedEntities(Integer maxManagedEntities) {
+		delegate.setMaxManagedEntities( maxManagedEntities );
+		return this;
+	}
+
+	@Override
+	public Integer getMaxManagedEntities() {
+		return delegate.getMaxManagedEntities();
+	}
+
+	@Override
+	public FlushStatistics getFlushStatistics() {
+		return delegate.getReactiveActionQueue().getFlushStatistics();
+	}
+
 	@Override
 	public Mutiny.Session detach(Object entity) {
 		delegate.detach(entity);
@@ -414,7 +431,15 @@ public Filter getEnabledFilter(String filterName) {
 
 	@Override
 	public <T> Uni<T> withTransaction(Function<Mutiny.Transaction, Uni<T>> work) {
-		return currentTransaction==null ? new Transaction<T>().execute(work) : work.apply(currentTransaction);
+		if ( currentTransaction == null ) {
+			return new Transaction<T>().execute( work );
+		}
+		else if ( delegate.isNestedTransactionSavepointEnabled() ) {
+			return new NestedTransaction<T>( currentTransaction ).execute( work );
+		}
+		else {
+			return work.apply( currentTransaction );
+		}
 	}
 
 	private Transaction<?> currentTransaction;
@@ -425,9 +450,19 @@ public Mutiny.Transaction currentTransaction() {
 	}
 
 	private class Transaction<T> implements Mutiny.Transaction {
+		final int depth;
 		boolean rollback;
 
+		Transaction() {
+			this( 0 );
+		}
+
+		Transaction(int depth) {
+			this.depth = depth;
+		}
+
 		Uni<T> execute(Function<Mutiny.Transaction, Uni<T>> work) {
+			final Transaction<?> outer = currentTransaction;
 			currentTransaction = this;
 			//noinspection Convert2MethodRef
 			return begin()
@@ -443,7 +478,7 @@ Uni<T> execute(Function<Mutiny.Transaction, Uni<T>> work) {
 					// commit or rollback the transaction
 					.onItem().call( () -> rollback ? rollback() : commit() )
 					.call( () -> afterCompletion() )
-					.eventually( () -> currentTransaction = null );
+					.eventually( () -> currentTransaction = outer );
 		}
 
 		Uni<Void> flush() {
@@ -462,11 +497,11 @@ Uni<Void> commit() {
 			return Uni.createFrom().completionStage( delegate.getReactiveConnection().commitTransaction() );
 		}
 
-		private Uni<Void> beforeCompletion() {
+		Uni<Void> beforeCompletion() {
 			return Uni.createFrom().completionStage( delegate.getReactiveActionQueue().beforeTransactionCompletion() );
 		}
 
-		private Uni<Void> afterCompletion() {
+		Uni<Void> afterCompletion() {
 			return Uni.createFrom().completionStage( delegate.getReactiveActionQueue().afterTransactionCompletion(!rollback) );
 		}
 
@@ -481,6 +516,49 @@ public boolean isMarkedForRollback() {
 		}
 	}
 
+	/**
+	 * A transaction nested inside another transaction, which sets a
+	 * savepoint when it begins, and rolls back to the savepoint or
+	 * releases it when it ends.
+	 */
+	private class NestedTransaction<T> extends Transaction<T> {
+		final String savepoint;
+		boolean savepointSet;
+
+		NestedTransaction(Transaction<?> outer) {
+			super( outer.depth + 1 );
+			savepoint = "hr_savepoint_" + depth;
+		}
+
+		@Override
+		Uni<Void> begin() {
+			return Uni.createFrom().completionStage( () -> delegate.reactiveSetSavepoint( savepoint ) )
+					.invoke( () -> savepointSet = true );
+		}
+
+		@Override
+		Uni<Void> rollback() {
+			return savepointSet
+					? Uni.createFrom().completionStage( () -> delegate.reactiveRollbackToSavepoint( savepoint ) )
+					: Uni.createFrom().voidItem();
+		}
+
+		@Override
+		Uni<Void> commit() {
+			return Uni.createFrom().completionStage( () -> delegate.reactiveReleaseSavepoint( savepoint ) );
+		}
+
+		@Override
+		Uni<Void> beforeCompletion() {
+			return Uni.createFrom().voidItem();
+		}
+
+		@Override
+		Uni<Void> afterCompletion() {
+			return Uni.createFrom().voidItem();
+		}
+	}
+
 	@Override
 	public Uni<Void> close() {
 		return uni( delegate::reactiveClose );
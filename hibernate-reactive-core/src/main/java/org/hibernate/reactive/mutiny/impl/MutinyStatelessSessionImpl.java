@@ -121,6 +121,16 @@ public Uni<Void> insertAll(Object... entities) {
         return uni( () -> delegate.reactiveInsertAll(entities) );
     }
 
+    @Override
+    public Uni<Void> upsert(Object entity) {
+        return uni( () -> delegate.reactiveUpsert(entity) );
+    }
+
+    @Override
+    public Uni<Void> upsertAll(Object... entities) {
+        return uni( () -> delegate.reactiveUpsertAll(entities) );
+    }
+
     @Override
     public Uni<Void> delete(Object entity) {
         return uni( () -> delegate.reactiveDelete(entity) );
@@ -10,6 +10,7 @@
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
@@ -38,6 +39,18 @@ public interface ReactiveAbstractCollectionPersister extends ReactiveCollectionP
 
     Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+    /**
+     * The maximum number of rows inserted by a multi-row {@code insert},
+     * or deleted by a {@code delete} with an {@code in} list, which is
+     * within the limits of every supported database.
+     */
+    int MAX_ROWS_PER_STATEMENT = 1000;
+
+    /**
+     * The maximum number of parameters of a multi-row statement.
+     */
+    int MAX_PARAMETERS_PER_STATEMENT = 2000;
+
     default ReactiveConnection getReactiveConnection(SharedSessionContractImplementor session) {
         return ( (ReactiveConnectionSupplier) session ).getReactiveConnection();
     }
@@ -61,20 +74,16 @@ default CompletionStage<Void> recreateReactive(
             );
         }
 
-        ReactiveConnection connection = getReactiveConnection( session );
         //TODO: compose() reactive version of collection.preInsert()
         Iterator<?> entries = collection.entries( this );
-        Expectation expectation = appropriateExpectation( getInsertCheckStyle() );
-        return loop(
-                entries,
-                collection::entryExists,
-                (entry, index) -> connection.update(
-                        getSQLInsertRowString(),
-                        insertRowsParamValues( entry, index, collection, id, session ),
-                        expectation.canBeBatched(),
-                        new ExpectationAdaptor( expectation, getSQLInsertRowString(), getSqlExceptionConverter() )
-                )
-        );
+        List<Object[]> rows = new ArrayList<>();
+        for ( int index = 0; entries.hasNext(); index++ ) {
+            Object entry = entries.next();
+            if ( collection.entryExists( entry, index ) ) {
+                rows.add( insertRowsParamValues( entry, index, collection, id, session ) );
+            }
+        }
+        return insertRows( rows, session );
         //TODO: compose() reactive version of collection.afterRowInsert()
     }
 
@@ -119,17 +128,11 @@ default CompletionStage<Void> reactiveDeleteRows(
              return voidFuture();
         }
 
-        ReactiveConnection connection = getReactiveConnection(session);
-        Expectation expectation = appropriateExpectation( getDeleteCheckStyle() );
-        return loop(
-                deletes,
-                (entry, index) -> connection.update(
-                        getSQLDeleteRowString(),
-                        deleteRowsParamValues( entry, 1, id, session ),
-                        expectation.canBeBatched(),
-                        new ExpectationAdaptor( expectation, getSQLDeleteRowString(), getSqlExceptionConverter() )
-                )
-        );
+        List<Object[]> rows = new ArrayList<>();
+        while ( deletes.hasNext() ) {
+            rows.add( deleteRowsParamValues( deletes.next(), 1, id, session ) );
+        }
+        return deleteRows( rows, session );
     }
 
     /**
@@ -151,24 +154,128 @@ default CompletionStage<Void> reactiveInsertRows(
             );
         }
 
-        ReactiveConnection connection = getReactiveConnection( session );
         //TODO: compose() reactive version of collection.preInsert()
         List<Object> entries = entryList( collection );
-        if ( !needsInsert( collection, entries ) ) {
+        List<Object[]> rows = new ArrayList<>();
+        for ( int index = 0, size = entries.size(); index < size; index++ ) {
+            Object entry = entries.get( index );
+            if ( collection.needsInserting( entry, index, getElementType() ) ) {
+                rows.add( insertRowsParamValues( entry, index, collection, id, session ) );
+            }
+        }
+        if ( rows.isEmpty() ) {
             return voidFuture();
         }
 
-        Expectation expectation = appropriateExpectation( getInsertCheckStyle() );
-        return loop(
-                entries.iterator(),
-                (entry, index) -> collection.needsInserting( entry, index, getElementType() ),
-                (entry, index) -> connection.update(
-                        getSQLInsertRowString(),
-                        insertRowsParamValues( entry, index, collection, id, session ),
-                        expectation.canBeBatched(),
-                        new ExpectationAdaptor( expectation, getSQLInsertRowString(), getSqlExceptionConverter() ) )
-                //TODO: compose() a reactive version of collection.afterRowInsert()
-        ).thenAccept( total -> LOG.debugf( "Done inserting rows: %s inserted", total ) );
+        //TODO: compose() a reactive version of collection.afterRowInsert()
+        return insertRows( rows, session )
+                .thenAccept( v -> LOG.debugf( "Done inserting rows: %s inserted", rows.size() ) );
+    }
+
+    /**
+     * Insert rows, given the parameters of the insert statement for each
+     * row, using a multi-row {@code insert} statement if possible.
+     *
+     * @see #isMultiRowInsertEnabled()
+     */
+    default CompletionStage<Void> insertRows(List<Object[]> rows, SharedSessionContractImplementor session) {
+        ReactiveConnection connection = getReactiveConnection( session );
+        if ( rows.size() > 1 && isMultiRowInsertEnabled() ) {
+            int rowsPerStatement = rowsPerStatement( rows.get( 0 ).length );
+            return loop(
+                    chunks( rows, rowsPerStatement ),
+                    chunk -> connection.update( getSQLMultiRowInsertString( chunk.size() ), concat( chunk ) )
+                            .thenAccept( rowCount -> {
+                                if ( rowCount != chunk.size() ) {
+                                    throw LOG.unexpectedRowCountForMultiRowInsert( getRole(), chunk.size(), rowCount );
+                                }
+                            } )
+            );
+        }
+        else {
+            Expectation expectation = appropriateExpectation( getInsertCheckStyle() );
+            return loop(
+                    rows,
+                    params -> connection.update(
+                            getSQLInsertRowString(),
+                            params,
+                            expectation.canBeBatched(),
+                            new ExpectationAdaptor( expectation, getSQLInsertRowString(), getSqlExceptionConverter() )
+                    )
+            );
+        }
+    }
+
+    /**
+     * Delete rows, given the parameters of the delete statement for each
+     * row, using a {@code delete} statement with an {@code in} list if
+     * possible.
+     *
+     * @see #isInListDeleteEnabled()
+     */
+    default CompletionStage<Void> deleteRows(List<Object[]> rows, SharedSessionContractImplementor session) {
+        ReactiveConnection connection = getReactiveConnection( session );
+        if ( rows.size() > 1 && isInListDeleteEnabled() ) {
+            // the parameters of each row are the collection key, which is
+            // the same for every row, followed by a single value for the
+            // column of the in list
+            int rowsPerStatement = rowsPerStatement( 1 );
+            boolean checkRowCount = getDeleteCheckStyle() == ExecuteUpdateResultCheckStyle.COUNT;
+            return loop(
+                    chunks( rows, rowsPerStatement ),
+                    chunk -> {
+                        Object[] first = chunk.get( 0 );
+                        int keySpan = first.length - 1;
+                        Object[] params = Arrays.copyOf( first, keySpan + chunk.size() );
+                        for ( int i = 0; i < chunk.size(); i++ ) {
+                            params[keySpan + i] = chunk.get( i )[keySpan];
+                        }
+                        return connection.update( getSQLInListDeleteRowString( chunk.size() ), params )
+                                .thenAccept( rowCount -> {
+                                    if ( checkRowCount && rowCount != chunk.size() ) {
+                                        throw LOG.unexpectedRowCountForInListDelete( getRole(), chunk.size(), rowCount );
+                                    }
+                                } );
+                    }
+            );
+        }
+        else {
+            Expectation expectation = appropriateExpectation( getDeleteCheckStyle() );
+            return loop(
+                    rows,
+                    params -> connection.update(
+                            getSQLDeleteRowString(),
+                            params,
+                            expectation.canBeBatched(),
+                            new ExpectationAdaptor( expectation, getSQLDeleteRowString(), getSqlExceptionConverter() )
+                    )
+            );
+        }
+    }
+
+    /**
+     * The number of rows which fit in one statement with a multi-row
+     * {@code insert} or an {@code in} list, given the number of
+     * parameters per row.
+     */
+    static int rowsPerStatement(int parametersPerRow) {
+        return Math.max( 1, Math.min( MAX_ROWS_PER_STATEMENT, MAX_PARAMETERS_PER_STATEMENT / parametersPerRow ) );
+    }
+
+    static List<List<Object[]>> chunks(List<Object[]> rows, int chunkSize) {
+        List<List<Object[]>> chunks = new ArrayList<>();
+        for ( int start = 0; start < rows.size(); start += chunkSize ) {
+            chunks.add( rows.subList( start, Math.min( start + chunkSize, rows.size() ) ) );
+        }
+        return chunks;
+    }
+
+    static Object[] concat(List<Object[]> rows) {
+        List<Object> params = new ArrayList<>();
+        for ( Object[] row : rows ) {
+            params.addAll( Arrays.asList( row ) );
+        }
+        return params.toArray();
     }
 
     /**
@@ -240,6 +347,33 @@ default Object[] deleteRowsParamValues(Object entry, int offset, Serializable id
         );
     }
 
+    /**
+     * @return {@code true} if the rows of this collection may be inserted
+     *         by {@link #getSQLMultiRowInsertString(int)}
+     */
+    boolean isMultiRowInsertEnabled();
+
+    /**
+     * @return {@code true} if the rows of this collection may be deleted
+     *         by {@link #getSQLInListDeleteRowString(int)}
+     */
+    boolean isInListDeleteEnabled();
+
+    /**
+     * @return an {@code insert} statement which inserts the given number
+     *         of rows, with the parameters of each row in turn, or
+     *         {@code null} if {@link #isMultiRowInsertEnabled()} is false
+     */
+    String getSQLMultiRowInsertString(int rowCount);
+
+    /**
+     * @return a {@code delete} statement which deletes the given number
+     *         of rows, with the parameters of the collection key followed
+     *         by an {@code in} list, or {@code null} if
+     *         {@link #isInListDeleteEnabled()} is false
+     */
+    String getSQLInListDeleteRowString(int rowCount);
+
     default boolean deleteByIndex() {
         return !isOneToMany() && hasIndex() && !indexContainsFormula();
     }
@@ -290,16 +424,6 @@ default boolean needsUpdate(PersistentCollection collection, List<Object> entrie
         return false;
     }
 
-    default boolean needsInsert(PersistentCollection collection, List<Object> entries) {
-        for ( int i = 0, size = entries.size(); i < size; i++ ) {
-            Object element = entries.get(i);
-            if ( collection.needsInserting( element, i, getElementType() ) ) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     class ExpectationAdaptor implements ReactiveConnection.Expectation {
         private Expectation expectation;
         private String sql;
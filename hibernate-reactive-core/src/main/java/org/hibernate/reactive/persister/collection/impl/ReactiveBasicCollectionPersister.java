@@ -9,6 +9,9 @@
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.dialect.DB2Dialect;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
 import org.hibernate.engine.spi.ExecuteUpdateResultCheckStyle;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -23,12 +26,15 @@
 import org.hibernate.reactive.loader.collection.impl.ReactiveBatchingCollectionInitializerBuilder;
 import org.hibernate.reactive.loader.collection.impl.ReactiveSubselectCollectionLoader;
 import org.hibernate.reactive.pool.impl.Parameters;
+import org.hibernate.sql.Delete;
 
 import java.io.Serializable;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.hibernate.jdbc.Expectations.appropriateExpectation;
 import static org.hibernate.reactive.util.impl.CompletionStages.loop;
@@ -44,11 +50,50 @@ private Parameters parameters() {
 		return Parameters.instance( getFactory().getJdbcServices().getDialect() );
 	}
 
+	private final boolean multiRowInsertEnabled;
+	private final String inListDeleteColumn;
+
+	// the statements for each number of rows, built when first needed
+	private final Map<Integer, String> multiRowInsertStrings = new ConcurrentHashMap<>();
+	private final Map<Integer, String> inListDeleteRowStrings = new ConcurrentHashMap<>();
+
 	public ReactiveBasicCollectionPersister(Collection collectionBinding,
 											CollectionDataAccess cacheAccessStrategy,
 											PersisterCreationContext creationContext)
 			throws MappingException, CacheException {
 		super( collectionBinding, cacheAccessStrategy, creationContext );
+		// custom SQL statements must be executed one row at a time
+		this.multiRowInsertEnabled = supportsMultiRowInsert( getFactory().getJdbcServices().getDialect() )
+				&& getSQLInsertRowString().equals( generateInsertRowString() );
+		this.inListDeleteColumn = getSQLDeleteRowString().equals( generateDeleteRowString() )
+				? inListDeleteColumn()
+				: null;
+	}
+
+	private static boolean supportsMultiRowInsert(Dialect dialect) {
+		return dialect.supportsValuesList()
+				|| dialect instanceof MySQLDialect
+				|| dialect instanceof DB2Dialect;
+	}
+
+	/**
+	 * The column which identifies a row for a given collection key, if
+	 * there is just one.
+	 */
+	private String inListDeleteColumn() {
+		if ( hasIdentifier ) {
+			return identifierColumnName;
+		}
+		else if ( hasIndex && !indexContainsFormula ) {
+			return indexColumnNames.length == 1 ? indexColumnNames[0] : null;
+		}
+		else {
+			return elementColumnNames.length == 1
+					&& elementColumnIsInPrimaryKey[0]
+					&& "?".equals( elementColumnWriters[0] )
+					? elementColumnNames[0]
+					: null;
+		}
 	}
 
 	public CompletionStage<Void> reactiveInitialize(Serializable key,
@@ -161,6 +206,59 @@ protected String generateDeleteString() {
 		return parameters().process( sql );
 	}
 
+	@Override
+	public boolean isMultiRowInsertEnabled() {
+		return multiRowInsertEnabled;
+	}
+
+	@Override
+	public boolean isInListDeleteEnabled() {
+		return inListDeleteColumn != null;
+	}
+
+	@Override
+	public String getSQLMultiRowInsertString(int rowCount) {
+		return multiRowInsertEnabled
+				? multiRowInsertStrings.computeIfAbsent( rowCount, this::generateMultiRowInsertString )
+				: null;
+	}
+
+	@Override
+	public String getSQLInListDeleteRowString(int rowCount) {
+		return inListDeleteColumn != null
+				? inListDeleteRowStrings.computeIfAbsent( rowCount, this::generateInListDeleteRowString )
+				: null;
+	}
+
+	private String generateMultiRowInsertString(int rowCount) {
+		String sql = super.generateInsertRowString();
+		String row = sql.substring( sql.lastIndexOf( " values (" ) + " values ".length() );
+		StringBuilder rows = new StringBuilder( sql );
+		for ( int i = 1; i < rowCount; i++ ) {
+			rows.append( ", " ).append( row );
+		}
+		return parameters().process( rows.toString(), rowCount );
+	}
+
+	private String generateInListDeleteRowString(int rowCount) {
+		StringBuilder where = new StringBuilder();
+		if ( !hasIdentifier ) {
+			for ( String keyColumnName : keyColumnNames ) {
+				where.append( keyColumnName ).append( " = ? and " );
+			}
+		}
+		where.append( inListDeleteColumn ).append( " in (" );
+		for ( int i = 0; i < rowCount; i++ ) {
+			where.append( i == 0 ? "?" : ", ?" );
+		}
+		where.append( ')' );
+		Delete delete = createDelete().setTableName( qualifiedTableName ).setWhere( where.toString() );
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			delete.setComment( "delete collection rows " + getRole() );
+		}
+		return parameters().process( delete.toStatementString(), rowCount );
+	}
+
 	@Override
 	public String getSQLInsertRowString() {
 		return super.getSQLInsertRowString();
@@ -192,6 +192,31 @@ public ExecuteUpdateResultCheckStyle getDeleteCheckStyle() {
 		return super.getDeleteCheckStyle();
 	}
 
+	/**
+	 * Inserting or deleting a "row" of a one-to-many association updates
+	 * the foreign key of a row of the child table, and so these updates
+	 * are executed one row at a time.
+	 */
+	@Override
+	public boolean isMultiRowInsertEnabled() {
+		return false;
+	}
+
+	@Override
+	public boolean isInListDeleteEnabled() {
+		return false;
+	}
+
+	@Override
+	public String getSQLMultiRowInsertString(int rowCount) {
+		return null;
+	}
+
+	@Override
+	public String getSQLInListDeleteRowString(int rowCount) {
+		return null;
+	}
+
 	/**
 	 * @see OneToManyPersister#doUpdateRows(Serializable, PersistentCollection, SharedSessionContractImplementor)
 	 */
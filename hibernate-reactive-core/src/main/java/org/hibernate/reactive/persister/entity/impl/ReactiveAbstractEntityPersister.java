@@ -10,7 +10,9 @@
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
@@ -26,7 +28,11 @@
 import org.hibernate.StaleObjectStateException;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeDescriptor;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.dialect.CockroachDB192Dialect;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.dialect.SQLServerDialect;
 import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.spi.EntityEntry;
@@ -78,6 +84,7 @@
 import static org.hibernate.reactive.util.impl.CompletionStages.logSqlException;
 import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
+import static org.hibernate.reactive.util.impl.CompletionStages.total;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -338,6 +345,187 @@ default CompletionStage<Void> insertReactive(
 				.update( sql, params, useBatch, new InsertExpectation( expectation, this ) );
 	}
 
+	@Override
+	default CompletionStage<Void> upsertReactive(
+			Serializable id,
+			Object[] fields,
+			Object object,
+			SharedSessionContractImplementor session) {
+		// apply any pre-insert in-memory value generation
+		preInsertInMemoryValueGeneration( fields, object, session );
+
+		final String[] upserts = getSQLUpsertStrings();
+		return loop(
+				0, delegate().getTableSpan(),
+				table -> upsertReactive( id, fields, table, upserts[table], session )
+		);
+	}
+
+	default CompletionStage<Void> upsertReactive(
+			Serializable id,
+			Object[] fields,
+			int j,
+			String sql,
+			SharedSessionContractImplementor session) {
+
+		if ( delegate().isInverseTable( j ) ) {
+			return voidFuture();
+		}
+
+		if ( log.isTraceEnabled() ) {
+			log.tracev( "Upserting entity: {0}", infoString( delegate(), id, delegate().getFactory() ) );
+		}
+
+		Object[] params = PreparedStatementAdaptor.bind( upsert -> {
+			boolean[][] insertable = delegate().getPropertyColumnInsertable();
+			int index = delegate().dehydrate( null, fields, delegate().getPropertyInsertability(), insertable, j, upsert, session, false );
+			delegate().getIdentifierType().nullSafeSet( upsert, id, index, session );
+		} );
+
+		// the row count depends on the database, and on whether
+		// the row was inserted or updated, so we can't check it
+		return getReactiveConnection( session )
+				.update( sql, params, true, (rowCount, batchPosition, query) -> {} );
+	}
+
+	/**
+	 * The upsert statements for each table, which insert a row, or
+	 * update the row with the same primary key if there is one.
+	 */
+	String[] getSQLUpsertStrings();
+
+	/**
+	 * Generate an upsert statement for each table from the static
+	 * {@code insert} statement for the table.
+	 */
+	default String[] generateUpsertStrings() {
+		final Dialect dialect = delegate().getFactory().getJdbcServices().getDialect();
+		final int span = delegate().getTableSpan();
+		final String[] upserts = new String[span];
+		for ( int j = 0; j < span; j++ ) {
+			final String insert = delegate().getSQLInsertStrings()[j];
+			if ( !insert.equals( delegate().generateInsertString( delegate().getPropertyInsertability(), j ) ) ) {
+				throw log.upsertNotSupportedForCustomInsert( delegate().getEntityName() );
+			}
+			upserts[j] = generateUpsertString(
+					dialect,
+					insert,
+					delegate().getTableName( j ),
+					delegate().getKeyColumns( j ),
+					j == 0 ? incrementedVersionColumn() : null
+			);
+		}
+		return upserts;
+	}
+
+	/**
+	 * @return the version column, if the entity has a numeric version
+	 *         which must be incremented when an existing row is updated
+	 *         by an upsert, or {@code null} otherwise, in which case the
+	 *         freshly seeded version, a timestamp, is written instead
+	 */
+	default String incrementedVersionColumn() {
+		return delegate().isVersioned()
+				&& Number.class.isAssignableFrom( delegate().getVersionType().getReturnedClass() )
+				? delegate().getVersionColumnName()
+				: null;
+	}
+
+	static String generateUpsertString(
+			Dialect dialect,
+			String insert,
+			String tableName,
+			String[] keyColumns,
+			String versionColumn) {
+		// the insert statement has the form:
+		// insert into table (col1, col2, ...) values (val1, val2, ...)
+		final int open = insert.indexOf( '(', insert.indexOf( "insert into " ) );
+		final int values = insert.indexOf( ") values (", open );
+		final String[] columns = insert.substring( open + 1, values ).split( ", " );
+		final List<String> keys = Arrays.asList( keyColumns );
+		final List<String> updated = new ArrayList<>();
+		for ( String column : columns ) {
+			if ( !keys.contains( column ) ) {
+				updated.add( column );
+			}
+		}
+
+		final StringBuilder upsert = new StringBuilder();
+		if ( dialect instanceof PostgreSQL81Dialect || dialect instanceof CockroachDB192Dialect ) {
+			upsert.append( insert )
+					.append( " on conflict (" ).append( String.join( ", ", keyColumns ) ).append( ")" );
+			if ( updated.isEmpty() ) {
+				upsert.append( " do nothing" );
+			}
+			else {
+				upsert.append( " do update set " );
+				for ( int i = 0; i < updated.size(); i++ ) {
+					final String column = updated.get( i );
+					upsert.append( i == 0 ? "" : ", " ).append( column ).append( " = " );
+					if ( column.equals( versionColumn ) ) {
+						upsert.append( tableName ).append( '.' ).append( column ).append( " + 1" );
+					}
+					else {
+						upsert.append( "excluded." ).append( column );
+					}
+				}
+			}
+		}
+		else if ( dialect instanceof MySQLDialect ) {
+			upsert.append( insert ).append( " on duplicate key update " );
+			if ( updated.isEmpty() ) {
+				upsert.append( keyColumns[0] ).append( " = " ).append( keyColumns[0] );
+			}
+			else {
+				for ( int i = 0; i < updated.size(); i++ ) {
+					final String column = updated.get( i );
+					upsert.append( i == 0 ? "" : ", " ).append( column ).append( " = " );
+					if ( column.equals( versionColumn ) ) {
+						upsert.append( column ).append( " + 1" );
+					}
+					else {
+						upsert.append( "values(" ).append( column ).append( ")" );
+					}
+				}
+			}
+		}
+		else if ( dialect instanceof SQLServerDialect ) {
+			// Db2 isn't supported, since it rejects the untyped parameter
+			// markers of the values list in the using clause
+			upsert.append( "merge into " ).append( tableName ).append( " as t using (" )
+					.append( insert.substring( values + 2 ) )
+					.append( ") as s (" ).append( String.join( ", ", columns ) ).append( ") on " );
+			for ( int i = 0; i < keyColumns.length; i++ ) {
+				upsert.append( i == 0 ? "" : " and " )
+						.append( "t." ).append( keyColumns[i] ).append( " = s." ).append( keyColumns[i] );
+			}
+			if ( !updated.isEmpty() ) {
+				upsert.append( " when matched then update set " );
+				for ( int i = 0; i < updated.size(); i++ ) {
+					final String column = updated.get( i );
+					upsert.append( i == 0 ? "" : ", " ).append( column ).append( " = " );
+					if ( column.equals( versionColumn ) ) {
+						upsert.append( "t." ).append( column ).append( " + 1" );
+					}
+					else {
+						upsert.append( "s." ).append( column );
+					}
+				}
+			}
+			upsert.append( " when not matched then insert (" ).append( String.join( ", ", columns ) )
+					.append( ") values (" );
+			for ( int i = 0; i < columns.length; i++ ) {
+				upsert.append( i == 0 ? "s." : ", s." ).append( columns[i] );
+			}
+			// SQL Server requires the terminator
+			upsert.append( ");" );
+		}
+		else {
+			throw log.upsertNotSupported( dialect.getClass().getName() );
+		}
+		return upsert.toString();
+	}
+
 	/**
 	 * Perform an SQL INSERT, and then retrieve a generated identifier.
 	 * <p>
@@ -493,6 +681,270 @@ default CompletionStage<Void> deleteReactive(
 		);
 	}
 
+	/**
+	 * The maximum number of identifiers in the {@code in} list of a
+	 * bulk {@code delete} statement, if the dialect doesn't impose
+	 * a lower limit.
+	 */
+	int MAX_BULK_DELETE_SIZE = 1000;
+
+	/**
+	 * An entity may be deleted in bulk if it has a single table, a
+	 * single-column identifier, no collections, no associations to
+	 * its own hierarchy, no custom {@code delete} statement, and no
+	 * optimistic locking of any kind.
+	 */
+	@Override
+	default boolean isBulkDeletable() {
+		final AbstractEntityPersister delegate = delegate();
+		if ( delegate.getTableSpan() != 1
+				|| delegate.getIdentifierColumnSpan() != 1
+				|| delegate.isVersioned()
+				|| isAllOrDirtyOptimisticLocking()
+				|| delegate.hasCollections()
+				|| delegate.isInverseTable( 0 )
+				|| delegate.isTableCascadeDeleteEnabled( 0 )
+				|| delegate.isDeleteCallable( 0 ) ) {
+			return false;
+		}
+		// the row count of a custom delete statement might not be
+		// a count of deleted rows
+		if ( !delegate.getSQLDeleteStrings()[0].equals( delegate.generateDeleteString( 0 ) ) ) {
+			return false;
+		}
+		// a single statement would leave the order of deletion of rows
+		// which reference each other up to the database
+		for ( Type type : delegate.getPropertyTypes() ) {
+			if ( type.isEntityType()
+					&& delegate.getRootEntityName().equals( delegate.getFactory().getMetamodel()
+							.entityPersister( ( (EntityType) type ).getAssociatedEntityName() )
+							.getRootEntityName() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	default CompletionStage<Void> deleteReactive(Serializable[] ids, SharedSessionContractImplementor session) {
+		final int limit = delegate().getFactory().getJdbcServices().getDialect().getInExpressionCountLimit();
+		final int chunkSize = limit > 0 ? Math.min( limit, MAX_BULK_DELETE_SIZE ) : MAX_BULK_DELETE_SIZE;
+		final int chunks = ( ids.length + chunkSize - 1 ) / chunkSize;
+
+		if ( log.isTraceEnabled() ) {
+			log.tracev( "Deleting {0} instances of entity: {1}", ids.length, delegate().getEntityName() );
+		}
+
+		return total( 0, chunks, chunk -> {
+			final int start = chunk * chunkSize;
+			final int end = Math.min( start + chunkSize, ids.length );
+			final Object[] params = PreparedStatementAdaptor.bind( delete -> {
+				for ( int i = start; i < end; i++ ) {
+					delegate().getIdentifierType().nullSafeSet( delete, ids[i], i - start + 1, session );
+				}
+			} );
+			return getReactiveConnection( session ).update( generateBulkDeleteString( end - start ), params );
+		} )
+		.thenAccept( rowCount -> {
+			if ( rowCount != ids.length ) {
+				throw log.unexpectedRowCountForBulkDelete( delegate().getEntityName(), ids.length, rowCount );
+			}
+		} );
+	}
+
+	default String generateBulkDeleteString(int idCount) {
+		final StringBuilder where = new StringBuilder( delegate().getIdentifierColumnNames()[0] ).append( " in (" );
+		for ( int i = 0; i < idCount; i++ ) {
+			where.append( i == 0 ? "?" : ",?" );
+		}
+		where.append( ')' );
+		final Delete delete = new Delete()
+				.setTableName( delegate().getTableName( 0 ) )
+				.setWhere( where.toString() );
+		if ( delegate().getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			delete.setComment( "bulk delete " + delegate().getEntityName() );
+		}
+		return parameters().process( delete.toStatementString(), idCount );
+	}
+
+	/**
+	 * The maximum number of rows updated by a single set-based
+	 * {@code update} statement, which may be further limited by the
+	 * maximum number of parameters of a statement.
+	 */
+	int MAX_SET_UPDATE_SIZE = 1000;
+
+	/**
+	 * The maximum number of parameters of a statement on PostgreSQL.
+	 */
+	int MAX_SET_UPDATE_PARAMETERS = 32767;
+
+	/**
+	 * An entity may be updated using a set-based {@code update} statement
+	 * on PostgreSQL or CockroachDB if it has a single table, a single-column
+	 * identifier, no custom {@code update} statement or column write
+	 * expressions, no generated values, and no optimistic locking other
+	 * than by version.
+	 */
+	@Override
+	default boolean isSetUpdatable() {
+		final AbstractEntityPersister delegate = delegate();
+		final Dialect dialect = delegate.getFactory().getJdbcServices().getDialect();
+		if ( !( dialect instanceof PostgreSQL81Dialect || dialect instanceof CockroachDB192Dialect )
+				|| delegate.getTableSpan() != 1
+				|| delegate.getIdentifierColumnSpan() != 1
+				|| isAllOrDirtyOptimisticLocking()
+				|| delegate.isInverseTable( 0 )
+				|| delegate.isUpdateCallable( 0 )
+				|| delegate.hasUpdateGeneratedProperties() ) {
+			return false;
+		}
+		final String update = delegate.getSQLUpdateStrings()[0];
+		return update != null
+				&& update.equals( delegate.generateUpdateString( delegate.getPropertyUpdateability(), 0, false ) )
+				&& updatedColumns( update ) != null;
+	}
+
+	@Override
+	default CompletionStage<Void> updateReactive(
+			Serializable[] ids,
+			Object[][] fields,
+			Object[] oldVersions,
+			SharedSessionContractImplementor session) {
+		final String[] columns = updatedColumns( delegate().getSQLUpdateStrings()[0] );
+		final boolean useVersion = delegate().isVersioned()
+				&& delegate().checkVersion( delegate().getPropertyUpdateability() );
+		final int parametersPerRow = columns.length + ( useVersion ? 2 : 1 );
+		final int chunkSize = Math.min( MAX_SET_UPDATE_SIZE, MAX_SET_UPDATE_PARAMETERS / parametersPerRow );
+		final int chunks = ( ids.length + chunkSize - 1 ) / chunkSize;
+
+		if ( log.isTraceEnabled() ) {
+			log.tracev( "Updating {0} instances of entity: {1}", ids.length, delegate().getEntityName() );
+		}
+
+		final Set<Serializable> updatedIds = new HashSet<>();
+		return loop( 0, chunks, chunk -> {
+			final int start = chunk * chunkSize;
+			final int end = Math.min( start + chunkSize, ids.length );
+			final Object[] params = bind( update -> {
+				int index = 1;
+				for ( int i = start; i < end; i++ ) {
+					index = delegate().dehydrate(
+							ids[i],
+							fields[i],
+							null,
+							delegate().getPropertyUpdateability(),
+							delegate().getPropertyColumnUpdateable(),
+							0,
+							update,
+							session,
+							index,
+							true
+					);
+					if ( useVersion ) {
+						delegate().getVersionType().nullSafeSet( update, oldVersions[i], index++, session );
+					}
+				}
+			} );
+			final String sql = generateSetUpdateString( columns, useVersion, end - start );
+			return getReactiveConnection( session ).selectJdbc( sql, params )
+					.thenAccept( resultSet -> {
+						try {
+							while ( resultSet.next() ) {
+								updatedIds.add( (Serializable) delegate().getIdentifierType()
+										.nullSafeGet( resultSet, UPDATED_ID_ALIAS, session, null ) );
+							}
+						}
+						catch (SQLException sqle) {
+							//can never happen
+							throw new JDBCException( "error reading updated identifiers", sqle );
+						}
+					} );
+		} )
+		.thenAccept( v -> {
+			// report the first row which wasn't updated, because its
+			// version didn't match, or because it had been deleted
+			for ( Serializable id : ids ) {
+				if ( !updatedIds.contains( id ) ) {
+					throw new StaleObjectStateException( delegate().getEntityName(), id );
+				}
+			}
+		} );
+	}
+
+	/**
+	 * The alias of the identifier column returned by a set-based
+	 * {@code update} statement.
+	 */
+	String UPDATED_ID_ALIAS = "updated_id";
+
+	/**
+	 * Generate an {@code update} statement which updates the given number of
+	 * rows, joining the table to a list of rows of new values. The first,
+	 * empty, branch of the {@code union} determines the types of the
+	 * parameters in the other branches. (A {@code values} list would
+	 * assign the type {@code text} to every parameter.) The statement
+	 * returns the identifier of each updated row, so that a row whose
+	 * version check failed can be identified.
+	 */
+	default String generateSetUpdateString(String[] columns, boolean useVersion, int rowCount) {
+		final String tableName = delegate().getTableName( 0 );
+		final String idColumn = delegate().getIdentifierColumnNames()[0];
+		final String versionColumn = useVersion ? delegate().getVersionColumnName() : null;
+
+		final List<String> valueColumns = new ArrayList<>( Arrays.asList( columns ) );
+		valueColumns.add( idColumn );
+		if ( useVersion ) {
+			valueColumns.add( versionColumn );
+		}
+		final StringBuilder aliases = new StringBuilder();
+		final StringBuilder row = new StringBuilder( " union all select " );
+		for ( int i = 0; i < valueColumns.size(); i++ ) {
+			aliases.append( i == 0 ? "c" : ", c" ).append( i );
+			row.append( i == 0 ? "?" : ", ?" );
+		}
+
+		final StringBuilder update = new StringBuilder( "update " ).append( tableName ).append( " as t set " );
+		for ( int i = 0; i < columns.length; i++ ) {
+			update.append( i == 0 ? "" : ", " ).append( columns[i] ).append( " = v.c" ).append( i );
+		}
+		update.append( " from (select " ).append( String.join( ", ", valueColumns ) )
+				.append( " from " ).append( tableName ).append( " where 1=0" );
+		for ( int i = 0; i < rowCount; i++ ) {
+			update.append( row );
+		}
+		update.append( ") as v (" ).append( aliases ).append( ") where t." ).append( idColumn )
+				.append( " = v.c" ).append( columns.length );
+		if ( useVersion ) {
+			update.append( " and t." ).append( versionColumn ).append( " = v.c" ).append( columns.length + 1 );
+		}
+		update.append( " returning t." ).append( idColumn ).append( " as " ).append( UPDATED_ID_ALIAS );
+		return parameters().process( update.toString(), rowCount * valueColumns.size() );
+	}
+
+	/**
+	 * The columns set by the given static {@code update} statement, of the
+	 * form {@code update table set col1=$1, col2=$2 where ...}, or null
+	 * if a column is set to anything other than a parameter.
+	 */
+	static String[] updatedColumns(String update) {
+		final int set = update.indexOf( " set " );
+		final int where = update.indexOf( " where ", set );
+		if ( set < 0 || where < 0 ) {
+			return null;
+		}
+		final String[] assignments = update.substring( set + 5, where ).split( ", " );
+		final String[] columns = new String[assignments.length];
+		for ( int i = 0; i < assignments.length; i++ ) {
+			final int equals = assignments[i].indexOf( '=' );
+			if ( equals < 0 || !assignments[i].substring( equals + 1 ).matches( "\\$\\d+|\\?" ) ) {
+				return null;
+			}
+			columns[i] = assignments[i].substring( 0, equals );
+		}
+		return columns;
+	}
+
 	default boolean isAllOrDirtyOptimisticLocking() {
 		OptimisticLockStyle optimisticLockStyle =
 				delegate().getEntityMetamodel().getOptimisticLockStyle();
@@ -557,7 +1009,7 @@ default CompletionStage<Boolean> updateReactive(
 			}
 		}
 
-		Object[] params = PreparedStatementAdaptor.bind( update -> {
+		Object[] params = bind( update -> {
 			int index = 1;
 			index += expectation.prepare( update );
 
@@ -62,6 +62,58 @@ CompletionStage<Void> deleteReactive(
 			SharedSessionContractImplementor session)
 					throws HibernateException;
 
+	/**
+	 * Determine if instances of this entity may be deleted using
+	 * {@link #deleteReactive(Serializable[], SharedSessionContractImplementor)}
+	 * instead of one {@code delete} statement per instance.
+	 */
+	default boolean isBulkDeletable() {
+		return false;
+	}
+
+	/**
+	 * Can many instances of this entity be updated using a single
+	 * {@code update} statement?
+	 *
+	 * @see #updateReactive(Serializable[], Object[][], Object[], SharedSessionContractImplementor)
+	 */
+	default boolean isSetUpdatable() {
+		return false;
+	}
+
+	/**
+	 * Update the rows with the given identifiers to the given states using
+	 * {@code update} statements which each update many rows, without
+	 * blocking. Fails with a {@link org.hibernate.StaleObjectStateException}
+	 * for the first identifier whose row was not updated, because its version
+	 * check failed, or because it had been deleted.
+	 *
+	 * @param oldVersions the versions to check, if the entity is versioned
+	 *
+	 * @see #isSetUpdatable()
+	 */
+	CompletionStage<Void> updateReactive(Serializable[] ids, Object[][] fields, Object[] oldVersions, SharedSessionContractImplementor session);
+
+	/**
+	 * Insert the given state, or update the existing row with the given
+	 * identifier, using a single statement for each table, without
+	 * blocking. The version, if any, is not checked. A numeric version of
+	 * an updated row is incremented in the database, but not in the given
+	 * state.
+	 *
+	 * @see org.hibernate.reactive.session.ReactiveStatelessSession#reactiveUpsert(Object)
+	 */
+	CompletionStage<Void> upsertReactive(Serializable id, Object[] fields, Object object, SharedSessionContractImplementor session);
+
+	/**
+	 * Delete the rows with the given identifiers using a {@code delete}
+	 * statement with an {@code in} list, without blocking. Fails if
+	 * the number of deleted rows does not match the number of identifiers.
+	 *
+	 * @see #isBulkDeletable()
+	 */
+	CompletionStage<Void> deleteReactive(Serializable[] ids, SharedSessionContractImplementor session);
+
 	/**
 	 * Update the given instance state without blocking.
 	 *
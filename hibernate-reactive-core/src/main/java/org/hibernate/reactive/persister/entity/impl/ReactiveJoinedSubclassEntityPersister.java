@@ -40,6 +40,7 @@ public class ReactiveJoinedSubclassEntityPersister extends JoinedSubclassEntityP
 
 	private String sqlUpdateGeneratedValuesSelectString;
 	private String sqlInsertGeneratedValuesSelectString;
+	private String[] sqlUpsertStrings;
 
 	public ReactiveJoinedSubclassEntityPersister(
 			PersistentClass persistentClass,
@@ -117,6 +118,14 @@ public String generateIdentityInsertString(boolean[] includeProperty) {
 		return parameters().process( sql, includeProperty.length );
 	}
 
+	@Override
+	public String[] getSQLUpsertStrings() {
+		if ( sqlUpsertStrings == null ) {
+			sqlUpsertStrings = generateUpsertStrings();
+		}
+		return sqlUpsertStrings;
+	}
+
 	@Override
 	public IdentifierGenerator getIdentifierGenerator() throws HibernateException {
 		final IdentifierGenerator identifierGenerator = super.getIdentifierGenerator();
@@ -43,6 +43,7 @@ public class ReactiveSingleTableEntityPersister extends SingleTableEntityPersist
 
 	private String sqlInsertGeneratedValuesSelectString;
 	private String sqlUpdateGeneratedValuesSelectString;
+	private String[] sqlUpsertStrings;
 
 	public ReactiveSingleTableEntityPersister(
 			PersistentClass persistentClass,
@@ -129,6 +130,14 @@ public String generateIdentityInsertString(boolean[] includeProperty) {
 		return parameters().process( sql, includeProperty.length );
 	}
 
+	@Override
+	public String[] getSQLUpsertStrings() {
+		if ( sqlUpsertStrings == null ) {
+			sqlUpsertStrings = generateUpsertStrings();
+		}
+		return sqlUpsertStrings;
+	}
+
 	@Override
 	public IdentifierGenerator getIdentifierGenerator() throws HibernateException {
 		final IdentifierGenerator identifierGenerator = super.getIdentifierGenerator();
@@ -40,6 +40,7 @@ public class ReactiveUnionSubclassEntityPersister extends UnionSubclassEntityPer
 
 	private String sqlUpdateGeneratedValuesSelectString;
 	private String sqlInsertGeneratedValuesSelectString;
+	private String[] sqlUpsertStrings;
 
 	public ReactiveUnionSubclassEntityPersister(
 			PersistentClass persistentClass,
@@ -116,6 +117,14 @@ public String generateIdentityInsertString(boolean[] includeProperty) {
 		return parameters().process( sql, includeProperty.length );
 	}
 
+	@Override
+	public String[] getSQLUpsertStrings() {
+		if ( sqlUpsertStrings == null ) {
+			sqlUpsertStrings = generateUpsertStrings();
+		}
+		return sqlUpsertStrings;
+	}
+
 	@Override
 	public IdentifierGenerator getIdentifierGenerator() throws HibernateException {
 		final IdentifierGenerator identifierGenerator = super.getIdentifierGenerator();
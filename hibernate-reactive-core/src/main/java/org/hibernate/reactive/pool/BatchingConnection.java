@@ -180,6 +180,41 @@ public CompletionStage<Void> rollbackTransaction() {
         return delegate.rollbackTransaction();
     }
 
+    @Override
+    public boolean isTransactionInProgress() {
+        return delegate.isTransactionInProgress();
+    }
+
+    @Override
+    public CompletionStage<Void> createTemporaryTable(String tableName, String createStatement) {
+        return hasBatch() ?
+                executeBatch().thenCompose( v -> delegate.createTemporaryTable(tableName, createStatement) ) :
+                delegate.createTemporaryTable(tableName, createStatement);
+    }
+
+    @Override
+    public CompletionStage<Void> setSavepoint(String name) {
+        return hasBatch() ?
+                executeBatch().thenCompose( v -> delegate.setSavepoint(name) ) :
+                delegate.setSavepoint(name);
+    }
+
+    @Override
+    public CompletionStage<Void> rollbackToSavepoint(String name) {
+        // the batched statements belong to the work being undone
+        batchedSql = null;
+        batchParamValues = null;
+        batchedExpectation = null;
+        return delegate.rollbackToSavepoint(name);
+    }
+
+    @Override
+    public CompletionStage<Void> releaseSavepoint(String name) {
+        return hasBatch() ?
+                executeBatch().thenCompose( v -> delegate.releaseSavepoint(name) ) :
+                delegate.releaseSavepoint(name);
+    }
+
     public CompletionStage<Void> close() {
         return delegate.close();
     }
@@ -62,6 +62,37 @@ interface Result extends Iterator<Object[]> {
 	CompletionStage<Void> commitTransaction();
 	CompletionStage<Void> rollbackTransaction();
 
+	/**
+	 * Is there a transaction in progress on this connection?
+	 */
+	boolean isTransactionInProgress();
+
+	/**
+	 * Execute the given statement creating the temporary table with the
+	 * given name, unless the table has already been created on the
+	 * underlying physical connection, which may be reused across
+	 * sessions. A table created by this connection is forgotten when a
+	 * transaction, or the work since a savepoint, is rolled back.
+	 */
+	CompletionStage<Void> createTemporaryTable(String tableName, String createStatement);
+
+	/**
+	 * Set a savepoint with the given name within the current transaction.
+	 */
+	CompletionStage<Void> setSavepoint(String name);
+
+	/**
+	 * Undo the work done since the savepoint with the given name was set,
+	 * without ending the current transaction.
+	 */
+	CompletionStage<Void> rollbackToSavepoint(String name);
+
+	/**
+	 * Destroy the savepoint with the given name, keeping the work done
+	 * since it was set.
+	 */
+	CompletionStage<Void> releaseSavepoint(String name);
+
 	CompletionStage<Void> executeBatch();
 
 	CompletionStage<Void> close();
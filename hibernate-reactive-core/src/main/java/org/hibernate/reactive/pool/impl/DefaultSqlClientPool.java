@@ -7,16 +7,21 @@
 
 import java.lang.invoke.MethodHandles;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.HibernateError;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.internal.util.config.ConfigurationException;
 import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.context.Context;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.provider.Settings;
@@ -27,8 +32,13 @@
 import org.hibernate.service.spi.Startable;
 import org.hibernate.service.spi.Stoppable;
 
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.SqlConnectOptions;
@@ -52,6 +62,11 @@
  * destroyed. For cases where the underlying {@code Pool} lifecycle
  * is managed externally to Hibernate, use
  * {@link org.hibernate.reactive.pool.impl.ExternalSqlClientPool}.
+ * <p>
+ * If {@link Settings#POOL_EVENT_LOOP_AFFINE} is enabled, a separate
+ * {@code Pool} is created for each event loop the first time it's
+ * needed, so that a connection is only ever used by the event loop
+ * which opened it.
  *
  * @see SqlClientPoolConfiguration
  */
@@ -106,8 +121,13 @@ public static VertxDriver findByClassName(String className) {
 	}
 
 	private Pool pools;
+	private Map<EventLoop, Pool> eventLoopPools;
+	private PoolOptions eventLoopPoolOptions;
+	private int eventLoopCount;
+	private final AtomicInteger eventLoopPoolCount = new AtomicInteger();
 	private SqlStatementLogger sqlStatementLogger;
 	private URI uri;
+	private boolean eventLoopAffine;
 	private ServiceRegistryImplementor serviceRegistry;
 
 	//Asynchronous shutdown promise: we can't return it from #close as we implement a
@@ -125,11 +145,23 @@ public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 	@Override
 	public void configure(Map configuration) {
 		uri = jdbcUrl( configuration );
+		eventLoopAffine = ConfigurationHelper.getBoolean( Settings.POOL_EVENT_LOOP_AFFINE, configuration, false );
 	}
 
 	@Override
 	public void start() {
-		if ( pools == null ) {
+		if ( eventLoopAffine ) {
+			if ( eventLoopPools == null ) {
+				eventLoopPoolOptions = serviceRegistry.getService( SqlClientPoolConfiguration.class ).poolOptions();
+				eventLoopCount = eventLoopCount( vertx() );
+				if ( eventLoopPoolOptions.getMaxSize() < eventLoopCount ) {
+					throw LOG.poolSizeLessThanEventLoopCount( eventLoopPoolOptions.getMaxSize(), eventLoopCount );
+				}
+				LOG.eventLoopAffinePools( eventLoopPoolOptions.getMaxSize(), eventLoopCount );
+				eventLoopPools = new ConcurrentHashMap<>();
+			}
+		}
+		else if ( pools == null ) {
 			pools = createPool( uri );
 		}
 	}
@@ -141,7 +173,48 @@ public CompletionStage<Void> getCloseFuture() {
 
 	@Override
 	protected Pool getPool() {
-		return pools;
+		return eventLoopPools == null ? pools : getEventLoopPool();
+	}
+
+	/**
+	 * The pool belonging to the event loop of the current Vert.x context,
+	 * or, when called from outside a Vert.x context, of the context which
+	 * Vert.x assigns to the current thread.
+	 */
+	private Pool getEventLoopPool() {
+		ContextInternal context = (ContextInternal) Vertx.currentContext();
+		if ( context == null ) {
+			context = (ContextInternal) vertx().getOrCreateContext();
+		}
+		return eventLoopPools.computeIfAbsent( context.nettyEventLoop(), loop -> createEventLoopPool() );
+	}
+
+	private Pool createEventLoopPool() {
+		SqlClientPoolConfiguration configuration = serviceRegistry.getService(SqlClientPoolConfiguration.class);
+		// the connections are shared out among the event loops, with
+		// the remainder going to the pools which are created first
+		int maxSize = eventLoopPoolOptions.getMaxSize();
+		int index = eventLoopPoolCount.getAndIncrement();
+		int poolSize = maxSize / eventLoopCount + ( index < maxSize % eventLoopCount ? 1 : 0 );
+		PoolOptions poolOptions = new PoolOptions( eventLoopPoolOptions ).setMaxSize( poolSize );
+		return createPool( uri, configuration.connectOptions( uri ), poolOptions, vertx() );
+	}
+
+	private static int eventLoopCount(Vertx vertx) {
+		int count = 0;
+		for ( EventExecutor ignored : ( (VertxInternal) vertx ).getEventLoopGroup() ) {
+			count++;
+		}
+		return Math.max( 1, count );
+	}
+
+	@Override
+	protected boolean isEventLoopConfined() {
+		return serviceRegistry.getService( Context.class ).isEventLoopConfined();
+	}
+
+	private Vertx vertx() {
+		return serviceRegistry.getService( VertxInstance.class ).getVertx();
 	}
 
 	@Override
@@ -236,6 +309,14 @@ public void stop() {
 		if ( pools != null ) {
 			this.closeFuture = pools.close();
 		}
+		if ( eventLoopPools != null ) {
+			List<Future> closed = new ArrayList<>( eventLoopPools.size() );
+			for ( Pool pool : eventLoopPools.values() ) {
+				closed.add( pool.close() );
+			}
+			eventLoopPools.clear();
+			this.closeFuture = CompositeFuture.join( closed ).mapEmpty();
+		}
 	}
 
 	public static URI parse(String url) {
@@ -33,19 +33,26 @@ final class ProxyConnection implements ReactiveConnection {
 	private boolean connected;
 	private boolean closed;
 	private final String tenantId;
+	private final boolean eventLoopConfined;
 
 	public ProxyConnection(ReactiveConnectionPool sqlClientPool) {
-		this.sqlClientPool = sqlClientPool;
-		tenantId = null;
+		this( sqlClientPool, null );
 	}
 
 	public ProxyConnection(ReactiveConnectionPool sqlClientPool, String tenantId) {
+		this( sqlClientPool, tenantId, true );
+	}
+
+	public ProxyConnection(ReactiveConnectionPool sqlClientPool, String tenantId, boolean eventLoopConfined) {
 		this.sqlClientPool = sqlClientPool;
 		this.tenantId = tenantId;
+		this.eventLoopConfined = eventLoopConfined;
 	}
 
 	private <T> CompletionStage<T> withConnection(Function<ReactiveConnection, CompletionStage<T>> operation) {
-		assertUseOnEventLoop();
+		if ( eventLoopConfined ) {
+			assertUseOnEventLoop();
+		}
 		if ( closed ) {
 			CompletableFuture<T> ret = new CompletableFuture<>();
 			ret.completeExceptionally( LOG.sessionIsClosed() );
@@ -149,6 +156,32 @@ public CompletionStage<Void> rollbackTransaction() {
 		return withConnection( ReactiveConnection::rollbackTransaction );
 	}
 
+	@Override
+	public boolean isTransactionInProgress() {
+		// a transaction can't be begun without a connection
+		return connection != null && connection.isTransactionInProgress();
+	}
+
+	@Override
+	public CompletionStage<Void> createTemporaryTable(String tableName, String createStatement) {
+		return withConnection( conn -> conn.createTemporaryTable( tableName, createStatement ) );
+	}
+
+	@Override
+	public CompletionStage<Void> setSavepoint(String name) {
+		return withConnection( conn -> conn.setSavepoint( name ) );
+	}
+
+	@Override
+	public CompletionStage<Void> rollbackToSavepoint(String name) {
+		return withConnection( conn -> conn.rollbackToSavepoint( name ) );
+	}
+
+	@Override
+	public CompletionStage<Void> releaseSavepoint(String name) {
+		return withConnection( conn -> conn.releaseSavepoint( name ) );
+	}
+
 	@Override
 	public CompletionStage<Void> executeBatch() {
 		return withConnection( ReactiveConnection::executeBatch );
@@ -12,15 +12,22 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 
 import io.vertx.sqlclient.data.NullValue;
+import org.hibernate.dialect.DB2Dialect;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.dialect.SQLServerDialect;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.stat.impl.ReactiveStatisticsImpl;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 import io.vertx.sqlclient.Pool;
@@ -32,6 +39,7 @@
 import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.SqlResult;
 import io.vertx.sqlclient.Transaction;
+import io.vertx.sqlclient.TransactionRollbackException;
 import io.vertx.sqlclient.Tuple;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
@@ -46,16 +54,55 @@ public class SqlClientConnection implements ReactiveConnection {
 	private static PropertyKind<Long> mySqlLastInsertedId;
 
 	private final SqlStatementLogger sqlStatementLogger;
+	private final ReactiveStatisticsImpl statistics;
 
 	private final Pool pool;
 	private final SqlConnection connection;
+	private final Dialect dialect;
 	private Transaction transaction;
 
+	/**
+	 * May a nested transaction be undone by rolling back to a savepoint?
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#NESTED_TRANSACTION_SAVEPOINTS
+	 */
+	private final boolean savepoints;
+
+	/**
+	 * Is there a PostgreSQL transaction, begun using SQL instead of
+	 * a Vert.x {@link Transaction}?
+	 *
+	 * @see #beginTransaction()
+	 */
+	private boolean sqlTransaction;
+
+	/**
+	 * Did a statement fail since the transaction began, or since the
+	 * last rollback to a savepoint?
+	 */
+	private boolean failed;
+
+	/**
+	 * The temporary tables known to exist on the physical connection,
+	 * shared by every {@code SqlClientConnection} which uses it.
+	 *
+	 * @see #createTemporaryTable(String, String)
+	 */
+	private final Set<String> temporaryTables;
+
 	SqlClientConnection(SqlConnection connection, Pool pool,
-						SqlStatementLogger sqlStatementLogger) {
+						SqlStatementLogger sqlStatementLogger,
+						ReactiveStatisticsImpl statistics,
+						Dialect dialect,
+						boolean savepoints,
+						Set<String> temporaryTables) {
 		this.pool = pool;
 		this.sqlStatementLogger = sqlStatementLogger;
+		this.statistics = statistics;
 		this.connection = connection;
+		this.dialect = dialect;
+		this.savepoints = savepoints;
+		this.temporaryTables = temporaryTables;
 	}
 
 	@Override
@@ -124,7 +171,10 @@ public CompletionStage<Void> execute(String sql) {
 	@Override
 	public CompletionStage<Void> executeUnprepared(String sql) {
 		feedback( sql );
+		final long start = startTime();
 		return client().query( sql ).execute().toCompletionStage()
+				.whenComplete( (result, failure) -> recordExecution( sql, start, result, failure, 0, 1 ) )
+				.whenComplete( this::recordFailure )
 				.thenCompose( CompletionStages::voidFuture );
 	}
 
@@ -176,22 +226,40 @@ public CompletionStage<Long> insertAndSelectIdentifier(String sql, Tuple paramet
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql, Tuple parameters) {
 		feedback( sql );
-		return client().preparedQuery( sql ).execute( parameters ).toCompletionStage();
+		final long start = startTime();
+		return client().preparedQuery( sql ).execute( parameters ).toCompletionStage()
+				.whenComplete( (result, failure) -> recordExecution( sql, start, result, failure, parameters.size(), 1 ) )
+				.whenComplete( this::recordFailure );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQueryBatch(String sql, List<Tuple> parameters) {
 		feedback( sql );
-		return client().preparedQuery( sql ).executeBatch( parameters ).toCompletionStage();
+		final long start = startTime();
+		return client().preparedQuery( sql ).executeBatch( parameters ).toCompletionStage()
+				.whenComplete( (result, failure) -> recordExecution(
+						sql,
+						start,
+						result,
+						failure,
+						parameters.isEmpty() ? 0 : parameters.get( 0 ).size(),
+						parameters.size()
+				) )
+				.whenComplete( this::recordFailure );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql) {
 		feedback( sql );
-		return client().preparedQuery( sql ).execute().toCompletionStage();
+		final long start = startTime();
+		return client().preparedQuery( sql ).execute().toCompletionStage()
+				.whenComplete( (result, failure) -> recordExecution( sql, start, result, failure, 0, 1 ) )
+				.whenComplete( this::recordFailure );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQueryOutsideTransaction(String sql) {
 		feedback( sql );
-		return pool.preparedQuery( sql ).execute().toCompletionStage();
+		final long start = startTime();
+		return pool.preparedQuery( sql ).execute().toCompletionStage()
+				.whenComplete( (result, failure) -> recordExecution( sql, start, result, failure, 0, 1 ) );
 	}
 
 	private void feedback(String sql) {
@@ -204,30 +272,177 @@ private void feedback(String sql) {
 		sqlStatementLogger.logStatement( sql, formatStyle.getFormatter() );
 	}
 
+	/**
+	 * The time at which a statement started executing, if it needs to
+	 * be timed, because slow statements are logged, or statistics are
+	 * enabled, or 0 otherwise.
+	 */
+	private long startTime() {
+		return sqlStatementLogger.getLogSlowQuery() > 0
+				|| statistics != null && statistics.isStatisticsEnabled()
+				? System.nanoTime()
+				: 0;
+	}
+
+	/**
+	 * Log the statement if it took longer than the threshold set by
+	 * {@link org.hibernate.cfg.AvailableSettings#LOG_SLOW_QUERY}, and
+	 * record its execution time in the statistics.
+	 */
+	private void recordExecution(String sql, long start, SqlResult<?> result, Throwable failure,
+								 int parameterCount, int batchSize) {
+		if ( start == 0 || failure != null ) {
+			return;
+		}
+		final long nanos = System.nanoTime() - start;
+		long rows = 0;
+		for ( SqlResult<?> next = result; next != null; next = next.next() ) {
+			rows += Math.max( next.size(), next.rowCount() );
+		}
+		final long threshold = sqlStatementLogger.getLogSlowQuery();
+		if ( threshold > 0 && TimeUnit.NANOSECONDS.toMillis( nanos ) >= threshold ) {
+			LOG.slowStatement( TimeUnit.NANOSECONDS.toMillis( nanos ), sql, parameterCount, batchSize, rows );
+		}
+		if ( statistics != null ) {
+			statistics.statementExecuted( sql, rows, nanos );
+		}
+	}
+
+	private void recordFailure(Object result, Throwable failure) {
+		if ( failure != null && ( transaction != null || sqlTransaction ) ) {
+			failed = true;
+		}
+	}
+
 	private SqlClient client() {
 		return connection;
 	}
 
 	@Override
 	public CompletionStage<Void> beginTransaction() {
+		if ( savepoints && isPostgreSQL() ) {
+			// The Vert.x client turns the commit of a PostgreSQL transaction
+			// in which a statement failed into a rollback, even when the
+			// failure was undone by a rollback to a savepoint, so when nested
+			// transactions may be undone, demarcate the transaction using SQL,
+			// and track failures ourselves
+			return transactionStatement( "begin" )
+					.thenAccept( v -> sqlTransaction = true );
+		}
 		return connection.begin().toCompletionStage()
 				.thenAccept( tx -> transaction = tx );
 	}
 
 	@Override
 	public CompletionStage<Void> commitTransaction() {
+		if ( sqlTransaction ) {
+			// PostgreSQL silently rolls back the commit of a transaction in
+			// which a failure wasn't undone, so roll back, and report it, as
+			// the Vert.x client does
+			return failed
+					? transactionStatement( "rollback" )
+							.whenComplete( (v, x) -> endTransaction( true ) )
+							.thenCompose( v -> CompletionStages.failedFuture( TransactionRollbackException.INSTANCE ) )
+					: transactionStatement( "commit" )
+							.whenComplete( (v, x) -> endTransaction( x != null ) );
+		}
+		// a failed commit means the transaction was rolled back
 		return transaction.commit().toCompletionStage()
-				.whenComplete( (v, x) -> transaction = null );
+				.whenComplete( (v, x) -> endTransaction( x != null ) );
 	}
 
 	@Override
 	public CompletionStage<Void> rollbackTransaction() {
+		if ( sqlTransaction ) {
+			return transactionStatement( "rollback" )
+					.whenComplete( (v, x) -> endTransaction( true ) );
+		}
 		return transaction.rollback().toCompletionStage()
-				.whenComplete( (v, x) -> transaction = null );
+				.whenComplete( (v, x) -> endTransaction( true ) );
+	}
+
+	@Override
+	public boolean isTransactionInProgress() {
+		return transaction != null || sqlTransaction;
+	}
+
+	@Override
+	public CompletionStage<Void> createTemporaryTable(String tableName, String createStatement) {
+		if ( temporaryTables.contains( tableName ) ) {
+			return voidFuture();
+		}
+		return executeUnprepared( createStatement )
+				.thenAccept( v -> temporaryTables.add( tableName ) );
+	}
+
+	private CompletionStage<Void> transactionStatement(String sql) {
+		return connection.query( sql ).execute().toCompletionStage()
+				.thenCompose( CompletionStages::voidFuture );
+	}
+
+	private void endTransaction(boolean rolledBack) {
+		if ( rolledBack ) {
+			// a temporary table created during the transaction
+			// doesn't survive the rollback on some databases
+			temporaryTables.clear();
+		}
+		transaction = null;
+		sqlTransaction = false;
+		failed = false;
+	}
+
+	@Override
+	public CompletionStage<Void> setSavepoint(String name) {
+		return executeUnprepared( isSqlServer()
+				? "save transaction " + name
+				: isDb2()
+						? "savepoint " + name + " on rollback retain cursors"
+						: "savepoint " + name );
+	}
+
+	@Override
+	public CompletionStage<Void> rollbackToSavepoint(String name) {
+		return executeUnprepared( isSqlServer()
+				? "rollback transaction " + name
+				: "rollback to savepoint " + name )
+				.thenAccept( v -> {
+					failed = false;
+					temporaryTables.clear();
+				} );
+	}
+
+	@Override
+	public CompletionStage<Void> releaseSavepoint(String name) {
+		// SQL Server has no way to release a savepoint,
+		// it's discarded when the transaction ends
+		return isSqlServer()
+				? voidFuture()
+				: executeUnprepared( "release savepoint " + name );
+	}
+
+	private boolean isSqlServer() {
+		return dialect instanceof SQLServerDialect;
+	}
+
+	private boolean isPostgreSQL() {
+		return dialect instanceof PostgreSQL81Dialect;
+	}
+
+	private boolean isDb2() {
+		return dialect instanceof DB2Dialect;
 	}
 
 	@Override
 	public CompletionStage<Void> close() {
+		if ( sqlTransaction ) {
+			// don't return a connection with an open transaction to the pool
+			return transactionStatement( "rollback" )
+					.handle( CompletionStages::ignoreErrors )
+					.thenCompose( v -> {
+						endTransaction( true );
+						return connection.close().toCompletionStage();
+					} );
+		}
 		return connection.close().toCompletionStage();
 	}
 
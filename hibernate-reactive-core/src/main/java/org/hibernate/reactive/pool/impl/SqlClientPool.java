@@ -5,14 +5,24 @@
  */
 package org.hibernate.reactive.pool.impl;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.stat.impl.ReactiveStatisticsImpl;
+import org.hibernate.reactive.tracing.impl.Tracing;
+import org.hibernate.reactive.tracing.impl.TracingConnection;
 
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.impl.SqlConnectionBase;
 
 
 /**
@@ -32,6 +42,17 @@
  */
 public abstract class SqlClientPool implements ReactiveConnectionPool {
 
+	private volatile ReactiveStatisticsImpl statistics;
+	private volatile Tracing tracing;
+	private volatile Dialect dialect;
+	private volatile boolean savepoints;
+
+	/**
+	 * The temporary tables created on each physical connection, which
+	 * outlives the {@link SqlConnection}s obtained from the Vert.x pool.
+	 */
+	private final Map<Object, Set<String>> temporaryTables = Collections.synchronizedMap( new WeakHashMap<>() );
+
 	/**
 	 * @return the underlying Vert.x {@link Pool} for the current context.
 	 */
@@ -73,18 +94,77 @@ private CompletionStage<ReactiveConnection> getConnectionFromPool(Pool pool) {
 		return pool.getConnection().toCompletionStage().thenApply( this::newConnection );
 	}
 
-	private SqlClientConnection newConnection(SqlConnection connection) {
-		return new SqlClientConnection( connection, getPool(), getSqlStatementLogger() );
+	private ReactiveConnection newConnection(SqlConnection connection) {
+		final SqlClientConnection sqlClientConnection =
+				new SqlClientConnection( connection, getPool(), getSqlStatementLogger(), statistics, dialect, savepoints,
+						temporaryTables( connection ) );
+		final Tracing tracing = this.tracing;
+		return tracing == null ? sqlClientConnection : new TracingConnection( sqlClientConnection, tracing );
+	}
+
+	private Set<String> temporaryTables(SqlConnection connection) {
+		// the Vert.x pool wraps its physical connection in a new
+		// SqlConnection each time the connection is obtained
+		final Object physicalConnection = connection instanceof SqlConnectionBase
+				? ( (SqlConnectionBase<?>) connection ).unwrap()
+				: connection;
+		return temporaryTables.computeIfAbsent( physicalConnection, c -> ConcurrentHashMap.newKeySet() );
+	}
+
+	/**
+	 * Record the execution of each SQL statement by a connection
+	 * obtained from this pool in the given statistics.
+	 */
+	public void setStatistics(ReactiveStatisticsImpl statistics) {
+		this.statistics = statistics;
+	}
+
+	/**
+	 * Use the SQL syntax of the given {@link Dialect} for transaction
+	 * demarcation and savepoints in each connection obtained from this
+	 * pool.
+	 */
+	public void setDialect(Dialect dialect) {
+		this.dialect = dialect;
+	}
+
+	/**
+	 * Prepare each connection obtained from this pool for nested
+	 * transactions undone by rolling back to a savepoint.
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#NESTED_TRANSACTION_SAVEPOINTS
+	 */
+	public void setNestedTransactionSavepoints(boolean savepoints) {
+		this.savepoints = savepoints;
+	}
+
+	/**
+	 * Trace the operations of each connection obtained from this pool.
+	 *
+	 * @see org.hibernate.reactive.tracing.Tracer
+	 */
+	public void setTracing(Tracing tracing) {
+		this.tracing = tracing;
+	}
+
+	/**
+	 * Must connections obtained from this pool be used on a Vert.x
+	 * event loop thread?
+	 *
+	 * @see org.hibernate.reactive.context.Context#isEventLoopConfined()
+	 */
+	protected boolean isEventLoopConfined() {
+		return true;
 	}
 
 	@Override
 	public ReactiveConnection getProxyConnection() {
-		return new ProxyConnection( this );
+		return new ProxyConnection( this, null, isEventLoopConfined() );
 	}
 
 	@Override
 	public ReactiveConnection getProxyConnection(String tenantId) {
-		return new ProxyConnection( this, tenantId );
+		return new ProxyConnection( this, tenantId, isEventLoopConfined() );
 	}
 
 }
@@ -57,6 +57,17 @@ public interface Settings extends AvailableSettings {
 	 */
 	String POOL_CLEANER_PERIOD = "hibernate.vertx.pool.cleaner_period";
 
+	/**
+	 * Property for enabling event-loop-affine connection pooling. When
+	 * enabled, each Vert.x event loop has its own connection pool, with
+	 * an equal share of the configured pool size, and a session always
+	 * obtains its connection from the pool belonging to the event loop
+	 * on which it runs. The pool size must be at least the number of
+	 * event loops. The default is {@code false}, meaning that all event
+	 * loops share one pool.
+	 */
+	String POOL_EVENT_LOOP_AFFINE = "hibernate.vertx.pool.event_loop_affine";
+
 	/**
 	 * Specifies a {@link org.hibernate.reactive.pool.impl.SqlClientPoolConfiguration} class.
 	 */
@@ -66,4 +77,135 @@ public interface Settings extends AvailableSettings {
 	 * Specifies a {@link org.hibernate.reactive.pool.impl.SqlClientPoolConfiguration} class.
 	 */
 	String SQL_CLIENT_POOL = "hibernate.vertx.pool.class";
+
+	/**
+	 * Property for configuring the maximum number of entries held by
+	 * each region of the {@link org.hibernate.reactive.cache.impl.InMemoryRegionFactory}.
+	 * May be overridden for a particular region by appending the region
+	 * name to the property name, for example
+	 * {@code hibernate.reactive.cache.max_entries.org.example.Book}.
+	 */
+	String CACHE_MAX_ENTRIES = "hibernate.reactive.cache.max_entries";
+
+	/**
+	 * Property for configuring the maximum estimated size, in bytes, of
+	 * each region of the {@link org.hibernate.reactive.cache.impl.InMemoryRegionFactory}.
+	 * May be overridden for a particular region in the same way as
+	 * {@link #CACHE_MAX_ENTRIES}.
+	 */
+	String CACHE_MAX_BYTES = "hibernate.reactive.cache.max_bytes";
+
+	/**
+	 * Property for configuring the time to live, in milliseconds, of
+	 * entries held by the {@link org.hibernate.reactive.cache.impl.InMemoryRegionFactory}.
+	 * May be overridden for a particular region in the same way as
+	 * {@link #CACHE_MAX_ENTRIES}.
+	 */
+	String CACHE_TIME_TO_LIVE = "hibernate.reactive.cache.time_to_live";
+
+	/**
+	 * Property for configuring the maximum number of groups of actions
+	 * affecting unrelated tables which are executed concurrently when a
+	 * session is flushed. The default is 1, meaning that all actions are
+	 * executed one after the other.
+	 */
+	String FLUSH_PARALLELISM = "hibernate.reactive.flush.parallelism";
+
+	/**
+	 * Property for configuring a threshold, in milliseconds, above which
+	 * a flush is logged as slow, along with its
+	 * {@link org.hibernate.reactive.stat.FlushStatistics}.
+	 */
+	String FLUSH_LOG_SLOWER_THAN = "hibernate.reactive.flush.log_slower_than";
+
+	/**
+	 * Property for enabling partial auto-flush. When enabled, an automatic
+	 * flush before a query executes only the actions affecting the queried
+	 * tables, or tables related to them by a foreign key, and leaves the
+	 * other changes to be flushed later. The default is {@code false}.
+	 */
+	String PARTIAL_AUTO_FLUSH = "hibernate.reactive.flush.partial_auto_flush";
+
+	/**
+	 * Property for enabling set-based updates in stateless sessions. When
+	 * enabled, each run of updates of instances of the same entity passed
+	 * to {@code updateAll()} is executed as a single {@code update}
+	 * statement, joining the table to a list of new values, on PostgreSQL
+	 * and CockroachDB. The default is {@code false}.
+	 */
+	String SET_BASED_UPDATE = "hibernate.reactive.stateless.set_based_update";
+
+	/**
+	 * Property for selecting how HQL {@code update} and {@code delete}
+	 * queries affecting multiple tables determine the affected rows.
+	 * <ul>
+	 * <li>{@code temporary_table}, the default, stores the identifiers of
+	 * the affected rows in a temporary table, or
+	 * <li>{@code cte} selects the identifiers in a {@code with} clause,
+	 * and updates or deletes the rows of every table in a single
+	 * statement, on PostgreSQL and CockroachDB, or
+	 * <li>{@code inline} first selects the identifiers, and lists them
+	 * in the statement updating or deleting the rows of each table,
+	 * falling back to a temporary table if there are more than
+	 * {@link #BULK_ID_INLINE_LIMIT} of them.
+	 * </ul>
+	 * If {@code cte} is selected on a database other than PostgreSQL or
+	 * CockroachDB, {@code temporary_table} is used instead.
+	 */
+	String BULK_ID_STRATEGY = "hibernate.reactive.bulk_id_strategy";
+
+	/**
+	 * Property for configuring the maximum number of rows affected by an
+	 * HQL {@code update} or {@code delete} query for which the identifiers
+	 * are listed in the SQL statements when {@link #BULK_ID_STRATEGY} is
+	 * {@code inline}. The default is 100.
+	 */
+	String BULK_ID_INLINE_LIMIT = "hibernate.reactive.bulk_id_strategy.inline_limit";
+
+	/**
+	 * Property for enabling savepoints for nested transactions. When
+	 * enabled, a call to {@code withTransaction()} for a session which
+	 * already has a transaction sets a savepoint, and, if the nested
+	 * work fails, undoes only the work done since the savepoint. The
+	 * default is {@code false}, meaning that the nested work simply
+	 * joins the existing transaction.
+	 * <p>
+	 * When the nested work is undone, the entities which became managed
+	 * during the nested work, or which were updated in the database by a
+	 * flush during the nested work, are detached. An entity deleted by a
+	 * flush during the nested work is not reattached, even though its row
+	 * is restored. Changes to other managed entities are not reverted.
+	 */
+	String NESTED_TRANSACTION_SAVEPOINTS = "hibernate.reactive.nested_transaction_savepoints";
+
+	/**
+	 * Property for configuring the maximum number of entities which may
+	 * belong to the persistence context of a session. When the limit is
+	 * exceeded, each flush detaches entities which are not referenced by
+	 * any other managed entity, beginning with the entities which have
+	 * been managed the longest, until the limit is respected. The default
+	 * is 0, meaning that there is no limit.
+	 */
+	String MAX_MANAGED_ENTITIES = "hibernate.reactive.max_managed_entities";
+
+	/**
+	 * Property for associating the current session with the logical task
+	 * which opened it, instead of with the current Vert.x context. When
+	 * enabled, the session factory may be called from any thread, for
+	 * example, from a virtual thread or from a thread belonging to an
+	 * arbitrary {@link java.util.concurrent.Executor}, and a session may
+	 * be used from any thread, as long as it is used by only one logical
+	 * task at a time. The default is {@code false}, meaning that every
+	 * reactive stream runs on a Vert.x event loop thread.
+	 *
+	 * @see org.hibernate.reactive.context.impl.ScopedContext
+	 */
+	String SCOPED_CONTEXT = "hibernate.reactive.context.scoped";
+
+	/**
+	 * Specifies a {@link org.hibernate.reactive.tracing.Tracer}, either
+	 * an instance, or the name of a class with a public no-arg
+	 * constructor. By default, operations are not traced.
+	 */
+	String TRACER = "hibernate.reactive.tracer";
 }
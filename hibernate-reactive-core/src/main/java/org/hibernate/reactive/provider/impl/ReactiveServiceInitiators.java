@@ -33,6 +33,7 @@
 import org.hibernate.reactive.id.impl.ReactiveIdentifierGeneratorFactoryInitiator;
 import org.hibernate.reactive.provider.service.ReactivePersisterClassResolverInitiator;
 import org.hibernate.reactive.pool.impl.ReactiveConnectionPoolInitiator;
+import org.hibernate.reactive.tracing.impl.TracerInitiator;
 import org.hibernate.reactive.vertx.impl.VertxInstanceInitiator;
 import org.hibernate.resource.beans.spi.ManagedBeanRegistryInitiator;
 import org.hibernate.resource.transaction.internal.TransactionCoordinatorBuilderInitiator;
@@ -71,6 +72,7 @@ private static List<StandardServiceInitiator> buildInitialServiceInitiatorList()
         // Exclusive to Hibernate Reactive:
         serviceInitiators.add( SqlClientPoolConfigurationInitiator.INSTANCE );
         serviceInitiators.add( ReactiveConnectionPoolInitiator.INSTANCE );
+        serviceInitiators.add( TracerInitiator.INSTANCE );
 
         //Custom for Hibernate Reactive:
         serviceInitiators.add( ReactiveSessionFactoryBuilderInitiator.INSTANCE );
@@ -0,0 +1,23 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.provider.impl;
+
+import org.hibernate.reactive.stat.impl.ReactiveStatisticsInitiator;
+import org.hibernate.service.spi.SessionFactoryServiceContributor;
+import org.hibernate.service.spi.SessionFactoryServiceRegistryBuilder;
+
+/**
+ * Contributes the services of a session factory which are customized
+ * by Hibernate Reactive. Each initiator falls back to the behavior of
+ * Hibernate ORM if the session factory is not reactive.
+ */
+public class ReactiveSessionFactoryServiceContributor implements SessionFactoryServiceContributor {
+
+	@Override
+	public void contribute(SessionFactoryServiceRegistryBuilder serviceRegistryBuilder) {
+		serviceRegistryBuilder.addInitiator( ReactiveStatisticsInitiator.INSTANCE );
+	}
+}
@@ -66,6 +66,8 @@ default CompletionStage<R> getReactiveSingleResultOrNull() {
 
 	ReactiveQuery<R> setFirstResult(int firstResult);
 
+	ReactiveQuery<R> setKeysetAfter(Object... lastKey);
+
 	int getMaxResults();
 
 	int getFirstResult();
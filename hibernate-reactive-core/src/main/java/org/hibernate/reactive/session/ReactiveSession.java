@@ -70,6 +70,23 @@ public interface ReactiveSession extends ReactiveQueryExecutor {
 
 	CompletionStage<Void> reactiveAutoflush();
 
+	/**
+	 * Flush the session, and set a savepoint with the given name.
+	 */
+	CompletionStage<Void> reactiveSetSavepoint(String name);
+
+	/**
+	 * Roll back to the savepoint with the given name, discarding the
+	 * actions not yet executed, and detaching the entities which became
+	 * managed, or were updated in the database, after the savepoint was
+	 * set.
+	 */
+	CompletionStage<Void> reactiveRollbackToSavepoint(String name);
+
+	CompletionStage<Void> reactiveReleaseSavepoint(String name);
+
+	boolean isNestedTransactionSavepointEnabled();
+
 	CompletionStage<Void> reactiveRefresh(Object entity, LockOptions lockMode);
 
 	CompletionStage<Void> reactiveRefresh(Object child, IdentitySet refreshedAlready);
@@ -100,6 +117,10 @@ <T> CompletionStage<T> reactiveFind(Class<T> entityClass, Object id,
 	Integer getBatchSize();
 	void setBatchSize(Integer batchSize);
 
+	Integer getMaxManagedEntities();
+	void setMaxManagedEntities(Integer maxManagedEntities);
+	int evictExcessEntities();
+
 	<T> T getReference(Class<T> entityClass, Object id);
 
 	void detach(Object entity);
@@ -35,6 +35,8 @@ public interface ReactiveStatelessSession extends ReactiveQueryExecutor {
 
     CompletionStage<Void> reactiveUpdate(Object entity);
 
+    CompletionStage<Void> reactiveUpsert(Object entity);
+
     CompletionStage<Void> reactiveRefresh(Object entity);
 
     CompletionStage<Void> reactiveRefresh(Object entity, LockMode lockMode);
@@ -43,6 +45,8 @@ public interface ReactiveStatelessSession extends ReactiveQueryExecutor {
 
     CompletionStage<Void> reactiveUpdateAll(Object... entities);
 
+    CompletionStage<Void> reactiveUpsertAll(Object... entities);
+
     CompletionStage<Void> reactiveDeleteAll(Object... entities);
 
     CompletionStage<Void> reactiveRefreshAll(Object... entities);
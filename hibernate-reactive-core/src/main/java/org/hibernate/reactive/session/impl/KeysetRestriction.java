@@ -0,0 +1,315 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.TypedValue;
+import org.hibernate.hql.internal.antlr.HqlTokenTypes;
+import org.hibernate.hql.internal.ast.HqlParser;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+
+import antlr.RecognitionException;
+import antlr.TokenStreamException;
+import antlr.collections.AST;
+
+/**
+ * Restricts an HQL query with an {@code order by} clause so that it
+ * returns only results which come after a given key, for keyset (seek)
+ * pagination.
+ * <p>
+ * For {@code order by a, b desc}, and the key {@code (x, y)}, the
+ * restriction added to the {@code where} clause is
+ * <pre>
+ * a >= x and (a > x or (a = x and b &lt; y))
+ * </pre>
+ * where the redundant first condition allows the database to use an
+ * index on the leading item of the {@code order by} as a range scan.
+ * <p>
+ * The restriction is built from the items of the {@code order by}
+ * clause of the parsed query, each of which must be a path to an
+ * attribute, or the alias of such a path in the {@code select} clause.
+ *
+ * @see ReactiveQueryImpl#setKeysetAfter(Object...)
+ */
+final class KeysetRestriction {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String PARAMETER_PREFIX = "hr_keyset_";
+
+	private final String[] paths;
+	private final boolean[] descending;
+	private final Object[] key;
+
+	private KeysetRestriction(String[] paths, boolean[] descending, Object[] key) {
+		this.paths = paths;
+		this.descending = descending;
+		this.key = key;
+	}
+
+	/**
+	 * Parse the given HQL query, and validate its {@code order by}
+	 * clause against the given key.
+	 *
+	 * @throws IllegalStateException if the query is not a select query
+	 * @throws IllegalArgumentException if the query can't be restricted
+	 *         to results which come after the given key
+	 */
+	static KeysetRestriction create(String hql, Object[] key) {
+		for ( int i = 0; i < key.length; i++ ) {
+			if ( key[i] == null ) {
+				throw LOG.nullKeysetValue( i );
+			}
+		}
+
+		final AST query = parse( hql );
+		if ( query.getType() != HqlTokenTypes.QUERY ) {
+			throw LOG.keysetPaginationRequiresSelectQuery();
+		}
+		AST select = null;
+		AST orderBy = null;
+		for ( AST clause = query.getFirstChild(); clause != null; clause = clause.getNextSibling() ) {
+			switch ( clause.getType() ) {
+				case HqlTokenTypes.SELECT_FROM:
+					select = child( clause, HqlTokenTypes.SELECT );
+					break;
+				case HqlTokenTypes.GROUP:
+					throw LOG.keysetPaginationNotSupported( hql );
+				case HqlTokenTypes.ORDER:
+					orderBy = clause;
+					break;
+			}
+		}
+		if ( orderBy == null ) {
+			throw LOG.keysetPaginationRequiresOrderBy( hql );
+		}
+
+		final List<String> paths = new ArrayList<>();
+		final List<Boolean> descending = new ArrayList<>();
+		for ( AST item = orderBy.getFirstChild(); item != null; item = item.getNextSibling() ) {
+			switch ( item.getType() ) {
+				case HqlTokenTypes.ASCENDING:
+					break;
+				case HqlTokenTypes.DESCENDING:
+					descending.set( descending.size() - 1, true );
+					break;
+				case HqlTokenTypes.NULLS:
+					throw LOG.keysetPaginationNotSupported( hql );
+				default:
+					final String path = path( resolveAlias( item, select ) );
+					if ( path == null ) {
+						throw LOG.keysetOrderByItemNotSupported( hql );
+					}
+					paths.add( path );
+					descending.add( false );
+			}
+		}
+		if ( paths.size() != key.length ) {
+			throw LOG.keysetSizeDoesNotMatchOrderBy( key.length, paths.size() );
+		}
+
+		final boolean[] descendingArray = new boolean[descending.size()];
+		for ( int i = 0; i < descendingArray.length; i++ ) {
+			descendingArray[i] = descending.get( i );
+		}
+		return new KeysetRestriction( paths.toArray( new String[0] ), descendingArray, key.clone() );
+	}
+
+	private static AST parse(String hql) {
+		final HqlParser parser = HqlParser.getInstance( hql );
+		try {
+			parser.statement();
+		}
+		catch (RecognitionException | TokenStreamException e) {
+			throw new IllegalArgumentException( e );
+		}
+		parser.getParseErrorHandler().throwQueryException();
+		return parser.getAST();
+	}
+
+	private static AST child(AST node, int type) {
+		for ( AST child = node.getFirstChild(); child != null; child = child.getNextSibling() ) {
+			if ( child.getType() == type ) {
+				return child;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return the aliased expression, if the given item of the
+	 *         {@code order by} is an alias defined in the {@code select},
+	 *         or the item itself otherwise
+	 */
+	private static AST resolveAlias(AST item, AST select) {
+		if ( item.getType() == HqlTokenTypes.IDENT && select != null ) {
+			for ( AST selection = select.getFirstChild(); selection != null; selection = selection.getNextSibling() ) {
+				if ( selection.getType() == HqlTokenTypes.AS ) {
+					final AST expression = selection.getFirstChild();
+					if ( item.getText().equals( expression.getNextSibling().getText() ) ) {
+						return expression;
+					}
+				}
+			}
+		}
+		return item;
+	}
+
+	/**
+	 * @return the given expression as HQL, if it is a path, or
+	 *         {@code null} if it isn't
+	 */
+	private static String path(AST expression) {
+		switch ( expression.getType() ) {
+			case HqlTokenTypes.IDENT:
+				return expression.getText();
+			case HqlTokenTypes.DOT:
+				final AST left = expression.getFirstChild();
+				final AST right = left.getNextSibling();
+				final String qualifier = path( left );
+				return qualifier == null || right.getType() != HqlTokenTypes.IDENT
+						? null
+						: qualifier + '.' + right.getText();
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * @return the given HQL query, which must be the query passed to
+	 *         {@link #create}, after expansion of any list parameters,
+	 *         restricted to results after the key, which must be bound
+	 *         using {@link #parameterBindings}
+	 */
+	String restrict(String hql) {
+		final Clauses clauses = new Clauses( hql );
+		if ( clauses.orderBy < 0 ) {
+			throw LOG.keysetPaginationRequiresOrderBy( hql );
+		}
+
+		final String restriction = restriction();
+		if ( clauses.where >= 0 ) {
+			final int whereStart = clauses.where + "where".length();
+			return hql.substring( 0, clauses.where )
+					+ "where (" + hql.substring( whereStart, clauses.orderBy ).trim() + ") and "
+					+ restriction + " "
+					+ hql.substring( clauses.orderBy );
+		}
+		else {
+			return hql.substring( 0, clauses.orderBy )
+					+ "where " + restriction + " "
+					+ hql.substring( clauses.orderBy );
+		}
+	}
+
+	/**
+	 * @return the bindings of the parameters which occur in the
+	 *         restriction returned by {@link #restrict}
+	 */
+	Map<String, TypedValue> parameterBindings(SessionFactoryImplementor factory) {
+		final Map<String, TypedValue> bindings = new HashMap<>();
+		for ( int i = 0; i < key.length; i++ ) {
+			bindings.put( PARAMETER_PREFIX + i, new TypedValue( factory.resolveParameterBindType( key[i] ), key[i] ) );
+		}
+		return bindings;
+	}
+
+	private String restriction() {
+		final StringBuilder seek = new StringBuilder( "(" );
+		for ( int i = 0; i < paths.length; i++ ) {
+			if ( i > 0 ) {
+				seek.append( " or " );
+			}
+			seek.append( '(' );
+			for ( int j = 0; j < i; j++ ) {
+				seek.append( paths[j] ).append( " = :" ).append( PARAMETER_PREFIX ).append( j ).append( " and " );
+			}
+			seek.append( paths[i] )
+					.append( descending[i] ? " < :" : " > :" )
+					.append( PARAMETER_PREFIX ).append( i )
+					.append( ')' );
+		}
+		seek.append( ')' );
+		if ( paths.length == 1 ) {
+			return seek.toString();
+		}
+		else {
+			return "(" + paths[0]
+					+ ( descending[0] ? " <= :" : " >= :" ) + PARAMETER_PREFIX + 0
+					+ " and " + seek + ")";
+		}
+	}
+
+	private static int endOfLiteral(String hql, int start) {
+		for ( int i = start + 1; i < hql.length(); i++ ) {
+			if ( hql.charAt( i ) == '\'' ) {
+				if ( i + 1 < hql.length() && hql.charAt( i + 1 ) == '\'' ) {
+					// escaped quote
+					i++;
+				}
+				else {
+					return i;
+				}
+			}
+		}
+		return hql.length();
+	}
+
+	/**
+	 * The positions of the {@code where} and {@code order by} clauses
+	 * of the outermost query, ignoring subqueries and string literals.
+	 */
+	private static class Clauses {
+		int where = -1;
+		int orderBy = -1;
+
+		Clauses(String hql) {
+			int depth = 0;
+			for ( int i = 0; i < hql.length(); i++ ) {
+				final char c = hql.charAt( i );
+				if ( c == '\'' ) {
+					i = endOfLiteral( hql, i );
+				}
+				else if ( c == '(' ) {
+					depth++;
+				}
+				else if ( c == ')' ) {
+					depth--;
+				}
+				else if ( depth == 0 && Character.isLetter( c )
+						&& ( i == 0 || !Character.isJavaIdentifierPart( hql.charAt( i - 1 ) ) && hql.charAt( i - 1 ) != '.' ) ) {
+					if ( isKeyword( hql, i, "where" ) ) {
+						where = i;
+					}
+					else if ( isKeyword( hql, i, "order" ) && isFollowedByBy( hql, i + "order".length() ) ) {
+						orderBy = i;
+					}
+				}
+			}
+		}
+
+		private static boolean isKeyword(String hql, int start, String keyword) {
+			final int end = start + keyword.length();
+			return hql.regionMatches( true, start, keyword, 0, keyword.length() )
+					&& ( end == hql.length() || !Character.isJavaIdentifierPart( hql.charAt( end ) ) );
+		}
+
+		private static boolean isFollowedByBy(String hql, int start) {
+			int i = start;
+			while ( i < hql.length() && Character.isWhitespace( hql.charAt( i ) ) ) {
+				i++;
+			}
+			return i > start && isKeyword( hql, i, "by" );
+		}
+	}
+}
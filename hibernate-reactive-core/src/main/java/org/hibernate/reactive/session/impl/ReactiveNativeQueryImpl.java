@@ -16,6 +16,8 @@
 import org.hibernate.query.ParameterMetadata;
 import org.hibernate.query.criteria.internal.compile.InterpretedParameterMetadata;
 import org.hibernate.query.internal.NativeQueryImpl;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.session.ReactiveNativeQuery;
 import org.hibernate.reactive.session.ReactiveQuery;
 import org.hibernate.reactive.session.ReactiveQueryExecutor;
@@ -23,6 +25,7 @@
 
 import javax.persistence.EntityGraph;
 import javax.persistence.Parameter;
+import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 
@@ -37,6 +40,8 @@
  */
 public class ReactiveNativeQueryImpl<R> extends NativeQueryImpl<R> implements ReactiveNativeQuery<R> {
 
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	public ReactiveNativeQueryImpl(
 			NamedSQLQueryDefinition queryDef,
 			SharedSessionContractImplementor session,
@@ -75,6 +80,11 @@ public ReactiveNativeQueryImpl<R> setResultSetMapping(String name) {
 		return this;
 	}
 
+	@Override
+	public ReactiveNativeQueryImpl<R> setKeysetAfter(Object... lastKey) {
+		throw LOG.keysetPaginationRequiresSelectQuery();
+	}
+
 	@Override
 	public CompletionStage<R> getReactiveSingleResult() {
 		return getReactiveResultList().thenApply( list -> extractUniqueResult( list, this ) );
@@ -13,6 +13,7 @@
 import org.hibernate.engine.query.spi.HQLQueryPlan;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.TypedValue;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.RootGraph;
 import org.hibernate.query.criteria.internal.compile.ExplicitParameterInfo;
@@ -26,6 +27,7 @@
 import javax.persistence.Parameter;
 import javax.persistence.criteria.ParameterExpression;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
@@ -49,6 +51,7 @@
 	private EntityGraphQueryHint entityGraphQueryHint;
 	private Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap;
 	private final QueryType type;
+	private KeysetRestriction keysetRestriction;
 
 	private static QueryType queryType(String queryString) {
 		queryString = queryString.trim().toLowerCase();
@@ -127,8 +130,18 @@ private CompletionStage<List<R>> doReactiveList() {
 	//		}
 
 			String expanded = expandedQuery();
-			return reactiveProducer()
-					.reactiveList( expanded, makeReactiveQueryParametersForExecution(expanded) );
+			if ( keysetRestriction == null ) {
+				return reactiveProducer()
+						.reactiveList( expanded, makeReactiveQueryParametersForExecution(expanded) );
+			}
+			else {
+				String restricted = keysetRestriction.restrict( expanded );
+				QueryParameters queryParameters = makeReactiveQueryParametersForExecution( restricted );
+				Map<String, TypedValue> namedParameters = new HashMap<>( queryParameters.getNamedParameters() );
+				namedParameters.putAll( keysetRestriction.parameterBindings( getProducer().getFactory() ) );
+				queryParameters.setNamedParameters( namedParameters );
+				return reactiveProducer().reactiveList( restricted, queryParameters );
+			}
 		}
 	}
 
@@ -216,6 +229,14 @@ public ReactiveQueryImpl<R> setFirstResult(int firstResult) {
 		return this;
 	}
 
+	@Override
+	public ReactiveQueryImpl<R> setKeysetAfter(Object... lastKey) {
+		keysetRestriction = lastKey == null || lastKey.length == 0
+				? null
+				: KeysetRestriction.create( getQueryString(), lastKey );
+		return this;
+	}
+
 	@Override
 	public ReactiveQueryImpl<R> setReadOnly(boolean readOnly) {
 		super.setReadOnly(readOnly);
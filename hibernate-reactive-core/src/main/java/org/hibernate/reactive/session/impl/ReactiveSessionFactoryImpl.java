@@ -8,10 +8,18 @@
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.blocking.Blocking;
+import org.hibernate.reactive.blocking.impl.BlockingSessionFactoryImpl;
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.mutiny.impl.MutinySessionFactoryImpl;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.pool.impl.SqlClientPool;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.stage.Stage;
 import org.hibernate.reactive.stage.impl.StageSessionFactoryImpl;
+import org.hibernate.reactive.stat.impl.ReactiveStatisticsImpl;
+import org.hibernate.reactive.tracing.impl.Tracing;
 import org.hibernate.type.LocalDateTimeType;
 import org.hibernate.type.LocalDateType;
 import org.hibernate.type.LocalTimeType;
@@ -25,12 +33,16 @@
 
 /**
  * A Hibernate {@link org.hibernate.SessionFactory} that can be
- * unwrapped to produce a {@link Stage.SessionFactory} or a
- * {@link Mutiny.SessionFactory}.
+ * unwrapped to produce a {@link Stage.SessionFactory}, a
+ * {@link Mutiny.SessionFactory}, or a {@link Blocking.SessionFactory}.
  */
 public class ReactiveSessionFactoryImpl extends SessionFactoryImpl {
+
+	private final Tracing tracing;
+
 	public ReactiveSessionFactoryImpl(MetadataImplementor metadata, SessionFactoryOptions options) {
 		super( metadata, options, ReactiveHQLQueryPlan::new ); //TODO: pass ReactiveNativeHQLQueryPlan::new
+		tracing = Tracing.of( getServiceRegistry() );
 
 		Map<Integer, Set<String>> contributions =
 				getMetamodel().getTypeConfiguration().getJdbcToHibernateTypeContributionMap();
@@ -40,6 +52,29 @@ public ReactiveSessionFactoryImpl(MetadataImplementor metadata, SessionFactoryOp
 		contributions.put( Types.TIME, singleton( LocalTimeType.class.getName() ) );
 		contributions.put( Types.DATE, singleton( LocalDateType.class.getName() ) );
 		contributions.put( Types.JAVA_OBJECT, singleton( ObjectType.class.getName() ) );
+
+		ReactiveConnectionPool pool = getServiceRegistry().getService( ReactiveConnectionPool.class );
+		if ( pool instanceof SqlClientPool ) {
+			SqlClientPool sqlClientPool = (SqlClientPool) pool;
+			if ( getStatistics() instanceof ReactiveStatisticsImpl ) {
+				sqlClientPool.setStatistics( (ReactiveStatisticsImpl) getStatistics() );
+			}
+			sqlClientPool.setTracing( tracing );
+			sqlClientPool.setDialect( getJdbcServices().getDialect() );
+			sqlClientPool.setNestedTransactionSavepoints( ConfigurationHelper.getBoolean(
+					Settings.NESTED_TRANSACTION_SAVEPOINTS,
+					getProperties(),
+					false
+			) );
+		}
+	}
+
+	/**
+	 * @return the {@link Tracing} shared by every session of this
+	 * factory, or {@code null} if no tracer is configured
+	 */
+	public Tracing getTracing() {
+		return tracing;
 	}
 
 	@Override
@@ -50,6 +85,9 @@ public <T> T unwrap(Class<T> type) {
 		if ( type.isAssignableFrom(Mutiny.SessionFactory.class) ) {
 			return type.cast( new MutinySessionFactoryImpl( this ) );
 		}
+		if ( type.isAssignableFrom(Blocking.SessionFactory.class) ) {
+			return type.cast( new BlockingSessionFactoryImpl( this ) );
+		}
 		return super.unwrap(type);
 	}
 }
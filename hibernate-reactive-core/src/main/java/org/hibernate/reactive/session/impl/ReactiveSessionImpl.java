@@ -7,6 +7,10 @@
 
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -65,9 +69,11 @@
 import org.hibernate.internal.SessionFactoryImpl;
 import org.hibernate.internal.SessionImpl;
 import org.hibernate.internal.util.collections.IdentitySet;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.jpa.spi.CriteriaQueryTupleTransformer;
 import org.hibernate.jpa.spi.NativeQueryTupleTransformer;
 import org.hibernate.loader.custom.sql.SQLCustomQuery;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.MultiLoadOptions;
 import org.hibernate.pretty.MessageHelper;
@@ -76,6 +82,7 @@
 import org.hibernate.query.ParameterMetadata;
 import org.hibernate.reactive.common.InternalStateAssertions;
 import org.hibernate.reactive.common.ResultSetMapping;
+import org.hibernate.reactive.context.Context;
 import org.hibernate.reactive.engine.ReactiveActionQueue;
 import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
 import org.hibernate.reactive.event.ReactiveDeleteEventListener;
@@ -94,12 +101,15 @@
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.pool.BatchingConnection;
 import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.session.Criteria;
 import org.hibernate.reactive.session.CriteriaQueryOptions;
 import org.hibernate.reactive.session.ReactiveNativeQuery;
 import org.hibernate.reactive.session.ReactiveQuery;
 import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.tracing.impl.Tracing;
 import org.hibernate.reactive.util.impl.CompletionStages;
+import org.hibernate.type.Type;
 
 
 import static org.hibernate.engine.spi.PersistenceContext.NaturalIdHelper.INVALID_NATURAL_ID_REFERENCE;
@@ -120,22 +130,46 @@
 public class ReactiveSessionImpl extends SessionImpl implements ReactiveSession, EventSource {
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private transient final ReactiveActionQueue reactiveActionQueue = new ReactiveActionQueue( this );
 	private final ReactiveConnection reactiveConnection;
 	private final Thread associatedWorkThread;
+	private final Tracing tracing;
 
 	//Lazily initialized
+	private transient ReactiveActionQueue reactiveActionQueue;
 	private transient ExceptionConverter exceptionConverter;
+	private transient Boolean nestedTransactionSavepoints;
+	private transient Integer maxManagedEntities;
+	private transient boolean managedEntityLimitReached;
+
+	/**
+	 * The entities belonging to the persistence context when each
+	 * savepoint was set, with their loaded state at that time, keyed
+	 * by the name of the savepoint.
+	 */
+	private transient Map<String, Map<Object, Object[]>> savepoints;
 
 	public ReactiveSessionImpl(SessionFactoryImpl delegate, SessionCreationOptions options,
 							   ReactiveConnection connection) {
 		super( delegate, options );
-		InternalStateAssertions.assertUseOnEventLoop();
-		this.associatedWorkThread = Thread.currentThread();
+		this.tracing = delegate instanceof ReactiveSessionFactoryImpl
+				? ( (ReactiveSessionFactoryImpl) delegate ).getTracing()
+				: null;
+		if ( delegate.getServiceRegistry().getService( Context.class ).isEventLoopConfined() ) {
+			InternalStateAssertions.assertUseOnEventLoop();
+			this.associatedWorkThread = Thread.currentThread();
+		}
+		else {
+			// the session may migrate between threads, but it may
+			// only be used by one logical task at a time
+			this.associatedWorkThread = null;
+		}
 		//matches configuration property "hibernate.jdbc.batch_size" :
 		int batchSize = delegate.getSessionFactoryOptions().getJdbcBatchSize();
-		reactiveConnection = batchSize<2 ? connection :
-				new BatchingConnection( connection, batchSize );
+		ReactiveConnection countingConnection = ReactiveActionQueue.isStatementCountingEnabled( delegate )
+				? getReactiveActionQueue().countStatements( connection )
+				: connection;
+		reactiveConnection = batchSize<2 ? countingConnection :
+				new BatchingConnection( countingConnection, batchSize );
 	}
 
 	@Override
@@ -150,7 +184,9 @@ public Dialect getDialect() {
 	}
 
 	private void threadCheck() {
-		InternalStateAssertions.assertCurrentThreadMatches( associatedWorkThread );
+		if ( associatedWorkThread != null ) {
+			InternalStateAssertions.assertCurrentThreadMatches( associatedWorkThread );
+		}
 	}
 
 	@Override
@@ -161,6 +197,9 @@ protected StatefulPersistenceContext createPersistenceContext() {
 	@Override
 	public ReactiveActionQueue getReactiveActionQueue() {
 		threadCheck();
+		if ( reactiveActionQueue == null ) {
+			reactiveActionQueue = new ReactiveActionQueue( this, tracing );
+		}
 		return reactiveActionQueue;
 	}
 
@@ -430,6 +469,12 @@ private <T> ReactiveHQLQueryPlan<T> getReactivePlan(String query, QueryParameter
 
 	@Override
 	public <T> CompletionStage<List<T>> reactiveList(String query, QueryParameters parameters) throws HibernateException {
+		return tracing == null
+				? doReactiveList( query, parameters )
+				: tracing.traceScope( "query", query, () -> doReactiveList( query, parameters ) );
+	}
+
+	private <T> CompletionStage<List<T>> doReactiveList(String query, QueryParameters parameters) {
 		checkOpenOrWaitingForAutoClose();
 		pulseTransactionCoordinator();
 		parameters.validateParameters();
@@ -448,6 +493,12 @@ public <T> CompletionStage<List<T>> reactiveList(String query, QueryParameters p
 
 	@Override
 	public <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters) {
+		return tracing == null
+				? doReactiveList( spec, parameters )
+				: tracing.traceScope( "query", spec.getQueryString(), () -> doReactiveList( spec, parameters ) );
+	}
+
+	private <T> CompletionStage<List<T>> doReactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters) {
 		checkOpenOrWaitingForAutoClose();
 		checkTransactionSynchStatus();
 
@@ -616,6 +667,12 @@ private ReactiveHQLQueryPlan<Void> getReactivePlan(String query) {
 
 	@Override
 	public CompletionStage<Integer> executeReactiveUpdate(String query, QueryParameters parameters) {
+		return tracing == null
+				? doExecuteReactiveUpdate( query, parameters )
+				: tracing.traceScope( "execute update", query, () -> doExecuteReactiveUpdate( query, parameters ) );
+	}
+
+	private CompletionStage<Integer> doExecuteReactiveUpdate(String query, QueryParameters parameters) {
 		checkOpenOrWaitingForAutoClose();
 		pulseTransactionCoordinator();
 		parameters.validateParameters();
@@ -633,6 +690,14 @@ public CompletionStage<Integer> executeReactiveUpdate(String query, QueryParamet
 	@Override
 	public CompletionStage<Integer> executeReactiveUpdate(NativeSQLQuerySpecification specification,
 														  QueryParameters parameters) {
+		return tracing == null
+				? doExecuteReactiveUpdate( specification, parameters )
+				: tracing.traceScope( "execute update", specification.getQueryString(),
+						() -> doExecuteReactiveUpdate( specification, parameters ) );
+	}
+
+	private CompletionStage<Integer> doExecuteReactiveUpdate(NativeSQLQuerySpecification specification,
+															 QueryParameters parameters) {
 		checkOpenOrWaitingForAutoClose();
 		pulseTransactionCoordinator();
 		parameters.validateParameters();
@@ -870,7 +935,7 @@ else if (e instanceof RuntimeException) {
 	@Override
 	public CompletionStage<Void> reactiveFlush() {
 		checkOpen();
-		return doFlush();
+		return tracing == null ? doFlush() : tracing.traceScope( "flush", null, this::doFlush );
 	}
 
 	@Override
@@ -878,6 +943,83 @@ public CompletionStage<Void> reactiveAutoflush() {
 		return getHibernateFlushMode().lessThan( FlushMode.COMMIT ) ? voidFuture() : doFlush();
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveSetSavepoint(String name) {
+		checkOpen();
+		return reactiveAutoflush()
+				.thenCompose( v -> getReactiveConnection().setSavepoint( name ) )
+				.thenAccept( v -> {
+					if ( savepoints == null ) {
+						savepoints = new HashMap<>();
+					}
+					Map.Entry<Object, EntityEntry>[] entries =
+							getPersistenceContextInternal().reentrantSafeEntityEntries();
+					Map<Object, Object[]> loadedStates = new IdentityHashMap<>( entries.length );
+					for ( Map.Entry<Object, EntityEntry> entry : entries ) {
+						// the loaded state is replaced, not modified, when the entity is updated
+						loadedStates.put( entry.getKey(), entry.getValue().getLoadedState() );
+					}
+					savepoints.put( name, loadedStates );
+				} );
+	}
+
+	@Override
+	public CompletionStage<Void> reactiveRollbackToSavepoint(String name) {
+		checkOpen();
+		// the actions not yet executed belong to the work being undone
+		if ( reactiveActionQueue != null ) {
+			reactiveActionQueue.clear();
+		}
+		Map<Object, Object[]> loadedStates = savepoints == null ? null : savepoints.remove( name );
+		if ( loadedStates != null ) {
+			restoreEntities( loadedStates );
+		}
+		return getReactiveConnection().rollbackToSavepoint( name );
+	}
+
+	/**
+	 * Detach the entities which became managed after the savepoint was
+	 * set, and the entities which were updated in the database after it
+	 * was set, whose state and version no longer match the database, and
+	 * rescue the entities which were scheduled for deletion.
+	 */
+	private void restoreEntities(Map<Object, Object[]> loadedStates) {
+		for ( Map.Entry<Object, EntityEntry> entry : getPersistenceContextInternal().reentrantSafeEntityEntries() ) {
+			final Object entity = entry.getKey();
+			if ( !loadedStates.containsKey( entity )
+					|| loadedStates.get( entity ) != entry.getValue().getLoadedState() ) {
+				if ( getPersistenceContextInternal().isEntryFor( entity ) ) {
+					// not already detached by a cascade
+					detach( entity );
+				}
+			}
+			else if ( entry.getValue().getStatus() == Status.DELETED ) {
+				entry.getValue().setStatus( Status.MANAGED );
+			}
+		}
+	}
+
+	@Override
+	public CompletionStage<Void> reactiveReleaseSavepoint(String name) {
+		checkOpen();
+		if ( savepoints != null ) {
+			savepoints.remove( name );
+		}
+		return getReactiveConnection().releaseSavepoint( name );
+	}
+
+	@Override
+	public boolean isNestedTransactionSavepointEnabled() {
+		if ( nestedTransactionSavepoints == null ) {
+			nestedTransactionSavepoints = ConfigurationHelper.getBoolean(
+					Settings.NESTED_TRANSACTION_SAVEPOINTS,
+					getFactory().getProperties(),
+					false
+			);
+		}
+		return nestedTransactionSavepoints;
+	}
+
 	private CompletionStage<Void> doFlush() {
 		checkTransactionNeededForUpdateOperation( "no transaction is in progress" );
 		pulseTransactionCoordinator();
@@ -1004,6 +1146,17 @@ public <T> CompletionStage<T> reactiveFind(
 			Object id,
 			LockOptions lockOptions,
 			EntityGraph<T> fetchGraph) {
+		return tracing == null
+				? doReactiveFind( entityClass, id, lockOptions, fetchGraph )
+				: tracing.traceScope( "find", entityClass.getName(),
+						() -> doReactiveFind( entityClass, id, lockOptions, fetchGraph ) );
+	}
+
+	private <T> CompletionStage<T> doReactiveFind(
+			Class<T> entityClass,
+			Object id,
+			LockOptions lockOptions,
+			EntityGraph<T> fetchGraph) {
 		checkOpen();
 
 		if ( fetchGraph!=null ) {
@@ -1063,7 +1216,10 @@ public <T> CompletionStage<T> reactiveFind(
 
 	@Override
 	public <T> CompletionStage<List<T>> reactiveFind(Class<T> entityClass, Object... ids) {
-		return new ReactiveMultiIdentifierLoadAccessImpl<>(entityClass).multiLoad(ids);
+		return tracing == null
+				? new ReactiveMultiIdentifierLoadAccessImpl<>(entityClass).multiLoad(ids)
+				: tracing.traceScope( "find", entityClass.getName(),
+						() -> new ReactiveMultiIdentifierLoadAccessImpl<>(entityClass).multiLoad(ids) );
 		//TODO: copy/paste the exception handling from immediately above?
 	}
 
@@ -1478,7 +1634,9 @@ public <T> T unwrap(Class<T> clazz) {
 	}
 
 	public ReactiveConnection getReactiveConnection() {
-		assertUseOnEventLoop();
+		if ( associatedWorkThread != null ) {
+			assertUseOnEventLoop();
+		}
 		return reactiveConnection;
 	}
 
@@ -1527,6 +1685,111 @@ public void setBatchSize(Integer batchSize) {
 		setJdbcBatchSize(batchSize);
 	}
 
+	@Override
+	public Integer getMaxManagedEntities() {
+		if ( maxManagedEntities == null ) {
+			maxManagedEntities = ConfigurationHelper.getInt(
+					Settings.MAX_MANAGED_ENTITIES,
+					getFactory().getProperties(),
+					0
+			);
+		}
+		return maxManagedEntities > 0 ? maxManagedEntities : null;
+	}
+
+	@Override
+	public void setMaxManagedEntities(Integer maxManagedEntities) {
+		this.maxManagedEntities = maxManagedEntities == null ? 0 : maxManagedEntities;
+	}
+
+	/**
+	 * If the persistence context holds more entities than the limit,
+	 * detach managed entities which are not referenced by any other
+	 * managed entity, nor by a proxy, in the order in which they became
+	 * managed, until the limit is respected.
+	 *
+	 * @return the number of entities which were detached
+	 */
+	@Override
+	public int evictExcessEntities() {
+		final Integer limit = getMaxManagedEntities();
+		final PersistenceContext persistenceContext = getPersistenceContextInternal();
+		final int managed = persistenceContext.getNumberOfManagedEntities();
+		if ( limit == null || managed <= limit ) {
+			return 0;
+		}
+		if ( !managedEntityLimitReached ) {
+			managedEntityLimitReached = true;
+			log.managedEntityLimitReached( limit );
+		}
+
+		final Map.Entry<Object, EntityEntry>[] entries = persistenceContext.reentrantSafeEntityEntries();
+		final Set<Object> referenced = referencedEntities( entries );
+		for ( Map.Entry<Object, EntityEntry> entry : entries ) {
+			if ( persistenceContext.getNumberOfManagedEntities() <= limit ) {
+				break;
+			}
+			final Object entity = entry.getKey();
+			final EntityEntry entityEntry = entry.getValue();
+			if ( ( entityEntry.getStatus() == Status.MANAGED || entityEntry.getStatus() == Status.READ_ONLY )
+					&& !referenced.contains( entity )
+					&& persistenceContext.getProxy( entityEntry.getEntityKey() ) == null
+					// not already detached by a cascade
+					&& persistenceContext.isEntryFor( entity ) ) {
+				detach( entity );
+			}
+		}
+
+		final int remaining = persistenceContext.getNumberOfManagedEntities();
+		if ( remaining > limit ) {
+			log.managedEntityLimitExceeded( limit, remaining );
+		}
+		return managed - remaining;
+	}
+
+	/**
+	 * The entities referenced by an association of one of the given
+	 * entities, or belonging to an initialized collection.
+	 */
+	private Set<Object> referencedEntities(Map.Entry<Object, EntityEntry>[] entries) {
+		final Set<Object> referenced = Collections.newSetFromMap( new IdentityHashMap<>() );
+		for ( Map.Entry<Object, EntityEntry> entry : entries ) {
+			final EntityPersister persister = entry.getValue().getPersister();
+			final Type[] types = persister.getPropertyTypes();
+			Object[] values = null;
+			for ( int i = 0; i < types.length; i++ ) {
+				if ( types[i].isEntityType() ) {
+					if ( values == null ) {
+						values = persister.getPropertyValues( entry.getKey() );
+					}
+					addReferencedEntity( referenced, values[i] );
+				}
+			}
+		}
+		getPersistenceContextInternal().forEachCollectionEntry( (collection, entry) -> {
+			final CollectionPersister persister = entry.getLoadedPersister();
+			if ( persister != null && persister.getElementType().isEntityType() && collection.wasInitialized() ) {
+				final Iterator<?> elements = collection.entries( persister );
+				while ( elements.hasNext() ) {
+					addReferencedEntity( referenced, collection.getElement( elements.next() ) );
+				}
+			}
+		}, false );
+		return referenced;
+	}
+
+	private static void addReferencedEntity(Set<Object> referenced, Object value) {
+		if ( value instanceof HibernateProxy ) {
+			final LazyInitializer initializer = ( (HibernateProxy) value ).getHibernateLazyInitializer();
+			if ( !initializer.isUninitialized() ) {
+				referenced.add( initializer.getImplementation() );
+			}
+		}
+		else if ( value != null ) {
+			referenced.add( value );
+		}
+	}
+
 	@Override @SuppressWarnings("unchecked")
 	public <T> Class<? extends T> getEntityClass(T entity) {
 		if ( entity instanceof HibernateProxy ) {
@@ -29,6 +29,7 @@
 import org.hibernate.internal.SessionCreationOptions;
 import org.hibernate.internal.SessionFactoryImpl;
 import org.hibernate.internal.StatelessSessionImpl;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.jpa.spi.CriteriaQueryTupleTransformer;
 import org.hibernate.jpa.spi.NativeQueryTupleTransformer;
 import org.hibernate.loader.custom.CustomQuery;
@@ -46,6 +47,7 @@
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.pool.BatchingConnection;
 import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.session.Criteria;
 import org.hibernate.reactive.session.CriteriaQueryOptions;
 import org.hibernate.reactive.session.ReactiveNativeQuery;
@@ -57,7 +59,10 @@
 import javax.persistence.Tuple;
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
@@ -85,6 +90,8 @@ public class ReactiveStatelessSessionImpl extends StatelessSessionImpl
 
     private final PersistenceContext persistenceContext;
 
+    private Boolean setBasedUpdate;
+
     public ReactiveStatelessSessionImpl(SessionFactoryImpl factory,
                                         SessionCreationOptions options,
                                         ReactiveConnection connection) {
@@ -238,6 +245,30 @@ public CompletionStage<Void> reactiveUpdate(Object entity) {
         return persister.updateReactive( id, state, null, false, null, oldVersion, entity, null, this );
     }
 
+    @Override
+    public CompletionStage<Void> reactiveUpsert(Object entity) {
+        checkOpen();
+        ReactiveEntityPersister persister = getEntityPersister( null, entity );
+        Serializable id = persister.getIdentifier( entity, this );
+        if ( id == null ) {
+            // there can't be a row with the same id
+            return reactiveInsert( entity );
+        }
+        Object[] state = persister.getPropertyValues( entity );
+        if ( persister.isVersioned() ) {
+            boolean substitute = Versioning.seedVersion(
+                    state,
+                    persister.getVersionProperty(),
+                    persister.getVersionType(),
+                    this
+            );
+            if (substitute) {
+                persister.setPropertyValues( entity, state );
+            }
+        }
+        return persister.upsertReactive( id, state, entity, this );
+    }
+
     @Override
     public CompletionStage<Void> reactiveRefresh(Object entity) {
         return reactiveRefresh( entity, LockMode.NONE );
@@ -281,7 +312,95 @@ public CompletionStage<Void> reactiveInsertAll(Object... entities) {
 
     @Override
     public CompletionStage<Void> reactiveUpdateAll(Object... entities) {
-        return loop(entities, batchingHelperSession::reactiveUpdate)
+        final CompletionStage<Void> updates = isSetBasedUpdateEnabled()
+                ? loop( updateRuns( entities ), this::updateRun )
+                : loop( entities, batchingHelperSession::reactiveUpdate );
+        return updates.thenCompose( v -> batchingHelperSession.getReactiveConnection().executeBatch() );
+    }
+
+    private boolean isSetBasedUpdateEnabled() {
+        if ( setBasedUpdate == null ) {
+            setBasedUpdate = ConfigurationHelper.getBoolean(
+                    Settings.SET_BASED_UPDATE,
+                    getFactory().getProperties(),
+                    false
+            );
+        }
+        return setBasedUpdate;
+    }
+
+    /**
+     * Split the given entities into runs of consecutive instances of
+     * the same entity.
+     */
+    private List<List<Object>> updateRuns(Object[] entities) {
+        final List<List<Object>> runs = new ArrayList<>();
+        List<Object> run = null;
+        EntityPersister runPersister = null;
+        for ( Object entity : entities ) {
+            checkOpen();
+            EntityPersister persister = getEntityPersister( null, entity );
+            if ( run == null || runPersister != persister ) {
+                run = new ArrayList<>();
+                runs.add( run );
+                runPersister = persister;
+            }
+            run.add( entity );
+        }
+        return runs;
+    }
+
+    /**
+     * Update a run of instances of the same entity using a single
+     * set-based {@code update} statement, if possible, or one
+     * statement per instance otherwise.
+     *
+     * @see ReactiveEntityPersister#isSetUpdatable()
+     */
+    private CompletionStage<Void> updateRun(List<Object> entities) {
+        ReactiveEntityPersister persister = getEntityPersister( null, entities.get( 0 ) );
+        if ( entities.size() == 1 || !persister.isSetUpdatable() ) {
+            return loop( entities, batchingHelperSession::reactiveUpdate );
+        }
+
+        Serializable[] ids = new Serializable[entities.size()];
+        Set<Serializable> distinctIds = new HashSet<>();
+        for ( int i = 0; i < ids.length; i++ ) {
+            ids[i] = persister.getIdentifier( entities.get( i ), this );
+            if ( !distinctIds.add( ids[i] ) ) {
+                // the same row can't be updated twice by one statement
+                return loop( entities, batchingHelperSession::reactiveUpdate );
+            }
+        }
+
+        Object[][] states = new Object[ids.length][];
+        Object[] oldVersions = new Object[ids.length];
+        for ( int i = 0; i < ids.length; i++ ) {
+            Object entity = entities.get( i );
+            Object[] state = persister.getPropertyValues( entity );
+            if ( persister.isVersioned() ) {
+                oldVersions[i] = persister.getVersion( entity );
+                Object newVersion = Versioning.increment( oldVersions[i], persister.getVersionType(), this );
+                Versioning.setVersion( state, newVersion, persister );
+            }
+            states[i] = state;
+        }
+        return persister.updateReactive( ids, states, oldVersions, batchingHelperSession.getSharedContract() )
+                .thenAccept( v -> {
+                    // only once every row has been updated do the
+                    // entities get their new versions
+                    if ( persister.isVersioned() ) {
+                        int version = persister.getVersionProperty();
+                        for ( int i = 0; i < ids.length; i++ ) {
+                            persister.setPropertyValue( entities.get( i ), version, states[i][version] );
+                        }
+                    }
+                } );
+    }
+
+    @Override
+    public CompletionStage<Void> reactiveUpsertAll(Object... entities) {
+        return loop(entities, batchingHelperSession::reactiveUpsert)
                 .thenCompose( v -> batchingHelperSession.getReactiveConnection().executeBatch() );
     }
 
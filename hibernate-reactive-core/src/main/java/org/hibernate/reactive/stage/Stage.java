@@ -33,9 +33,11 @@
 import org.hibernate.reactive.common.AffectedEntities;
 import org.hibernate.reactive.common.Identifier;
 import org.hibernate.reactive.common.ResultSetMapping;
+import org.hibernate.reactive.common.RetryPolicy;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.stat.FlushStatistics;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 /**
@@ -106,6 +108,41 @@ public interface Stage {
 		 */
 		Query<R> setFirstResult(int firstResult);
 
+		/**
+		 * Restrict the results of this query to those which come after
+		 * the given key, for keyset (or "seek") pagination. Unlike
+		 * {@link #setFirstResult(int)}, the cost of obtaining a page
+		 * doesn't grow with the number of pages skipped, as long as
+		 * there is an index matching the {@code order by} clause.
+		 * <p>
+		 * The query must have an {@code order by} clause that uniquely
+		 * orders its results, and {@code lastKey} must contain the values
+		 * of its items for the last result of the previous page. Use
+		 * {@link #setMaxResults(int)} to set the size of the page. For
+		 * example:
+		 * <pre>
+		 * session.createQuery("from Book order by published desc, id", Book.class)
+		 *         .setKeysetAfter( last.published, last.id )
+		 *         .setMaxResults(20)
+		 * </pre>
+		 * Each item of the {@code order by} clause must be a path to an
+		 * attribute, or the alias of such a path in the {@code select}
+		 * clause, and may not specify {@code nulls first} or
+		 * {@code nulls last}. The query may not have a {@code group by}
+		 * clause.
+		 *
+		 * @param lastKey the values of the items of the {@code order by}
+		 *                clause for the last result of the previous page,
+		 *                or nothing for the first page
+		 *
+		 * @throws IllegalArgumentException if the query does not satisfy
+		 *         these requirements, or if the number of values doesn't
+		 *         match the number of items in the {@code order by} clause
+		 * @throws IllegalStateException for a native SQL query, or for an
+		 *         update or delete query
+		 */
+		Query<R> setKeysetAfter(Object... lastKey);
+
 		/**
 		 * @return the maximum number results, or {@link Integer#MAX_VALUE}
 		 *          if not set
@@ -172,6 +209,11 @@ public interface Stage {
 		 * Set the read-only/modifiable mode for entities and proxies
 		 * loaded by this Query. This setting overrides the default setting
 		 * for the persistence context.
+		 * <p>
+		 * No snapshot of the state of a read-only entity is kept, and it is
+		 * excluded from dirty checking when the session is flushed. This is a
+		 * good way to reduce the memory and flush cost of queries which return
+		 * a large number of entities that will not be modified.
 		 *
 		 * @see Session#setDefaultReadOnly(boolean)
 		 */
@@ -1038,6 +1080,39 @@ <R> Query<R> createNativeQuery(String queryString,
 		 */
 		Integer getBatchSize();
 
+		/**
+		 * Set the maximum number of entities which may belong to the
+		 * persistence context of this session, overriding the limit set by
+		 * the configuration property {@code hibernate.reactive.max_managed_entities}.
+		 * When the limit is exceeded, each flush detaches entities which are
+		 * not referenced by any other managed entity, beginning with the
+		 * entities which have been managed the longest.
+		 *
+		 * @param maxManagedEntities the limit, or {@code null} for no limit
+		 *
+		 * @see org.hibernate.reactive.provider.Settings#MAX_MANAGED_ENTITIES
+		 */
+		@Incubating
+		Session setMaxManagedEntities(Integer maxManagedEntities);
+
+		/**
+		 * The maximum number of entities which may belong to the persistence
+		 * context of this session, or {@code null} if there is no limit.
+		 */
+		@Incubating
+		Integer getMaxManagedEntities();
+
+		/**
+		 * The timings and counts recorded by the last flush of this
+		 * session, or {@code null} if the session has not been flushed,
+		 * or if neither statistics nor the logging of slow flushes are
+		 * enabled.
+		 *
+		 * @see org.hibernate.reactive.stat.FlushStatistics
+		 */
+		@Incubating
+		FlushStatistics getFlushStatistics();
+
 		/**
 		 * Enable the named filter for this session.
 		 *
@@ -1080,6 +1155,13 @@ <R> Query<R> createNativeQuery(String queryString,
 		 * transaction is started, and the work is executed in the context of
 		 * the new transaction.
 		 * </il>
+		 * <p>
+		 * If {@link org.hibernate.reactive.provider.Settings#NESTED_TRANSACTION_SAVEPOINTS}
+		 * is enabled, a nested call sets a savepoint, and if the nested work
+		 * fails, only the work done since the savepoint is undone. Entities
+		 * which became managed, or were updated in the database, during the
+		 * nested work are then detached, but an entity deleted from the
+		 * database during the nested work is not reattached.
 		 *
 		 * @param work a function which accepts {@link Transaction} and returns
 		 *             the result of the work as a {@link CompletionStage}.
@@ -1355,6 +1437,34 @@ interface StatelessSession extends Closeable {
 		 */
 		CompletionStage<Void> update(Object... entities);
 
+		/**
+		 * Insert a row, or update the existing row with the same
+		 * identifier, using a single statement, without checking the
+		 * version, if any. Supported on PostgreSQL, CockroachDB, MySQL,
+		 * MariaDB, and SQL Server.
+		 * <p>
+		 * A numeric version of an existing row is incremented, but the
+		 * version held by the given entity instance is not, since it's
+		 * not known whether the row was inserted or updated. The entity
+		 * instance keeps the version it was given, or a freshly seeded
+		 * version, and must be refreshed before it's updated.
+		 *
+		 * @param entity a new or detached entity instance
+		 */
+		@Incubating
+		CompletionStage<Void> upsert(Object entity);
+
+		/**
+		 * Insert or update multiple rows, using a single statement for
+		 * each row, which may be batched.
+		 *
+		 * @param entities new or detached entity instances
+		 *
+		 * @see #upsert(Object)
+		 */
+		@Incubating
+		CompletionStage<Void> upsert(Object... entities);
+
 		/**
 		 * Refresh the entity instance state from the database.
 		 *
@@ -1435,6 +1545,13 @@ interface StatelessSession extends Closeable {
 		 * transaction is started, and the work is executed in the context of
 		 * the new transaction.
 		 * </il>
+		 * <p>
+		 * If {@link org.hibernate.reactive.provider.Settings#NESTED_TRANSACTION_SAVEPOINTS}
+		 * is enabled, a nested call sets a savepoint, and if the nested work
+		 * fails, only the work done since the savepoint is undone. Entities
+		 * which became managed, or were updated in the database, during the
+		 * nested work are then detached, but an entity deleted from the
+		 * database during the nested work is not reattached.
 		 *
 		 * @param work a function which accepts {@link Transaction} and returns
 		 *             the result of the work as a {@link CompletionStage}.
@@ -1627,6 +1744,29 @@ interface SessionFactory extends AutoCloseable {
 		 */
 		<T> CompletionStage<T> withTransaction(BiFunction<Session, Transaction, CompletionStage<T>> work);
 
+		/**
+		 * Perform work using a {@link Session reactive session} within an
+		 * associated {@link Transaction transaction}, retrying the whole
+		 * transaction, with a fresh persistence context, if it fails with
+		 * a transient error, for example, a serialization failure or a
+		 * deadlock, according to the given {@link RetryPolicy}.
+		 * <p>
+		 * The work may be executed more than once, and so it should not
+		 * have side effects other than its interaction with the session.
+		 * If the session obtained from the current reactive stream already
+		 * has an active transaction, the work is executed within that
+		 * transaction, and is never retried.
+		 *
+		 * @param retryPolicy determines which failures are retried, how
+		 *                    many times, and after how long
+		 * @param work a function which accepts the session and returns
+		 *             the result of the work as a {@link CompletionStage}.
+		 *
+		 * @see #withTransaction(BiFunction)
+		 */
+		@Incubating
+		<T> CompletionStage<T> withTransaction(RetryPolicy retryPolicy, BiFunction<Session, Transaction, CompletionStage<T>> work);
+
 		/**
 		 * Perform work using a {@link Session reactive session} for a
 		 * specified tenant within an associated {@link Transaction transaction}.
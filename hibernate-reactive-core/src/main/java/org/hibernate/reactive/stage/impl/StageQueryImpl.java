@@ -74,6 +74,12 @@ public Stage.Query<R> setFirstResult(int firstResult) {
 		return this;
 	}
 
+	@Override
+	public Stage.Query<R> setKeysetAfter(Object... lastKey) {
+		delegate.setKeysetAfter( lastKey );
+		return this;
+	}
+
 	@Override
 	public int getFirstResult() {
 		return delegate.getFirstResult();
@@ -7,6 +7,7 @@
 
 import java.util.Objects;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -16,13 +17,17 @@
 import org.hibernate.Cache;
 import org.hibernate.internal.SessionCreationOptions;
 import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.reactive.common.RetryPolicy;
 import org.hibernate.reactive.context.Context;
+import org.hibernate.reactive.context.impl.ScopedConnection;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
 import org.hibernate.reactive.session.impl.ReactiveCriteriaBuilderImpl;
 import org.hibernate.reactive.session.impl.ReactiveSessionImpl;
 import org.hibernate.reactive.session.impl.ReactiveStatelessSessionImpl;
 import org.hibernate.reactive.stage.Stage;
+import org.hibernate.reactive.util.impl.Retries;
+import org.hibernate.reactive.vertx.VertxInstance;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.rethrow;
@@ -41,12 +46,22 @@ public class StageSessionFactoryImpl implements Stage.SessionFactory {
 	private final Context.Key<Stage.Session> contextKeyForSession;
 	private final Context.Key<Stage.StatelessSession> contextKeyForStatelessSession;
 
+	/**
+	 * The options for sessions with no explicit tenant id, which may be
+	 * shared by all such sessions unless the current tenant id must be
+	 * resolved each time a session is opened.
+	 */
+	private final SessionCreationOptions defaultOptions;
+
 	public StageSessionFactoryImpl(SessionFactoryImpl delegate) {
 		this.delegate = delegate;
 		context = delegate.getServiceRegistry().getService( Context.class );
 		connectionPool = delegate.getServiceRegistry().getService( ReactiveConnectionPool.class );
 		contextKeyForSession = new Context.Key<>( Stage.Session.class, delegate.getUuid() );
 		contextKeyForStatelessSession = new Context.Key<>( Stage.StatelessSession.class, delegate.getUuid() );
+		defaultOptions = delegate.getCurrentTenantIdentifierResolver() == null
+				? new SessionFactoryImpl.SessionBuilderImpl<>( delegate )
+				: null;
 	}
 
 	<T> CompletionStage<T> stage(Function<Void, CompletionStage<T>> stageSupplier) {
@@ -129,7 +144,9 @@ private <S> CompletionStage<S> create(ReactiveConnection connection, Supplier<S>
 	}
 
 	private SessionCreationOptions options() {
-		return new SessionFactoryImpl.SessionBuilderImpl<>( delegate );
+		return defaultOptions == null
+				? new SessionFactoryImpl.SessionBuilderImpl<>( delegate )
+				: defaultOptions;
 	}
 
 	private SessionCreationOptions options(String tenantIdentifier) {
@@ -138,15 +155,26 @@ private SessionCreationOptions options(String tenantIdentifier) {
 	}
 
 	private CompletionStage<ReactiveConnection> connection(String tenantId) {
-		return tenantId == null
+		Executor scope = context.capture();
+		return ( tenantId == null
 				? connectionPool.getConnection()
-				: connectionPool.getConnection( tenantId );
+				: connectionPool.getConnection( tenantId ) )
+				.thenApply( connection -> scoped( connection, scope ) );
 	}
 
 	private ReactiveConnection proxyConnection(String tenantId) {
-		return tenantId==null
+		return scoped( tenantId==null
 				? connectionPool.getProxyConnection()
-				: connectionPool.getProxyConnection( tenantId );
+				: connectionPool.getProxyConnection( tenantId ), context.capture() );
+	}
+
+	/**
+	 * Unless every stream runs on an event loop, database operations must
+	 * complete in the scope of the stream which opened the session, since
+	 * the stream continues on the thread which completes the operation.
+	 */
+	private ReactiveConnection scoped(ReactiveConnection connection, Executor scope) {
+		return context.isEventLoopConfined() ? connection : new ScopedConnection( connection, scope );
 	}
 
 	@Override
@@ -156,7 +184,7 @@ public <T> CompletionStage<T> withSession(Function<Stage.Session, CompletionStag
 		if ( current!=null && current.isOpen() ) {
 			return work.apply( current );
 		}
-		return withSession( newSession(), work, contextKeyForSession );
+		return withSession( this::newSession, work, contextKeyForSession );
 	}
 
 	@Override
@@ -169,7 +197,7 @@ public <T> CompletionStage<T> withSession(String tenantId, Function<Stage.Sessio
 		if ( current!=null && current.isOpen() ) {
 			return work.apply( current );
 		}
-		return withSession( newSession( tenantId ), work, key );
+		return withSession( () -> newSession( tenantId ), work, key );
 	}
 
 	@Override
@@ -179,7 +207,7 @@ public <T> CompletionStage<T> withStatelessSession(Function<Stage.StatelessSessi
 		if ( current!=null && current.isOpen() ) {
 			return work.apply( current );
 		}
-		return withSession( newStatelessSession(), work, contextKeyForStatelessSession );
+		return withSession( this::newStatelessSession, work, contextKeyForStatelessSession );
 	}
 
 	@Override
@@ -192,27 +220,31 @@ public <T> CompletionStage<T> withStatelessSession(String tenantId, Function<Sta
 		if ( current != null && current.isOpen() ) {
 			return work.apply( current );
 		}
-		return withSession( newStatelessSession(tenantId), work, key );
+		return withSession( () -> newStatelessSession( tenantId ), work, key );
 	}
 
 	private <S extends Stage.Closeable, T> CompletionStage<T> withSession(
-			CompletionStage<S> sessionStage,
+			Supplier<CompletionStage<S>> sessionStage,
 			Function<S, CompletionStage<T>> work,
 			Context.Key<S> contextKey) {
-		return sessionStage.thenCompose( session -> {
+		// the session must be associated with the stream which opened
+		// it, even if the stream continues on some other thread, so its
+		// connection is obtained in the scope captured here
+		Executor scope = context.capture();
+		return voidFuture().thenComposeAsync( v -> sessionStage.get(), scope ).thenComposeAsync( session -> {
 			context.put( contextKey, session );
 			return voidFuture()
 					.thenCompose( v -> work.apply( session ) )
 					.handle( this::handler )
-					.thenCompose( handler -> {
+					.thenComposeAsync( handler -> {
 						context.remove( contextKey );
 						return session.close()
 								// Using .handle (instead of .thenApply(handler) because
 								// I want to rethrow the original exception in case an error
 								// occurs while closing the session
 								.handle( (unused, throwable) -> handler.apply( null ) );
-					} );
-		} );
+					}, scope );
+		}, scope );
 	}
 
 	private <T> Function<Void, T> handler(T result, Throwable exception) {
@@ -224,6 +256,23 @@ public <T> CompletionStage<T> withTransaction(BiFunction<Stage.Session, Stage.Tr
 		return withSession( s -> s.withTransaction( t -> work.apply(s, t) ) );
 	}
 
+	@Override
+	public <T> CompletionStage<T> withTransaction(RetryPolicy retryPolicy, BiFunction<Stage.Session, Stage.Transaction, CompletionStage<T>> work) {
+		Objects.requireNonNull( retryPolicy, "parameter 'retryPolicy' is required" );
+		return withSession( s -> {
+			if ( s.currentTransaction() != null ) {
+				// the work joins the existing transaction, which we can't retry
+				return s.withTransaction( t -> work.apply( s, t ) );
+			}
+			return Retries.retry(
+					retryPolicy,
+					delegate.getServiceRegistry().getService( VertxInstance.class ).getVertx(),
+					() -> s.withTransaction( t -> work.apply( s, t ) ),
+					s::clear
+			);
+		} );
+	}
+
 	@Override
 	public <T> CompletionStage<T> withStatelessTransaction(BiFunction<Stage.StatelessSession, Stage.Transaction, CompletionStage<T>> work) {
 		return withStatelessSession( s -> s.withTransaction( t -> work.apply(s, t) ) );
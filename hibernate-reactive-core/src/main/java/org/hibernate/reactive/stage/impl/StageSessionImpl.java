@@ -19,6 +19,7 @@
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.session.Criteria;
 import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.stat.FlushStatistics;
 import org.hibernate.reactive.stage.Stage;
 
 import javax.persistence.EntityGraph;
@@ -33,6 +34,7 @@
 
 import static org.hibernate.reactive.util.impl.CompletionStages.applyToAll;
 import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
  * Implements the {@link Stage.Session} API. This delegating class is
@@ -347,6 +349,22 @@ public Integer getBatchSize() {
 		return delegate.getBatchSize();
 	}
 
+	@Override
+	public Stage.Session setMaxManagedEntities(Integer maxManagedEntities) {
+		delegate.setMaxManagedEntities( maxManagedEntities );
+		return this;
+	}
+
+	@Override
+	public Integer getMaxManagedEntities() {
+		return delegate.getMaxManagedEntities();
+	}
+
+	@Override
+	public FlushStatistics getFlushStatistics() {
+		return delegate.getReactiveActionQueue().getFlushStatistics();
+	}
+
 	@Override
 	public Stage.Session detach(Object entity) {
 		delegate.detach(entity);
@@ -413,7 +431,15 @@ public Filter getEnabledFilter(String filterName) {
 
 	@Override
 	public <T> CompletionStage<T> withTransaction(Function<Stage.Transaction, CompletionStage<T>> work) {
-		return currentTransaction==null ? new Transaction<T>().execute(work) : work.apply(currentTransaction);
+		if ( currentTransaction == null ) {
+			return new Transaction<T>().execute( work );
+		}
+		else if ( delegate.isNestedTransactionSavepointEnabled() ) {
+			return new NestedTransaction<T>( currentTransaction ).execute( work );
+		}
+		else {
+			return work.apply( currentTransaction );
+		}
 	}
 
 	private Transaction<?> currentTransaction;
@@ -424,10 +450,20 @@ public Stage.Transaction currentTransaction() {
 	}
 
 	private class Transaction<T> implements Stage.Transaction {
+		final int depth;
 		boolean rollback;
 		Throwable error;
 
+		Transaction() {
+			this( 0 );
+		}
+
+		Transaction(int depth) {
+			this.depth = depth;
+		}
+
 		CompletionStage<T> execute(Function<Stage.Transaction, CompletionStage<T>> work) {
+			final Transaction<?> outer = currentTransaction;
 			currentTransaction = this;
 			return begin()
 					.thenCompose( v -> work.apply( this ) )
@@ -447,7 +483,7 @@ CompletionStage<T> execute(Function<Stage.Transaction, CompletionStage<T>> work)
 									// finally rethrow the original error, if any
 									.thenApply( v -> returnOrRethrow( error, result ) )
 					)
-					.whenComplete( (t, x) -> currentTransaction = null );
+					.whenComplete( (t, x) -> currentTransaction = outer );
 		}
 
 		CompletionStage<Void> flush() {
@@ -490,6 +526,37 @@ public boolean isMarkedForRollback() {
 		}
 	}
 
+	/**
+	 * A transaction nested inside another transaction, which sets a
+	 * savepoint when it begins, and rolls back to the savepoint or
+	 * releases it when it ends.
+	 */
+	private class NestedTransaction<T> extends Transaction<T> {
+		final String savepoint;
+		boolean savepointSet;
+
+		NestedTransaction(Transaction<?> outer) {
+			super( outer.depth + 1 );
+			savepoint = "hr_savepoint_" + depth;
+		}
+
+		@Override
+		CompletionStage<Void> begin() {
+			return delegate.reactiveSetSavepoint( savepoint )
+					.thenAccept( v -> savepointSet = true );
+		}
+
+		@Override
+		CompletionStage<Void> end() {
+			if ( !savepointSet ) {
+				return voidFuture();
+			}
+			return rollback
+					? delegate.reactiveRollbackToSavepoint( savepoint )
+					: delegate.reactiveReleaseSavepoint( savepoint );
+		}
+	}
+
 	@Override
 	public CompletionStage<Void> close() {
 		return stage( v -> delegate.reactiveClose() );
@@ -122,6 +122,16 @@ public CompletionStage<Void> insert(Object... entities) {
         return stage( w -> delegate.reactiveInsertAll(entities) );
     }
 
+    @Override
+    public CompletionStage<Void> upsert(Object entity) {
+        return stage( w -> delegate.reactiveUpsert(entity) );
+    }
+
+    @Override
+    public CompletionStage<Void> upsert(Object... entities) {
+        return stage( w -> delegate.reactiveUpsertAll(entities) );
+    }
+
     @Override
     public CompletionStage<Void> delete(Object entity) {
         return stage( w -> delegate.reactiveDelete(entity) );
@@ -0,0 +1,92 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat;
+
+import java.util.Map;
+
+import org.hibernate.Incubating;
+
+/**
+ * A breakdown of the time spent in each phase of a single flush of a
+ * session, along with the amount of work done in each phase. All times
+ * are in nanoseconds.
+ * <p>
+ * The number of statements and batches executed are only counted when
+ * {@code hibernate.generate_statistics} is enabled, or a threshold for
+ * {@linkplain org.hibernate.reactive.provider.Settings#FLUSH_LOG_SLOWER_THAN
+ * logging slow flushes} is set. Otherwise, they are always zero.
+ *
+ * @see org.hibernate.reactive.stage.Stage.Session#getFlushStatistics()
+ * @see org.hibernate.reactive.mutiny.Mutiny.Session#getFlushStatistics()
+ */
+@Incubating
+public interface FlushStatistics {
+
+	/**
+	 * The time spent cascading persist operations to newly referenced
+	 * entities before dirty checking.
+	 */
+	long getCascadeTime();
+
+	/**
+	 * The time spent dirty checking entities and collections and
+	 * scheduling the resulting actions.
+	 */
+	long getDirtyCheckTime();
+
+	/**
+	 * The time spent sorting the scheduled actions.
+	 */
+	long getSortTime();
+
+	/**
+	 * The time spent executing each list of actions which was not empty,
+	 * in the order in which they were executed, keyed by the name of the
+	 * list, for example {@code insertions} or {@code collectionUpdates}.
+	 */
+	Map<String, Long> getExecutionTimes();
+
+	/**
+	 * The total elapsed time of the flush.
+	 */
+	long getTotalTime();
+
+	/**
+	 * The number of entities which belonged to the persistence context.
+	 */
+	int getEntitiesInspected();
+
+	/**
+	 * The number of entities found to be dirty by the dirty check, and
+	 * so updated by the flush.
+	 */
+	int getEntitiesDirty();
+
+	/**
+	 * The number of collections which belonged to the persistence context.
+	 */
+	int getCollectionsInspected();
+
+	/**
+	 * The number of entities detached after the flush because the
+	 * persistence context exceeded its limit on the number of managed
+	 * entities.
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#MAX_MANAGED_ENTITIES
+	 */
+	int getEntitiesEvicted();
+
+	/**
+	 * The number of SQL statements executed by the flush, counting a
+	 * batch as a single statement.
+	 */
+	long getStatementCount();
+
+	/**
+	 * The number of batches of statements executed by the flush.
+	 */
+	long getBatchCount();
+}
@@ -0,0 +1,34 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat;
+
+import org.hibernate.Incubating;
+import org.hibernate.stat.Statistics;
+
+/**
+ * The {@link Statistics} of a reactive session factory, which also
+ * record the execution time of each SQL statement.
+ * <p>
+ * When statistics are enabled, the {@link Statistics} object returned
+ * by {@link org.hibernate.SessionFactory#getStatistics()} may be cast
+ * to this type.
+ */
+@Incubating
+public interface ReactiveStatistics extends Statistics {
+
+	/**
+	 * The SQL statements which have been executed since the statistics
+	 * were last cleared.
+	 */
+	String[] getStatements();
+
+	/**
+	 * The statistics for the given SQL statement, or {@code null} if
+	 * the statement has not been executed since the statistics were
+	 * last cleared.
+	 */
+	StatementStatistics getStatementStatistics(String sql);
+}
@@ -0,0 +1,36 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat;
+
+import org.hibernate.Incubating;
+
+/**
+ * Counts the transactions executed using a given
+ * {@link org.hibernate.reactive.common.RetryPolicy}, and how often they
+ * had to be retried.
+ *
+ * @see org.hibernate.reactive.common.RetryPolicy#getStatistics()
+ */
+@Incubating
+public interface RetryStatistics {
+
+	/**
+	 * The number of units of work executed, not counting retries.
+	 */
+	long getTransactionCount();
+
+	/**
+	 * The number of times a transaction was retried after a retryable
+	 * failure.
+	 */
+	long getRetryCount();
+
+	/**
+	 * The number of units of work which failed with a retryable failure
+	 * after exhausting the maximum number of attempts.
+	 */
+	long getExhaustedCount();
+}
@@ -0,0 +1,54 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat;
+
+import org.hibernate.Incubating;
+
+/**
+ * The execution counts and timings of a given SQL statement.
+ *
+ * @see ReactiveStatistics#getStatementStatistics(String)
+ */
+@Incubating
+public interface StatementStatistics {
+
+	/**
+	 * The upper bounds, in milliseconds, of the buckets of the
+	 * {@linkplain #getLatencyHistogram() latency histogram}. The
+	 * histogram has one more bucket, for executions which took longer
+	 * than the last bound.
+	 */
+	long[] LATENCY_BUCKETS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000 };
+
+	/**
+	 * The number of times the statement was executed, counting a batch
+	 * as a single execution.
+	 */
+	long getExecutionCount();
+
+	/**
+	 * The total number of rows returned or affected by the statement.
+	 */
+	long getRowCount();
+
+	/**
+	 * The total time spent executing the statement, in nanoseconds.
+	 */
+	long getTotalTime();
+
+	/**
+	 * The longest time taken by an execution of the statement, in
+	 * nanoseconds.
+	 */
+	long getMaxTime();
+
+	/**
+	 * The number of executions of the statement which completed within
+	 * each of the {@link #LATENCY_BUCKETS}, and, in the last element,
+	 * the number of executions which took longer.
+	 */
+	long[] getLatencyHistogram();
+}
@@ -0,0 +1,172 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat.impl;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.stat.FlushStatistics;
+
+/**
+ * Records the {@link FlushStatistics} of a single flush, as it
+ * progresses.
+ */
+public class FlushStatisticsImpl implements FlushStatistics {
+
+	private final long startTime = System.nanoTime();
+	private final StatementCountingConnection statementCounter;
+	private final long initialStatementCount;
+	private final long initialBatchCount;
+
+	private long cascadeTime;
+	private long dirtyCheckTime;
+	private long sortTime;
+	private final Map<String, Long> executionTimes = new LinkedHashMap<>();
+	private long totalTime;
+
+	private int entitiesInspected;
+	private int entitiesDirty;
+	private int collectionsInspected;
+	private int entitiesEvicted;
+
+	private long statementCount;
+	private long batchCount;
+
+	/**
+	 * @param statementCounter the connection which counts statements,
+	 *                         or {@code null} if statements aren't counted
+	 */
+	public FlushStatisticsImpl(StatementCountingConnection statementCounter) {
+		this.statementCounter = statementCounter;
+		this.initialStatementCount = statementCounter == null ? 0 : statementCounter.getStatementCount();
+		this.initialBatchCount = statementCounter == null ? 0 : statementCounter.getBatchCount();
+	}
+
+	public void addCascadeTime(long nanos) {
+		cascadeTime += nanos;
+	}
+
+	public void addDirtyCheckTime(long nanos) {
+		dirtyCheckTime += nanos;
+	}
+
+	public void addSortTime(long nanos) {
+		sortTime += nanos;
+	}
+
+	public void addExecutionTime(String listName, long nanos) {
+		executionTimes.merge( listName, nanos, Long::sum );
+	}
+
+	public void setEntitiesInspected(int entitiesInspected) {
+		this.entitiesInspected = entitiesInspected;
+	}
+
+	public void addEntityDirty() {
+		entitiesDirty++;
+	}
+
+	public void setCollectionsInspected(int collectionsInspected) {
+		this.collectionsInspected = collectionsInspected;
+	}
+
+	public void setEntitiesEvicted(int entitiesEvicted) {
+		this.entitiesEvicted = entitiesEvicted;
+	}
+
+	/**
+	 * Called when the flush is complete.
+	 */
+	public void end() {
+		totalTime = System.nanoTime() - startTime;
+		if ( statementCounter != null ) {
+			statementCount = statementCounter.getStatementCount() - initialStatementCount;
+			batchCount = statementCounter.getBatchCount() - initialBatchCount;
+		}
+	}
+
+	@Override
+	public long getCascadeTime() {
+		return cascadeTime;
+	}
+
+	@Override
+	public long getDirtyCheckTime() {
+		return dirtyCheckTime;
+	}
+
+	@Override
+	public long getSortTime() {
+		return sortTime;
+	}
+
+	@Override
+	public Map<String, Long> getExecutionTimes() {
+		return Collections.unmodifiableMap( executionTimes );
+	}
+
+	@Override
+	public long getTotalTime() {
+		return totalTime;
+	}
+
+	@Override
+	public int getEntitiesInspected() {
+		return entitiesInspected;
+	}
+
+	@Override
+	public int getEntitiesDirty() {
+		return entitiesDirty;
+	}
+
+	@Override
+	public int getCollectionsInspected() {
+		return collectionsInspected;
+	}
+
+	@Override
+	public int getEntitiesEvicted() {
+		return entitiesEvicted;
+	}
+
+	@Override
+	public long getStatementCount() {
+		return statementCount;
+	}
+
+	@Override
+	public long getBatchCount() {
+		return batchCount;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder result = new StringBuilder( "FlushStatistics[total=" )
+				.append( millis( totalTime ) )
+				.append( "ms, cascade=" ).append( millis( cascadeTime ) )
+				.append( "ms, dirtyCheck=" ).append( millis( dirtyCheckTime ) )
+				.append( "ms, sort=" ).append( millis( sortTime ) )
+				.append( "ms" );
+		executionTimes.forEach( (list, time) -> result
+				.append( ", " ).append( list ).append( '=' ).append( millis( time ) ).append( "ms" ) );
+		return result
+				.append( ", entitiesInspected=" ).append( entitiesInspected )
+				.append( ", entitiesDirty=" ).append( entitiesDirty )
+				.append( ", collectionsInspected=" ).append( collectionsInspected )
+				.append( ", entitiesEvicted=" ).append( entitiesEvicted )
+				.append( ", statements=" ).append( statementCount )
+				.append( ", batches=" ).append( batchCount )
+				.append( ']' )
+				.toString();
+	}
+
+	private static long millis(long nanos) {
+		return TimeUnit.NANOSECONDS.toMillis( nanos );
+	}
+}
@@ -0,0 +1,63 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat.impl;
+
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.reactive.stat.ReactiveStatistics;
+import org.hibernate.reactive.stat.StatementStatistics;
+import org.hibernate.stat.internal.StatisticsImpl;
+
+/**
+ * Extends the {@link StatisticsImpl statistics} of Hibernate ORM with
+ * the {@link StatementStatistics} of each SQL statement executed by a
+ * {@link org.hibernate.reactive.pool.impl.SqlClientConnection}.
+ * <p>
+ * Like the statistics of HQL queries, the statistics of at most
+ * {@value org.hibernate.cfg.AvailableSettings#QUERY_STATISTICS_MAX_SIZE}
+ * statements are kept, and the least recently used are evicted.
+ */
+public class ReactiveStatisticsImpl extends StatisticsImpl implements ReactiveStatistics {
+
+	private final ConcurrentMap<String, StatementStatisticsImpl> statementStatistics;
+
+	public ReactiveStatisticsImpl(SessionFactoryImplementor sessionFactory) {
+		super( sessionFactory );
+		statementStatistics = new BoundedConcurrentHashMap<>(
+				sessionFactory.getSessionFactoryOptions().getQueryStatisticsMaxSize(),
+				20,
+				BoundedConcurrentHashMap.Eviction.LRU
+		);
+	}
+
+	/**
+	 * Record an execution of the given SQL statement.
+	 */
+	public void statementExecuted(String sql, long rows, long nanos) {
+		if ( isStatisticsEnabled() ) {
+			statementStatistics.computeIfAbsent( sql, s -> new StatementStatisticsImpl() )
+					.executed( rows, nanos );
+		}
+	}
+
+	@Override
+	public String[] getStatements() {
+		return statementStatistics.keySet().toArray( new String[0] );
+	}
+
+	@Override
+	public StatementStatistics getStatementStatistics(String sql) {
+		return statementStatistics.get( sql );
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		statementStatistics.clear();
+	}
+}
@@ -0,0 +1,60 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat.impl;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.reactive.provider.impl.ReactiveModeCheck;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+import org.hibernate.service.spi.SessionFactoryServiceInitiatorContext;
+import org.hibernate.stat.internal.StatisticsInitiator;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Replaces the {@link StatisticsInitiator} of Hibernate ORM, producing
+ * {@link ReactiveStatisticsImpl} for a reactive session factory, unless
+ * a custom {@link org.hibernate.stat.spi.StatisticsFactory} is
+ * configured.
+ */
+public class ReactiveStatisticsInitiator implements SessionFactoryServiceInitiator<StatisticsImplementor> {
+
+	public static final ReactiveStatisticsInitiator INSTANCE = new ReactiveStatisticsInitiator();
+
+	@Override
+	public Class<StatisticsImplementor> getServiceInitiated() {
+		return StatisticsImplementor.class;
+	}
+
+	@Override
+	public StatisticsImplementor initiateService(SessionFactoryServiceInitiatorContext context) {
+		return initiateService(
+				context.getSessionFactory(),
+				context.getSessionFactoryOptions(),
+				context.getServiceRegistry()
+		);
+	}
+
+	@Override
+	@Deprecated
+	public StatisticsImplementor initiateService(
+			SessionFactoryImplementor sessionFactory,
+			SessionFactoryOptions sessionFactoryOptions,
+			ServiceRegistryImplementor registry) {
+		final Object factory = registry.getService( ConfigurationService.class )
+				.getSettings()
+				.get( StatisticsInitiator.STATS_BUILDER );
+		if ( factory == null && ReactiveModeCheck.isReactiveRegistry( registry ) ) {
+			ReactiveStatisticsImpl statistics = new ReactiveStatisticsImpl( sessionFactory );
+			statistics.setStatisticsEnabled( sessionFactoryOptions.isStatisticsEnabled() );
+			return statistics;
+		}
+		else {
+			return StatisticsInitiator.INSTANCE.initiateService( sessionFactory, sessionFactoryOptions, registry );
+		}
+	}
+}
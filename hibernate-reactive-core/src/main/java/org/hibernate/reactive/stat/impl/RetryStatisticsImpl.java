@@ -0,0 +1,55 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.reactive.stat.RetryStatistics;
+
+/**
+ * Records the {@link RetryStatistics} of a retry policy, which may be
+ * used concurrently by many threads.
+ */
+public class RetryStatisticsImpl implements RetryStatistics {
+
+	private final LongAdder transactionCount = new LongAdder();
+	private final LongAdder retryCount = new LongAdder();
+	private final LongAdder exhaustedCount = new LongAdder();
+
+	public void transaction() {
+		transactionCount.increment();
+	}
+
+	public void retry() {
+		retryCount.increment();
+	}
+
+	public void exhausted() {
+		exhaustedCount.increment();
+	}
+
+	@Override
+	public long getTransactionCount() {
+		return transactionCount.sum();
+	}
+
+	@Override
+	public long getRetryCount() {
+		return retryCount.sum();
+	}
+
+	@Override
+	public long getExhaustedCount() {
+		return exhaustedCount.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "RetryStatistics{transactions=" + getTransactionCount()
+				+ ", retries=" + getRetryCount()
+				+ ", exhausted=" + getExhaustedCount() + '}';
+	}
+}
@@ -0,0 +1,163 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat.impl;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+/**
+ * A {@link ReactiveConnection} which counts the statements and batches
+ * executed by the connection it delegates to. When automatic batching
+ * is enabled, it must sit underneath the
+ * {@link org.hibernate.reactive.pool.BatchingConnection}, so that each
+ * batch is counted once.
+ *
+ * @see FlushStatisticsImpl
+ */
+public final class StatementCountingConnection implements ReactiveConnection {
+
+	private final ReactiveConnection delegate;
+	private long statementCount;
+	private long batchCount;
+
+	public StatementCountingConnection(ReactiveConnection delegate) {
+		this.delegate = delegate;
+	}
+
+	public long getStatementCount() {
+		return statementCount;
+	}
+
+	public long getBatchCount() {
+		return batchCount;
+	}
+
+	@Override
+	public CompletionStage<Void> execute(String sql) {
+		statementCount++;
+		return delegate.execute( sql );
+	}
+
+	@Override
+	public CompletionStage<Void> executeOutsideTransaction(String sql) {
+		statementCount++;
+		return delegate.executeOutsideTransaction( sql );
+	}
+
+	@Override
+	public CompletionStage<Void> executeUnprepared(String sql) {
+		statementCount++;
+		return delegate.executeUnprepared( sql );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql) {
+		statementCount++;
+		return delegate.update( sql );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+		statementCount++;
+		return delegate.update( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<Void> update(String sql, Object[] paramValues, boolean allowBatching, Expectation expectation) {
+		statementCount++;
+		return delegate.update( sql, paramValues, allowBatching, expectation );
+	}
+
+	@Override
+	public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+		statementCount++;
+		batchCount++;
+		return delegate.update( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql) {
+		statementCount++;
+		return delegate.select( sql );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql, Object[] paramValues) {
+		statementCount++;
+		return delegate.select( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+		statementCount++;
+		return delegate.selectJdbc( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<Long> insertAndSelectIdentifier(String sql, Object[] paramValues) {
+		statementCount++;
+		return delegate.insertAndSelectIdentifier( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<Long> selectIdentifier(String sql, Object[] paramValues) {
+		statementCount++;
+		return delegate.selectIdentifier( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<Void> beginTransaction() {
+		return delegate.beginTransaction();
+	}
+
+	@Override
+	public CompletionStage<Void> commitTransaction() {
+		return delegate.commitTransaction();
+	}
+
+	@Override
+	public CompletionStage<Void> rollbackTransaction() {
+		return delegate.rollbackTransaction();
+	}
+
+	@Override
+	public boolean isTransactionInProgress() {
+		return delegate.isTransactionInProgress();
+	}
+
+	@Override
+	public CompletionStage<Void> createTemporaryTable(String tableName, String createStatement) {
+		return delegate.createTemporaryTable( tableName, createStatement );
+	}
+
+	@Override
+	public CompletionStage<Void> setSavepoint(String name) {
+		return delegate.setSavepoint( name );
+	}
+
+	@Override
+	public CompletionStage<Void> rollbackToSavepoint(String name) {
+		return delegate.rollbackToSavepoint( name );
+	}
+
+	@Override
+	public CompletionStage<Void> releaseSavepoint(String name) {
+		return delegate.releaseSavepoint( name );
+	}
+
+	@Override
+	public CompletionStage<Void> executeBatch() {
+		return delegate.executeBatch();
+	}
+
+	@Override
+	public CompletionStage<Void> close() {
+		return delegate.close();
+	}
+}
@@ -0,0 +1,81 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.reactive.stat.StatementStatistics;
+
+/**
+ * Records the {@link StatementStatistics} of a SQL statement, which
+ * may be executed concurrently by many connections.
+ */
+public class StatementStatisticsImpl implements StatementStatistics {
+
+	private final LongAdder executionCount = new LongAdder();
+	private final LongAdder rowCount = new LongAdder();
+	private final LongAdder totalTime = new LongAdder();
+	private final AtomicLong maxTime = new AtomicLong();
+	private final AtomicLongArray latencyHistogram = new AtomicLongArray( LATENCY_BUCKETS.length + 1 );
+
+	public void executed(long rows, long nanos) {
+		executionCount.increment();
+		rowCount.add( rows );
+		totalTime.add( nanos );
+		maxTime.accumulateAndGet( nanos, Math::max );
+		latencyHistogram.incrementAndGet( bucket( TimeUnit.NANOSECONDS.toMillis( nanos ) ) );
+	}
+
+	private static int bucket(long millis) {
+		for ( int i = 0; i < LATENCY_BUCKETS.length; i++ ) {
+			if ( millis < LATENCY_BUCKETS[i] ) {
+				return i;
+			}
+		}
+		return LATENCY_BUCKETS.length;
+	}
+
+	@Override
+	public long getExecutionCount() {
+		return executionCount.sum();
+	}
+
+	@Override
+	public long getRowCount() {
+		return rowCount.sum();
+	}
+
+	@Override
+	public long getTotalTime() {
+		return totalTime.sum();
+	}
+
+	@Override
+	public long getMaxTime() {
+		return maxTime.get();
+	}
+
+	@Override
+	public long[] getLatencyHistogram() {
+		final long[] histogram = new long[latencyHistogram.length()];
+		for ( int i = 0; i < histogram.length; i++ ) {
+			histogram[i] = latencyHistogram.get( i );
+		}
+		return histogram;
+	}
+
+	@Override
+	public String toString() {
+		return "StatementStatistics[executions=" + getExecutionCount()
+				+ ", rows=" + getRowCount()
+				+ ", total=" + TimeUnit.NANOSECONDS.toMillis( getTotalTime() )
+				+ "ms, max=" + TimeUnit.NANOSECONDS.toMillis( getMaxTime() )
+				+ "ms]";
+	}
+}
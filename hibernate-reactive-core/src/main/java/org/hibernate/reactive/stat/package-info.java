@@ -0,0 +1,7 @@
+/**
+ * Statistics collected by Hibernate Reactive, in addition to the
+ * {@link org.hibernate.stat.Statistics} collected by Hibernate ORM.
+ *
+ * @see org.hibernate.reactive.stat.FlushStatistics
+ */
+package org.hibernate.reactive.stat;
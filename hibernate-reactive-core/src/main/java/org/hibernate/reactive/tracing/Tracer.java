@@ -0,0 +1,74 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.tracing;
+
+import org.hibernate.Incubating;
+import org.hibernate.reactive.context.Context;
+import org.hibernate.service.Service;
+
+/**
+ * An SPI for integrating a tracing library with Hibernate Reactive.
+ * When a {@code Tracer} is configured, a {@link Span} is started for:
+ * <ul>
+ * <li>each statement or transaction demarcation executed by a
+ * {@link org.hibernate.reactive.pool.ReactiveConnection},
+ * <li>each execution of the actions queued by a flush, and
+ * <li>each {@code find()}, {@code flush()}, and query executed by a
+ * {@link org.hibernate.reactive.stage.Stage.Session} or
+ * {@link org.hibernate.reactive.mutiny.Mutiny.Session}.
+ * </ul>
+ * <p>
+ * The span of an operation of a session, or of a flush, is associated
+ * with the current reactive stream by the {@link Context} service under
+ * the key {@link #CURRENT_SPAN} while the operation executes, and is the
+ * parent of the spans started by the operation. A program may associate
+ * its own span with the reactive stream before calling Hibernate Reactive
+ * in order to make it the parent of the outermost spans.
+ * <p>
+ * A {@code Tracer} may be specified using the configuration property
+ * {@link org.hibernate.reactive.provider.Settings#TRACER}, or registered
+ * as a service, for example, by calling
+ * {@link org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder#addService}.
+ * Implementations must be thread-safe.
+ */
+@Incubating
+public interface Tracer extends Service {
+
+	/**
+	 * The key under which the current span is associated with the
+	 * current reactive stream.
+	 */
+	Context.Key<Span> CURRENT_SPAN = new Context.Key<>( Span.class, Tracer.class.getName() + ".currentSpan" );
+
+	/**
+	 * Start a new span.
+	 *
+	 * @param operation the name of the operation, for example,
+	 * {@code "select"} or {@code "flush"}
+	 * @param detail the SQL statement, query, or entity name, or
+	 * {@code null}
+	 * @param parent the current span, or {@code null} if there is
+	 * no current span
+	 *
+	 * @return the new span, which must not be {@code null}
+	 */
+	Span startSpan(String operation, String detail, Span parent);
+
+	/**
+	 * A span representing a single operation, created by
+	 * {@link #startSpan(String, String, Span)}.
+	 */
+	interface Span {
+
+		/**
+		 * Called exactly once, when the operation completes.
+		 *
+		 * @param failure the exception, if the operation failed, or
+		 * {@code null} if it completed normally
+		 */
+		void end(Throwable failure);
+	}
+}
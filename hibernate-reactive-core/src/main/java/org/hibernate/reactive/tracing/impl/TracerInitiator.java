@@ -0,0 +1,54 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.tracing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.tracing.Tracer;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * A Hibernate {@link StandardServiceInitiator service initiator} for
+ * the {@link Tracer} specified by {@link Settings#TRACER}. If no tracer
+ * is specified, there is no {@code Tracer} service, and operations are
+ * not traced.
+ */
+public class TracerInitiator implements StandardServiceInitiator<Tracer> {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public static final TracerInitiator INSTANCE = new TracerInitiator();
+
+	@Override
+	public Tracer initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		final Object tracer = configurationValues.get( Settings.TRACER );
+		if ( tracer == null || tracer instanceof Tracer ) {
+			return (Tracer) tracer;
+		}
+		else {
+			final String tracerClassName = tracer.toString();
+			LOG.tracer( tracerClassName );
+			final ClassLoaderService classLoaderService = registry.getService( ClassLoaderService.class );
+			try {
+				return (Tracer) classLoaderService.classForName( tracerClassName ).newInstance();
+			}
+			catch (Exception e) {
+				throw LOG.couldNotInstantiateTracer( tracerClassName, e );
+			}
+		}
+	}
+
+	@Override
+	public Class<Tracer> getServiceInitiated() {
+		return Tracer.class;
+	}
+}
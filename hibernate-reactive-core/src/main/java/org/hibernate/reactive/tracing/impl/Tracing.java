@@ -0,0 +1,103 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.tracing.impl;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.hibernate.reactive.context.Context;
+import org.hibernate.reactive.tracing.Tracer;
+import org.hibernate.reactive.tracing.Tracer.Span;
+import org.hibernate.service.ServiceRegistry;
+
+import static org.hibernate.reactive.tracing.Tracer.CURRENT_SPAN;
+
+/**
+ * Starts and ends the {@link Span}s of a {@link Tracer}, propagating
+ * the current span via the {@link Context} service.
+ */
+public final class Tracing {
+
+	private final Tracer tracer;
+	private final Context context;
+
+	private Tracing(Tracer tracer, Context context) {
+		this.tracer = tracer;
+		this.context = context;
+	}
+
+	/**
+	 * @return an instance which traces operations using the configured
+	 * {@link Tracer}, or {@code null} if there is no tracer
+	 */
+	public static Tracing of(ServiceRegistry registry) {
+		final Tracer tracer = registry.getService( Tracer.class );
+		return tracer == null ? null : new Tracing( tracer, registry.getService( Context.class ) );
+	}
+
+	/**
+	 * Trace an operation which does not start any nested operation,
+	 * for example, the execution of a single SQL statement.
+	 */
+	public <T> CompletionStage<T> trace(String operation, String detail, Supplier<CompletionStage<T>> work) {
+		final Span span = tracer.startSpan( operation, detail, context.get( CURRENT_SPAN ) );
+		final CompletionStage<T> stage;
+		try {
+			stage = work.get();
+		}
+		catch (RuntimeException e) {
+			span.end( e );
+			throw e;
+		}
+		return stage.whenComplete( (r, e) -> span.end( unwrap( e ) ) );
+	}
+
+	/**
+	 * Trace an operation, making its span the current span, and so the
+	 * parent of the spans of any nested operations, until it completes.
+	 */
+	public <T> CompletionStage<T> traceScope(String operation, String detail, Supplier<CompletionStage<T>> work) {
+		if ( !context.isActive() ) {
+			return trace( operation, detail, work );
+		}
+
+		final Span parent = context.get( CURRENT_SPAN );
+		final Span span = tracer.startSpan( operation, detail, parent );
+		context.put( CURRENT_SPAN, span );
+		final CompletionStage<T> stage;
+		try {
+			stage = work.get();
+		}
+		catch (RuntimeException e) {
+			restore( span, parent );
+			span.end( e );
+			throw e;
+		}
+		return stage.whenComplete( (r, e) -> {
+			restore( span, parent );
+			span.end( unwrap( e ) );
+		} );
+	}
+
+	private void restore(Span span, Span parent) {
+		// a sibling operation might have replaced the span in the meantime
+		if ( context.isActive() && context.get( CURRENT_SPAN ) == span ) {
+			if ( parent == null ) {
+				context.remove( CURRENT_SPAN );
+			}
+			else {
+				context.put( CURRENT_SPAN, parent );
+			}
+		}
+	}
+
+	private static Throwable unwrap(Throwable failure) {
+		return failure instanceof CompletionException && failure.getCause() != null
+				? failure.getCause()
+				: failure;
+	}
+}
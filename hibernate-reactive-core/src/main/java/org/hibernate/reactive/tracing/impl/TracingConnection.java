@@ -0,0 +1,142 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.tracing.impl;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+/**
+ * A {@link ReactiveConnection} which starts a span for each statement
+ * and each transaction demarcation executed by the connection it
+ * delegates to. The span of a statement is a child of the current span
+ * of the reactive stream, if any, typically the span of the query, find,
+ * or flush which executes the statement.
+ *
+ * @see org.hibernate.reactive.tracing.Tracer
+ */
+public final class TracingConnection implements ReactiveConnection {
+
+	private final ReactiveConnection delegate;
+	private final Tracing tracing;
+
+	public TracingConnection(ReactiveConnection delegate, Tracing tracing) {
+		this.delegate = delegate;
+		this.tracing = tracing;
+	}
+
+	@Override
+	public CompletionStage<Void> execute(String sql) {
+		return tracing.trace( "execute", sql, () -> delegate.execute( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Void> executeOutsideTransaction(String sql) {
+		return tracing.trace( "execute", sql, () -> delegate.executeOutsideTransaction( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Void> executeUnprepared(String sql) {
+		return tracing.trace( "execute", sql, () -> delegate.executeUnprepared( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql) {
+		return tracing.trace( "update", sql, () -> delegate.update( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+		return tracing.trace( "update", sql, () -> delegate.update( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Void> update(String sql, Object[] paramValues, boolean allowBatching, Expectation expectation) {
+		return tracing.trace( "update", sql, () -> delegate.update( sql, paramValues, allowBatching, expectation ) );
+	}
+
+	@Override
+	public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+		return tracing.trace( "batch", sql, () -> delegate.update( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql) {
+		return tracing.trace( "select", sql, () -> delegate.select( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql, Object[] paramValues) {
+		return tracing.trace( "select", sql, () -> delegate.select( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+		return tracing.trace( "select", sql, () -> delegate.selectJdbc( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Long> insertAndSelectIdentifier(String sql, Object[] paramValues) {
+		return tracing.trace( "insert", sql, () -> delegate.insertAndSelectIdentifier( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Long> selectIdentifier(String sql, Object[] paramValues) {
+		return tracing.trace( "select", sql, () -> delegate.selectIdentifier( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Void> beginTransaction() {
+		return tracing.trace( "begin", null, delegate::beginTransaction );
+	}
+
+	@Override
+	public CompletionStage<Void> commitTransaction() {
+		return tracing.trace( "commit", null, delegate::commitTransaction );
+	}
+
+	@Override
+	public CompletionStage<Void> rollbackTransaction() {
+		return tracing.trace( "rollback", null, delegate::rollbackTransaction );
+	}
+
+	@Override
+	public boolean isTransactionInProgress() {
+		return delegate.isTransactionInProgress();
+	}
+
+	@Override
+	public CompletionStage<Void> createTemporaryTable(String tableName, String createStatement) {
+		return tracing.trace( "execute", createStatement, () -> delegate.createTemporaryTable( tableName, createStatement ) );
+	}
+
+	@Override
+	public CompletionStage<Void> setSavepoint(String name) {
+		return tracing.trace( "savepoint", name, () -> delegate.setSavepoint( name ) );
+	}
+
+	@Override
+	public CompletionStage<Void> rollbackToSavepoint(String name) {
+		return tracing.trace( "rollback to savepoint", name, () -> delegate.rollbackToSavepoint( name ) );
+	}
+
+	@Override
+	public CompletionStage<Void> releaseSavepoint(String name) {
+		return tracing.trace( "release savepoint", name, () -> delegate.releaseSavepoint( name ) );
+	}
+
+	@Override
+	public CompletionStage<Void> executeBatch() {
+		return delegate.executeBatch();
+	}
+
+	@Override
+	public CompletionStage<Void> close() {
+		return delegate.close();
+	}
+}
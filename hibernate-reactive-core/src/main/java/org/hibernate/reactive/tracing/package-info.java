@@ -0,0 +1,7 @@
+/**
+ * An SPI for tracing the operations of reactive sessions and connections,
+ * without depending on any particular tracing library.
+ *
+ * @see org.hibernate.reactive.tracing.Tracer
+ */
+package org.hibernate.reactive.tracing;
@@ -0,0 +1,115 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.util.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.hibernate.reactive.common.RetryPolicy;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.stat.impl.RetryStatisticsImpl;
+
+import io.vertx.core.Vertx;
+
+/**
+ * Repeats a unit of work according to a {@link RetryPolicy}.
+ */
+public final class Retries {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private Retries() {
+	}
+
+	/**
+	 * Execute the given unit of work, and, if it fails with an error
+	 * which the given policy considers retryable, execute it again after
+	 * the interval determined by the policy, until it succeeds or the
+	 * maximum number of attempts is reached.
+	 * <p>
+	 * The interval is measured using a Vert.x timer, so that, when called
+	 * from an event loop thread, each attempt runs on the same event loop,
+	 * and no thread is blocked while waiting.
+	 *
+	 * @param beforeRetry called before each retry, to discard state left
+	 *                    by the failed attempt
+	 */
+	public static <T> CompletionStage<T> retry(
+			RetryPolicy policy,
+			Vertx vertx,
+			Supplier<CompletionStage<T>> work,
+			Runnable beforeRetry) {
+		final RetryStatisticsImpl statistics = (RetryStatisticsImpl) policy.getStatistics();
+		statistics.transaction();
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		attempt( 1, policy, vertx, work, beforeRetry, result );
+		return result;
+	}
+
+	private static <T> void attempt(
+			int attempt,
+			RetryPolicy policy,
+			Vertx vertx,
+			Supplier<CompletionStage<T>> work,
+			Runnable beforeRetry,
+			CompletableFuture<T> result) {
+		CompletionStage<T> stage;
+		try {
+			stage = work.get();
+		}
+		catch (Throwable t) {
+			stage = CompletionStages.failedFuture( t );
+		}
+		stage.whenComplete( (value, failure) -> {
+			if ( failure == null ) {
+				result.complete( value );
+				return;
+			}
+			final Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+					? failure.getCause()
+					: failure;
+			final boolean retryable;
+			try {
+				retryable = policy.isRetryable( cause );
+			}
+			catch (Throwable t) {
+				cause.addSuppressed( t );
+				result.completeExceptionally( cause );
+				return;
+			}
+			final RetryStatisticsImpl statistics = (RetryStatisticsImpl) policy.getStatistics();
+			if ( !retryable ) {
+				result.completeExceptionally( cause );
+			}
+			else if ( attempt >= policy.getMaxAttempts() ) {
+				statistics.exhausted();
+				result.completeExceptionally( cause );
+			}
+			else {
+				statistics.retry();
+				final long delay = policy.backoff( attempt + 1 );
+				LOG.retryingTransaction( attempt, delay, cause.getMessage() );
+				try {
+					beforeRetry.run();
+				}
+				catch (Throwable t) {
+					cause.addSuppressed( t );
+					result.completeExceptionally( cause );
+					return;
+				}
+				// Vert.x timers fire on the context which set them
+				vertx.setTimer(
+						Math.max( 1, delay ),
+						id -> attempt( attempt + 1, policy, vertx, work, beforeRetry, result )
+				);
+			}
+		} );
+	}
+}
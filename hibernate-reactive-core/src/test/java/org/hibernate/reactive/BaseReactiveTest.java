@@ -11,6 +11,7 @@
 import java.util.stream.Collectors;
 
 import org.hibernate.SessionFactory;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.hibernate.cfg.Configuration;
@@ -182,7 +183,9 @@ private void startFactoryManager(Promise<Object> p) {
 
 	private SessionFactory createHibernateSessionFactory() {
 		Configuration configuration = constructConfiguration();
-		StandardServiceRegistryBuilder builder = new ReactiveServiceRegistryBuilder()
+		BootstrapServiceRegistryBuilder bootstrapBuilder = new BootstrapServiceRegistryBuilder().enableAutoClose();
+		addIntegrators( bootstrapBuilder );
+		StandardServiceRegistryBuilder builder = new ReactiveServiceRegistryBuilder( bootstrapBuilder.build() )
 				.addService( VertxInstance.class, (VertxInstance) () -> vertxContextRule.vertx() )
 				.applySettings( configuration.getProperties() );
 		addServices( builder );
@@ -193,6 +196,8 @@ private SessionFactory createHibernateSessionFactory() {
 
 	protected void addServices(StandardServiceRegistryBuilder builder) {}
 
+	protected void addIntegrators(BootstrapServiceRegistryBuilder builder) {}
+
 	/*
 	 * MySQL doesn't implement 'drop table cascade constraints'.
 	 *
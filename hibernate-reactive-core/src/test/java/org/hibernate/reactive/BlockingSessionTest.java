@@ -0,0 +1,160 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.blocking.Blocking;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Test the {@link Blocking} API, called from threads which may be
+ * blocked, as virtual threads would be.
+ */
+public class BlockingSessionTest extends BaseReactiveTest {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool( 2 );
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Ticket.class );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		executor.shutdown();
+		test( context, deleteEntities( "Ticket" ) );
+	}
+
+	private Blocking.SessionFactory getBlockingSessionFactory() {
+		return factoryManager.getHibernateSessionFactory().unwrap( Blocking.SessionFactory.class );
+	}
+
+	private CompletionStage<Void> blocking(Runnable work) {
+		return CompletableFuture.runAsync( work, executor );
+	}
+
+	@Test
+	public void testPersistAndQuery(TestContext context) {
+		test( context, blocking( () -> {
+			Blocking.SessionFactory factory = getBlockingSessionFactory();
+			factory.withTransaction( (session, tx) -> {
+				session.persist( new Ticket( 1, "Opera" ), new Ticket( 2, "Ballet" ) );
+				return null;
+			} );
+
+			Ticket ticket = factory.withSession( session -> session.find( Ticket.class, 1 ) );
+			context.assertEquals( "Opera", ticket.title );
+
+			factory.withTransaction( (session, tx) -> {
+				Ticket managed = session.find( Ticket.class, 2 );
+				managed.title = "Concert";
+				return null;
+			} );
+
+			List<String> titles = factory.withSession( session -> session
+					.createQuery( "select title from Ticket where id > ?1 order by id", String.class )
+					.setParameter( 1, 0 )
+					.getResultList() );
+			context.assertEquals( 2, titles.size() );
+			context.assertEquals( "Concert", titles.get( 1 ) );
+		} ) );
+	}
+
+	@Test
+	public void testRollbackOnException(TestContext context) {
+		test( context, blocking( () -> {
+			Blocking.SessionFactory factory = getBlockingSessionFactory();
+			try {
+				factory.withTransaction( (session, tx) -> {
+					session.persist( new Ticket( 3, "Circus" ) );
+					session.flush();
+					throw new IllegalArgumentException( "Cancelled" );
+				} );
+				context.fail( "Expected the work to fail" );
+			}
+			catch (IllegalArgumentException e) {
+				context.assertEquals( "Cancelled", e.getMessage() );
+			}
+			context.assertNull( factory.withSession( session -> session.find( Ticket.class, 3 ) ) );
+		} ) );
+	}
+
+	@Test
+	public void testNestedSessionIsReused(TestContext context) {
+		test( context, blocking( () -> {
+			Blocking.SessionFactory factory = getBlockingSessionFactory();
+			factory.withSession( outer -> factory.withSession( inner -> {
+				context.assertTrue( outer == inner );
+				return null;
+			} ) );
+		} ) );
+	}
+
+	@Test
+	public void testSessionIsConfinedToThread(TestContext context) {
+		test( context, blocking( () -> {
+			Blocking.Session session = getBlockingSessionFactory().openSession();
+			try {
+				CompletableFuture.runAsync( () -> session.find( Ticket.class, 1 ) ).join();
+				context.fail( "Expected use from another thread to fail" );
+			}
+			catch (Exception e) {
+				context.assertTrue( e.getCause() instanceof IllegalStateException );
+			}
+			finally {
+				session.close();
+			}
+			context.assertFalse( session.isOpen() );
+		} ) );
+	}
+
+	@Test
+	public void testNotAllowedOnEventLoop(TestContext context) {
+		Blocking.SessionFactory factory = getBlockingSessionFactory();
+		CompletableFuture<Void> result = new CompletableFuture<>();
+		vertxContextRule.vertx().runOnContext( v -> {
+			try {
+				factory.withSession( session -> session.find( Ticket.class, 1 ) );
+				result.completeExceptionally( new AssertionError( "Expected use from the event loop to fail" ) );
+			}
+			catch (IllegalStateException e) {
+				result.complete( null );
+			}
+		} );
+		test( context, result );
+	}
+
+	@Entity(name = "Ticket")
+	@Table(name = "Ticket")
+	public static class Ticket {
+		@Id
+		Integer id;
+		String title;
+
+		public Ticket() {
+		}
+
+		public Ticket(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
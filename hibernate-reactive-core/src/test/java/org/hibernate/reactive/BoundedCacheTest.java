@@ -0,0 +1,97 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.reactive.cache.impl.BoundedCache;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the eviction policy of {@link BoundedCache}
+ */
+public class BoundedCacheTest {
+
+	@Test
+	public void testEvictsLeastRecentlyUsedEntry() {
+		BoundedCache cache = new BoundedCache( "test", 3, 0, 0 );
+		cache.put( 1, "one" );
+		cache.put( 2, "two" );
+		cache.put( 3, "three" );
+		cache.put( 4, "four" );
+
+		assertThat( cache.contains( 1 ) ).isFalse();
+		assertThat( cache.contains( 2 ) ).isTrue();
+		assertThat( cache.contains( 3 ) ).isTrue();
+		assertThat( cache.contains( 4 ) ).isTrue();
+		assertThat( cache.getElementCount() ).isEqualTo( 3 );
+		assertThat( cache.getEvictionCount() ).isEqualTo( 1 );
+		assertThat( cache.getPutCount() ).isEqualTo( 4 );
+	}
+
+	@Test
+	public void testScanDoesNotEvictFrequentlyUsedEntries() {
+		BoundedCache cache = new BoundedCache( "test", 4, 0, 0 );
+		cache.put( "hot", "value" );
+		assertThat( cache.get( "hot" ) ).isEqualTo( "value" );
+
+		// entries read only once should be evicted first
+		for ( int i = 0; i < 10; i++ ) {
+			cache.put( i, i );
+		}
+
+		assertThat( cache.get( "hot" ) ).isEqualTo( "value" );
+		assertThat( cache.getElementCount() ).isEqualTo( 4 );
+		assertThat( cache.getHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testEvictsWhenEstimatedSizeExceeded() {
+		BoundedCache cache = new BoundedCache( "test", 0, 1_000, 0 );
+		for ( int i = 0; i < 100; i++ ) {
+			cache.put( i, "a string value which takes up some space" );
+		}
+
+		assertThat( cache.getEstimatedSizeInBytes() ).isLessThanOrEqualTo( 1_000 );
+		assertThat( cache.getElementCount() ).isGreaterThan( 0 ).isLessThan( 100 );
+		assertThat( cache.getEvictionCount() ).isEqualTo( 100 - cache.getElementCount() );
+	}
+
+	@Test
+	public void testExpiresEntries() {
+		AtomicLong clock = new AtomicLong();
+		BoundedCache cache = new BoundedCache( "test", 10, 0, 100, clock::get );
+		cache.put( 1, "one" );
+
+		clock.set( 99 );
+		assertThat( cache.get( 1 ) ).isEqualTo( "one" );
+
+		clock.set( 100 );
+		assertThat( cache.contains( 1 ) ).isFalse();
+		assertThat( cache.get( 1 ) ).isNull();
+		assertThat( cache.getExpirationCount() ).isEqualTo( 1 );
+		assertThat( cache.getMissCount() ).isEqualTo( 1 );
+		assertThat( cache.getElementCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testRemoveAndClear() {
+		BoundedCache cache = new BoundedCache( "test", 0, 0, 0 );
+		cache.put( 1, "one" );
+		cache.put( 2, "two" );
+		cache.remove( 1 );
+
+		assertThat( cache.contains( 1 ) ).isFalse();
+		assertThat( cache.contains( 2 ) ).isTrue();
+
+		cache.clear();
+		assertThat( cache.getElementCount() ).isEqualTo( 0 );
+		assertThat( cache.getEstimatedSizeInBytes() ).isEqualTo( 0 );
+	}
+}
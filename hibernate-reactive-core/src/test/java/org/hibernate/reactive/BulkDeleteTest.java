@@ -0,0 +1,134 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OptimisticLockException;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Test that a flush with many deletions of the same entity deletes
+ * them in bulk, and still checks the number of deleted rows.
+ */
+public class BulkDeleteTest extends BaseReactiveTest {
+
+	private static final int SIZE = 1500;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Shelf.class );
+		configuration.addAnnotatedClass( Volume.class );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Volume", "Shelf" ) );
+	}
+
+	@Test
+	public void testDeleteManyEntitiesInOneFlush(TestContext context) {
+		Shelf shelf = new Shelf( 1L, "Fiction" );
+		List<Volume> volumes = new ArrayList<>();
+		for ( int i = 0; i < SIZE; i++ ) {
+			volumes.add( new Volume( i + 1L, "Volume " + i, shelf ) );
+		}
+
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persist( shelf ).call( () -> s.persistAll( volumes.toArray() ) ) )
+				.chain( () -> getMutinySessionFactory().withTransaction( (s, tx) -> s
+						.createQuery( "from Volume", Volume.class ).getResultList()
+						// the volumes must be deleted before the shelf
+						.call( list -> s.removeAll( list.toArray() ) )
+						.chain( () -> s.find( Shelf.class, shelf.id ) )
+						.call( s::remove )
+						.call( s::flush )
+						.invoke( () -> {
+							// one statement for each chunk of 1000 volumes,
+							// and one for the shelf
+							context.assertEquals( 3L, s.getFlushStatistics().getStatementCount() );
+						} ) ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createQuery( "select count(*) from Volume", Long.class ).getSingleResult() ) )
+				.invoke( count -> context.assertEquals( 0L, count ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Shelf.class, shelf.id ) ) )
+				.invoke( context::assertNull )
+		);
+	}
+
+	@Test
+	public void testUnexpectedRowCount(TestContext context) {
+		Shelf shelf = new Shelf( 1L, "Poetry" );
+		Volume first = new Volume( 1L, "Odes", shelf );
+		Volume second = new Volume( 2L, "Sonnets", shelf );
+
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist( shelf, first, second ) )
+				.thenCompose( v -> getSessionFactory().withTransaction( (s, tx) -> s
+						.find( Volume.class, first.id, second.id )
+						// the row is deleted behind the session's back
+						.thenCompose( list -> s.createQuery( "delete from Volume where id = :id" )
+								.setParameter( "id", first.id )
+								.executeUpdate()
+								.thenCompose( count -> s.remove( list.toArray() ) ) ) ) )
+				.handle( (v, e) -> {
+					context.assertNotNull( e );
+					context.assertTrue( e.getCause() instanceof OptimisticLockException );
+					context.assertTrue( e.getCause().getMessage().contains( "HR000076" ) );
+					return v;
+				} )
+		);
+	}
+
+	@Entity(name = "Shelf")
+	@Table(name = "Shelf")
+	public static class Shelf {
+		@Id
+		Long id;
+		String name;
+
+		public Shelf() {
+		}
+
+		public Shelf(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Volume")
+	@Table(name = "Volume")
+	public static class Volume {
+		@Id
+		Long id;
+		String title;
+		@ManyToOne
+		Shelf shelf;
+
+		public Volume() {
+		}
+
+		public Volume(Long id, String title, Shelf shelf) {
+			this.id = id;
+			this.title = title;
+			this.shelf = shelf;
+		}
+	}
+}
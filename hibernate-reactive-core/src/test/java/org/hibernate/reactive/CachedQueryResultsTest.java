@@ -20,6 +20,7 @@
 import org.hibernate.cfg.Environment;
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.provider.Settings;
+import org.hibernate.stat.Statistics;
 
 import org.junit.Test;
 
@@ -51,6 +52,7 @@ protected Configuration constructConfiguration() {
 		Configuration configuration = super.constructConfiguration();
 		configuration.getProperties().put( Settings.USE_SECOND_LEVEL_CACHE, Boolean.TRUE );
 		configuration.getProperties().put( Settings.USE_QUERY_CACHE, Boolean.TRUE );
+		configuration.getProperties().put( Settings.GENERATE_STATISTICS, Boolean.TRUE );
 		configuration.setProperty( Environment.CACHE_REGION_FACTORY, "org.hibernate.cache.jcache.internal.JCacheRegionFactory" );
 		configuration.setProperty( AvailableSettings.HBM2DDL_IMPORT_FILES, "/import-for-querycachetest.sql" );
 		configuration.setProperty( "hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider" );
@@ -102,6 +104,27 @@ public void testLoadFromCachedQueryResultFromCache(TestContext context) {
 		);
 	}
 
+	@Test
+	public void testLoadMissingEntitiesWithoutRunningTheQueryAgain(TestContext context) {
+		getSessionFactory().getCache().evictAllRegions();
+		Statistics statistics = factoryManager.getHibernateSessionFactory().getStatistics();
+		statistics.clear();
+		test( context, getMutinySessionFactory().withSession( CachedQueryResultsTest::findall )
+				// The entities aren't cacheable, so only the ids are in the query cache
+				.call( () -> getMutinySessionFactory().withSession( CachedQueryResultsTest::findall ) )
+				.invoke( list -> {
+					context.assertEquals( 3, list.size() );
+					int i = 0;
+					for ( Fruit entity : list ) {
+						context.assertEquals( entity, FRUITS[i++] );
+					}
+					context.assertEquals( 1L, statistics.getQueryExecutionCount() );
+					context.assertEquals( 1L, statistics.getQueryCacheMissCount() );
+					context.assertEquals( 1L, statistics.getQueryCacheHitCount() );
+				} )
+		);
+	}
+
 	private static Uni<List<Fruit>> findall2(Mutiny.Session session) {
 		return session.createQuery( "FROM Fruit f ORDER BY f.name ASC", Fruit.class )
 				.setCacheable(true)
@@ -0,0 +1,154 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.impl.DefaultSqlClientPool;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnectOptions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
+/**
+ * Test sessions running on several event loops when each event loop
+ * has its own connection pool, as enabled by
+ * {@link Settings#POOL_EVENT_LOOP_AFFINE}.
+ */
+public class EventLoopAffinePoolTest extends BaseReactiveTest {
+
+	private static final int EVENT_LOOPS = 4;
+	private static final int SESSIONS_PER_EVENT_LOOP = 5;
+
+	// one connection left over, which goes to the first pool created
+	private static final int POOL_SIZE = VertxOptions.DEFAULT_EVENT_LOOP_POOL_SIZE + 1;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Visit.class );
+		configuration.setProperty( Settings.POOL_EVENT_LOOP_AFFINE, "true" );
+		configuration.setProperty( Settings.POOL_SIZE, String.valueOf( POOL_SIZE ) );
+		configuration.setProperty( Settings.SQL_CLIENT_POOL, RecordingPool.class.getName() );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Visit" ) );
+	}
+
+	@Test
+	public void testSessionsOnSeveralEventLoops(TestContext context) {
+		VertxInternal vertx = (VertxInternal) vertxContextRule.vertx();
+		List<CompletionStage<Void>> loops = new ArrayList<>();
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		for ( int i = 0; i < EVENT_LOOPS; i++ ) {
+			Context eventLoopContext = vertx.createEventLoopContext();
+			int loop = i;
+			CompletableFuture<Void> done = new CompletableFuture<>();
+			eventLoopContext.runOnContext( v -> {
+				Thread thread = Thread.currentThread();
+				threads.add( thread );
+				loop( 0, SESSIONS_PER_EVENT_LOOP, j -> getSessionFactory()
+						.withTransaction( (s, tx) -> s.persist( new Visit( loop * SESSIONS_PER_EVENT_LOOP + j, thread.getName() ) ) )
+						// the session stays on the event loop which started it
+						.thenAccept( x -> context.assertEquals( thread, Thread.currentThread() ) ) )
+						.whenComplete( (x, e) -> {
+							if ( e == null ) {
+								done.complete( null );
+							}
+							else {
+								done.completeExceptionally( e );
+							}
+						} );
+			} );
+			loops.add( done );
+		}
+
+		test( context, CompletableFuture.allOf( loops.toArray( new CompletableFuture<?>[0] ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( "select count(*) from Visit", Long.class ).getSingleResult() ) )
+				.thenAccept( count -> context.assertEquals( (long) EVENT_LOOPS * SESSIONS_PER_EVENT_LOOP, count ) )
+				.thenAccept( v -> {
+					// each event loop obtained its connections from its own pool
+					Set<Pool> pools = ConcurrentHashMap.newKeySet();
+					for ( Thread thread : threads ) {
+						assertThat( RecordingPool.POOLS_BY_THREAD.get( thread ) ).hasSize( 1 );
+						pools.addAll( RecordingPool.POOLS_BY_THREAD.get( thread ) );
+					}
+					assertThat( pools ).hasSameSizeAs( threads );
+					// and the pools share out the connections without exceeding the pool size
+					int share = POOL_SIZE / VertxOptions.DEFAULT_EVENT_LOOP_POOL_SIZE;
+					assertThat( RecordingPool.SIZES.values() ).containsOnly( share, share + 1 );
+					assertThat( RecordingPool.SIZES.values() ).containsOnlyOnce( share + 1 );
+				} )
+		);
+	}
+
+	/**
+	 * Records the maximum size of each pool created, and the pools used
+	 * by each thread.
+	 */
+	public static class RecordingPool extends DefaultSqlClientPool {
+		static final Map<Pool, Integer> SIZES = new ConcurrentHashMap<>();
+		static final Map<Thread, Set<Pool>> POOLS_BY_THREAD = new ConcurrentHashMap<>();
+
+		@Override
+		protected Pool createPool(URI uri, SqlConnectOptions connectOptions, PoolOptions poolOptions, Vertx vertx) {
+			Pool pool = super.createPool( uri, connectOptions, poolOptions, vertx );
+			SIZES.put( pool, poolOptions.getMaxSize() );
+			return pool;
+		}
+
+		@Override
+		protected Pool getPool() {
+			Pool pool = super.getPool();
+			POOLS_BY_THREAD.computeIfAbsent( Thread.currentThread(), thread -> ConcurrentHashMap.newKeySet() )
+					.add( pool );
+			return pool;
+		}
+	}
+
+	@Entity(name = "Visit")
+	@Table(name = "Visit")
+	public static class Visit {
+		@Id
+		Integer id;
+		String thread;
+
+		public Visit() {
+		}
+
+		public Visit(Integer id, String thread) {
+			this.id = id;
+			this.thread = thread;
+		}
+	}
+}
@@ -0,0 +1,90 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.stat.FlushStatistics;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test the timings and counts recorded for each flush.
+ */
+public class FlushStatisticsTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Gadget.class );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Gadget" ) );
+	}
+
+	@Test
+	public void testFlushStatistics(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> {
+					context.assertNull( s.getFlushStatistics() );
+					return s.persistAll( new Gadget( 1, "Widget" ), new Gadget( 2, "Sprocket" ), new Gadget( 3, "Gizmo" ) )
+							.call( s::flush )
+							.invoke( () -> {
+								FlushStatistics statistics = s.getFlushStatistics();
+								context.assertNotNull( statistics );
+								context.assertEquals( 3, statistics.getEntitiesInspected() );
+								context.assertEquals( 0, statistics.getEntitiesDirty() );
+								context.assertEquals( 3L, statistics.getStatementCount() );
+								assertThat( statistics.getExecutionTimes() ).containsOnlyKeys( "insertions" );
+								assertThat( statistics.getTotalTime() ).isPositive();
+							} );
+				} )
+				.chain( () -> getMutinySessionFactory().withTransaction( (s, tx) -> s
+						.createQuery( "from Gadget", Gadget.class ).getResultList()
+						.invoke( list -> list.get( 0 ).name = list.get( 0 ).name.toUpperCase() )
+						.call( s::flush )
+						.invoke( () -> {
+							FlushStatistics statistics = s.getFlushStatistics();
+							context.assertEquals( 3, statistics.getEntitiesInspected() );
+							context.assertEquals( 1, statistics.getEntitiesDirty() );
+							context.assertEquals( 1L, statistics.getStatementCount() );
+							assertThat( statistics.getExecutionTimes() ).containsOnlyKeys( "updates" );
+							assertThat( statistics.getTotalTime() ).isGreaterThanOrEqualTo(
+									statistics.getCascadeTime() + statistics.getDirtyCheckTime() + statistics.getSortTime()
+							);
+						} ) ) )
+		);
+	}
+
+	@Entity(name = "Gadget")
+	@Table(name = "Gadget")
+	public static class Gadget {
+		@Id
+		Integer id;
+		String name;
+
+		public Gadget() {
+		}
+
+		public Gadget(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
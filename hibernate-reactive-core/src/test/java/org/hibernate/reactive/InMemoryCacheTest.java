@@ -0,0 +1,114 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.reactive.cache.RegionStatistics;
+import org.hibernate.reactive.cache.impl.InMemoryRegionFactory;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.hibernate.annotations.CacheConcurrencyStrategy.NONSTRICT_READ_WRITE;
+
+public class InMemoryCacheTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Named.class );
+		configuration.setProperty( Settings.USE_SECOND_LEVEL_CACHE, "true" );
+		configuration.setProperty( Settings.CACHE_REGION_FACTORY, InMemoryRegionFactory.class.getName() );
+		configuration.setProperty( Settings.CACHE_MAX_ENTRIES + ".reg.bounded", "2" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDB(TestContext context) {
+		getSessionFactory().close();
+	}
+
+	private static RegionStatistics regionStatistics() {
+		InMemoryRegionFactory regionFactory = (InMemoryRegionFactory) factoryManager.getHibernateSessionFactory()
+				.unwrap( SessionFactoryImplementor.class )
+				.getCache()
+				.getRegionFactory();
+		return regionFactory.getRegionStatistics( "reg.bounded" );
+	}
+
+	@Test
+	public void testCacheWithHQL(TestContext context) {
+		org.hibernate.Cache cache = getSessionFactory().getCache();
+		test( context,
+				getSessionFactory().withTransaction(
+						(s, t) -> s.persist( new Named( "foo" ), new Named( "bar" ), new Named( "baz" ) )
+				)
+						//populate the cache
+						.thenCompose( v -> getSessionFactory().withSession(
+								s -> s.createQuery( "from Named" ).getResultList()
+										.thenAccept( list -> context.assertEquals( 3, list.size() ) )
+						) )
+						.thenAccept( v -> {
+							// the region only holds two entries, so the first one was evicted
+							context.assertFalse( cache.contains( Named.class, 1 ) );
+							context.assertTrue( cache.contains( Named.class, 2 ) );
+							context.assertTrue( cache.contains( Named.class, 3 ) );
+							context.assertEquals( 2L, regionStatistics().getElementCount() );
+							context.assertEquals( 1L, regionStatistics().getEvictionCount() );
+						} )
+						//read stuff from the cache
+						.thenCompose( v -> getSessionFactory().withSession(
+								s -> s.find( Named.class, 2 )
+										.thenAccept( n -> context.assertEquals( "bar", n.name ) )
+						) )
+						.thenAccept( v -> context.assertEquals( 1L, regionStatistics().getHitCount() ) )
+						//change the database
+						.thenCompose( v -> getSessionFactory().withSession(
+								s -> s.createQuery( "update Named set name='x'||name" ).executeUpdate()
+						) )
+						.thenAccept( v -> {
+							context.assertFalse( cache.contains( Named.class, 2 ) );
+							context.assertFalse( cache.contains( Named.class, 3 ) );
+							context.assertEquals( 0L, regionStatistics().getElementCount() );
+						} )
+						//read stuff from the database
+						.thenCompose( v -> getSessionFactory().withSession(
+								s -> s.find( Named.class, 1 )
+										.thenAccept( n -> context.assertEquals( "xfoo", n.name ) )
+						) )
+						.thenAccept( v -> context.assertTrue( cache.contains( Named.class, 1 ) ) )
+		);
+	}
+
+	@Entity(name = "Named")
+	@Table(name = "named_thing")
+	@Cacheable
+	@Cache(region = "reg.bounded", usage = NONSTRICT_READ_WRITE)
+	static class Named {
+		@Id
+		@GeneratedValue
+		Integer id;
+		String name;
+
+		public Named(String name) {
+			this.name = name;
+		}
+
+		public Named() {
+		}
+	}
+}
@@ -7,6 +7,8 @@
 
 import io.vertx.ext.unit.TestContext;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.bulk.impl.ReactiveBulkIdStrategy;
+import org.hibernate.reactive.provider.Settings;
 
 import org.junit.After;
 import org.junit.Test;
@@ -27,6 +29,86 @@ protected Configuration constructConfiguration() {
 		return configuration;
 	}
 
+	/**
+	 * Select the rows affected by multi-table HQL {@code update} and
+	 * {@code delete} queries in a {@code with} clause.
+	 */
+	public static class CteBulkIdStrategy extends JoinedSubclassInheritanceTest {
+
+		@Override
+		protected Configuration constructConfiguration() {
+			Configuration configuration = super.constructConfiguration();
+			configuration.setProperty( Settings.BULK_ID_STRATEGY, ReactiveBulkIdStrategy.CTE );
+			return configuration;
+		}
+
+		@Test
+		public void testQueryUpdateRowCount(TestContext context) {
+			final SpellBook spells = new SpellBook( 6, "Necronomicon", true, new Date() );
+			final SpellBook other = new SpellBook( 7, "Book of Eibon", false, new Date() );
+
+			test( context, openSession()
+					.thenCompose( s -> s.persist( spells, other ).thenCompose( v -> s.flush() ) )
+					// the where clause restricts a column which is updated
+					.thenCompose( v -> getSessionFactory().withTransaction( (s, t) -> s
+							.createQuery( "update SpellBook set title=title||' II', forbidden=false where forbidden=true" )
+							.executeUpdate() ) )
+					.thenAccept( count -> context.assertEquals( 1, count ) )
+					.thenCompose( v -> getSessionFactory().withSession( s -> s.find( SpellBook.class, 6 ) ) )
+					.thenAccept( book -> {
+						context.assertEquals( "Necronomicon II", book.getTitle() );
+						context.assertFalse( book.getForbidden() );
+					} )
+					.thenCompose( v -> getSessionFactory().withTransaction( (s, t) -> s
+							.createQuery( "delete Book" )
+							.executeUpdate() ) )
+					.thenAccept( count -> context.assertEquals( 2, count ) )
+			);
+		}
+	}
+
+	/**
+	 * List the identifiers of the rows affected by multi-table HQL
+	 * {@code update} and {@code delete} queries in the SQL statements.
+	 */
+	public static class InlineBulkIdStrategy extends JoinedSubclassInheritanceTest {
+
+		@Override
+		protected Configuration constructConfiguration() {
+			Configuration configuration = super.constructConfiguration();
+			configuration.setProperty( Settings.BULK_ID_STRATEGY, ReactiveBulkIdStrategy.INLINE );
+			configuration.setProperty( Settings.BULK_ID_INLINE_LIMIT, "1" );
+			return configuration;
+		}
+
+		@Test
+		public void testQueryUpdateAboveInlineLimit(TestContext context) {
+			final SpellBook spells = new SpellBook( 6, "Necronomicon", true, new Date() );
+			final SpellBook other = new SpellBook( 7, "Book of Eibon", true, new Date() );
+
+			test( context, openSession()
+					.thenCompose( s -> s.persist( spells, other ).thenCompose( v -> s.flush() ) )
+					.thenCompose( v -> getSessionFactory().withTransaction( (s, t) -> s
+							.createQuery( "update SpellBook set forbidden=false where title='Necronomicon'" )
+							.executeUpdate() ) )
+					.thenAccept( count -> context.assertEquals( 1, count ) )
+					// two rows exceed the limit, so a temporary table is used
+					.thenCompose( v -> getSessionFactory().withTransaction( (s, t) -> s
+							.createQuery( "update SpellBook set title=title||' II'" )
+							.executeUpdate() ) )
+					.thenCompose( v -> getSessionFactory().withSession( s -> s
+							.createQuery( "from SpellBook order by id", SpellBook.class )
+							.getResultList() ) )
+					.thenAccept( list -> {
+						context.assertEquals( "Necronomicon II", list.get( 0 ).getTitle() );
+						context.assertFalse( list.get( 0 ).getForbidden() );
+						context.assertEquals( "Book of Eibon II", list.get( 1 ).getTitle() );
+						context.assertTrue( list.get( 1 ).getForbidden() );
+					} )
+			);
+		}
+	}
+
 	@After
 	public void cleanDb(TestContext context) {
 		test( context, deleteEntities( "Book", "Author", "SpellBook" ) );
@@ -141,6 +223,51 @@ public void testQueryUpdate(TestContext context) {
 		);
 	}
 
+	@Test
+	public void testRepeatedQueryUpdate(TestContext context) {
+		final SpellBook spells = new SpellBook( 6, "Necronomicon", true, new Date() );
+
+		test( context, openSession()
+				.thenCompose( s -> s.persist( spells ).thenCompose( v -> s.flush() ) )
+				// the same id table is used by both updates
+				.thenCompose( v -> getSessionFactory().withTransaction( (s, t) -> s
+						.createQuery( "update SpellBook set title=title||' II'" ).executeUpdate()
+						.thenCompose( i -> s.createQuery( "update SpellBook set title=title||' III'" ).executeUpdate() ) ) )
+				// the changes to the id table are rolled back along with the update
+				.thenCompose( v -> getSessionFactory().withTransaction( (s, t) -> s
+						.createQuery( "update SpellBook set forbidden=false" ).executeUpdate()
+						.thenAccept( i -> t.markForRollback() ) ) )
+				.thenCompose( v -> getSessionFactory().withTransaction( (s, t) -> s
+						.createQuery( "update SpellBook set title=title||' IV' where forbidden=true" ).executeUpdate() ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( SpellBook.class, 6 ) ) )
+				.thenAccept( book -> {
+					context.assertEquals( "Necronomicon II III IV", book.getTitle() );
+					context.assertTrue( book.getForbidden() );
+				} )
+		);
+	}
+
+	@Test
+	public void testRepeatedQueryUpdateOutsideTransaction(TestContext context) {
+		final SpellBook spells = new SpellBook( 6, "Necronomicon", true, new Date() );
+		final SpellBook other = new SpellBook( 7, "Book of Shadows", false, new Date() );
+
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( spells, other ) )
+				// the ids must survive until the last statement of each update
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( "update SpellBook set title=title||' II', forbidden=false where id=6" ).executeUpdate()
+						.thenCompose( i -> s.createQuery( "update SpellBook set title=title||' III', forbidden=true where id=7" ).executeUpdate() ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( SpellBook.class, 6, 7 ) ) )
+				.thenAccept( books -> {
+					context.assertEquals( "Necronomicon II", books.get( 0 ).getTitle() );
+					context.assertFalse( books.get( 0 ).getForbidden() );
+					context.assertEquals( "Book of Shadows III", books.get( 1 ).getTitle() );
+					context.assertTrue( books.get( 1 ).getForbidden() );
+				} )
+		);
+	}
+
 	@Test
 	public void testQueryUpdateWithParameters(TestContext context) {
 		final SpellBook spells = new SpellBook( 6, "Necronomicon", true, new Date() );
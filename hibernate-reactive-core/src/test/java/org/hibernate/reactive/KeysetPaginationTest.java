@@ -0,0 +1,210 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Objects;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test {@code setKeysetAfter()} in combination with max results.
+ */
+public class KeysetPaginationTest extends BaseReactiveTest {
+
+	Chapter first = new Chapter( 1L, "Loomings", 1 );
+	Chapter second = new Chapter( 2L, "The Carpet-Bag", 1 );
+	Chapter third = new Chapter( 3L, "The Spouter-Inn", 2 );
+	Chapter fourth = new Chapter( 4L, "The Counterpane", 2 );
+	Chapter fifth = new Chapter( 5L, "Breakfast", 3 );
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Chapter.class );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		test( context, getMutinySessionFactory().withTransaction( (s, tx) -> s
+				.persistAll( first, second, third, fourth, fifth ) ) );
+	}
+
+	@After
+	public void clearDb(TestContext context) {
+		test( context, deleteEntities( "Chapter" ) );
+	}
+
+	@Test
+	public void testKeysetWithStage(TestContext context) {
+		final String hql = "from Chapter order by part desc, id";
+		test( context, openSession()
+				.thenCompose( session -> session.createQuery( hql, Chapter.class )
+						.setMaxResults( 2 )
+						.getResultList()
+						.thenApply( page -> {
+							assertThat( page ).containsExactly( fifth, third );
+							return page.get( page.size() - 1 );
+						} )
+						.thenCompose( last -> session.createQuery( hql, Chapter.class )
+								.setKeysetAfter( last.part, last.id )
+								.setMaxResults( 2 )
+								.getResultList() )
+						.thenApply( page -> {
+							assertThat( page ).containsExactly( fourth, first );
+							return page.get( page.size() - 1 );
+						} )
+						.thenCompose( last -> session.createQuery( hql, Chapter.class )
+								.setKeysetAfter( last.part, last.id )
+								.setMaxResults( 2 )
+								.getResultList() )
+						.thenAccept( page -> assertThat( page ).containsExactly( second ) )
+				)
+		);
+	}
+
+	@Test
+	public void testKeysetWithWhereClauseWithMutiny(TestContext context) {
+		test( context, openMutinySession()
+				.chain( session -> session
+						.createQuery( "from Chapter where title like :title order by id", Chapter.class )
+						.setParameter( "title", "The %" )
+						.setKeysetAfter( 2L )
+						.setMaxResults( 1 )
+						.getResultList() )
+				.invoke( page -> assertThat( page ).containsExactly( third ) )
+		);
+	}
+
+	@Test
+	public void testKeysetWithProjection(TestContext context) {
+		test( context, openSession()
+				.thenCompose( session -> session
+						.createQuery( "select c.title from Chapter c where c.part < 3 order by c.part, c.title desc", String.class )
+						.setKeysetAfter( 1, "The Carpet-Bag" )
+						.getResultList() )
+				.thenAccept( titles -> assertThat( titles ).containsExactly( "Loomings", "The Spouter-Inn", "The Counterpane" ) )
+		);
+	}
+
+	@Test
+	public void testKeysetWithoutOrderBy(TestContext context) {
+		test( context, openSession()
+				.thenCompose( session -> session.createQuery( "from Chapter", Chapter.class )
+						.setKeysetAfter( 1L )
+						.getResultList() )
+				.handle( (list, e) -> {
+					context.assertNotNull( e );
+					context.assertTrue( e.getCause() instanceof IllegalArgumentException );
+					return list;
+				} )
+		);
+	}
+
+	@Test
+	public void testKeysetWithWrongNumberOfValues(TestContext context) {
+		test( context, openSession()
+				.thenCompose( session -> session.createQuery( "from Chapter order by part, id", Chapter.class )
+						.setKeysetAfter( 1 )
+						.getResultList() )
+				.handle( (list, e) -> {
+					context.assertNotNull( e );
+					context.assertTrue( e.getCause() instanceof IllegalArgumentException );
+					return list;
+				} )
+		);
+	}
+
+	@Test
+	public void testKeysetWithSelectAlias(TestContext context) {
+		test( context, openSession()
+				.thenCompose( session -> session
+						.createQuery( "select c.title as t from Chapter c order by t", String.class )
+						.setKeysetAfter( "The Carpet-Bag" )
+						.getResultList() )
+				.thenAccept( titles -> assertThat( titles ).containsExactly( "The Counterpane", "The Spouter-Inn" ) )
+		);
+	}
+
+	@Test
+	public void testKeysetWithFunctionInOrderBy(TestContext context) {
+		test( context, openSession()
+				.thenCompose( session -> session.createQuery( "from Chapter c order by lower(c.title)", Chapter.class )
+						.setKeysetAfter( "loomings" )
+						.getResultList() )
+				.handle( (list, e) -> {
+					context.assertNotNull( e );
+					context.assertTrue( e.getCause() instanceof IllegalArgumentException );
+					return list;
+				} )
+		);
+	}
+
+	@Test
+	public void testKeysetWithNativeQuery(TestContext context) {
+		test( context, openSession()
+				.thenCompose( session -> session.createNativeQuery( "select * from Chapter order by id", Chapter.class )
+						.setKeysetAfter( 1L )
+						.getResultList() )
+				.handle( (list, e) -> {
+					context.assertNotNull( e );
+					context.assertTrue( e.getCause() instanceof IllegalStateException );
+					return list;
+				} )
+		);
+	}
+
+	@Entity(name = "Chapter")
+	@Table(name = "Chapter")
+	public static class Chapter {
+		@Id
+		private Long id;
+		private String title;
+		private int part;
+
+		public Chapter() {
+		}
+
+		public Chapter(Long id, String title, int part) {
+			this.id = id;
+			this.title = title;
+			this.part = part;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			Chapter chapter = (Chapter) o;
+			return Objects.equals( id, chapter.id );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( id );
+		}
+
+		@Override
+		public String toString() {
+			return id + ":" + title;
+		}
+	}
+}
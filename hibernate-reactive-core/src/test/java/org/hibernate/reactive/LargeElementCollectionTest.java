@@ -0,0 +1,125 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.OrderColumn;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test inserting and deleting more rows of an element collection than
+ * fit in a single multi-row statement.
+ */
+public class LargeElementCollectionTest extends BaseReactiveTest {
+
+	private static final int SIZE = 2500;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Article.class );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Article" ) );
+	}
+
+	@Test
+	public void testSet(TestContext context) {
+		Article article = new Article( 1, "Elements" );
+		for ( int i = 0; i < SIZE; i++ ) {
+			article.tags.add( "tag" + i );
+		}
+
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persist( article ) )
+				.chain( () -> getMutinySessionFactory().withTransaction( (s, tx) -> s
+						.find( Article.class, article.id )
+						.call( found -> s.fetch( found.tags ) )
+						.invoke( found -> {
+							assertThat( found.tags ).hasSize( SIZE );
+							found.tags.removeIf( tag -> Integer.parseInt( tag.substring( 3 ) ) % 2 == 0 );
+							found.tags.add( "extra1" );
+							found.tags.add( "extra2" );
+						} ) ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.find( Article.class, article.id )
+						.call( found -> s.fetch( found.tags ) ) ) )
+				.invoke( found -> {
+					assertThat( found.tags ).hasSize( SIZE / 2 + 2 );
+					assertThat( found.tags ).contains( "tag1", "extra1", "extra2" );
+					assertThat( found.tags ).doesNotContain( "tag0", "tag2" );
+				} )
+		);
+	}
+
+	@Test
+	public void testList(TestContext context) {
+		Article article = new Article( 2, "Indexes" );
+		for ( int i = 0; i < SIZE; i++ ) {
+			article.lines.add( "line" + i );
+		}
+
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persist( article ) )
+				.chain( () -> getMutinySessionFactory().withTransaction( (s, tx) -> s
+						.find( Article.class, article.id )
+						.call( found -> s.fetch( found.lines ) )
+						.invoke( found -> {
+							assertThat( found.lines ).hasSize( SIZE );
+							// deletes the rows at the end of the list
+							found.lines.subList( 10, SIZE ).clear();
+						} ) ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.find( Article.class, article.id )
+						.call( found -> s.fetch( found.lines ) ) ) )
+				.invoke( found -> {
+					assertThat( found.lines ).hasSize( 10 );
+					assertThat( found.lines.get( 9 ) ).isEqualTo( "line9" );
+				} )
+		);
+	}
+
+	@Entity(name = "Article")
+	@Table(name = "Article")
+	public static class Article {
+		@Id
+		Integer id;
+		String title;
+
+		@ElementCollection
+		Set<String> tags = new HashSet<>();
+
+		@ElementCollection
+		@OrderColumn
+		List<String> lines = new ArrayList<>();
+
+		public Article() {
+		}
+
+		public Article(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Test the eviction of entities from the persistence context when it
+ * exceeds the limit set by {@link Settings#MAX_MANAGED_ENTITIES}.
+ */
+public class MaxManagedEntitiesTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Gadget.class );
+		configuration.addAnnotatedClass( Part.class );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( Settings.MAX_MANAGED_ENTITIES, "10" );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		List<Object> entities = new ArrayList<>();
+		for ( int i = 1; i <= 20; i++ ) {
+			entities.add( new Gadget( i, "Gadget " + i ) );
+		}
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persistAll( entities.toArray() )
+						.chain( () -> s.find( Gadget.class, 1 ) )
+						.chain( gadget -> s.persist( new Part( 100, gadget ) ) ) ) );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Part", "Gadget" ) );
+	}
+
+	@Test
+	public void testEvictionAfterFlush(TestContext context) {
+		test( context, getMutinySessionFactory().withTransaction( (s, tx) -> {
+			context.assertEquals( 10, s.getMaxManagedEntities() );
+			return s.createQuery( "from Gadget order by id", Gadget.class ).getResultList()
+					.call( s::flush )
+					.invoke( gadgets -> {
+						context.assertEquals( 10, s.getFlushStatistics().getEntitiesEvicted() );
+						context.assertFalse( s.contains( gadgets.get( 0 ) ) );
+						context.assertFalse( s.contains( gadgets.get( 9 ) ) );
+						context.assertTrue( s.contains( gadgets.get( 10 ) ) );
+						context.assertTrue( s.contains( gadgets.get( 19 ) ) );
+					} );
+		} ) );
+	}
+
+	@Test
+	public void testReferencedEntitiesNotEvicted(TestContext context) {
+		test( context, getMutinySessionFactory().withTransaction( (s, tx) -> s
+				.setMaxManagedEntities( 2 )
+				.createQuery( "from Gadget where id <= 3 order by id", Gadget.class ).getResultList()
+				.call( gadgets -> s.find( Part.class, 100 ) )
+				.call( s::flush )
+				.invoke( gadgets -> {
+					context.assertEquals( 2, s.getFlushStatistics().getEntitiesEvicted() );
+					// the gadget is referenced by the part
+					context.assertTrue( s.contains( gadgets.get( 0 ) ) );
+					context.assertFalse( s.contains( gadgets.get( 1 ) ) );
+					context.assertFalse( s.contains( gadgets.get( 2 ) ) );
+				} )
+		) );
+	}
+
+	@Test
+	public void testEvictionFromReadOnlySession(TestContext context) {
+		test( context, getMutinySessionFactory().withTransaction( (s, tx) -> s
+				.setDefaultReadOnly( true )
+				.createQuery( "from Gadget order by id", Gadget.class ).getResultList()
+				.call( s::flush )
+				.invoke( gadgets -> {
+					context.assertFalse( s.contains( gadgets.get( 9 ) ) );
+					context.assertTrue( s.contains( gadgets.get( 10 ) ) );
+				} )
+		) );
+	}
+
+	@Test
+	public void testNoLimit(TestContext context) {
+		test( context, getMutinySessionFactory().withTransaction( (s, tx) -> s
+				.setMaxManagedEntities( null )
+				.createQuery( "from Gadget order by id", Gadget.class ).getResultList()
+				.call( s::flush )
+				.invoke( gadgets -> {
+					context.assertNull( s.getMaxManagedEntities() );
+					context.assertEquals( 0, s.getFlushStatistics().getEntitiesEvicted() );
+					context.assertTrue( s.contains( gadgets.get( 0 ) ) );
+				} )
+		) );
+	}
+
+	@Entity(name = "Gadget")
+	@Table(name = "Gadget")
+	public static class Gadget {
+		@Id
+		Integer id;
+		String name;
+
+		public Gadget() {
+		}
+
+		public Gadget(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Part")
+	@Table(name = "Part")
+	public static class Part {
+		@Id
+		Integer id;
+		@ManyToOne(fetch = FetchType.EAGER)
+		Gadget gadget;
+
+		public Part() {
+		}
+
+		public Part(Integer id, Gadget gadget) {
+			this.id = id;
+			this.gadget = gadget;
+		}
+	}
+}
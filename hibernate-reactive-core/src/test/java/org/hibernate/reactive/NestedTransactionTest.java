@@ -0,0 +1,162 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test nested calls to {@code withTransaction()} using savepoints, when
+ * {@link Settings#NESTED_TRANSACTION_SAVEPOINTS} is enabled.
+ */
+public class NestedTransactionTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Item.class );
+		configuration.setProperty( Settings.NESTED_TRANSACTION_SAVEPOINTS, "true" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Item" ) );
+	}
+
+	@Test
+	public void testNestedFailureRollsBackToSavepoint(TestContext context) {
+		Item first = new Item( 1, "first" );
+		Item failed = new Item( 2, "failed" );
+		Item third = new Item( 3, "third" );
+
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persist( first )
+						.chain( () -> s.withTransaction( nested -> s
+								.persist( failed )
+								.call( s::flush )
+								.chain( () -> Uni.createFrom().failure( new IllegalStateException( "item failed" ) ) ) ) )
+						.onFailure( IllegalStateException.class ).recoverWithNull()
+						.invoke( () -> {
+							context.assertFalse( s.contains( failed ) );
+							context.assertTrue( s.contains( first ) );
+							context.assertEquals( tx, s.currentTransaction() );
+						} )
+						.chain( () -> s.withTransaction( nested -> s.persist( third ) ) ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createQuery( "select name from Item order by id", String.class ).getResultList() ) )
+				.invoke( names -> assertThat( names ).containsExactly( "first", "third" ) )
+		);
+	}
+
+	@Test
+	public void testNestedConstraintViolation(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persist( new Item( 1, "unique" ) )
+						// the database rejects the insert, and the
+						// transaction can only continue after the
+						// rollback to the savepoint
+						.chain( () -> s.withTransaction( nested -> s.persist( new Item( 2, "unique" ) ) ) )
+						.onItem().invoke( () -> context.fail( "Expected a constraint violation" ) )
+						.onFailure().recoverWithNull()
+						.chain( () -> s.withTransaction( nested -> s.persist( new Item( 3, "other" ) ) ) )
+						.chain( () -> s.createQuery( "select count(*) from Item", Long.class ).getSingleResult() ) )
+				.invoke( count -> context.assertEquals( 2L, count ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createQuery( "select name from Item order by id", String.class ).getResultList() ) )
+				.invoke( names -> assertThat( names ).containsExactly( "unique", "other" ) )
+		);
+	}
+
+	@Test
+	public void testNestedMarkForRollback(TestContext context) {
+		Item kept = new Item( 1, "kept" );
+		Item undone = new Item( 2, "undone" );
+
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist( kept )
+						.thenCompose( v -> s.withTransaction( nested -> {
+							nested.markForRollback();
+							return s.persist( undone );
+						} ) )
+						.thenAccept( v -> context.assertFalse( tx.isMarkedForRollback() ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( "select name from Item order by id", String.class ).getResultList() ) )
+				.thenAccept( names -> assertThat( names ).containsExactly( "kept" ) )
+		);
+	}
+
+	@Test
+	public void testNestedRemovalRolledBack(TestContext context) {
+		Item item = new Item( 1, "survivor" );
+
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persist( item ) )
+				.chain( () -> getMutinySessionFactory().withTransaction( (s, tx) -> s
+						.find( Item.class, item.id )
+						.chain( found -> s
+								.withTransaction( nested -> s.remove( found )
+										.chain( () -> Uni.createFrom().failure( new IllegalStateException( "removal failed" ) ) ) )
+								.onFailure( IllegalStateException.class ).recoverWithNull()
+								.invoke( () -> context.assertTrue( s.contains( found ) ) )
+								.invoke( () -> found.name = "SURVIVOR" ) ) ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Item.class, item.id ) ) )
+				.invoke( found -> context.assertEquals( "SURVIVOR", found.name ) )
+		);
+	}
+
+	@Test
+	public void testNestedUpdateRolledBack(TestContext context) {
+		Item item = new Item( 1, "original" );
+
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persist( item ) )
+				.chain( () -> getMutinySessionFactory().withTransaction( (s, tx) -> s
+						.find( Item.class, item.id )
+						.chain( found -> s
+								.withTransaction( nested -> {
+									found.name = "updated";
+									return s.flush()
+											.chain( () -> Uni.createFrom().failure( new IllegalStateException( "update failed" ) ) );
+								} )
+								.onFailure( IllegalStateException.class ).recoverWithNull()
+								// the state of the entity no longer matches the database
+								.invoke( () -> context.assertFalse( s.contains( found ) ) ) ) ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Item.class, item.id ) ) )
+				.invoke( found -> context.assertEquals( "original", found.name ) )
+		);
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "Item")
+	public static class Item {
+		@Id
+		Integer id;
+		@Column(unique = true)
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
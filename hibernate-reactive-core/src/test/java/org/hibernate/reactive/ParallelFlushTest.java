@@ -0,0 +1,207 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Test flushing actions affecting unrelated tables concurrently.
+ */
+public class ParallelFlushTest extends BaseReactiveTest {
+
+	private static final int SIZE = 20;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Writer.class );
+		configuration.addAnnotatedClass( Essay.class );
+		configuration.addAnnotatedClass( Label.class );
+		configuration.addAnnotatedClass( Shelf.class );
+		configuration.addAnnotatedClass( Volume.class );
+		configuration.setProperty( Settings.FLUSH_PARALLELISM, "4" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.createQuery( "delete from Volume" ).executeUpdate()
+						.thenCompose( v -> s.createQuery( "delete from Shelf" ).executeUpdate() ) )
+				.thenCompose( v -> deleteEntities( "Essay", "Writer", "Label" ) ) );
+	}
+
+	@Test
+	public void testInsertUpdateAndDelete(TestContext context) {
+		// the essays must be inserted after, and deleted before, their writers,
+		// but the labels are independent of both
+		List<Object> entities = new ArrayList<>();
+		for ( int i = 0; i < SIZE; i++ ) {
+			Writer writer = new Writer( i, "Writer " + i );
+			entities.add( new Label( i, "Label " + i ) );
+			entities.add( writer );
+			entities.add( new Essay( i, "Essay " + i, writer ) );
+		}
+
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persistAll( entities.toArray() ) )
+				.chain( () -> getMutinySessionFactory().withTransaction( (s, tx) -> s
+						.createQuery( "from Essay e join fetch e.writer", Essay.class ).getResultList()
+						.call( essays -> s.createQuery( "from Label", Label.class ).getResultList()
+								.invoke( labels -> {
+									essays.forEach( essay -> {
+										essay.title = essay.title.toUpperCase();
+										essay.writer.name = essay.writer.name.toUpperCase();
+									} );
+									labels.forEach( label -> label.text = label.text.toUpperCase() );
+								} ) ) ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createQuery( "select count(*) from Essay e where e.title like 'ESSAY%' and e.writer.name like 'WRITER%'", Long.class )
+						.getSingleResult()
+						.invoke( count -> context.assertEquals( (long) SIZE, count ) )
+						.chain( () -> s.createQuery( "select count(*) from Label where text like 'LABEL%'", Long.class )
+								.getSingleResult() )
+						.invoke( count -> context.assertEquals( (long) SIZE, count ) ) ) )
+				.chain( () -> getMutinySessionFactory().withTransaction( (s, tx) -> s
+						.createQuery( "from Writer", Writer.class ).getResultList()
+						.call( writers -> s.createQuery( "from Essay", Essay.class ).getResultList()
+								.call( essays -> s.createQuery( "from Label", Label.class ).getResultList()
+										.call( labels -> {
+											List<Object> all = new ArrayList<>();
+											all.addAll( writers );
+											all.addAll( labels );
+											all.addAll( essays );
+											return s.removeAll( all.toArray() );
+										} ) ) ) ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createQuery( "select count(*) from Writer", Long.class ).getSingleResult() ) )
+				.invoke( count -> context.assertEquals( 0L, count ) )
+		);
+	}
+
+	@Test
+	public void testUnidirectionalOneToMany(TestContext context) {
+		// a volume has no property referencing its shelf, but its
+		// table has a foreign key referencing the table of shelves,
+		// and so the volumes must be inserted after the last shelf
+		List<Object> entities = new ArrayList<>();
+		Shelf shelf = null;
+		for ( int i = 0; i < SIZE; i++ ) {
+			shelf = new Shelf( i );
+			entities.add( new Label( i, "Label " + i ) );
+			entities.add( shelf );
+		}
+		shelf.volumes.add( new Volume( 1, "Volume 1" ) );
+		shelf.volumes.add( new Volume( 2, "Volume 2" ) );
+
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persistAll( entities.toArray() ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createQuery( "select count(*) from Volume", Long.class ).getSingleResult() ) )
+				.invoke( count -> context.assertEquals( 2L, count ) )
+		);
+	}
+
+	@Entity(name = "Writer")
+	@Table(name = "Writer")
+	public static class Writer {
+		@Id
+		Integer id;
+		String name;
+
+		public Writer() {
+		}
+
+		public Writer(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Essay")
+	@Table(name = "Essay")
+	public static class Essay {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne
+		Writer writer;
+
+		public Essay() {
+		}
+
+		public Essay(Integer id, String title, Writer writer) {
+			this.id = id;
+			this.title = title;
+			this.writer = writer;
+		}
+	}
+
+	@Entity(name = "Shelf")
+	@Table(name = "Shelf")
+	public static class Shelf {
+		@Id
+		Integer id;
+		@OneToMany(cascade = CascadeType.ALL)
+		@JoinColumn(name = "shelf_id", nullable = false)
+		List<Volume> volumes = new ArrayList<>();
+
+		public Shelf() {
+		}
+
+		public Shelf(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Volume")
+	@Table(name = "Volume")
+	public static class Volume {
+		@Id
+		Integer id;
+		String title;
+
+		public Volume() {
+		}
+
+		public Volume(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Label")
+	@Table(name = "Label")
+	public static class Label {
+		@Id
+		Integer id;
+		String text;
+
+		public Label() {
+		}
+
+		public Label(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+}
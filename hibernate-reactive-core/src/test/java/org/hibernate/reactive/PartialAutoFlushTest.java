@@ -0,0 +1,200 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.HashSet;
+import java.util.Set;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Test that an automatic flush before a query only executes the actions
+ * affecting the queried tables, and the tables related to them.
+ */
+public class PartialAutoFlushTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Novelist.class );
+		configuration.addAnnotatedClass( Novel.class );
+		configuration.addAnnotatedClass( Keyword.class );
+		configuration.setProperty( Settings.PARTIAL_AUTO_FLUSH, "true" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Novel", "Novelist", "Keyword" ) );
+	}
+
+	@Test
+	public void testPartialFlushOfInsertions(TestContext context) {
+		Novelist novelist = new Novelist( 1, "Austen" );
+		Novel novel = new Novel( 1, "Emma", novelist );
+		Keyword keyword = new Keyword( 1, "romance" );
+
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persistAll( keyword, novelist, novel )
+						// the novelist must be inserted before the novel
+						.chain( () -> s.createQuery( "from Novel", Novel.class ).getResultList() )
+						.invoke( list -> {
+							context.assertEquals( 1, list.size() );
+							context.assertEquals( 2L, s.getFlushStatistics().getStatementCount() );
+						} )
+						.chain( () -> s.createQuery( "from Keyword", Keyword.class ).getResultList() )
+						.invoke( list -> {
+							context.assertEquals( 1, list.size() );
+							context.assertEquals( 1L, s.getFlushStatistics().getStatementCount() );
+						} ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createQuery( "select count(*) from Keyword", Long.class ).getSingleResult() ) )
+				.invoke( count -> context.assertEquals( 1L, count ) )
+		);
+	}
+
+	@Test
+	public void testPartialFlushOfUpdates(TestContext context) {
+		Novelist novelist = new Novelist( 2, "Eliot" );
+		Novel novel = new Novel( 2, "Middlemarch", novelist );
+		Keyword keyword = new Keyword( 2, "provincial" );
+
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persistAll( keyword, novelist, novel ) )
+				.chain( () -> getMutinySessionFactory().withTransaction( (s, tx) -> s
+						.find( Keyword.class, keyword.id )
+						.chain( k -> s.find( Novel.class, novel.id )
+								.invoke( n -> {
+									k.word = k.word.toUpperCase();
+									n.title = n.title.toUpperCase();
+								} ) )
+						.chain( () -> s.createQuery( "select title from Novel", String.class ).getSingleResult() )
+						.invoke( title -> {
+							context.assertEquals( "MIDDLEMARCH", title );
+							context.assertEquals( 1L, s.getFlushStatistics().getStatementCount() );
+						} ) ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Keyword.class, keyword.id ) ) )
+				.invoke( k -> {
+					// the update is executed exactly once, when the transaction commits
+					context.assertEquals( "PROVINCIAL", k.word );
+					context.assertEquals( 1, k.version );
+				} )
+		);
+	}
+
+	@Test
+	public void testPartialFlushLeavesNewCollection(TestContext context) {
+		Novelist novelist = new Novelist( 3, "Evans" );
+		novelist.pseudonyms.add( "George Eliot" );
+		Keyword keyword = new Keyword( 3, "pseudonymous" );
+
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persistAll( keyword, novelist )
+						// only the keyword is inserted, and the insertion of the
+						// novelist and its collection is left for the next flush
+						.chain( () -> s.createQuery( "from Keyword", Keyword.class ).getResultList() )
+						.invoke( list -> {
+							context.assertEquals( 1, list.size() );
+							context.assertEquals( 1L, s.getFlushStatistics().getStatementCount() );
+						} )
+						.call( s::flush ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.find( Novelist.class, novelist.id )
+						.chain( n -> Mutiny.fetch( n.pseudonyms ) ) ) )
+				.invoke( pseudonyms -> {
+					context.assertEquals( 1, pseudonyms.size() );
+					context.assertTrue( pseudonyms.contains( "George Eliot" ) );
+				} )
+				.chain( () -> getMutinySessionFactory().withTransaction( (s, tx) -> s
+						.find( Novelist.class, novelist.id )
+						.call( n -> Mutiny.fetch( n.pseudonyms ) )
+						.invoke( n -> {
+							n.pseudonyms = new HashSet<>();
+							n.pseudonyms.add( "Mary Ann Evans" );
+						} )
+						.call( () -> s.persist( new Keyword( 4, "replaced" ) ) )
+						.call( () -> s.createQuery( "from Keyword", Keyword.class ).getResultList() )
+						.call( s::flush ) ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.find( Novelist.class, novelist.id )
+						.chain( n -> Mutiny.fetch( n.pseudonyms ) ) ) )
+				.invoke( pseudonyms -> {
+					context.assertEquals( 1, pseudonyms.size() );
+					context.assertTrue( pseudonyms.contains( "Mary Ann Evans" ) );
+				} )
+		);
+	}
+
+	@Entity(name = "Novelist")
+	@Table(name = "Novelist")
+	public static class Novelist {
+		@Id
+		Integer id;
+		String name;
+		@ElementCollection
+		Set<String> pseudonyms = new HashSet<>();
+
+		public Novelist() {
+		}
+
+		public Novelist(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Novel")
+	@Table(name = "Novel")
+	public static class Novel {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne
+		Novelist novelist;
+
+		public Novel() {
+		}
+
+		public Novel(Integer id, String title, Novelist novelist) {
+			this.id = id;
+			this.title = title;
+			this.novelist = novelist;
+		}
+	}
+
+	@Entity(name = "Keyword")
+	@Table(name = "Keyword")
+	public static class Keyword {
+		@Id
+		Integer id;
+		String word;
+		@Version
+		int version;
+
+		public Keyword() {
+		}
+
+		public Keyword(Integer id, String word) {
+			this.id = id;
+			this.word = word;
+		}
+	}
+}
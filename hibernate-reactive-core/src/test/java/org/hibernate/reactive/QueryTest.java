@@ -468,6 +468,61 @@ public void testNamedHqlProjectionQuery(TestContext context) {
 		);
 	}
 
+	@Test
+	public void testHqlDtoAndAggregateProjectionQuery(TestContext context) {
+		Author author1 = new Author("Iain M. Banks");
+		Author author2 = new Author("Neal Stephenson");
+		Book book1 = new Book("1-85723-235-6", "Feersum Endjinn", author1);
+		Book book2 = new Book("0-380-97346-4", "Cryptonomicon", author2);
+		Book book3 = new Book("0-553-08853-X", "Snow Crash", author2);
+		author1.books.add(book1);
+		author2.books.add(book2);
+		author2.books.add(book3);
+
+		test(context,
+				openSession()
+						.thenCompose( session -> session.persist(author1, author2)
+								.thenCompose( v -> session.flush() )
+						)
+						.thenCompose( v -> openSession() )
+						.thenCompose( session -> session.createQuery(
+								"select new org.hibernate.reactive.QueryTest$BookSummary(b.title, a.name) "
+										+ "from Book b join b.author a order by b.isbn",
+								BookSummary.class
+						).getResultList()
+								.thenAccept( summaries -> {
+									context.assertEquals( 3, summaries.size() );
+									context.assertEquals( "Cryptonomicon", summaries.get(0).title );
+									context.assertEquals( "Neal Stephenson", summaries.get(0).author );
+									context.assertEquals( "Feersum Endjinn", summaries.get(2).title );
+									context.assertEquals( "Iain M. Banks", summaries.get(2).author );
+									context.assertFalse( session.contains( author1 ) );
+								} )
+								.thenCompose( vv -> session.createQuery(
+										"select a.name, count(b), sum(b.id) - sum(b.id) from Author a join a.books b "
+												+ "group by a.name order by a.name",
+										Object[].class
+								).getResultList() )
+								.thenAccept( list -> {
+									context.assertEquals( 2, list.size() );
+									context.assertEquals( "Iain M. Banks", list.get(0)[0] );
+									context.assertEquals( 1L, list.get(0)[1] );
+									context.assertEquals( 0L, list.get(0)[2] );
+									context.assertEquals( "Neal Stephenson", list.get(1)[0] );
+									context.assertEquals( 2L, list.get(1)[1] );
+								} )
+								.thenCompose( vv -> session.createQuery( "select title from Book order by isbn", String.class )
+										.setFirstResult( 1 )
+										.setMaxResults( 1 )
+										.getResultList() )
+								.thenAccept( list -> {
+									context.assertEquals( 1, list.size() );
+									context.assertEquals( "Snow Crash", list.get(0) );
+								} )
+						)
+		);
+	}
+
 	@Test
 	public void testNamedNativeProjectionQuery(TestContext context) {
 		Author author1 = new Author("Iain M. Banks");
@@ -605,6 +660,16 @@ static class Author {
 		Author() {}
 	}
 
+	public static class BookSummary {
+		final String title;
+		final String author;
+
+		public BookSummary(String title, String author) {
+			this.title = title;
+			this.author = author;
+		}
+	}
+
 	@Entity(name="Book")
 	@Table(name="books")
 	static class Book {
@@ -7,10 +7,17 @@
 
 import io.vertx.ext.unit.TestContext;
 import org.hibernate.LockMode;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
 import org.hibernate.reactive.common.AffectedEntities;
 import org.hibernate.reactive.stage.Stage;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
 
 import org.junit.After;
 import org.junit.Test;
@@ -25,11 +32,17 @@
 import java.util.Objects;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 public class ReactiveSessionTest extends BaseReactiveTest {
 
+	/**
+	 * The entities visited by a flush since the last test
+	 */
+	private static final List<Object> flushedEntities = new CopyOnWriteArrayList<>();
+
 	@Override
 	protected Configuration constructConfiguration() {
 		Configuration configuration = super.constructConfiguration();
@@ -38,6 +51,21 @@ protected Configuration constructConfiguration() {
 		return configuration;
 	}
 
+	@Override
+	protected void addIntegrators(BootstrapServiceRegistryBuilder builder) {
+		builder.applyIntegrator( new Integrator() {
+			@Override
+			public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+				serviceRegistry.getService( EventListenerRegistry.class )
+						.appendListeners( EventType.FLUSH_ENTITY, event -> flushedEntities.add( event.getEntity() ) );
+			}
+
+			@Override
+			public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+			}
+		} );
+	}
+
 	private CompletionStage<Void> populateDB() {
 		return getSessionFactory()
 				.withTransaction( (s, tx) -> s.persist( new GuineaPig( 5, "Aloi" ) ) );
@@ -46,6 +74,7 @@ private CompletionStage<Void> populateDB() {
 	@After
 	public void cleanDB(TestContext context) {
 		test( context, deleteEntities( "GuineaPig" ) );
+		flushedEntities.clear();
 	}
 
 	private CompletionStage<String> selectNameFromId(Integer id) {
@@ -179,6 +208,35 @@ public void reactiveFindReadOnlyRefreshWithLock(TestContext context) {
 		);
 	}
 
+	@Test
+	public void reactiveReadOnlyQueryIsNotFlushed(TestContext context) {
+		final GuineaPig expectedPig = new GuineaPig( 5, "Aloi" );
+		test(
+				context,
+				populateDB()
+						.thenCompose( v -> openSession() )
+						.thenCompose( session -> session.createQuery( "from GuineaPig", GuineaPig.class )
+								.setReadOnly( true )
+								.getSingleResult()
+								.thenCompose( pig -> {
+									context.assertTrue( session.isReadOnly( pig ) );
+									pig.setName( "XXXX" );
+									// a modifiable entity, so that the session is really flushed
+									final GuineaPig newPig = new GuineaPig( 6, "Rigel" );
+									return session.persist( newPig )
+											.thenCompose( v -> session.flush() )
+											.thenAccept( v -> {
+												// the read-only entity is not even visited by the flush
+												context.assertTrue( flushedEntities.stream().anyMatch( e -> e == newPig ) );
+												context.assertFalse( flushedEntities.stream().anyMatch( e -> e == pig ) );
+											} );
+								} )
+						)
+						.thenCompose( v -> selectNameFromId( expectedPig.getId() ) )
+						.thenAccept( name -> context.assertEquals( expectedPig.getName(), name ) )
+		);
+	}
+
 	@Test
 	public void reactiveFindThenUpgradeLock(TestContext context) {
 		final GuineaPig expectedPig = new GuineaPig( 5, "Aloi" );
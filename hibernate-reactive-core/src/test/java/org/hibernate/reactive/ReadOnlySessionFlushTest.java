@@ -0,0 +1,86 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Test that a flush of a session holding only read-only entities is
+ * skipped, but that new entities are still flushed.
+ */
+public class ReadOnlySessionFlushTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Gadget.class );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Gadget" ) );
+	}
+
+	@Test
+	public void testFlushSkippedForReadOnlyEntities(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persistAll( new Gadget( 1, "Widget" ), new Gadget( 2, "Sprocket" ) ) )
+				.chain( () -> getMutinySessionFactory().withTransaction( (s, tx) -> {
+					s.setDefaultReadOnly( true );
+					return s.createQuery( "from Gadget order by id", Gadget.class ).getResultList()
+							.invoke( list -> list.get( 0 ).name = "Gizmo" )
+							.call( s::flush )
+							.invoke( () -> context.assertNull( s.getFlushStatistics() ) );
+				} ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Gadget.class, 1 ) ) )
+				.invoke( gadget -> context.assertEquals( "Widget", gadget.name ) )
+		);
+	}
+
+	@Test
+	public void testNewEntityFlushedInReadOnlySession(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persist( new Gadget( 1, "Widget" ) ) )
+				.chain( () -> getMutinySessionFactory().withTransaction( (s, tx) -> {
+					s.setDefaultReadOnly( true );
+					return s.find( Gadget.class, 1 )
+							.call( () -> s.persist( new Gadget( 2, "Sprocket" ) ) )
+							.call( s::flush )
+							.invoke( () -> context.assertEquals( 1L, s.getFlushStatistics().getStatementCount() ) );
+				} ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Gadget.class, 2 ) ) )
+				.invoke( gadget -> context.assertEquals( "Sprocket", gadget.name ) )
+		);
+	}
+
+	@Entity(name = "Gadget")
+	@Table(name = "Gadget")
+	public static class Gadget {
+		@Id
+		Integer id;
+		String name;
+
+		public Gadget() {
+		}
+
+		public Gadget(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,167 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.reactive.context.Context;
+import org.hibernate.reactive.context.impl.ScopedContext;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Test sessions used from threads which don't belong to Vert.x, when
+ * the current session is carried by a {@link ScopedContext}, as
+ * enabled by {@link Settings#SCOPED_CONTEXT}.
+ */
+public class ScopedContextTest extends BaseReactiveTest {
+
+	private static final int TASKS = 8;
+
+	private final ExecutorService executor = Executors.newFixedThreadPool( 4 );
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Parcel.class );
+		configuration.setProperty( Settings.SCOPED_CONTEXT, "true" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		executor.shutdown();
+		test( context, deleteEntities( "Parcel" ) );
+	}
+
+	@Test
+	public void testScopedContextService(TestContext context) {
+		Context service = factoryManager.getHibernateSessionFactory()
+				.unwrap( SessionFactoryImplementor.class )
+				.getServiceRegistry()
+				.getService( Context.class );
+		context.assertTrue( service instanceof ScopedContext );
+		context.assertFalse( service.isEventLoopConfined() );
+	}
+
+	@Test
+	public void testSessionsFromExecutorThreads(TestContext context) {
+		List<CompletableFuture<Void>> tasks = new ArrayList<>();
+		for ( int i = 0; i < TASKS; i++ ) {
+			int id = i;
+			// each task blocks its own thread, as it would on a virtual thread
+			tasks.add( CompletableFuture.runAsync( () -> {
+				getMutinySessionFactory()
+						.withTransaction( (s, tx) -> s.persist( new Parcel( id, "Parcel " + id ) ) )
+						.await().indefinitely();
+				Parcel parcel = getSessionFactory()
+						.withSession( s -> s.find( Parcel.class, id ) )
+						.toCompletableFuture().join();
+				context.assertEquals( "Parcel " + id, parcel.label );
+			}, executor ) );
+		}
+
+		test( context, CompletableFuture.allOf( tasks.toArray( new CompletableFuture<?>[0] ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( "select count(*) from Parcel", Long.class ).getSingleResult() ) )
+				.thenAccept( count -> context.assertEquals( (long) TASKS, count ) )
+		);
+	}
+
+	@Test
+	public void testNestedSessionIsReused(TestContext context) {
+		test( context, CompletableFuture.supplyAsync( () -> getSessionFactory()
+				.withSession( outer -> getSessionFactory()
+						.withSession( inner -> {
+							context.assertTrue( outer == inner );
+							return inner.persist( new Parcel( 1, "Nested" ) )
+									.thenCompose( v -> inner.flush() );
+						} ) )
+				.toCompletableFuture().join(), executor )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Parcel.class, 1 ) ) )
+				.thenAccept( parcel -> context.assertEquals( "Nested", parcel.label ) )
+		);
+	}
+
+	@Test
+	public void testNestedSessionIsReusedAfterRoundTrip(TestContext context) {
+		test( context, CompletableFuture.runAsync( () -> {
+			getMutinySessionFactory()
+					.withTransaction( (s, tx) -> s.persist( new Parcel( 3, "Outer" ) ) )
+					.await().indefinitely();
+			// each find completes on a Vert.x event loop thread, and
+			// the nested call to withSession() is made from that thread
+			getSessionFactory()
+					.withSession( outer -> outer.find( Parcel.class, 3 )
+							.thenCompose( parcel -> getSessionFactory()
+									.withSession( inner -> {
+										context.assertTrue( outer == inner );
+										context.assertTrue( inner.contains( parcel ) );
+										return inner.find( Parcel.class, 3 );
+									} ) ) )
+					.toCompletableFuture().join();
+			getMutinySessionFactory()
+					.withSession( outer -> outer.find( Parcel.class, 3 )
+							.chain( parcel -> getMutinySessionFactory()
+									.withSession( inner -> {
+										context.assertTrue( outer == inner );
+										context.assertTrue( inner.contains( parcel ) );
+										return inner.find( Parcel.class, 3 );
+									} ) ) )
+					.await().indefinitely();
+		}, executor ) );
+	}
+
+	@Test
+	public void testSessionMigratesBetweenThreads(TestContext context) {
+		test( context, CompletableFuture.runAsync( () -> {
+			Stage.Session session = getSessionFactory().openSession();
+			try {
+				// every call is made from the executor thread, but each
+				// operation completes on a Vert.x event loop thread
+				session.persist( new Parcel( 2, "Migrant" ) )
+						.thenCompose( v -> session.flush() )
+						.toCompletableFuture().join();
+				session.clear();
+				Parcel parcel = session.find( Parcel.class, 2 ).toCompletableFuture().join();
+				context.assertEquals( "Migrant", parcel.label );
+			}
+			finally {
+				session.close().toCompletableFuture().join();
+			}
+		}, executor ) );
+	}
+
+	@Entity(name = "Parcel")
+	@Table(name = "Parcel")
+	public static class Parcel {
+		@Id
+		Integer id;
+		String label;
+
+		public Parcel() {
+		}
+
+		public Parcel(Integer id, String label) {
+			this.id = id;
+			this.label = label;
+		}
+	}
+}
@@ -0,0 +1,167 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.bytecode.enhance.internal.tracker.NoopCollectionTracker;
+import org.hibernate.bytecode.enhance.spi.CollectionTracker;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Test that flushing relies on the changes recorded by a
+ * {@link SelfDirtinessTracker}, as implemented by bytecode
+ * enhancement, to find the modified entities.
+ */
+public class SelfDirtinessTrackerTest extends BaseReactiveTest {
+
+	private static final int SIZE = 100;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Site.class );
+		configuration.addAnnotatedClass( Sensor.class );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Sensor", "Site" ) );
+	}
+
+	@Test
+	public void testFlushTrackedChanges(TestContext context) {
+		Site site = new Site( 1, "North" );
+		List<Sensor> sensors = new ArrayList<>();
+		for ( int i = 0; i < SIZE; i++ ) {
+			sensors.add( new Sensor( i + 1, "Sensor " + i, site ) );
+		}
+
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persist( site ).call( () -> s.persistAll( sensors.toArray() ) ) )
+				.chain( () -> getMutinySessionFactory().withTransaction( (s, tx) -> s
+						.createQuery( "from Sensor order by id", Sensor.class ).getResultList()
+						.invoke( list -> {
+							list.get( 0 ).setName( "Renamed" );
+							// a new entity is only reachable from a tracked change
+							list.get( 1 ).setSite( new Site( 2, "South" ) );
+							// a change that isn't tracked isn't noticed
+							list.get( 2 ).name = "Untracked";
+						} )
+						.call( s::flush )
+						.invoke( () -> context.assertEquals( 2, s.getFlushStatistics().getEntitiesDirty() ) ) ) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createQuery( "from Sensor s join fetch s.site order by s.id", Sensor.class ).getResultList() ) )
+				.invoke( list -> {
+					context.assertEquals( SIZE, list.size() );
+					context.assertEquals( "Renamed", list.get( 0 ).name );
+					context.assertEquals( "South", list.get( 1 ).site.name );
+					context.assertEquals( "Sensor 2", list.get( 2 ).name );
+					context.assertEquals( "North", list.get( 3 ).site.name );
+				} )
+		);
+	}
+
+	@Entity(name = "Site")
+	@Table(name = "Site")
+	public static class Site {
+		@Id
+		Integer id;
+		String name;
+
+		public Site() {
+		}
+
+		public Site(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	/**
+	 * Tracks its own changes, as if it had been enhanced.
+	 */
+	@Entity(name = "Sensor")
+	@Table(name = "Sensor")
+	public static class Sensor implements SelfDirtinessTracker {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne(cascade = CascadeType.PERSIST)
+		Site site;
+
+		transient Set<String> dirty = new LinkedHashSet<>();
+		transient boolean suspended;
+
+		public Sensor() {
+		}
+
+		public Sensor(Integer id, String name, Site site) {
+			this.id = id;
+			this.name = name;
+			this.site = site;
+		}
+
+		public void setName(String name) {
+			$$_hibernate_trackChange( "name" );
+			this.name = name;
+		}
+
+		public void setSite(Site site) {
+			$$_hibernate_trackChange( "site" );
+			this.site = site;
+		}
+
+		@Override
+		public boolean $$_hibernate_hasDirtyAttributes() {
+			return !dirty.isEmpty();
+		}
+
+		@Override
+		public String[] $$_hibernate_getDirtyAttributes() {
+			return dirty.toArray( new String[0] );
+		}
+
+		@Override
+		public void $$_hibernate_trackChange(String attribute) {
+			if ( !suspended ) {
+				dirty.add( attribute );
+			}
+		}
+
+		@Override
+		public void $$_hibernate_clearDirtyAttributes() {
+			dirty.clear();
+		}
+
+		@Override
+		public void $$_hibernate_suspendDirtyTracking(boolean suspend) {
+			suspended = suspend;
+		}
+
+		@Override
+		public CollectionTracker $$_hibernate_getCollectionTracker() {
+			return NoopCollectionTracker.INSTANCE;
+		}
+	}
+}
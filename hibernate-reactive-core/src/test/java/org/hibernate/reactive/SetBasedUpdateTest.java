@@ -0,0 +1,163 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+import org.hibernate.StaleObjectStateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.testing.DatabaseSelectionRule;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.COCKROACHDB;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+import static org.hibernate.reactive.testing.DatabaseSelectionRule.runOnlyFor;
+
+/**
+ * Test updating many rows with a single statement using
+ * {@link org.hibernate.reactive.mutiny.Mutiny.StatelessSession#updateAll(Object...)}.
+ */
+public class SetBasedUpdateTest extends BaseReactiveTest {
+
+	private static final int SIZE = 2500;
+
+	@Rule
+	public DatabaseSelectionRule rule = runOnlyFor( POSTGRESQL, COCKROACHDB );
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Shipment.class );
+		configuration.setProperty( Settings.SET_BASED_UPDATE, "true" );
+		configuration.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "50" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Shipment" ) );
+	}
+
+	@Test
+	public void testSetUpdatable(TestContext context) {
+		ReactiveEntityPersister persister = (ReactiveEntityPersister) factoryManager.getHibernateSessionFactory()
+				.unwrap( SessionFactoryImplementor.class )
+				.getMetamodel()
+				.entityPersister( Shipment.class );
+		context.assertTrue( persister.isSetUpdatable() );
+	}
+
+	@Test
+	public void testSetBasedUpdate(TestContext context) {
+		LocalDateTime now = LocalDateTime.of( 2021, 7, 1, 12, 0 );
+		List<Shipment> shipments = new ArrayList<>();
+		for ( int i = 0; i < SIZE; i++ ) {
+			shipments.add( new Shipment( i, "Harbour " + i, i, now ) );
+		}
+
+		test( context, getMutinySessionFactory()
+				.withStatelessTransaction( (s, tx) -> s.insertAll( shipments.toArray() ) )
+				.invoke( () -> {
+					for ( Shipment shipment : shipments ) {
+						shipment.destination = shipment.destination.toUpperCase();
+						shipment.weight *= 2;
+						shipment.shipped = shipment.shipped.plusDays( 1 );
+					}
+				} )
+				.chain( () -> getMutinySessionFactory()
+						.withStatelessTransaction( (s, tx) -> s.updateAll( shipments.toArray() ) ) )
+				.invoke( () -> context.assertEquals( 1, shipments.get( 0 ).version ) )
+				.chain( () -> getMutinySessionFactory().withStatelessSession( s -> s
+						.createQuery( "from Shipment order by id", Shipment.class ).getResultList() ) )
+				.invoke( list -> {
+					context.assertEquals( SIZE, list.size() );
+					for ( int i = 0; i < SIZE; i++ ) {
+						Shipment shipment = list.get( i );
+						context.assertEquals( "HARBOUR " + i, shipment.destination );
+						context.assertEquals( i * 2.0, shipment.weight );
+						context.assertEquals( now.plusDays( 1 ), shipment.shipped );
+						context.assertEquals( 1, shipment.version );
+					}
+				} )
+		);
+	}
+
+	@Test
+	public void testSetBasedUpdateWithStaleVersion(TestContext context) {
+		LocalDateTime now = LocalDateTime.of( 2021, 7, 1, 12, 0 );
+		Shipment first = new Shipment( 1, "Genoa", 10, now );
+		Shipment second = new Shipment( 2, "Naples", 20, now );
+
+		test( context, getMutinySessionFactory()
+				.withStatelessTransaction( (s, tx) -> s.insertAll( first, second ) )
+				.chain( () -> getMutinySessionFactory().withStatelessTransaction( (s, tx) -> s
+						.get( Shipment.class, second.id )
+						.invoke( shipment -> shipment.destination = "Palermo" )
+						.call( s::update ) ) )
+				.invoke( () -> {
+					first.destination = "Venice";
+					second.destination = "Bari";
+				} )
+				.chain( () -> getMutinySessionFactory()
+						.withStatelessTransaction( (s, tx) -> s.updateAll( first, second ) ) )
+				.onItem().invoke( () -> context.fail( "Expected a stale state failure" ) )
+				.onFailure().recoverWithItem( e -> {
+					context.assertTrue( e instanceof StaleObjectStateException );
+					context.assertEquals( second.id, ( (StaleObjectStateException) e ).getIdentifier() );
+					return null;
+				} )
+				.invoke( () -> {
+					// the versions were not incremented
+					context.assertEquals( 0, first.version );
+					context.assertEquals( 0, second.version );
+				} )
+				.chain( () -> getMutinySessionFactory().withStatelessSession( s -> s
+						.createQuery( "from Shipment order by id", Shipment.class ).getResultList() ) )
+				.invoke( list -> {
+					// the transaction was rolled back
+					context.assertEquals( "Genoa", list.get( 0 ).destination );
+					context.assertEquals( "Palermo", list.get( 1 ).destination );
+				} )
+		);
+	}
+
+	@Entity(name = "Shipment")
+	@Table(name = "Shipment")
+	public static class Shipment {
+		@Id
+		Integer id;
+		String destination;
+		double weight;
+		LocalDateTime shipped;
+		@Version
+		int version;
+
+		public Shipment() {
+		}
+
+		public Shipment(Integer id, String destination, double weight, LocalDateTime shipped) {
+			this.id = id;
+			this.destination = destination;
+			this.weight = weight;
+			this.shipped = shipped;
+		}
+	}
+}
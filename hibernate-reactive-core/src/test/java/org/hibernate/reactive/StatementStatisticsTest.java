@@ -0,0 +1,126 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Arrays;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.stat.ReactiveStatistics;
+import org.hibernate.reactive.stat.StatementStatistics;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
+/**
+ * Test the timings recorded for each SQL statement.
+ */
+public class StatementStatisticsTest extends BaseReactiveTest {
+
+	private static final int MAX_STATEMENTS = 100;
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Gizmo.class );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( AvailableSettings.LOG_SLOW_QUERY, "1000" );
+		configuration.setProperty( AvailableSettings.QUERY_STATISTICS_MAX_SIZE, String.valueOf( MAX_STATEMENTS ) );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Gizmo" ) );
+	}
+
+	private ReactiveStatistics getStatistics() {
+		return (ReactiveStatistics) factoryManager.getHibernateSessionFactory().getStatistics();
+	}
+
+	private StatementStatistics getStatementStatistics(String prefix) {
+		return Arrays.stream( getStatistics().getStatements() )
+				.filter( sql -> sql.toLowerCase().startsWith( prefix ) )
+				.map( getStatistics()::getStatementStatistics )
+				.findFirst()
+				.orElse( null );
+	}
+
+	@Test
+	public void testStatementStatistics(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> {
+					getStatistics().clear();
+					return s.persistAll( new Gizmo( 1, "Widget" ), new Gizmo( 2, "Sprocket" ), new Gizmo( 3, "Gadget" ) );
+				} )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createQuery( "from Gizmo", Gizmo.class ).getResultList() ) )
+				.invoke( () -> {
+					StatementStatistics inserts = getStatementStatistics( "insert into gizmo" );
+					context.assertNotNull( inserts );
+					context.assertEquals( 3L, inserts.getRowCount() );
+					assertThat( inserts.getExecutionCount() ).isBetween( 1L, 3L );
+					assertThat( inserts.getTotalTime() ).isPositive();
+					assertThat( inserts.getMaxTime() ).isBetween( 1L, inserts.getTotalTime() );
+					assertThat( inserts.getLatencyHistogram() )
+							.hasSize( StatementStatistics.LATENCY_BUCKETS.length + 1 );
+					context.assertEquals(
+							inserts.getExecutionCount(),
+							Arrays.stream( inserts.getLatencyHistogram() ).sum()
+					);
+
+					StatementStatistics select = getStatementStatistics( "select" );
+					context.assertNotNull( select );
+					context.assertEquals( 1L, select.getExecutionCount() );
+					context.assertEquals( 3L, select.getRowCount() );
+
+					getStatistics().clear();
+					context.assertEquals( 0, getStatistics().getStatements().length );
+				} )
+		);
+	}
+
+	@Test
+	public void testLeastRecentlyUsedStatementsEvicted(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> {
+					getStatistics().clear();
+					return loop( 0, 2 * MAX_STATEMENTS, i -> s.createNativeQuery( "select " + i ).getSingleResult() );
+				} )
+				.thenAccept( v -> {
+					assertThat( getStatistics().getStatements() ).hasSizeLessThanOrEqualTo( MAX_STATEMENTS );
+					context.assertNull( getStatistics().getStatementStatistics( "select 0" ) );
+					StatementStatistics last = getStatistics().getStatementStatistics( "select " + ( 2 * MAX_STATEMENTS - 1 ) );
+					context.assertNotNull( last );
+					context.assertEquals( 1L, last.getExecutionCount() );
+				} )
+		);
+	}
+
+	@Entity(name = "Gizmo")
+	@Table(name = "Gizmo")
+	public static class Gizmo {
+		@Id
+		Integer id;
+		String name;
+
+		public Gizmo() {
+		}
+
+		public Gizmo(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
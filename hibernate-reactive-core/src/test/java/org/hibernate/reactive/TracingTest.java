@@ -0,0 +1,195 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.reactive.context.Context;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.tracing.Tracer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test the spans started by a {@link Tracer}, and their parents.
+ */
+public class TracingTest extends BaseReactiveTest {
+
+	private static final RecordingTracer TRACER = new RecordingTracer();
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Gadget.class );
+		configuration.getProperties().put( Settings.TRACER, TRACER );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persist( new Gadget( 1, "Widget" ) ) )
+				.invoke( TRACER.spans::clear ) );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Gadget" ) );
+	}
+
+	@Test
+	public void testFind(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s.find( Gadget.class, 1 ) )
+				.invoke( gadget -> {
+					RecordedSpan find = TRACER.span( "find" );
+					context.assertEquals( Gadget.class.getName(), find.detail );
+					context.assertNull( find.parent );
+					context.assertNull( find.failure );
+					context.assertTrue( find.ended );
+
+					RecordedSpan select = TRACER.span( "select" );
+					assertThat( select.detail ).containsIgnoringCase( "gadget" );
+					context.assertEquals( find, select.parent );
+					context.assertTrue( select.ended );
+				} )
+		);
+	}
+
+	@Test
+	public void testFlush(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( (s, tx) -> s.persist( new Gadget( 2, "Sprocket" ) ).call( s::flush ) )
+				.invoke( () -> {
+					assertThat( TRACER.operations() ).contains( "begin", "flush", "execute actions", "update", "commit" );
+
+					RecordedSpan flush = TRACER.span( "flush" );
+					RecordedSpan actions = TRACER.span( "execute actions" );
+					RecordedSpan insert = TRACER.span( "update" );
+					context.assertEquals( flush, actions.parent );
+					context.assertEquals( actions, insert.parent );
+					assertThat( insert.detail.toLowerCase() ).startsWith( "insert into" );
+					context.assertNull( TRACER.span( "commit" ).parent );
+					assertThat( TRACER.spans ).allMatch( span -> span.ended );
+				} )
+		);
+	}
+
+	@Test
+	public void testQueryFailure(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withSession( s -> s.createNativeQuery( "select * from NoSuchTable" ).getResultList() )
+				.onItemOrFailure().transform( (list, failure) -> {
+					context.assertNotNull( failure );
+					RecordedSpan query = TRACER.span( "query" );
+					context.assertEquals( "select * from NoSuchTable", query.detail );
+					context.assertNotNull( query.failure );
+					RecordedSpan select = TRACER.span( "select" );
+					context.assertEquals( query, select.parent );
+					context.assertNotNull( select.failure );
+					return null;
+				} )
+		);
+	}
+
+	@Test
+	public void testParentSpanFromContext(TestContext context) {
+		Context vertxContext = factoryManager.getHibernateSessionFactory()
+				.unwrap( SessionFactoryImplementor.class )
+				.getServiceRegistry().getService( Context.class );
+		RecordedSpan request = new RecordedSpan( "request", null, null );
+		test( context, getMutinySessionFactory()
+				.withSession( s -> {
+					vertxContext.put( Tracer.CURRENT_SPAN, request );
+					return s.createQuery( "from Gadget", Gadget.class ).getResultList()
+							.invoke( () -> context.assertEquals( request, vertxContext.get( Tracer.CURRENT_SPAN ) ) )
+							.eventually( () -> vertxContext.remove( Tracer.CURRENT_SPAN ) );
+				} )
+				.invoke( list -> {
+					context.assertEquals( 1, list.size() );
+					RecordedSpan query = TRACER.span( "query" );
+					context.assertEquals( request, query.parent );
+					context.assertEquals( query, TRACER.span( "select" ).parent );
+				} )
+		);
+	}
+
+	static class RecordingTracer implements Tracer {
+		final List<RecordedSpan> spans = new CopyOnWriteArrayList<>();
+
+		@Override
+		public Span startSpan(String operation, String detail, Span parent) {
+			RecordedSpan span = new RecordedSpan( operation, detail, (RecordedSpan) parent );
+			spans.add( span );
+			return span;
+		}
+
+		List<String> operations() {
+			return spans.stream().map( span -> span.operation ).collect( Collectors.toList() );
+		}
+
+		RecordedSpan span(String operation) {
+			return spans.stream()
+					.filter( span -> span.operation.equals( operation ) )
+					.findFirst()
+					.orElseThrow( () -> new AssertionError( "No span for operation: " + operation ) );
+		}
+	}
+
+	static class RecordedSpan implements Tracer.Span {
+		final String operation;
+		final String detail;
+		final RecordedSpan parent;
+		volatile boolean ended;
+		volatile Throwable failure;
+
+		RecordedSpan(String operation, String detail, RecordedSpan parent) {
+			this.operation = operation;
+			this.detail = detail;
+			this.parent = parent;
+		}
+
+		@Override
+		public void end(Throwable failure) {
+			this.failure = failure;
+			this.ended = true;
+		}
+
+		@Override
+		public String toString() {
+			return operation + "[" + detail + "]";
+		}
+	}
+
+	@Entity(name = "Gadget")
+	@Table(name = "Gadget")
+	public static class Gadget {
+		@Id
+		Integer id;
+		String name;
+
+		public Gadget() {
+		}
+
+		public Gadget(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,175 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.common.RetryPolicy;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.mysqlclient.MySQLException;
+import io.vertx.pgclient.PgException;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+
+/**
+ * Test retrying a transaction which fails with a serialization failure
+ * or deadlock using
+ * {@link org.hibernate.reactive.mutiny.Mutiny.SessionFactory#withTransaction(RetryPolicy, java.util.function.BiFunction)}.
+ */
+public class TransactionRetryTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Ticket.class );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Ticket" ) );
+	}
+
+	private static RetryPolicy policy(int maxAttempts) {
+		return RetryPolicy.maxAttempts( maxAttempts )
+				.withBackoff( Duration.ofMillis( 1 ), Duration.ofMillis( 10 ) );
+	}
+
+	@Test
+	public void testRetryAfterSerializationFailure(TestContext context) {
+		RetryPolicy policy = policy( 3 );
+		AtomicInteger attempts = new AtomicInteger();
+
+		test( context, getMutinySessionFactory()
+				.withTransaction( policy, (s, tx) -> s
+						.persist( new Ticket( 1, "Aida" ) )
+						.call( s::flush )
+						.chain( () -> attempts.incrementAndGet() == 1
+								? Uni.createFrom().failure( new PgException( "could not serialize access", "ERROR", "40001", null ) )
+								: Uni.createFrom().item( attempts.get() ) ) )
+				.invoke( attempt -> {
+					context.assertEquals( 2, attempt );
+					context.assertEquals( 1L, policy.getStatistics().getTransactionCount() );
+					context.assertEquals( 1L, policy.getStatistics().getRetryCount() );
+					context.assertEquals( 0L, policy.getStatistics().getExhaustedCount() );
+				} )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createQuery( "select count(*) from Ticket", Long.class ).getSingleResult() ) )
+				// the first attempt was rolled back
+				.invoke( count -> context.assertEquals( 1L, count ) )
+		);
+	}
+
+	@Test
+	public void testRetriesExhausted(TestContext context) {
+		RetryPolicy policy = policy( 3 );
+		AtomicInteger attempts = new AtomicInteger();
+
+		test( context, getSessionFactory()
+				.withTransaction( policy, (s, tx) -> {
+					attempts.incrementAndGet();
+					return failedFuture( new MySQLException( "Deadlock found when trying to get lock", 1213, "40001" ) );
+				} )
+				.handle( (result, failure) -> {
+					context.assertTrue( failure instanceof CompletionException );
+					context.assertTrue( failure.getCause() instanceof MySQLException );
+					context.assertEquals( 3, attempts.get() );
+					context.assertEquals( 2L, policy.getStatistics().getRetryCount() );
+					context.assertEquals( 1L, policy.getStatistics().getExhaustedCount() );
+					return null;
+				} )
+		);
+	}
+
+	@Test
+	public void testOtherFailureNotRetried(TestContext context) {
+		RetryPolicy policy = policy( 3 );
+		AtomicInteger attempts = new AtomicInteger();
+
+		test( context, getMutinySessionFactory()
+				.withTransaction( policy, (s, tx) -> s
+						.persist( new Ticket( 2, "Tosca" ) )
+						.invoke( attempts::incrementAndGet )
+						.chain( () -> Uni.createFrom().failure( new IllegalStateException( "not transient" ) ) ) )
+				.onItem().invoke( () -> context.fail( "Expected a failure" ) )
+				.onFailure().recoverWithItem( e -> {
+					context.assertTrue( e instanceof IllegalStateException );
+					context.assertEquals( 1, attempts.get() );
+					context.assertEquals( 0L, policy.getStatistics().getRetryCount() );
+					return null;
+				} )
+		);
+	}
+
+	@Test
+	public void testNestedTransactionNotRetried(TestContext context) {
+		RetryPolicy policy = policy( 3 );
+		AtomicInteger attempts = new AtomicInteger();
+
+		test( context, getMutinySessionFactory()
+				.withTransaction( (outer, tx) -> getMutinySessionFactory()
+						.withTransaction( policy, (s, t) -> {
+							attempts.incrementAndGet();
+							return Uni.createFrom().failure( new PgException( "deadlock detected", "ERROR", "40P01", null ) );
+						} ) )
+				.onItem().invoke( () -> context.fail( "Expected a failure" ) )
+				.onFailure().recoverWithItem( e -> {
+					context.assertTrue( e instanceof PgException );
+					context.assertEquals( 1, attempts.get() );
+					return null;
+				} )
+		);
+	}
+
+	@Test
+	public void testTransientFailures(TestContext context) {
+		context.assertTrue( RetryPolicy.isTransientFailure( new PgException( "deadlock detected", "ERROR", "40P01", null ) ) );
+		context.assertTrue( RetryPolicy.isTransientFailure( new CompletionException(
+				new RuntimeException( new MySQLException( "Deadlock", 1213, "40001" ) ) ) ) );
+		context.assertTrue( RetryPolicy.isTransientFailure( new SQLException( "could not serialize access", "40001" ) ) );
+		context.assertFalse( RetryPolicy.isTransientFailure( new PgException( "duplicate key", "ERROR", "23505", null ) ) );
+		context.assertFalse( RetryPolicy.isTransientFailure( new IllegalStateException() ) );
+		context.assertTrue( RetryPolicy.maxAttempts( 2 )
+				.retryOn( e -> e instanceof IllegalStateException )
+				.isRetryable( new IllegalStateException() ) );
+
+		RetryPolicy policy = RetryPolicy.maxAttempts( 10 )
+				.withBackoff( Duration.ofMillis( 10 ), Duration.ofMillis( 100 ) );
+		for ( int attempt = 2; attempt <= 10; attempt++ ) {
+			long interval = Math.min( 100, 10L << ( attempt - 2 ) );
+			long backoff = policy.backoff( attempt );
+			context.assertTrue( backoff >= interval / 2 && backoff <= interval );
+		}
+	}
+
+	@Entity(name = "Ticket")
+	@Table(name = "Ticket")
+	public static class Ticket {
+		@Id
+		Integer id;
+		String opera;
+
+		public Ticket() {
+		}
+
+		public Ticket(Integer id, String opera) {
+			this.id = id;
+			this.opera = opera;
+		}
+	}
+}
@@ -7,6 +7,8 @@
 
 import io.vertx.ext.unit.TestContext;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.bulk.impl.ReactiveBulkIdStrategy;
+import org.hibernate.reactive.provider.Settings;
 
 import org.junit.After;
 import org.junit.Test;
@@ -26,6 +28,35 @@ protected Configuration constructConfiguration() {
 		return configuration;
 	}
 
+	/**
+	 * Select the rows affected by multi-table HQL {@code update} and
+	 * {@code delete} queries in a {@code with} clause.
+	 */
+	public static class CteBulkIdStrategy extends UnionSubclassInheritanceTest {
+
+		@Override
+		protected Configuration constructConfiguration() {
+			Configuration configuration = super.constructConfiguration();
+			configuration.setProperty( Settings.BULK_ID_STRATEGY, ReactiveBulkIdStrategy.CTE );
+			return configuration;
+		}
+	}
+
+	/**
+	 * List the identifiers of the rows affected by multi-table HQL
+	 * {@code update} and {@code delete} queries in the SQL statements.
+	 */
+	public static class InlineBulkIdStrategy extends UnionSubclassInheritanceTest {
+
+		@Override
+		protected Configuration constructConfiguration() {
+			Configuration configuration = super.constructConfiguration();
+			configuration.setProperty( Settings.BULK_ID_STRATEGY, ReactiveBulkIdStrategy.INLINE );
+			configuration.setProperty( Settings.BULK_ID_INLINE_LIMIT, "1" );
+			return configuration;
+		}
+	}
+
 	@After
 	public void cleanDb(TestContext context) {
 		test( context, deleteEntities( "Book", "Author", "SpellBook" ) );
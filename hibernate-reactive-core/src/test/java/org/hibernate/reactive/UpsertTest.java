@@ -0,0 +1,180 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Inheritance;
+import javax.persistence.InheritanceType;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.testing.DatabaseSelectionRule;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.DB2;
+import static org.hibernate.reactive.testing.DatabaseSelectionRule.skipTestsFor;
+
+/**
+ * Test inserting or updating rows with a single statement using
+ * {@link org.hibernate.reactive.mutiny.Mutiny.StatelessSession#upsert(Object)}.
+ */
+public class UpsertTest extends BaseReactiveTest {
+
+	@Rule
+	public DatabaseSelectionRule rule = skipTestsFor( DB2 );
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Reading.class );
+		configuration.addAnnotatedClass( Instrument.class );
+		configuration.addAnnotatedClass( Thermometer.class );
+		configuration.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( "Reading", "Thermometer", "Instrument" ) );
+	}
+
+	@Test
+	public void testUpsert(TestContext context) {
+		Reading updated = new Reading( 1, "temperature", 21.0 );
+		test( context, getMutinySessionFactory()
+				.withStatelessSession( s -> s.upsert( new Reading( 1, "temperature", 20.5 ) ) )
+				.chain( () -> getMutinySessionFactory().withStatelessSession( s -> s.upsert( updated ) ) )
+				.chain( () -> getMutinySessionFactory().withStatelessSession( s -> s.get( Reading.class, 1 ) ) )
+				.invoke( reading -> {
+					context.assertEquals( 21.0, reading.value );
+					// the version isn't checked, but it's incremented
+					context.assertEquals( 1, reading.version );
+					// though not in the instance passed to upsert()
+					context.assertEquals( 0, updated.version );
+				} )
+				.chain( () -> getMutinySessionFactory().withStatelessSession( s -> s
+						.upsert( new Reading( 1, "temperature", 21.5 ) ) ) )
+				.chain( () -> getMutinySessionFactory().withStatelessSession( s -> s.get( Reading.class, 1 ) ) )
+				.invoke( reading -> {
+					context.assertEquals( 21.5, reading.value );
+					context.assertEquals( 2, reading.version );
+				} )
+		);
+	}
+
+	@Test
+	public void testUpsertAll(TestContext context) {
+		List<Reading> first = new ArrayList<>();
+		List<Reading> second = new ArrayList<>();
+		for ( int i = 0; i < 25; i++ ) {
+			first.add( new Reading( i, "pressure", i ) );
+		}
+		// half of the rows already exist
+		for ( int i = 12; i < 37; i++ ) {
+			second.add( new Reading( i, "humidity", i * 2 ) );
+		}
+
+		test( context, getMutinySessionFactory()
+				.withStatelessSession( s -> s.upsertAll( first.toArray() ) )
+				.chain( () -> getMutinySessionFactory().withStatelessSession( s -> s.upsertAll( second.toArray() ) ) )
+				.chain( () -> getMutinySessionFactory().withStatelessSession( s -> s
+						.createQuery( "from Reading order by id", Reading.class ).getResultList() ) )
+				.invoke( list -> {
+					assertThat( list ).hasSize( 37 );
+					context.assertEquals( "pressure", list.get( 11 ).quantity );
+					context.assertEquals( "humidity", list.get( 12 ).quantity );
+					context.assertEquals( 72.0, list.get( 36 ).value );
+				} )
+		);
+	}
+
+	@Test
+	public void testUpsertJoinedSubclass(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withStatelessSession( s -> s.upsert( new Thermometer( 1, "Lab", "celsius" ) ) )
+				.chain( () -> getMutinySessionFactory().withStatelessSession( s -> s
+						.upsert( new Thermometer( 1, "Greenhouse", "fahrenheit" ) ) ) )
+				.chain( () -> getMutinySessionFactory().withStatelessSession( s -> s.get( Thermometer.class, 1 ) ) )
+				.invoke( thermometer -> {
+					context.assertEquals( "Greenhouse", thermometer.location );
+					context.assertEquals( "fahrenheit", thermometer.scale );
+				} )
+		);
+	}
+
+	@Test
+	public void testStageUpsert(TestContext context) {
+		test( context, getSessionFactory()
+				.withStatelessSession( s -> s.upsert( new Reading( 1, "wind", 3.0 ), new Reading( 2, "wind", 4.0 ) ) )
+				.thenCompose( v -> getSessionFactory().withStatelessSession( s -> s
+						.upsert( new Reading( 2, "wind", 5.0 ) ) ) )
+				.thenCompose( v -> getSessionFactory().withStatelessSession( s -> s.get( Reading.class, 2 ) ) )
+				.thenAccept( reading -> context.assertEquals( 5.0, reading.value ) )
+		);
+	}
+
+	@Entity(name = "Reading")
+	@Table(name = "Reading")
+	public static class Reading {
+		@Id
+		Integer id;
+		String quantity;
+		double value;
+		@Version
+		int version;
+
+		public Reading() {
+		}
+
+		public Reading(Integer id, String quantity, double value) {
+			this.id = id;
+			this.quantity = quantity;
+			this.value = value;
+		}
+	}
+
+	@Entity(name = "Instrument")
+	@Table(name = "Instrument")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Instrument {
+		@Id
+		Integer id;
+		String location;
+
+		public Instrument() {
+		}
+
+		public Instrument(Integer id, String location) {
+			this.id = id;
+			this.location = location;
+		}
+	}
+
+	@Entity(name = "Thermometer")
+	@Table(name = "Thermometer")
+	public static class Thermometer extends Instrument {
+		String scale;
+
+		public Thermometer() {
+		}
+
+		public Thermometer(Integer id, String location, String scale) {
+			super( id, location );
+			this.scale = scale;
+		}
+	}
+}